@@ -44,7 +44,8 @@ async def recommend_hospitals(request: EmergencyRecommendationRequest):
             patient_condition=request.patient_condition,
             latitude=request.latitude,
             longitude=request.longitude,
-            radius=request.radius
+            radius=request.radius,
+            candidate_hospitals=request.candidate_hospitals
         )
 
         # 응답 생성
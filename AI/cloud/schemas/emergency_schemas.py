@@ -15,6 +15,7 @@ class EmergencyRecommendationRequest(BaseModel):
     latitude: float = Field(..., description="현재 위치 위도")
     longitude: float = Field(..., description="현재 위치 경도")
     radius: int = Field(default=10, description="검색 반경(km, 기본값: 10km)")
+    candidate_hospitals: Optional[List[str]] = Field(None, description="백엔드에서 반경으로 미리 추린 병원 이름 목록 (없으면 검색 결과 전체 사용)")
 
 
 class HospitalInfo(BaseModel):
@@ -257,7 +257,8 @@ def recommend_emergency_hospitals(
     patient_condition: str,
     latitude: float,
     longitude: float,
-    radius: int = 10
+    radius: int = 10,
+    candidate_hospitals: Optional[List[str]] = None
 ) -> Dict[str, Any]:
     """
     응급실 검색 및 GPT 추천 통합 함수 (메인 엔트리 포인트)
@@ -267,6 +268,7 @@ def recommend_emergency_hospitals(
         latitude: 위도
         longitude: 경도
         radius: 검색 반경(km)
+        candidate_hospitals: 백엔드에서 미리 추린 병원 이름 목록 (있으면 해당 병원만 GPT에 전달)
 
     Returns:
         Dict: {
@@ -293,6 +295,14 @@ def recommend_emergency_hospitals(
                 "error_message": "주변에 응급실을 찾을 수 없습니다."
             }
 
+        # 1-1단계: 백엔드 후보 병원으로 필터링 (일치하는 병원이 없으면 검색 결과 전체 사용)
+        if candidate_hospitals:
+            candidate_set = set(candidate_hospitals)
+            filtered = [h for h in hospitals if h.get('emergencyRoomNickname') in candidate_set]
+            print(f"[응급실 추천] 후보 병원 필터링: {len(hospitals)}개 -> {len(filtered)}개")
+            if filtered:
+                hospitals = filtered
+
         # 2단계: GPT를 사용하여 병원 추천
         gpt_result = recommend_hospitals_with_gpt(patient_condition, hospitals)
 
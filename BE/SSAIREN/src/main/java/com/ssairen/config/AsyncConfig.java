@@ -0,0 +1,71 @@
+package com.ssairen.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업 Executor 설정
+ */
+@Slf4j
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 병원 웹소켓 알림 전송용 Executor
+     * - 가상 스레드 기반으로 전송 1건당 스레드 1개를 사용
+     * - 동시 실행 수를 제한하여 알림 폭주 시에도 브로커/메모리 사용량을 제한
+     */
+    @Bean
+    public TaskExecutor hospitalNotificationExecutor(
+            @Value("${notification.hospital.concurrency-limit:64}") int concurrencyLimit
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("hospital-notify-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+
+        log.info("병원 알림 Executor 초기화 완료 - 가상 스레드, 동시 실행 제한: {}", concurrencyLimit);
+        return executor;
+    }
+
+    /**
+     * AI 비동기 작업(STT → JSON 변환 → 섹션 저장) 실행용 Executor
+     * - 작업 1건이 외부 AI 서버 응답을 수 분간 기다리므로 동시 실행 수를 스레드 수로 고정
+     * - 대기 큐가 가득 차면 TaskRejectedException으로 즉시 거절 (요청 스레드를 막지 않음)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor aiJobExecutor(
+            @Value("${ai.job.pool-size:4}") int poolSize,
+            @Value("${ai.job.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("ai-job-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        log.info("AI 작업 Executor 초기화 완료 - 스레드 수: {}, 대기 큐: {}", poolSize, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 오디오 업로드 동시 처리(MinIO 저장, STT 전송)용 Executor
+     * - 업로드 1건당 소비자 2개가 가상 스레드에서 블로킹 I/O를 수행
+     * - 소비자는 같은 요청의 생산자가 데이터를 넣어야 끝나므로 동시 실행 수를 제한하지 않음
+     *   (제한하면 소비자 하나만 실행된 채 나머지가 대기하며 교착될 수 있음, 총량은 요청 스레드 수로 제한됨)
+     */
+    @Bean
+    public TaskExecutor audioUploadExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("audio-upload-");
+        executor.setVirtualThreads(true);
+
+        log.info("오디오 업로드 Executor 초기화 완료 - 가상 스레드");
+        return executor;
+    }
+}
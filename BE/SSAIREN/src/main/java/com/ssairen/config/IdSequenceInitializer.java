@@ -0,0 +1,76 @@
+package com.ssairen.config;
+
+import com.ssairen.domain.emergency.entity.ReportSection;
+import com.ssairen.domain.hospital.entity.HospitalSelection;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * ID 시퀀스 동기화
+ * - ID 전략이 IDENTITY에서 SEQUENCE로 바뀐 엔티티는 새로 생성된 시퀀스가
+ *   기존 데이터의 최대 ID보다 뒤처져 있으면 PK 충돌이 발생하므로 기동 시 한 번 맞춰줌
+ * - Hibernate pooled 옵티마이저는 nextval 값을 할당 구간의 상한으로 사용하므로
+ *   (최대 ID + allocationSize)로 설정해야 다음 구간이 기존 ID와 겹치지 않음
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")  // ddl-auto로 시퀀스가 생성된 이후 실행
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    private static final List<SequenceTarget> TARGETS = List.of(
+            new SequenceTarget("hospital_selection", HospitalSelection.SEQUENCE_NAME,
+                    HospitalSelection.SEQUENCE_ALLOCATION_SIZE),
+            new SequenceTarget("report_sections", ReportSection.SEQUENCE_NAME,
+                    ReportSection.SEQUENCE_ALLOCATION_SIZE)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 동기화 대상 (테이블, 시퀀스, 할당 크기)
+     */
+    private record SequenceTarget(String tableName, String sequenceName, int allocationSize) {
+    }
+
+    @PostConstruct
+    public void synchronizeSequences() {
+        for (SequenceTarget target : TARGETS) {
+            synchronizeSequence(target);
+        }
+    }
+
+    private void synchronizeSequence(SequenceTarget target) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(id), 0) FROM " + target.tableName(),
+                    Long.class
+            );
+            Long lastValue = jdbcTemplate.queryForObject(
+                    "SELECT last_value FROM " + target.sequenceName(),
+                    Long.class
+            );
+
+            if (maxId == null || lastValue == null || lastValue > maxId) {
+                return;
+            }
+
+            long nextValue = maxId + target.allocationSize();
+            jdbcTemplate.queryForObject(
+                    "SELECT setval('" + target.sequenceName() + "', ?, false)",
+                    Long.class,
+                    nextValue
+            );
+            log.info("{} 시퀀스 동기화 완료 - 최대 ID: {}, 다음 시퀀스 값: {}",
+                    target.sequenceName(), maxId, nextValue);
+        } catch (Exception e) {
+            log.error("{} 시퀀스 동기화 실패: {}", target.sequenceName(), e.getMessage());
+        }
+    }
+}
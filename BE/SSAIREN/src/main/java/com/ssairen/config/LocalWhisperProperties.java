@@ -0,0 +1,64 @@
+package com.ssairen.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로컬 Whisper 서버 설정 프로퍼티
+ * application.yaml의 ai.local-whisper.* 설정값을 바인딩
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.local-whisper")
+public class LocalWhisperProperties {
+
+    /**
+     * 로컬 Whisper 서버 베이스 URL
+     */
+    private String baseUrl = "https://alondra-reprobationary-margeret.ngrok-free.dev";
+
+    /**
+     * API 호출 타임아웃 (초)
+     */
+    private int timeout = 300;
+
+    /**
+     * 연결 타임아웃 (밀리초)
+     */
+    private int connectTimeoutMillis = 10000;
+
+    /**
+     * 커넥션 풀 최대 연결 수
+     */
+    private int maxConnections = 16;
+
+    /**
+     * 연결을 기다리는 최대 요청 수 (초과 시 즉시 실패)
+     */
+    private int pendingAcquireMaxCount = 64;
+
+    /**
+     * 연결을 기다리는 최대 시간
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 유휴 연결 유지 시간 (서버/프록시의 keep-alive 시간보다 짧게 설정)
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(50);
+
+    /**
+     * 연결 최대 수명 (DNS/서버 교체 반영)
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(10);
+
+    /**
+     * 기동 시 미리 맺어둘 연결 수 (0이면 사용 안 함)
+     */
+    private int warmupConnections = 2;
+}
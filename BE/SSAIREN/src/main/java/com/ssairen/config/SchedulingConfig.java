@@ -0,0 +1,13 @@
+package com.ssairen.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - 병원 통계 집계 보정 작업 등 주기 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -11,21 +11,26 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 /**
  * WebClient 설정
- * AI 서버와의 HTTP 통신을 위한 WebClient Bean 생성
+ * AI 서버 / 로컬 Whisper 서버와의 HTTP 통신을 위한 WebClient Bean 생성
  */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class WebClientConfig {
 
+    private static final String LOCAL_WHISPER_POOL_NAME = "local-whisper";
+
     private final AiServerProperties aiServerProperties;
+    private final LocalWhisperProperties localWhisperProperties;
 
     /**
      * AI 서버 통신용 WebClient Bean 생성
@@ -51,6 +56,53 @@ public class WebClientConfig {
                 .build();
     }
 
+    /**
+     * 로컬 Whisper 서버 전용 커넥션 풀
+     * - 다른 WebClient와 풀을 공유하지 않아 STT 요청이 몰려도 AI 서버 호출에 영향을 주지 않음
+     * - 풀 상태(활성/유휴/대기 연결 수)는 Micrometer로 내보냄 (reactor.netty.connection.provider.*, name=local-whisper)
+     * - 유휴 연결은 서버/프록시가 먼저 끊기 전에 백그라운드에서 정리
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider localWhisperConnectionProvider() {
+        return ConnectionProvider.builder(LOCAL_WHISPER_POOL_NAME)
+                .maxConnections(localWhisperProperties.getMaxConnections())
+                .pendingAcquireMaxCount(localWhisperProperties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(localWhisperProperties.getPendingAcquireTimeout())
+                .maxIdleTime(localWhisperProperties.getMaxIdleTime())
+                .maxLifeTime(localWhisperProperties.getMaxLifeTime())
+                .evictInBackground(localWhisperProperties.getMaxIdleTime().dividedBy(2))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 로컬 Whisper 서버 통신용 WebClient Bean 생성
+     * - HTTPS에서는 ALPN으로 HTTP/2를 협상하고, 지원하지 않으면 HTTP/1.1 keep-alive로 동작
+     */
+    @Bean
+    public WebClient localWhisperWebClient(ConnectionProvider localWhisperConnectionProvider) {
+        int timeout = localWhisperProperties.getTimeout();
+        HttpClient httpClient = HttpClient.create(localWhisperConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, localWhisperProperties.getConnectTimeoutMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofSeconds(timeout))
+                .doOnConnected(conn ->
+                        conn.addHandlerLast(new ReadTimeoutHandler(timeout, TimeUnit.SECONDS))
+                                .addHandlerLast(new WriteTimeoutHandler(timeout, TimeUnit.SECONDS))
+                );
+        if (localWhisperProperties.getBaseUrl().startsWith("https")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
+        log.info("로컬 Whisper WebClient 초기화 완료 - URL: {}, 타임아웃: {}초, 최대 연결 수: {}",
+                localWhisperProperties.getBaseUrl(), timeout, localWhisperProperties.getMaxConnections());
+
+        return WebClient.builder()
+                .baseUrl(localWhisperProperties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
     /**
      * RestTemplate Bean 생성
      * AI 추천 API 호출을 위한 RestTemplate
@@ -0,0 +1,38 @@
+package com.ssairen.domain.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.ssairen.domain.ai.entity.AiJob;
+import com.ssairen.domain.ai.enums.AiJobStage;
+import com.ssairen.domain.ai.enums.AiJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 비동기 작업 상태 응답
+ * 작업 조회 응답과 웹소켓 진행 상황 메시지(/topic/ai-job.{jobId})에 공통으로 사용
+ */
+public record AiJobResponse(
+        Long jobId,
+        Long emergencyReportId,
+        AiJobStatus status,
+        AiJobStage stage,
+        Long sttTranscriptId,
+        Integer savedSectionCount,
+        String errorMessage,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+        LocalDateTime updatedAt
+) {
+
+    public static AiJobResponse from(AiJob job) {
+        return new AiJobResponse(
+                job.getId(),
+                job.getEmergencyReport().getId(),
+                job.getStatus(),
+                job.getStage(),
+                job.getSttTranscriptId(),
+                job.getSavedSectionCount(),
+                job.getErrorMessage(),
+                job.getUpdatedAt() != null ? job.getUpdatedAt() : job.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssairen.domain.ai.dto;
+
+/**
+ * 실시간 음성 조각 STT 응답
+ *
+ * @param emergencyReportId 구급일지 ID
+ * @param sequence          조각 순번
+ * @param text              이번 조각의 변환 텍스트
+ * @param transcript        지금까지 받은 조각을 순번 순서로 이어 붙인 진행중인 녹취록
+ * @param chunkCount        지금까지 받은 조각 수
+ */
+public record LiveSttChunkResponse(
+        Long emergencyReportId,
+        Integer sequence,
+        String text,
+        String transcript,
+        Integer chunkCount
+) {
+}
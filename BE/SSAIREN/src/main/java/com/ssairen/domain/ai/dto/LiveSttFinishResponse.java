@@ -0,0 +1,17 @@
+package com.ssairen.domain.ai.dto;
+
+/**
+ * 실시간 녹음 종료 응답
+ *
+ * @param emergencyReportId 구급일지 ID
+ * @param sttTranscriptId   저장된 STT 녹취록 ID
+ * @param chunkCount        녹취록에 포함된 조각 수
+ * @param job               등록된 JSON 변환 + 섹션 저장 작업
+ */
+public record LiveSttFinishResponse(
+        Long emergencyReportId,
+        Long sttTranscriptId,
+        Integer chunkCount,
+        AiJobResponse job
+) {
+}
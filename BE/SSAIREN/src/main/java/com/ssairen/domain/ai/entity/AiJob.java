@@ -0,0 +1,100 @@
+package com.ssairen.domain.ai.entity;
+
+import com.ssairen.domain.ai.enums.AiJobStage;
+import com.ssairen.domain.ai.enums.AiJobStatus;
+import com.ssairen.domain.common.entity.BaseEntity;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * STT → JSON 변환 → 섹션 저장 비동기 작업
+ * 단계가 바뀔 때마다 상태를 저장하므로, 클라이언트는 연결이 끊겨도 작업 ID로 진행 상황을 다시 조회할 수 있음
+ * 작업은 등록한 인스턴스의 Executor에서만 실행되므로 등록 인스턴스 ID를 함께 저장 (재시작 시 해당 인스턴스 작업만 정리)
+ */
+@Entity
+@Table(name = "ai_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AiJob extends BaseEntity {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "emergency_report_id", nullable = false)
+    private EmergencyReport emergencyReport;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private AiJobStatus status;
+
+    /**
+     * 실행중이거나 마지막으로 실행한 단계 (대기중이면 null)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage")
+    private AiJobStage stage;
+
+    @Column(name = "language")
+    private String language;
+
+    @Column(name = "max_new_tokens")
+    private Integer maxNewTokens;
+
+    @Column(name = "temperature")
+    private Double temperature;
+
+    @Column(name = "stt_transcript_id")
+    private Long sttTranscriptId;
+
+    @Column(name = "saved_section_count")
+    private Integer savedSectionCount;
+
+    @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    /**
+     * 작업을 등록하고 실행하는 서버 인스턴스 ID (ai.job.instance-id)
+     */
+    @Column(name = "owner_instance")
+    private String ownerInstance;
+
+    /**
+     * 단계 시작
+     */
+    public void start(AiJobStage stage) {
+        this.status = AiJobStatus.RUNNING;
+        this.stage = stage;
+    }
+
+    /**
+     * STT 결과 저장 완료 기록
+     */
+    public void recordTranscript(Long sttTranscriptId) {
+        this.sttTranscriptId = sttTranscriptId;
+    }
+
+    /**
+     * 작업 완료
+     */
+    public void complete(int savedSectionCount) {
+        this.status = AiJobStatus.COMPLETED;
+        this.savedSectionCount = savedSectionCount;
+    }
+
+    /**
+     * 작업 실패 (실패한 단계는 stage에 남음)
+     */
+    public void fail(String errorMessage) {
+        this.status = AiJobStatus.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                : errorMessage;
+    }
+}
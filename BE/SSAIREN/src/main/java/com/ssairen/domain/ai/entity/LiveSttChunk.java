@@ -0,0 +1,61 @@
+package com.ssairen.domain.ai.entity;
+
+import com.ssairen.domain.common.entity.BaseEntity;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 실시간 녹음 음성 조각의 STT 결과
+ * - 구급대원이 말하는 동안 짧은 음성 조각을 받을 때마다 바로 변환하여 순번과 함께 저장
+ * - 순번 순서로 이어 붙인 텍스트가 구급일지의 진행중인 녹취록이며, 녹음 종료 시 SttTranscript로 옮기고 조각은 삭제하지 않고 녹취록 ID로 연결
+ * - (구급일지, 순번) 유니크 제약으로 같은 조각의 재전송을 중복 저장하지 않음
+ */
+@Entity
+@Table(name = "live_stt_chunks",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_live_stt_chunks_sequence",
+                        columnNames = {"emergency_report_id", "sequence"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class LiveSttChunk extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "emergency_report_id", nullable = false)
+    private EmergencyReport emergencyReport;
+
+    /**
+     * 녹음 내 조각 순번 (0부터 시작)
+     */
+    @Column(name = "sequence", nullable = false)
+    private Integer sequence;
+
+    @Column(name = "text", nullable = false, columnDefinition = "TEXT")
+    private String text;
+
+    /**
+     * 조각 오디오 길이 (초)
+     */
+    @Column(name = "duration")
+    private Double duration;
+
+    /**
+     * 녹음 종료 시 이 조각이 포함된 녹취록 ID (진행중인 녹음이면 null)
+     */
+    @Column(name = "stt_transcript_id")
+    private Long sttTranscriptId;
+
+    /**
+     * 녹음 종료 기록 (조각은 삭제하지 않고 녹취록에 연결)
+     */
+    public void finish(Long sttTranscriptId) {
+        this.sttTranscriptId = sttTranscriptId;
+    }
+}
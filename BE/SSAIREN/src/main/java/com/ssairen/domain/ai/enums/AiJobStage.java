@@ -0,0 +1,7 @@
+package com.ssairen.domain.ai.enums;
+
+public enum AiJobStage {
+    STT,            // 음성 → 텍스트 변환 및 녹취록 저장
+    TEXT_TO_JSON,   // 텍스트 → JSON 변환 및 LLM 요약 저장
+    SECTION_SAVE    // JSON → 구급일지 섹션 병합
+}
@@ -0,0 +1,8 @@
+package com.ssairen.domain.ai.enums;
+
+public enum AiJobStatus {
+    QUEUED,     // 대기중 (Executor 큐)
+    RUNNING,    // 처리중 (stage 단계 실행중)
+    COMPLETED,  // 완료
+    FAILED      // 실패 (stage 단계에서 중단)
+}
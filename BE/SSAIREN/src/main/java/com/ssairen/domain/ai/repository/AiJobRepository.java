@@ -0,0 +1,51 @@
+package com.ssairen.domain.ai.repository;
+
+import com.ssairen.domain.ai.entity.AiJob;
+import com.ssairen.domain.ai.enums.AiJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * AI 비동기 작업 Repository
+ */
+@Repository
+public interface AiJobRepository extends JpaRepository<AiJob, Long> {
+
+    /**
+     * 녹취록으로 등록된 가장 최근 작업 조회 (녹음 종료 재요청 확인용)
+     */
+    Optional<AiJob> findFirstBySttTranscriptIdOrderByIdDesc(Long sttTranscriptId);
+
+    /**
+     * 인스턴스가 이전 실행에서 등록한 미완료 작업을 일괄 실패 처리
+     * 벌크 UPDATE는 Auditing을 거치지 않으므로 수정 시각을 직접 기록
+     *
+     * @param statuses      대상 상태 (대기중/실행중)
+     * @param failed        변경할 상태
+     * @param errorMessage  실패 사유
+     * @param ownerInstance 작업을 등록한 인스턴스 ID (다른 인스턴스의 작업은 제외)
+     * @param createdBefore 이 시각 이전에 등록된 작업만 대상 (현재 실행에서 등록한 작업 제외)
+     * @param now           수정 시각
+     * @return 실패 처리된 작업 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AiJob j SET j.status = :failed, j.errorMessage = :errorMessage, j.updatedAt = :now " +
+            "WHERE j.status IN :statuses AND j.ownerInstance = :ownerInstance AND j.createdAt < :createdBefore")
+    int failUnfinishedJobs(
+            @Param("statuses") Collection<AiJobStatus> statuses,
+            @Param("failed") AiJobStatus failed,
+            @Param("errorMessage") String errorMessage,
+            @Param("ownerInstance") String ownerInstance,
+            @Param("createdBefore") LocalDateTime createdBefore,
+            @Param("now") LocalDateTime now
+    );
+}
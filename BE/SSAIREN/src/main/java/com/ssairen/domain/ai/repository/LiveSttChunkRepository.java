@@ -0,0 +1,30 @@
+package com.ssairen.domain.ai.repository;
+
+import com.ssairen.domain.ai.entity.LiveSttChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 실시간 녹음 음성 조각 STT 결과 Repository
+ */
+@Repository
+public interface LiveSttChunkRepository extends JpaRepository<LiveSttChunk, Long> {
+
+    /**
+     * 구급일지의 녹음 조각을 순번 순서로 조회 (종료된 녹음의 조각 포함)
+     */
+    List<LiveSttChunk> findByEmergencyReportIdOrderBySequenceAsc(Long emergencyReportId);
+
+    /**
+     * 구급일지 ID와 순번으로 조각 조회 (재전송 확인용)
+     */
+    Optional<LiveSttChunk> findByEmergencyReportIdAndSequence(Long emergencyReportId, Integer sequence);
+
+    /**
+     * 구급일지의 녹음이 종료되었는지 확인 (녹취록에 연결된 조각이 있으면 종료)
+     */
+    boolean existsByEmergencyReportIdAndSttTranscriptIdIsNotNull(Long emergencyReportId);
+}
@@ -0,0 +1,344 @@
+package com.ssairen.domain.ai.service;
+
+import com.ssairen.domain.ai.dto.AiJobResponse;
+import com.ssairen.domain.ai.entity.AiJob;
+import com.ssairen.domain.ai.entity.SttTranscript;
+import com.ssairen.domain.ai.enums.AiJobStage;
+import com.ssairen.domain.ai.enums.AiJobStatus;
+import com.ssairen.domain.ai.repository.AiJobRepository;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.file.dto.LocalWhisperSttResponse;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * STT → JSON 변환 → 섹션 저장 비동기 작업 Service
+ * - 요청 스레드는 업로드 파일을 임시 파일로 옮기고 작업을 등록한 뒤 바로 작업 ID를 반환
+ * - 각 단계는 AI 작업 전용 Executor에서 실행하며, 단계가 바뀔 때마다 상태를 저장하고 /topic/ai-job.{jobId}로 전송
+ * - 단계 사이에 트랜잭션을 유지하지 않으므로 외부 AI 서버를 기다리는 동안 DB 커넥션을 점유하지 않음
+ * - 작업은 인스턴스 메모리의 Executor에만 있으므로 재시작 전에 끝나지 않은 작업은 같은 인스턴스가 기동할 때 실패로 정리
+ */
+@Slf4j
+@Service
+public class AiJobService {
+
+    private static final String TOPIC_PREFIX = "/topic/ai-job.";
+    private static final List<AiJobStatus> UNFINISHED_STATUSES = List.of(AiJobStatus.QUEUED, AiJobStatus.RUNNING);
+    private static final String STALE_JOB_MESSAGE = "서버 재시작으로 작업이 중단되었습니다. 다시 요청해 주세요.";
+
+    private final AiJobRepository aiJobRepository;
+    private final EmergencyReportRepository emergencyReportRepository;
+    private final LocalWhisperSttService localWhisperSttService;
+    private final TextToJsonService textToJsonService;
+    private final AiResultService aiResultService;
+    private final AiResponseToReportSectionService aiResponseToReportSectionService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TaskExecutor aiJobExecutor;
+    private final String instanceId;
+    private final LocalDateTime bootedAt = LocalDateTime.now();
+
+    public AiJobService(
+            AiJobRepository aiJobRepository,
+            EmergencyReportRepository emergencyReportRepository,
+            LocalWhisperSttService localWhisperSttService,
+            TextToJsonService textToJsonService,
+            AiResultService aiResultService,
+            AiResponseToReportSectionService aiResponseToReportSectionService,
+            SimpMessagingTemplate messagingTemplate,
+            @Qualifier("aiJobExecutor") TaskExecutor aiJobExecutor,
+            @Value("${ai.job.instance-id}") String instanceId
+    ) {
+        this.aiJobRepository = aiJobRepository;
+        this.emergencyReportRepository = emergencyReportRepository;
+        this.localWhisperSttService = localWhisperSttService;
+        this.textToJsonService = textToJsonService;
+        this.aiResultService = aiResultService;
+        this.aiResponseToReportSectionService = aiResponseToReportSectionService;
+        this.messagingTemplate = messagingTemplate;
+        this.aiJobExecutor = aiJobExecutor;
+        this.instanceId = instanceId;
+    }
+
+    /**
+     * 이 인스턴스가 이전 실행에서 끝내지 못한 작업 실패 처리 (애플리케이션 기동 완료 후)
+     * - 대기/실행중 상태로 남은 작업은 다시 실행되지 않으므로 클라이언트가 조회 API로 실패를 확인하고 재요청하도록 함
+     * - 다른 인스턴스가 등록한 작업은 그 인스턴스에서 진행중일 수 있으므로 제외
+     * - 기동 완료 전에 받은 요청으로 등록된 작업도 있으므로 서비스 생성 이전에 등록된 작업만 대상
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int failedCount = aiJobRepository.failUnfinishedJobs(
+                    UNFINISHED_STATUSES, AiJobStatus.FAILED, STALE_JOB_MESSAGE, instanceId, bootedAt, now);
+            if (failedCount > 0) {
+                log.warn("중단된 AI 작업 실패 처리 - 작업 수: {}, 인스턴스: {}", failedCount, instanceId);
+            }
+        } catch (Exception e) {
+            log.error("중단된 AI 작업 정리 실패 - 에러: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 오디오 파일 STT + JSON 변환 + 섹션 저장 작업 등록
+     *
+     * @param file              오디오 파일
+     * @param emergencyReportId 구급일지 ID
+     * @param language          언어 코드
+     * @param maxNewTokens      최대 생성 토큰 수
+     * @param temperature       생성 온도
+     * @return 등록된 작업 (대기 상태)
+     */
+    public AiJobResponse submitSpeechToJson(MultipartFile file, Long emergencyReportId, String language,
+                                            Integer maxNewTokens, Double temperature) {
+        // 1. 구급일지 존재 여부 확인
+        EmergencyReport emergencyReport = emergencyReportRepository.findById(emergencyReportId)
+                .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_REPORT_NOT_FOUND));
+
+        // 2. 업로드 파일을 임시 파일로 이동 (요청이 끝나면 MultipartFile 저장소가 삭제되므로)
+        Path audio = copyToTempFile(file);
+        String contentType = file.getContentType();
+
+        // 3. 작업 저장 (대기 상태)
+        AiJob job = aiJobRepository.save(AiJob.builder()
+                .emergencyReport(emergencyReport)
+                .status(AiJobStatus.QUEUED)
+                .language(language)
+                .maxNewTokens(maxNewTokens)
+                .temperature(temperature)
+                .ownerInstance(instanceId)
+                .build());
+        AiJobResponse response = AiJobResponse.from(job);
+
+        // 4. Executor에 제출 (대기 큐가 가득 차면 즉시 거절)
+        try {
+            executeOrReject(job, () -> runSpeechToJson(job.getId(), audio, contentType));
+        } catch (CustomException e) {
+            deleteTempFile(audio);
+            throw e;
+        }
+
+        log.info("AI 작업 등록 완료 - 작업 ID: {}, 구급일지 ID: {}, 파일명: {}, 크기: {} bytes",
+                job.getId(), emergencyReportId, file.getOriginalFilename(), file.getSize());
+        return response;
+    }
+
+    /**
+     * 저장된 녹취록의 JSON 변환 + 섹션 저장 작업 생성 (대기 상태로 저장만 하고 실행은 enqueueTranscriptToJson에서)
+     * 실시간 녹음처럼 녹취록이 이미 만들어진 경우에 사용하며, 호출 측 트랜잭션에서 녹취록 저장과 함께 커밋되도록 분리
+     *
+     * @param emergencyReport 구급일지
+     * @param sttTranscript   저장된 STT 녹취록
+     * @param maxNewTokens    최대 생성 토큰 수
+     * @param temperature     생성 온도
+     * @return 저장된 작업 (대기 상태)
+     */
+    public AiJob createTranscriptToJson(EmergencyReport emergencyReport, SttTranscript sttTranscript,
+                                        Integer maxNewTokens, Double temperature) {
+        return aiJobRepository.save(AiJob.builder()
+                .emergencyReport(emergencyReport)
+                .status(AiJobStatus.QUEUED)
+                .maxNewTokens(maxNewTokens)
+                .temperature(temperature)
+                .sttTranscriptId(sttTranscript.getId())
+                .ownerInstance(instanceId)
+                .build());
+    }
+
+    /**
+     * 생성된 녹취록 작업을 Executor에 제출 (STT 단계 없이 바로 JSON 변환부터 실행)
+     * 작업 행이 커밋된 뒤에 호출해야 Executor 스레드에서 작업을 조회할 수 있음
+     *
+     * @param job           createTranscriptToJson으로 저장된 작업
+     * @param sttTranscript 작업 대상 녹취록
+     * @return 등록된 작업 (대기 상태)
+     */
+    public AiJobResponse enqueueTranscriptToJson(AiJob job, SttTranscript sttTranscript) {
+        AiJobResponse response = AiJobResponse.from(job);
+
+        executeOrReject(job, () -> runTranscriptToJson(job.getId(), sttTranscript));
+
+        log.info("AI 작업 등록 완료 - 작업 ID: {}, 구급일지 ID: {}, STT ID: {}",
+                job.getId(), job.getEmergencyReport().getId(), sttTranscript.getId());
+        return response;
+    }
+
+    /**
+     * 녹취록으로 등록된 가장 최근 작업 조회
+     *
+     * @param sttTranscriptId STT 녹취록 ID
+     * @return 작업 (없으면 empty)
+     */
+    public Optional<AiJob> findLatestTranscriptJob(Long sttTranscriptId) {
+        return aiJobRepository.findFirstBySttTranscriptIdOrderByIdDesc(sttTranscriptId);
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    public AiJobResponse getJob(Long jobId) {
+        return aiJobRepository.findById(jobId)
+                .map(AiJobResponse::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.AI_JOB_NOT_FOUND));
+    }
+
+    /**
+     * 작업 실행 (AI 작업 Executor 스레드)
+     * 실패하면 실패한 단계와 메시지를 남기고, 이미 저장된 녹취록/요약은 유지
+     */
+    private void runSpeechToJson(Long jobId, Path audio, String contentType) {
+        try {
+            AiJob job = aiJobRepository.findById(jobId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.AI_JOB_NOT_FOUND));
+            EmergencyReport emergencyReport = emergencyReportRepository.findById(job.getEmergencyReport().getId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_REPORT_NOT_FOUND));
+
+            // 1. 로컬 Whisper STT 후 녹취록 저장
+            job.start(AiJobStage.STT);
+            job = saveAndPublish(job);
+            LocalWhisperSttResponse sttResponse = localWhisperSttService.convertSpeechToText(
+                    new FileSystemResource(audio), contentType, job.getLanguage());
+            deleteTempFile(audio);
+            SttTranscript sttTranscript = aiResultService.saveSttTranscript(emergencyReport, sttResponse.getText());
+            job.recordTranscript(sttTranscript.getId());
+
+            // 2~3. JSON 변환 후 섹션 저장
+            extractSections(job, emergencyReport, sttTranscript, sttResponse.getText());
+
+        } catch (Exception e) {
+            markFailed(jobId, e);
+        } finally {
+            deleteTempFile(audio);
+        }
+    }
+
+    /**
+     * 녹취록 JSON 변환 작업 실행 (AI 작업 Executor 스레드)
+     */
+    private void runTranscriptToJson(Long jobId, SttTranscript sttTranscript) {
+        try {
+            AiJob job = aiJobRepository.findById(jobId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.AI_JOB_NOT_FOUND));
+            EmergencyReport emergencyReport = emergencyReportRepository.findById(job.getEmergencyReport().getId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_REPORT_NOT_FOUND));
+
+            extractSections(job, emergencyReport, sttTranscript, sttTranscript.getData());
+
+        } catch (Exception e) {
+            markFailed(jobId, e);
+        }
+    }
+
+    /**
+     * 텍스트 → JSON 변환, LLM 요약 저장, 구급일지 섹션 병합 후 작업 완료
+     */
+    private void extractSections(AiJob job, EmergencyReport emergencyReport, SttTranscript sttTranscript, String text) {
+        // 1. 텍스트 → JSON 변환 후 LLM 요약 저장
+        job.start(AiJobStage.TEXT_TO_JSON);
+        job = saveAndPublish(job);
+        Object jsonResponse = textToJsonService.convertTextToJson(text, job.getMaxNewTokens(), job.getTemperature());
+        aiResultService.saveLlmSummary(sttTranscript, jsonResponse);
+
+        // 2. 구급일지 섹션에 병합
+        job.start(AiJobStage.SECTION_SAVE);
+        job = saveAndPublish(job);
+        int savedCount = aiResponseToReportSectionService.saveAiResponseToReportSections(jsonResponse, emergencyReport);
+
+        job.complete(savedCount);
+        saveAndPublish(job);
+        log.info("AI 작업 완료 - 작업 ID: {}, 구급일지 ID: {}, 저장된 섹션 수: {}",
+                job.getId(), emergencyReport.getId(), savedCount);
+    }
+
+    /**
+     * Executor에 작업 제출 (대기 큐가 가득 차면 작업을 실패로 저장하고 즉시 거절)
+     */
+    private void executeOrReject(AiJob job, Runnable task) {
+        try {
+            aiJobExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            log.warn("AI 작업 대기 큐 초과 - 작업 ID: {}, 구급일지 ID: {}", job.getId(), job.getEmergencyReport().getId());
+            job.fail("대기중인 작업이 많아 실행하지 못했습니다.");
+            aiJobRepository.save(job);
+            throw new CustomException(ErrorCode.AI_JOB_QUEUE_FULL);
+        }
+    }
+
+    /**
+     * 작업 실패 저장 (단계마다 저장된 최신 상태를 다시 읽어 실패한 단계를 그대로 남김)
+     */
+    private void markFailed(Long jobId, Exception cause) {
+        try {
+            AiJob job = aiJobRepository.findById(jobId).orElse(null);
+            log.error("AI 작업 실패 - 작업 ID: {}, 단계: {}, 에러: {}",
+                    jobId, job != null ? job.getStage() : null, cause.getMessage(), cause);
+            if (job == null) {
+                return;
+            }
+            job.fail(cause.getMessage());
+            saveAndPublish(job);
+        } catch (Exception e) {
+            log.error("AI 작업 실패 상태 저장 실패 - 작업 ID: {}, 에러: {}", jobId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 작업 상태 저장 후 진행 상황 전송 (전송 실패는 작업에 영향을 주지 않음, 클라이언트는 조회 API로 확인 가능)
+     */
+    private AiJob saveAndPublish(AiJob job) {
+        AiJob saved = aiJobRepository.save(job);
+        String topic = TOPIC_PREFIX + saved.getId();
+        try {
+            messagingTemplate.convertAndSend(topic, AiJobResponse.from(saved));
+        } catch (Exception e) {
+            log.warn("AI 작업 진행 상황 전송 실패 - 작업 ID: {}, 토픽: {}, 에러: {}", saved.getId(), topic, e.getMessage());
+        }
+        return saved;
+    }
+
+    private Path copyToTempFile(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new CustomException(ErrorCode.EMPTY_FILE);
+        }
+        String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
+        try {
+            Path audio = Files.createTempFile("ai-job-", extension != null ? "." + extension : null);
+            file.transferTo(audio);
+            return audio;
+        } catch (IOException e) {
+            log.error("오디오 임시 파일 저장 실패 - 파일명: {}", file.getOriginalFilename(), e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "오디오 파일 임시 저장에 실패했습니다.", e);
+        }
+    }
+
+    private void deleteTempFile(Path audio) {
+        try {
+            Files.deleteIfExists(audio);
+        } catch (IOException e) {
+            log.warn("오디오 임시 파일 삭제 실패 - 경로: {}", audio, e);
+        }
+    }
+}
@@ -5,9 +5,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
 import com.ssairen.domain.emergency.entity.ReportSection;
+import com.ssairen.domain.emergency.entity.ReportSectionChange;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
+import com.ssairen.domain.emergency.repository.ReportSectionChangeRepository;
 import com.ssairen.domain.emergency.repository.ReportSectionRepository;
+import com.ssairen.domain.emergency.util.JsonMergePatch;
 import com.ssairen.domain.emergency.util.JsonMergeUtil;
+import com.ssairen.domain.emergency.util.ReportSectionDocument;
+import com.ssairen.domain.emergency.util.ReportSectionFields;
 import com.ssairen.domain.emergency.util.ReportSectionTemplate;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
@@ -18,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * AI 응답을 ReportSection으로 변환하는 서비스
@@ -28,23 +34,19 @@ import java.util.Map;
 public class AiResponseToReportSectionService {
 
     private final ReportSectionRepository reportSectionRepository;
+    private final ReportSectionChangeRepository reportSectionChangeRepository;
     private final ObjectMapper objectMapper;
     private final JsonMergeUtil jsonMergeUtil;
 
     /**
-     * AI 응답 JSON 필드명을 ReportSectionType으로 매핑
+     * AI 응답 JSON 필드명을 ReportSectionType으로 매핑 (필드명은 섹션 템플릿의 최상위 필드)
      */
     private static final Map<String, ReportSectionType> FIELD_TO_TYPE_MAP = new LinkedHashMap<>();
 
     static {
-        FIELD_TO_TYPE_MAP.put("patientInfo", ReportSectionType.PATIENT_INFO);
-        FIELD_TO_TYPE_MAP.put("dispatch", ReportSectionType.DISPATCH);
-        FIELD_TO_TYPE_MAP.put("incidentType", ReportSectionType.INCIDENT_TYPE);
-        FIELD_TO_TYPE_MAP.put("assessment", ReportSectionType.ASSESSMENT);
-        FIELD_TO_TYPE_MAP.put("treatment", ReportSectionType.TREATMENT);
-        FIELD_TO_TYPE_MAP.put("medicalGuidance", ReportSectionType.MEDICAL_GUIDANCE);
-        FIELD_TO_TYPE_MAP.put("transport", ReportSectionType.TRANSPORT);
-        FIELD_TO_TYPE_MAP.put("detailReport", ReportSectionType.DETAIL_REPORT);
+        for (ReportSectionType type : ReportSectionType.values()) {
+            FIELD_TO_TYPE_MAP.put(ReportSectionFields.sectionField(type), type);
+        }
     }
 
     /**
@@ -105,7 +107,9 @@ public class AiResponseToReportSectionService {
     /**
      * ReportSection 저장 또는 업데이트
      * - 이미 존재하면 기존 값을 우선하여 병합 (기존 값이 비어있을 때만 새 값으로 채움)
-     * - 존재하지 않으면 템플릿 기반으로 새로 생성
+     *   엔티티 데이터에 직접 병합하며 변경이 없으면 저장과 버전 증가를 생략
+     * - 존재하지 않으면 AI 응답 값만 담은 희소 형식으로 새로 생성 (조회 시 템플릿으로 복원)
+     * - AI 응답의 null/템플릿과 같은 값은 병합 전에 제거하므로 희소 형식 섹션에 null이 기록되지 않음
      * - DB 템플릿 구조: {schemaVersion: 1, [sectionName]: {...}}
      * - AI 응답 구조: {reporter: {...}, patient: {...}, ...}
      *
@@ -117,70 +121,103 @@ public class AiResponseToReportSectionService {
                                           ReportSectionType sectionType,
                                           JsonNode aiResponseData) {
         // 섹션 타입에 해당하는 필드명 (예: patientInfo, dispatch 등)
-        String fieldName = getFieldNameForType(sectionType);
-
-        // 기존 섹션이 있는지 확인
-        reportSectionRepository.findByEmergencyReportAndType(emergencyReport, sectionType)
-                .ifPresentOrElse(
-                        // 이미 존재하면 기존 값을 우선하여 병합
-                        existingSection -> {
-                            JsonNode existingFullData = existingSection.getData();
-
-                            // DB에서 내부 섹션 데이터 추출 (예: {schemaVersion: 1, patientInfo: {...}}에서 patientInfo 부분)
-                            JsonNode existingInnerData = existingFullData.get(fieldName);
-
-                            // AI 응답과 병합
-                            JsonNode mergedInnerData;
-                            if (sectionType == ReportSectionType.DISPATCH) {
-                                // DISPATCH 타입은 AI 데이터 우선 (AI가 빈 값이면 기존 값 유지)
-                                mergedInnerData = jsonMergeUtil.mergePreservingExisting(
-                                        aiResponseData,
-                                        existingInnerData
-                                );
-                                log.debug("DISPATCH 섹션 병합 (AI 데이터 우선)");
-                            } else {
-                                // 다른 타입은 기존 값 우선 (기존 값이 비어있으면 AI로 채움)
-                                mergedInnerData = jsonMergeUtil.mergePreservingExisting(
-                                        existingInnerData,
-                                        aiResponseData
-                                );
-                            }
-
-                            // 병합 결과를 다시 전체 구조로 감싸기
-                            ObjectNode newFullData = (ObjectNode) existingFullData.deepCopy();
-                            newFullData.set(fieldName, mergedInnerData);
-
-                            existingSection.updateData(newFullData);
-                            reportSectionRepository.save(existingSection);
-                            log.debug("기존 섹션 병합 완료 (기존 값 우선) - 타입: {}, 버전: {}",
-                                    sectionType, existingSection.getVersion());
-                        },
-                        // 존재하지 않으면 템플릿 기반으로 새로 생성
-                        () -> {
-                            // 템플릿 가져오기
-                            JsonNode template = ReportSectionTemplate.getTemplate(sectionType);
-                            ObjectNode templateNode = (ObjectNode) template.deepCopy();
-
-                            // AI 응답 데이터와 병합 (템플릿의 빈 값들을 AI 응답으로 채움)
-                            JsonNode templateInnerData = template.get(fieldName);
-                            JsonNode mergedInnerData = jsonMergeUtil.mergePreservingExisting(
-                                    templateInnerData,
-                                    aiResponseData
-                            );
-
-                            // 병합 결과를 템플릿 구조에 설정
-                            templateNode.set(fieldName, mergedInnerData);
-
-                            ReportSection newSection = ReportSection.builder()
-                                    .emergencyReport(emergencyReport)
-                                    .type(sectionType)
-                                    .data(templateNode)
-                                    .version(1)
-                                    .build();
-                            reportSectionRepository.save(newSection);
-                            log.debug("새 섹션 생성 완료 - 타입: {}", sectionType);
-                        }
-                );
+        String fieldName = ReportSectionFields.sectionField(sectionType);
+
+        // 기존 섹션이 있는지 확인 (사용자 수정/PATCH와 병합 결과가 섞이지 않도록 행 잠금 후 병합)
+        Optional<ReportSection> existing =
+                reportSectionRepository.findForUpdateByEmergencyReportAndType(emergencyReport, sectionType);
+
+        // 실제로 입력된 값만 남김 (transformAiResponseToDbSchema에서 복사된 소유 트리이므로 직접 수정)
+        // 기존 희소 형식 섹션은 저장 당시 스키마 버전의 템플릿 기준, 새 섹션과 템플릿 전체가 저장된 기존 행은 현재 템플릿 기준
+        int schemaVersion = existing.map(ReportSection::getSchemaVersion)
+                .orElseGet(() -> ReportSectionTemplate.getSchemaVersion(sectionType));
+        if (aiResponseData instanceof ObjectNode aiResponseObject) {
+            ReportSectionDocument.compactField(sectionType, schemaVersion, fieldName, aiResponseObject);
+        }
+
+        existing.ifPresentOrElse(
+                // 이미 존재하면 기존 데이터에 직접 병합 (변경이 없으면 저장/버전 증가 생략)
+                existingSection -> {
+                    ObjectNode existingFullData = (ObjectNode) existingSection.getData();
+
+                    JsonMergeUtil.MergeMode mergeMode;
+                    if (sectionType == ReportSectionType.DISPATCH) {
+                        // DISPATCH 타입은 AI 데이터 우선 (AI가 빈 값이면 기존 값 유지)
+                        mergeMode = JsonMergeUtil.MergeMode.IGNORE_NULLS;
+                        log.debug("DISPATCH 섹션 병합 (AI 데이터 우선)");
+                    } else {
+                        // 다른 타입은 기존 값 우선 (기존 값이 비어있으면 AI로 채움)
+                        mergeMode = JsonMergeUtil.MergeMode.PRESERVE_EXISTING;
+                    }
+
+                    // 이력이 없으면 첫 변경이므로 병합 전 데이터를 기준 스냅샷용으로 복사 (섹션당 한 번)
+                    // 병합이 엔티티 데이터를 직접 수정하므로 DB 복사(insertBaselineIfAbsent)는 병합 후에 쓸 수 없음
+                    int previousVersion = existingSection.getVersion();
+                    JsonNode baseline = reportSectionChangeRepository.existsByReportSectionId(existingSection.getId())
+                            ? null : existingFullData.deepCopy();
+                    if (!mergeIntoSection(existingFullData, fieldName, aiResponseData, mergeMode)) {
+                        log.debug("기존 섹션 변경 사항 없음 - 저장 생략 - 타입: {}, 버전: {}",
+                                sectionType, existingSection.getVersion());
+                        return;
+                    }
+
+                    if (baseline != null) {
+                        reportSectionChangeRepository.save(
+                                ReportSectionChange.baseline(existingSection.getId(), previousVersion, baseline));
+                    }
+                    existingSection.updateData(existingFullData);
+                    reportSectionRepository.save(existingSection);
+                    // 병합은 값을 추가/교체만 하므로 결과에 반영된 AI 응답 부분이 곧 변경분
+                    JsonNode mergedInnerData = existingFullData.get(fieldName);
+                    ObjectNode delta = objectMapper.createObjectNode();
+                    delta.set(fieldName, aiResponseData.isObject()
+                            ? JsonMergePatch.retained(aiResponseData, mergedInnerData)
+                            : mergedInnerData);
+                    reportSectionChangeRepository.save(ReportSectionChange.of(existingSection, delta));
+                    log.debug("기존 섹션 병합 완료 - 타입: {}, 버전: {}",
+                            sectionType, existingSection.getVersion());
+                },
+                // 존재하지 않으면 AI 응답 값만 담아 희소 형식으로 새로 생성 (템플릿의 빈 값은 저장하지 않음)
+                () -> {
+                    ObjectNode sectionData = objectMapper.createObjectNode();
+                    if (!aiResponseData.isEmpty()) {
+                        sectionData.set(fieldName, aiResponseData);
+                    }
+
+                    ReportSection newSection = ReportSection.builder()
+                            .emergencyReport(emergencyReport)
+                            .type(sectionType)
+                            .data(sectionData)
+                            .version(1)
+                            .schemaVersion(ReportSectionTemplate.getSchemaVersion(sectionType))
+                            .build();
+                    reportSectionRepository.save(newSection);
+                    log.debug("새 섹션 생성 완료 - 타입: {}", sectionType);
+                }
+        );
+    }
+
+    /**
+     * DB 섹션 데이터의 내부 섹션(예: {schemaVersion: 1, patientInfo: {...}}의 patientInfo)에 AI 응답을 직접 병합
+     * - 내부 섹션이 객체가 아니면(없거나 null) AI 응답으로 대체 (AI 응답이 비어 있으면 변경 없음)
+     *
+     * @param fullData 엔티티가 보유한 섹션 전체 데이터 (직접 수정됨)
+     * @param fieldName 내부 섹션 필드명
+     * @param aiResponseData 변환된 AI 응답 (transformAiResponseToDbSchema에서 복사된 소유 트리)
+     * @param mergeMode 병합 모드
+     * @return 변경되었으면 true
+     */
+    private boolean mergeIntoSection(ObjectNode fullData, String fieldName,
+                                     JsonNode aiResponseData, JsonMergeUtil.MergeMode mergeMode) {
+        JsonNode existingInnerData = fullData.get(fieldName);
+        if (existingInnerData instanceof ObjectNode existingInnerObject) {
+            return jsonMergeUtil.mergeInPlace(existingInnerObject, aiResponseData, mergeMode);
+        }
+        if (aiResponseData.isEmpty() || aiResponseData.equals(existingInnerData)) {
+            return false;
+        }
+        fullData.set(fieldName, aiResponseData);
+        return true;
     }
 
     /**
@@ -215,8 +252,8 @@ public class AiResponseToReportSectionService {
      * - 배열 요소에서 value가 null인 경우 value 필드 제거
      */
     private void transformDispatchData(ObjectNode dispatchData) {
-        if (dispatchData.has("symptoms")) {
-            ObjectNode symptoms = (ObjectNode) dispatchData.get("symptoms");
+        if (dispatchData.has(ReportSectionFields.DISPATCH_SYMPTOMS)) {
+            ObjectNode symptoms = (ObjectNode) dispatchData.get(ReportSectionFields.DISPATCH_SYMPTOMS);
 
             // disease 필드가 있으면 pain으로 이름 변경
             if (symptoms.has("disease")) {
@@ -225,20 +262,20 @@ public class AiResponseToReportSectionService {
 
                 // 배열 요소 정리 (value가 null이면 제거)
                 JsonNode cleanedArray = cleanSymptomArray(diseaseArray);
-                symptoms.set("pain", cleanedArray);
+                symptoms.set(ReportSectionFields.SYMPTOMS_PAIN, cleanedArray);
                 log.debug("DISPATCH 변환: symptoms.disease -> symptoms.pain");
             }
 
             // trauma 배열 정리
-            if (symptoms.has("trauma")) {
-                JsonNode traumaArray = symptoms.get("trauma");
-                symptoms.set("trauma", cleanSymptomArray(traumaArray));
+            if (symptoms.has(ReportSectionFields.SYMPTOMS_TRAUMA)) {
+                JsonNode traumaArray = symptoms.get(ReportSectionFields.SYMPTOMS_TRAUMA);
+                symptoms.set(ReportSectionFields.SYMPTOMS_TRAUMA, cleanSymptomArray(traumaArray));
             }
 
             // otherSymptoms 배열 정리
-            if (symptoms.has("otherSymptoms")) {
-                JsonNode otherArray = symptoms.get("otherSymptoms");
-                symptoms.set("otherSymptoms", cleanSymptomArray(otherArray));
+            if (symptoms.has(ReportSectionFields.SYMPTOMS_OTHER_SYMPTOMS)) {
+                JsonNode otherArray = symptoms.get(ReportSectionFields.SYMPTOMS_OTHER_SYMPTOMS);
+                symptoms.set(ReportSectionFields.SYMPTOMS_OTHER_SYMPTOMS, cleanSymptomArray(otherArray));
             }
         }
     }
@@ -288,8 +325,8 @@ public class AiResponseToReportSectionService {
         }
 
         JsonNode subCategory = incidentTypeData.get("subCategory");
-        String category = incidentTypeData.has("category")
-                ? incidentTypeData.get("category").asText("")
+        String category = incidentTypeData.has(ReportSectionFields.INCIDENT_TYPE_CATEGORY)
+                ? incidentTypeData.get(ReportSectionFields.INCIDENT_TYPE_CATEGORY).asText("")
                 : "";
 
         // subCategory의 type 필드로 어떤 subCategory_xxx에 매핑할지 결정
@@ -304,14 +341,14 @@ public class AiResponseToReportSectionService {
 
         // 적절한 필드명 결정
         String targetFieldName = switch (subCategoryType) {
-            case "교통사고" -> "subCategory_traffic";
-            case "그 외 손상" -> "subCategory_injury";
-            case "비외상성 손상" -> "subCategory_nonTrauma";
-            case "질병외", "기타" -> "subCategory_other";
+            case "교통사고" -> ReportSectionFields.INCIDENT_TYPE_SUB_CATEGORY_TRAFFIC;
+            case "그 외 손상" -> ReportSectionFields.INCIDENT_TYPE_SUB_CATEGORY_INJURY;
+            case "비외상성 손상" -> ReportSectionFields.INCIDENT_TYPE_SUB_CATEGORY_NON_TRAUMA;
+            case "질병외", "기타" -> ReportSectionFields.INCIDENT_TYPE_SUB_CATEGORY_OTHER;
             default -> {
                 // type을 찾을 수 없으면 기본적으로 subCategory_other 사용
                 log.warn("알 수 없는 subCategory type: {}. subCategory_other로 저장합니다.", subCategoryType);
-                yield "subCategory_other";
+                yield ReportSectionFields.INCIDENT_TYPE_SUB_CATEGORY_OTHER;
             }
         };
 
@@ -321,23 +358,4 @@ public class AiResponseToReportSectionService {
 
         log.debug("INCIDENT_TYPE 변환: subCategory -> {} (type: {})", targetFieldName, subCategoryType);
     }
-
-    /**
-     * ReportSectionType을 JSON 필드명으로 변환
-     *
-     * @param type 섹션 타입
-     * @return JSON 필드명 (예: PATIENT_INFO -> "patientInfo")
-     */
-    private String getFieldNameForType(ReportSectionType type) {
-        return switch (type) {
-            case PATIENT_INFO -> "patientInfo";
-            case DISPATCH -> "dispatch";
-            case INCIDENT_TYPE -> "incidentType";
-            case ASSESSMENT -> "assessment";
-            case TREATMENT -> "treatment";
-            case MEDICAL_GUIDANCE -> "medicalGuidance";
-            case TRANSPORT -> "transport";
-            case DETAIL_REPORT -> "detailReport";
-        };
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.ssairen.domain.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssairen.domain.ai.entity.LiveSttChunk;
+import com.ssairen.domain.ai.entity.LlmSummary;
+import com.ssairen.domain.ai.entity.SttTranscript;
+import com.ssairen.domain.ai.repository.LiveSttChunkRepository;
+import com.ssairen.domain.ai.repository.LlmSummaryRepository;
+import com.ssairen.domain.ai.repository.SttTranscriptRepository;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.file.dto.SttResponse;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * STT 녹취록 / LLM 요약 저장 Service
+ * 동기 API(FileController)와 비동기 작업(AiJobService)이 같은 방식으로 결과를 저장하도록 공통화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiResultService {
+
+    private final SttTranscriptRepository sttTranscriptRepository;
+    private final LlmSummaryRepository llmSummaryRepository;
+    private final LiveSttChunkRepository liveSttChunkRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * STT 결과를 DB에 저장
+     *
+     * @param emergencyReport 구급일지
+     * @param data            STT 텍스트 데이터
+     * @return 저장된 SttTranscript
+     */
+    public SttTranscript saveSttTranscript(EmergencyReport emergencyReport, String data) {
+        SttTranscript sttTranscript = SttTranscript.builder()
+                .emergencyReport(emergencyReport)
+                .data(data)
+                .build();
+        SttTranscript saved = sttTranscriptRepository.save(sttTranscript);
+        log.info("STT 결과 DB 저장 완료 - 구급일지 ID: {}, STT ID: {}", emergencyReport.getId(), saved.getId());
+        return saved;
+    }
+
+    /**
+     * STT 변환 결과(텍스트/세그먼트/토큰 사용량)를 JSON 문자열로 DB에 저장
+     *
+     * @param emergencyReport 구급일지
+     * @param sttResponse     STT 변환 결과
+     * @return 저장된 SttTranscript
+     */
+    public SttTranscript saveSttTranscript(EmergencyReport emergencyReport, SttResponse sttResponse) {
+        String sttDataJson;
+        try {
+            sttDataJson = objectMapper.writeValueAsString(sttResponse);
+        } catch (Exception e) {
+            log.error("STT 결과 JSON 변환 실패", e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "STT 결과 저장에 실패했습니다.");
+        }
+        return saveSttTranscript(emergencyReport, sttDataJson);
+    }
+
+    /**
+     * 실시간 녹음 조각을 이어 붙인 녹취록을 저장하고 조각을 녹취록에 연결 (녹음 종료 표시, 조각은 삭제하지 않음)
+     * 녹취록 저장과 조각 연결을 한 트랜잭션으로 처리하므로, 이후 작업 등록이 실패해도 같은 녹취록으로 다시 등록 가능
+     *
+     * @param emergencyReport 구급일지
+     * @param transcript      조각 텍스트를 순번 순서로 이어 붙인 녹취록
+     * @param chunks          녹취록에 포함된 조각
+     * @return 저장된 SttTranscript
+     */
+    @Transactional
+    public SttTranscript saveLiveTranscript(EmergencyReport emergencyReport, String transcript, List<LiveSttChunk> chunks) {
+        SttTranscript saved = saveSttTranscript(emergencyReport, transcript);
+        chunks.forEach(chunk -> chunk.finish(saved.getId()));
+        liveSttChunkRepository.saveAll(chunks);
+        return saved;
+    }
+
+    /**
+     * LLM JSON 응답을 DB에 저장
+     *
+     * @param sttTranscript STT 트랜스크립트
+     * @param jsonResponse  JSON 응답 객체
+     */
+    public void saveLlmSummary(SttTranscript sttTranscript, Object jsonResponse) {
+        try {
+            String jsonDataString = objectMapper.writeValueAsString(jsonResponse);
+            LlmSummary llmSummary = LlmSummary.builder()
+                    .sttTranscript(sttTranscript)
+                    .data(jsonDataString)
+                    .build();
+            llmSummaryRepository.save(llmSummary);
+            log.info("LLM JSON 응답 DB 저장 완료 - STT ID: {}", sttTranscript.getId());
+        } catch (Exception e) {
+            log.error("JSON 응답 저장 실패", e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "JSON 응답 저장에 실패했습니다.");
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.ssairen.domain.ai.service;
+
+import com.ssairen.domain.ai.dto.AiJobResponse;
+import com.ssairen.domain.ai.dto.LiveSttChunkResponse;
+import com.ssairen.domain.ai.dto.LiveSttFinishResponse;
+import com.ssairen.domain.ai.entity.AiJob;
+import com.ssairen.domain.ai.entity.LiveSttChunk;
+import com.ssairen.domain.ai.entity.SttTranscript;
+import com.ssairen.domain.ai.enums.AiJobStatus;
+import com.ssairen.domain.ai.repository.LiveSttChunkRepository;
+import com.ssairen.domain.ai.repository.SttTranscriptRepository;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.file.dto.LocalWhisperSttResponse;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 실시간 녹음 STT Service
+ * - 구급대원이 말하는 동안 짧은 음성 조각(각각 단독으로 재생 가능한 오디오)을 받아 바로 로컬 Whisper로 변환하고 순번과 함께 저장
+ * - 녹음이 끝나면 조각 텍스트를 순번 순서로 이어 붙여 녹취록으로 저장하고 JSON 변환 + 섹션 저장 작업을 바로 등록
+ * - 녹음 종료 시점에는 마지막 조각만 변환하면 되므로, 전체 파일을 받은 뒤 처음부터 변환하는 것보다 녹취록이 빨리 준비됨
+ * - 조각 저장과 녹음 종료는 구급일지 행 잠금으로 직렬화하고, 종료된 녹음에는 새 조각을 받지 않음
+ *   (조각은 삭제하지 않고 녹취록에 연결하므로 종료 요청을 다시 보내면 같은 녹취록/작업을 반환하거나 실패한 작업을 다시 등록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveSttService {
+
+    private static final String CHUNK_SEPARATOR = " ";
+
+    private final LiveSttChunkRepository liveSttChunkRepository;
+    private final EmergencyReportRepository emergencyReportRepository;
+    private final SttTranscriptRepository sttTranscriptRepository;
+    private final LocalWhisperSttService localWhisperSttService;
+    private final AiResultService aiResultService;
+    private final AiJobService aiJobService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 음성 조각 변환 후 진행중인 녹취록에 추가
+     * 이미 받은 순번이면 다시 변환하지 않고 저장된 결과를 반환 (네트워크 재전송 대비)
+     *
+     * @param file              음성 조각 오디오 파일
+     * @param emergencyReportId 구급일지 ID
+     * @param sequence          조각 순번 (0부터 시작)
+     * @param language          언어 코드
+     * @return 조각 변환 결과와 진행중인 녹취록
+     * @throws CustomException 이미 종료된 녹음에 새 순번을 보낸 경우 (LIVE_STT_ALREADY_FINISHED)
+     */
+    public LiveSttChunkResponse appendChunk(MultipartFile file, Long emergencyReportId, Integer sequence, String language) {
+        getEmergencyReport(emergencyReportId);
+        if (file.isEmpty()) {
+            throw new CustomException(ErrorCode.EMPTY_FILE);
+        }
+
+        Optional<LiveSttChunk> existing = liveSttChunkRepository.findByEmergencyReportIdAndSequence(emergencyReportId, sequence);
+        if (existing.isPresent()) {
+            log.info("이미 변환된 음성 조각 재전송 - 구급일지 ID: {}, 순번: {}", emergencyReportId, sequence);
+            return toChunkResponse(emergencyReportId, existing.get());
+        }
+        // 종료된 녹음이면 변환하지 않고 거절 (저장 시 잠금 안에서 다시 확인)
+        if (liveSttChunkRepository.existsByEmergencyReportIdAndSttTranscriptIdIsNotNull(emergencyReportId)) {
+            throw new CustomException(ErrorCode.LIVE_STT_ALREADY_FINISHED);
+        }
+
+        LocalWhisperSttResponse sttResponse = localWhisperSttService.convertSpeechToText(file, language);
+        String text = sttResponse.getText() != null ? sttResponse.getText().trim() : "";
+
+        // 변환은 잠금 밖에서 하고, 저장만 구급일지 잠금 안에서 수행 (녹음 종료와 겹치면 종료 후 조각으로 남지 않도록)
+        LiveSttChunk chunk = transactionTemplate.execute(status -> {
+            EmergencyReport emergencyReport = lockEmergencyReport(emergencyReportId);
+            Optional<LiveSttChunk> saved = liveSttChunkRepository.findByEmergencyReportIdAndSequence(emergencyReportId, sequence);
+            if (saved.isPresent()) {
+                // 같은 조각의 재전송이 동시에 처리되어 먼저 저장된 경우
+                return saved.get();
+            }
+            if (liveSttChunkRepository.existsByEmergencyReportIdAndSttTranscriptIdIsNotNull(emergencyReportId)) {
+                throw new CustomException(ErrorCode.LIVE_STT_ALREADY_FINISHED);
+            }
+            return liveSttChunkRepository.save(LiveSttChunk.builder()
+                    .emergencyReport(emergencyReport)
+                    .sequence(sequence)
+                    .text(text)
+                    .duration(sttResponse.getDuration())
+                    .build());
+        });
+
+        log.info("음성 조각 변환 완료 - 구급일지 ID: {}, 순번: {}, 텍스트 길이: {} 문자",
+                emergencyReportId, sequence, chunk.getText().length());
+        return toChunkResponse(emergencyReportId, chunk);
+    }
+
+    /**
+     * 실시간 녹음 종료 (멱등)
+     * - 구급일지 잠금 안에서 녹취록 저장, 조각 종료 표시, 대기 상태 작업 저장을 한 트랜잭션으로 커밋한 뒤 작업을 Executor에 제출
+     * - 이미 종료된 녹음이면 같은 녹취록을 사용: 진행중이거나 완료된 작업이 있으면 그대로 반환하고, 실패했으면 다시 등록
+     *   (대기 큐 초과로 503을 받은 경우에도 녹취록과 조각은 남아 있으므로 같은 요청으로 재시도)
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param maxNewTokens      최대 생성 토큰 수
+     * @param temperature       생성 온도
+     * @return 저장된 녹취록과 등록된 작업
+     */
+    public LiveSttFinishResponse finish(Long emergencyReportId, Integer maxNewTokens, Double temperature) {
+        FinishedRecording finished = transactionTemplate.execute(status ->
+                finishRecording(emergencyReportId, maxNewTokens, temperature));
+
+        AiJobResponse job = finished.newJob()
+                ? aiJobService.enqueueTranscriptToJson(finished.job(), finished.sttTranscript())
+                : AiJobResponse.from(finished.job());
+
+        log.info("실시간 녹음 종료 - 구급일지 ID: {}, 조각 수: {}, STT ID: {}, 작업 ID: {}, 신규 작업: {}",
+                emergencyReportId, finished.chunkCount(), finished.sttTranscript().getId(), job.jobId(), finished.newJob());
+        return new LiveSttFinishResponse(emergencyReportId, finished.sttTranscript().getId(), finished.chunkCount(), job);
+    }
+
+    /**
+     * 녹음 종료 처리 (트랜잭션 안, 구급일지 잠금)
+     */
+    private FinishedRecording finishRecording(Long emergencyReportId, Integer maxNewTokens, Double temperature) {
+        EmergencyReport emergencyReport = lockEmergencyReport(emergencyReportId);
+
+        List<LiveSttChunk> chunks = liveSttChunkRepository.findByEmergencyReportIdOrderBySequenceAsc(emergencyReportId);
+        if (chunks.isEmpty()) {
+            throw new CustomException(ErrorCode.LIVE_STT_NO_CHUNKS);
+        }
+
+        // 이미 종료된 녹음: 같은 녹취록의 작업을 반환하거나, 실패했으면 다시 등록
+        Long finishedTranscriptId = chunks.get(0).getSttTranscriptId();
+        if (finishedTranscriptId != null) {
+            SttTranscript sttTranscript = sttTranscriptRepository.findById(finishedTranscriptId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.STT_TRANSCRIPT_NOT_FOUND));
+            Optional<AiJob> latestJob = aiJobService.findLatestTranscriptJob(finishedTranscriptId)
+                    .filter(job -> job.getStatus() != AiJobStatus.FAILED);
+            if (latestJob.isPresent()) {
+                log.info("이미 종료된 실시간 녹음 - 구급일지 ID: {}, STT ID: {}, 작업 ID: {}",
+                        emergencyReportId, finishedTranscriptId, latestJob.get().getId());
+                return new FinishedRecording(sttTranscript, chunks.size(), latestJob.get(), false);
+            }
+            log.info("종료된 실시간 녹음의 실패한 작업 재등록 - 구급일지 ID: {}, STT ID: {}", emergencyReportId, finishedTranscriptId);
+            AiJob job = aiJobService.createTranscriptToJson(emergencyReport, sttTranscript, maxNewTokens, temperature);
+            return new FinishedRecording(sttTranscript, chunks.size(), job, true);
+        }
+
+        int lastSequence = chunks.get(chunks.size() - 1).getSequence();
+        if (lastSequence + 1 != chunks.size()) {
+            log.warn("누락된 음성 조각이 있는 상태로 녹음 종료 - 구급일지 ID: {}, 받은 조각 수: {}, 마지막 순번: {}",
+                    emergencyReportId, chunks.size(), lastSequence);
+        }
+
+        SttTranscript sttTranscript = aiResultService.saveLiveTranscript(emergencyReport, joinTranscript(chunks), chunks);
+        AiJob job = aiJobService.createTranscriptToJson(emergencyReport, sttTranscript, maxNewTokens, temperature);
+        return new FinishedRecording(sttTranscript, chunks.size(), job, true);
+    }
+
+    /**
+     * 녹음 종료 결과
+     *
+     * @param newJob true면 이번 요청에서 만든 작업이므로 커밋 후 Executor에 제출
+     */
+    private record FinishedRecording(SttTranscript sttTranscript, int chunkCount, AiJob job, boolean newJob) {
+    }
+
+    private LiveSttChunkResponse toChunkResponse(Long emergencyReportId, LiveSttChunk chunk) {
+        List<LiveSttChunk> chunks = liveSttChunkRepository.findByEmergencyReportIdOrderBySequenceAsc(emergencyReportId);
+        return new LiveSttChunkResponse(
+                emergencyReportId,
+                chunk.getSequence(),
+                chunk.getText(),
+                joinTranscript(chunks),
+                chunks.size()
+        );
+    }
+
+    private String joinTranscript(List<LiveSttChunk> chunks) {
+        return chunks.stream()
+                .map(LiveSttChunk::getText)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.joining(CHUNK_SEPARATOR));
+    }
+
+    private EmergencyReport getEmergencyReport(Long emergencyReportId) {
+        return emergencyReportRepository.findById(emergencyReportId)
+                .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_REPORT_NOT_FOUND));
+    }
+
+    private EmergencyReport lockEmergencyReport(Long emergencyReportId) {
+        return emergencyReportRepository.findForUpdateById(emergencyReportId)
+                .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_REPORT_NOT_FOUND));
+    }
+}
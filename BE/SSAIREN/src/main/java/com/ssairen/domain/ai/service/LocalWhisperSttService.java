@@ -1,31 +1,73 @@
 package com.ssairen.domain.ai.service;
 
+import com.ssairen.config.LocalWhisperProperties;
 import com.ssairen.domain.file.dto.LocalWhisperSttResponse;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 /**
  * 로컬 Whisper STT Service
  * 로컬 Faster-Whisper API를 호출하여 음성을 텍스트로 변환
+ * 요청마다 WebClient를 만들지 않고, 전용 커넥션 풀을 가진 localWhisperWebClient Bean을 공유 (WebClientConfig)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LocalWhisperSttService {
 
-    @Value("${ai.local-whisper.base-url:https://alondra-reprobationary-margeret.ngrok-free.dev}")
-    private String localWhisperBaseUrl;
-
     private static final String LOCAL_STT_ENDPOINT = "/api/stt/local/full";
+    private static final Duration WARMUP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WebClient localWhisperWebClient;
+    private final LocalWhisperProperties localWhisperProperties;
+
+    /**
+     * 애플리케이션 기동 완료 후 커넥션 풀 예열
+     * 첫 STT 요청이 TCP/TLS 연결 비용을 치르지 않도록 미리 연결을 맺어 풀에 반환해 둠 (기동을 막지 않고, 실패해도 무시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpConnections() {
+        int connections = localWhisperProperties.getWarmupConnections();
+        if (connections <= 0) {
+            return;
+        }
+        warmUp(connections)
+                .subscribe(warmed -> log.info("로컬 Whisper 연결 예열 완료 - 연결 수: {}/{}", warmed, connections));
+    }
+
+    /**
+     * 지정한 수만큼 동시에 요청을 보내 연결을 맺고 풀에 반환 (응답 상태는 무시)
+     *
+     * @param connections 맺을 연결 수
+     * @return 성공한 요청 수
+     */
+    Mono<Integer> warmUp(int connections) {
+        return Flux.range(0, connections)
+                .flatMap(i -> localWhisperWebClient.head()
+                        .uri("/")
+                        .exchangeToMono(response -> response.releaseBody().thenReturn(1))
+                        .timeout(WARMUP_TIMEOUT)
+                        .onErrorResume(e -> {
+                            log.warn("로컬 Whisper 연결 예열 실패 - 에러: {}", e.getMessage());
+                            return Mono.just(0);
+                        }))
+                .reduce(0, Integer::sum);
+    }
 
     /**
      * 로컬 Whisper 모델을 사용한 음성-텍스트 변환 (전체 텍스트 반환)
@@ -35,19 +77,26 @@ public class LocalWhisperSttService {
      * @return 로컬 Whisper STT 변환 결과
      */
     public LocalWhisperSttResponse convertSpeechToText(MultipartFile file, String language) {
+        return convertSpeechToText(file.getResource(), file.getContentType(), language);
+    }
+
+    /**
+     * 로컬 Whisper 모델을 사용한 음성-텍스트 변환 (요청 종료 후에도 읽을 수 있는 파일 리소스용)
+     *
+     * @param audio 오디오 리소스 (파일명 확장자로 형식을 판별하므로 원본 확장자 유지)
+     * @param contentType 오디오 Content-Type
+     * @param language 언어 코드 (기본값: ko)
+     * @return 로컬 Whisper STT 변환 결과
+     */
+    public LocalWhisperSttResponse convertSpeechToText(Resource audio, String contentType, String language) {
         try {
             log.info("로컬 Whisper STT 변환 시작 - 파일명: {}, 언어: {}",
-                    file.getOriginalFilename(), language);
+                    audio.getFilename(), language);
 
             // Multipart 요청 바디 생성
             MultipartBodyBuilder builder = new MultipartBodyBuilder();
-            builder.part("file", file.getResource())
-                    .contentType(MediaType.parseMediaType(file.getContentType()));
-
-            // WebClient 생성 (로컬 Whisper API용)
-            WebClient localWhisperWebClient = WebClient.builder()
-                    .baseUrl(localWhisperBaseUrl)
-                    .build();
+            builder.part("file", audio)
+                    .contentType(MediaType.parseMediaType(contentType));
 
             // 로컬 Whisper API로 STT 요청
             LocalWhisperSttResponse response = localWhisperWebClient.post()
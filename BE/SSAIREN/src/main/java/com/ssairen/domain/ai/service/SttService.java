@@ -1,7 +1,11 @@
 package com.ssairen.domain.ai.service;
 
 import com.ssairen.domain.file.dto.SttResponse;
+import com.ssairen.domain.file.dto.SttStreamEvent;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+
+import java.io.InputStream;
 
 /**
  * STT (Speech-to-Text) Service 인터페이스
@@ -16,4 +20,26 @@ public interface SttService {
      * @return STT 변환 결과
      */
     SttResponse convertSpeechToText(MultipartFile file, String language);
+
+    /**
+     * Whisper 모델을 사용한 음성-텍스트 변환 (오디오를 스트림에서 읽으면서 전송)
+     * 전체 크기를 미리 알 필요 없이 읽는 대로 AI 서버에 전송하므로, 다른 곳과 동시에 같은 업로드를 처리할 때 사용
+     *
+     * @param audio 오디오 내용 스트림 (끝까지 읽은 뒤 닫음)
+     * @param fileName 파일명 (AI 서버가 확장자로 형식을 판별)
+     * @param contentType 오디오 Content-Type
+     * @param language 언어 코드 (선택사항, null이면 자동 감지)
+     * @return STT 변환 결과
+     */
+    SttResponse convertSpeechToText(InputStream audio, String fileName, String contentType, String language);
+
+    /**
+     * Whisper 모델을 사용한 스트리밍 음성-텍스트 변환
+     * 세그먼트가 도착할 때마다 segment 이벤트를, 변환이 끝나면 전체 결과를 담은 done 이벤트를 내보냄
+     *
+     * @param file 오디오 파일
+     * @param language 언어 코드 (선택사항, null이면 자동 감지)
+     * @return STT 이벤트 스트림 (구독 시 변환 시작)
+     */
+    Flux<SttStreamEvent> streamSpeechToText(MultipartFile file, String language);
 }
@@ -3,12 +3,16 @@ package com.ssairen.domain.ai.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssairen.domain.file.dto.SttResponse;
+import com.ssairen.domain.file.dto.SttStreamEvent;
 import com.ssairen.domain.file.dto.TokenUsage;
 import com.ssairen.domain.file.dto.TranscriptSegment;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
@@ -16,9 +20,13 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * STT (Speech-to-Text) Service 구현체
@@ -33,13 +41,47 @@ public class SttServiceImpl implements SttService {
     private final ObjectMapper objectMapper;
 
     private static final String STT_ENDPOINT = "/api/stt/whisper";
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
 
     /**
      * Whisper 모델을 사용한 음성-텍스트 변환
+     * 스트리밍 변환의 마지막 done 이벤트를 기다려 전체 결과를 반환
      */
     @Override
     public SttResponse convertSpeechToText(MultipartFile file, String language) {
-        try {
+        return awaitResult(streamSpeechToText(file, language));
+    }
+
+    /**
+     * Whisper 모델을 사용한 음성-텍스트 변환 (오디오를 스트림에서 읽으면서 전송)
+     * 스트림 읽기는 블로킹이므로 boundedElastic 스케줄러에서 수행하고, 파일 part는 크기 없이 chunked로 전송
+     */
+    @Override
+    public SttResponse convertSpeechToText(InputStream audio, String fileName, String contentType, String language) {
+        return awaitResult(Flux.defer(() -> {
+            log.info("STT 변환 시작 (스트림) - 파일명: {}, 언어: {}", fileName, language);
+
+            Flux<DataBuffer> content = DataBufferUtils.readInputStream(
+                            () -> audio, DefaultDataBufferFactory.sharedInstance, STREAM_BUFFER_SIZE)
+                    .subscribeOn(Schedulers.boundedElastic());
+
+            MultipartBodyBuilder builder = new MultipartBodyBuilder();
+            builder.asyncPart("file", content, DataBuffer.class)
+                    .filename(fileName)
+                    .contentType(MediaType.parseMediaType(contentType));
+
+            return requestStreaming(builder, language);
+        }));
+    }
+
+    /**
+     * Whisper 모델을 사용한 스트리밍 음성-텍스트 변환
+     * 구독 시점에 AI 서버로 요청하며, 세그먼트가 도착하는 즉시 segment 이벤트를 내보내고
+     * 스트림이 끝나면 전체 텍스트/세그먼트/토큰 사용량을 담은 done 이벤트를 내보냄
+     */
+    @Override
+    public Flux<SttStreamEvent> streamSpeechToText(MultipartFile file, String language) {
+        return Flux.defer(() -> {
             log.info("STT 변환 시작 - 파일명: {}, 언어: {}", file.getOriginalFilename(), language);
 
             // Multipart 요청 바디 생성
@@ -47,32 +89,39 @@ public class SttServiceImpl implements SttService {
             builder.part("file", file.getResource())
                     .contentType(MediaType.parseMediaType(file.getContentType()));
 
-            // AI 서버로 STT 요청 (스트리밍 응답)
-            Flux<String> responseFlux = aiServerWebClient.post()
-                    .uri(uriBuilder -> {
-                        var uri = uriBuilder.path(STT_ENDPOINT);
-                        if (language != null && !language.isEmpty()) {
-                            uri.queryParam("language", language);
-                        }
-                        return uri.build();
-                    })
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData(builder.build()))
-                    .retrieve()
-                    .bodyToFlux(String.class);
-
-            // ������������ ������ ������
-            SttParsingResult result = parseStreamingResponse(responseFlux);
-
-            log.info("STT ������ ������ - ��������� ������: {} ������, ������������ ���: {}",
-                    result.finalText.length(), result.segments.size());
-
-            return SttResponse.builder()
-                    .text(result.finalText)
-                    .segments(result.segments)
-                    .language(language)
-                    .usage(result.usage)
-                    .build();
+            return requestStreaming(builder, language);
+        });
+    }
+
+    /**
+     * AI 서버로 STT 요청 (스트리밍 응답)
+     */
+    private Flux<SttStreamEvent> requestStreaming(MultipartBodyBuilder builder, String language) {
+        Flux<String> responseFlux = aiServerWebClient.post()
+                .uri(uriBuilder -> {
+                    var uri = uriBuilder.path(STT_ENDPOINT);
+                    if (language != null && !language.isEmpty()) {
+                        uri.queryParam("language", language);
+                    }
+                    return uri.build();
+                })
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .bodyToFlux(String.class);
+
+        return parseStreamingResponse(responseFlux, language);
+    }
+
+    /**
+     * 스트리밍 변환의 done 이벤트를 기다려 전체 결과 반환
+     */
+    private SttResponse awaitResult(Flux<SttStreamEvent> events) {
+        try {
+            SttStreamEvent done = events
+                    .filter(event -> SttStreamEvent.DONE.equals(event.getEvent()))
+                    .blockLast();
+            return done.getResult();
 
         } catch (Exception e) {
             log.error("STT 변환 실패: {}", e.getMessage(), e);
@@ -81,19 +130,19 @@ public class SttServiceImpl implements SttService {
     }
 
     /**
-     * ������������ ��������� ������������ ��������� ������
+     * 스트리밍 응답을 STT 이벤트로 변환 (구독마다 새로 호출되어 누적 상태를 공유하지 않음)
      */
-    private SttParsingResult parseStreamingResponse(Flux<String> responseFlux) {
+    Flux<SttStreamEvent> parseStreamingResponse(Flux<String> responseFlux, String language) {
         List<TranscriptSegment> segments = new ArrayList<>();
-        String finalText = "";
-        TokenUsage usage = null;
+        AtomicReference<String> finalText = new AtomicReference<>("");
+        AtomicReference<TokenUsage> usage = new AtomicReference<>();
 
-        for (String chunk : responseFlux.toIterable()) {
-            log.debug("STT ������ ������: {}", chunk);
+        Flux<SttStreamEvent> segmentEvents = responseFlux.handle((chunk, sink) -> {
+            log.debug("STT 응답 청크: {}", chunk);
 
             String jsonStr = preprocessChunk(chunk);
             if (jsonStr.isEmpty()) {
-                continue;
+                return;
             }
 
             try {
@@ -103,16 +152,26 @@ public class SttServiceImpl implements SttService {
                 if ("transcript.text.segment".equals(type)) {
                     TranscriptSegment segment = parseTranscriptSegment(jsonNode);
                     segments.add(segment);
+                    sink.next(SttStreamEvent.segment(segment));
                 } else if ("transcript.text.done".equals(type)) {
-                    finalText = jsonNode.has("text") ? jsonNode.get("text").asText() : "";
-                    usage = parseTokenUsage(jsonNode);
+                    finalText.set(jsonNode.has("text") ? jsonNode.get("text").asText() : "");
+                    usage.set(parseTokenUsage(jsonNode));
                 }
             } catch (Exception e) {
-                log.warn("JSON ������ ������ (������): {}", jsonStr, e);
+                log.warn("STT 응답 청크 파싱 실패 (무시): {}", jsonStr, e);
             }
-        }
-
-        return new SttParsingResult(segments, finalText, usage);
+        });
+
+        return segmentEvents.concatWith(Mono.fromSupplier(() -> {
+            log.info("STT 변환 완료 - 텍스트 길이: {} 문자, 세그먼트 수: {}",
+                    finalText.get().length(), segments.size());
+            return SttStreamEvent.done(SttResponse.builder()
+                    .text(finalText.get())
+                    .segments(List.copyOf(segments))
+                    .language(language)
+                    .usage(usage.get())
+                    .build());
+        }));
     }
 
     /**
@@ -161,19 +220,4 @@ public class SttServiceImpl implements SttService {
                         ? inputDetails.get("text_tokens").asInt() : null)
                 .build();
     }
-
-    /**
-     * STT ������ ��������� ������ ������ ���������
-     */
-    private static class SttParsingResult {
-        final List<TranscriptSegment> segments;
-        final String finalText;
-        final TokenUsage usage;
-
-        SttParsingResult(List<TranscriptSegment> segments, String finalText, TokenUsage usage) {
-            this.segments = segments;
-            this.finalText = finalText;
-            this.usage = usage;
-        }
-    }
 }
@@ -0,0 +1,58 @@
+package com.ssairen.domain.ai.service;
+
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.file.dto.SttResponse;
+import com.ssairen.domain.file.dto.SttStreamEvent;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * STT 스트리밍 + 녹취록 저장 Service
+ * - 세그먼트 이벤트는 AI 서버에서 도착하는 즉시 그대로 전달 (첫 텍스트까지의 시간이 세그먼트 1개 수준)
+ * - done 이벤트가 오면 녹취록을 저장한 뒤 저장된 ID를 담아 전달
+ * - 녹취록 저장(JPA)은 블로킹 호출이므로 boundedElastic 스케줄러에서 실행하여 WebClient 이벤트 루프를 막지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SttStreamService {
+
+    private final SttService sttService;
+    private final AiResultService aiResultService;
+
+    /**
+     * 오디오 파일 스트리밍 STT 후 녹취록 저장
+     * 변환/저장 중 실패하면 스트림을 끊지 않고 error 이벤트로 알린 뒤 종료
+     *
+     * @param file            오디오 파일
+     * @param emergencyReport 구급일지
+     * @param language        언어 코드
+     * @return STT 이벤트 스트림 (segment* → done 또는 error)
+     */
+    public Flux<SttStreamEvent> streamAndSave(MultipartFile file, EmergencyReport emergencyReport, String language) {
+        return sttService.streamSpeechToText(file, language)
+                .concatMap(event -> SttStreamEvent.DONE.equals(event.getEvent())
+                        ? saveTranscript(emergencyReport, event.getResult())
+                        : Mono.just(event))
+                .onErrorResume(e -> {
+                    log.error("STT 스트리밍 실패 - 구급일지 ID: {}, 에러: {}", emergencyReport.getId(), e.getMessage(), e);
+                    String message = e instanceof CustomException customException
+                            ? customException.getMessage()
+                            : ErrorCode.STT_PROCESSING_FAILED.getMessage();
+                    return Mono.just(SttStreamEvent.error(message));
+                });
+    }
+
+    private Mono<SttStreamEvent> saveTranscript(EmergencyReport emergencyReport, SttResponse result) {
+        return Mono.fromCallable(() -> aiResultService.saveSttTranscript(emergencyReport, result))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(saved -> SttStreamEvent.done(result, saved.getId()));
+    }
+}
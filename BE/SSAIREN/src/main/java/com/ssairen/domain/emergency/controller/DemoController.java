@@ -4,9 +4,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
 import com.ssairen.domain.emergency.entity.ReportSection;
+import com.ssairen.domain.emergency.entity.ReportSectionChange;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
 import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.emergency.repository.ReportSectionChangeRepository;
 import com.ssairen.domain.emergency.repository.ReportSectionRepository;
+import com.ssairen.domain.emergency.util.JsonMergePatch;
 import com.ssairen.global.dto.ApiResponse;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
@@ -37,6 +40,7 @@ public class DemoController {
 
     private final EmergencyReportRepository emergencyReportRepository;
     private final ReportSectionRepository reportSectionRepository;
+    private final ReportSectionChangeRepository reportSectionChangeRepository;
     private final ObjectMapper objectMapper;
 
     /**
@@ -105,10 +109,7 @@ public class DemoController {
                     }
                     """, now, now);
             JsonNode patientInfoData = objectMapper.readTree(patientInfoJson);
-            ReportSection patientInfoSection = reportSectionRepository
-                    .findByEmergencyReportAndType(emergencyReport, ReportSectionType.PATIENT_INFO)
-                    .orElseThrow(() -> new CustomException(ErrorCode.REPORT_SECTION_NOT_FOUND));
-            patientInfoSection.updateData(patientInfoData);
+            replaceSectionData(emergencyReport, ReportSectionType.PATIENT_INFO, patientInfoData);
 
             // 4. ASSESSMENT 섹션 업데이트
             String assessmentJson = String.format("""
@@ -168,10 +169,7 @@ public class DemoController {
                     }
                     """, now, now, now, now);
             JsonNode assessmentData = objectMapper.readTree(assessmentJson);
-            ReportSection assessmentSection = reportSectionRepository
-                    .findByEmergencyReportAndType(emergencyReport, ReportSectionType.ASSESSMENT)
-                    .orElseThrow(() -> new CustomException(ErrorCode.REPORT_SECTION_NOT_FOUND));
-            assessmentSection.updateData(assessmentData);
+            replaceSectionData(emergencyReport, ReportSectionType.ASSESSMENT, assessmentData);
 
             // 5. DISPATCH 섹션 업데이트
             String dispatchJson = String.format("""
@@ -208,10 +206,7 @@ public class DemoController {
                     }
                     """, now, now, now, now.minusHours(1));
             JsonNode dispatchData = objectMapper.readTree(dispatchJson);
-            ReportSection dispatchSection = reportSectionRepository
-                    .findByEmergencyReportAndType(emergencyReport, ReportSectionType.DISPATCH)
-                    .orElseThrow(() -> new CustomException(ErrorCode.REPORT_SECTION_NOT_FOUND));
-            dispatchSection.updateData(dispatchData);
+            replaceSectionData(emergencyReport, ReportSectionType.DISPATCH, dispatchData);
 
             // 6. INCIDENT_TYPE 섹션 업데이트
             String incidentTypeJson = String.format("""
@@ -251,10 +246,7 @@ public class DemoController {
                     }
                     """, now, now);
             JsonNode incidentTypeData = objectMapper.readTree(incidentTypeJson);
-            ReportSection incidentTypeSection = reportSectionRepository
-                    .findByEmergencyReportAndType(emergencyReport, ReportSectionType.INCIDENT_TYPE)
-                    .orElseThrow(() -> new CustomException(ErrorCode.REPORT_SECTION_NOT_FOUND));
-            incidentTypeSection.updateData(incidentTypeData);
+            replaceSectionData(emergencyReport, ReportSectionType.INCIDENT_TYPE, incidentTypeData);
 
             log.info("Sample data updated successfully for emergency report ID: {}", emergencyReportId);
             return ResponseEntity.ok(
@@ -268,4 +260,17 @@ public class DemoController {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "샘플 데이터 업데이트 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
+
+    /**
+     * 섹션 데이터를 샘플 데이터로 교체 (다른 수정 경로와 같이 행 잠금 후 버전 증가와 변경 이력 기록)
+     */
+    private void replaceSectionData(EmergencyReport emergencyReport, ReportSectionType type, JsonNode data) {
+        ReportSection section = reportSectionRepository
+                .findForUpdateByEmergencyReportAndType(emergencyReport, type)
+                .orElseThrow(() -> new CustomException(ErrorCode.REPORT_SECTION_NOT_FOUND));
+        reportSectionChangeRepository.insertBaselineIfAbsent(section.getId());
+        JsonNode previousData = section.getData();
+        section.updateData(data);
+        reportSectionChangeRepository.save(ReportSectionChange.of(section, JsonMergePatch.diff(previousData, data)));
+    }
 }
@@ -1,9 +1,12 @@
 package com.ssairen.domain.emergency.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.ssairen.config.swagger.annotation.ApiInternalServerError;
 import com.ssairen.config.swagger.annotation.ApiUnauthorizedError;
 import com.ssairen.domain.emergency.dto.EmergencyReportCreateResponse;
+import com.ssairen.domain.emergency.dto.EmergencyReportListQueryRequest;
 import com.ssairen.domain.emergency.dto.ParamedicEmergencyReportResponse;
+import com.ssairen.domain.emergency.enums.ReportSectionPatchFormat;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
 import com.ssairen.global.dto.ApiResponse;
 import com.ssairen.global.security.dto.CustomUserPrincipal;
@@ -17,12 +20,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -204,7 +210,12 @@ public interface EmergencyReportApi {
                                             },
                                             "createdAt": "2025-11-01 21:00:41.284828"
                                           }
-                                        ]
+                                        ],
+                                        "pagination": {
+                                          "next_cursor": null,
+                                          "has_more": false
+                                        },
+                                        "syncedAt": "2025-11-01T21:05:00.123456"
                                       },
                                       "message": "구급대원이 작성한 보고서 조회를 완료하였습니다.",
                                       "timestamp": "2025-10-23T10:46:20+09:00"
@@ -265,6 +276,14 @@ public interface EmergencyReportApi {
     @ApiInternalServerError
     @GetMapping("/me")
     ResponseEntity<ApiResponse<ParamedicEmergencyReportResponse>> getEmergencyReportsByParamedic(
+            @Parameter(description = """
+                    조회 조건 (모두 생략 시 전체 목록 조회)
+                    - cursor: 다음 페이지 커서 (첫 요청 시 생략, 이후 응답의 pagination.next_cursor 값 사용)
+                    - limit: 페이지당 개수 (최소: 1, 최대: 100, cursor만 지정 시 기본값 10)
+                    - updatedSince: 증분 동기화 기준 시각 (직전 응답의 syncedAt 값 사용, 이후 구급일지나 섹션이 변경된 구급일지만 조회, 경계 부근 변경분은 다시 포함될 수 있음)
+                    """)
+            @Valid
+            EmergencyReportListQueryRequest request,
             @AuthenticationPrincipal CustomUserPrincipal principal
     );
 
@@ -760,9 +779,129 @@ public interface EmergencyReportApi {
             @Parameter(hidden = true) @org.springframework.security.core.annotation.AuthenticationPrincipal com.ssairen.global.security.dto.CustomUserPrincipal principal
     );
 
+    @Operation(
+            summary = "구급일지 전체 조회",
+            description = "구급일지의 모든 섹션과 환자 정보를 한 번에 조회합니다. " +
+                    "작성 구급대원 또는 환자를 수용한(ACCEPTED, ARRIVED) 병원만 조회할 수 있습니다. " +
+                    "응답의 ETag를 If-None-Match 헤더로 보내면 변경이 없을 때 304 Not Modified를 반환합니다. " +
+                    "sparse=true로 요청하면 섹션 데이터를 템플릿으로 복원하지 않고 입력된 값만 반환합니다(schemaVersion 포함). " +
+                    "ETag는 sparse 여부와 템플릿 버전별로 다르므로 같은 sparse 값으로 받은 ETag를 보내야 합니다."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "구급일지 전체 조회 성공",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "구급일지 전체 조회",
+                            value = """
+                                    {
+                                        "success": true,
+                                        "data": {
+                                            "emergencyReportId": 5,
+                                            "version": 11,
+                                            "sections": [
+                                                {
+                                                    "id": 801,
+                                                    "type": "PATIENT_INFO",
+                                                    "version": 4,
+                                                    "data": {
+                                                        "patientInfo": {
+                                                            "patient": {
+                                                                "name": "김환자",
+                                                                "gender": "남성"
+                                                            }
+                                                        }
+                                                    },
+                                                    "updatedAt": "2023-11-13T09:40:00Z"
+                                                }
+                                            ],
+                                            "patientInfo": {
+                                                "emergencyReportId": 5,
+                                                "gender": "M",
+                                                "age": 45,
+                                                "mentalStatus": "ALERT",
+                                                "chiefComplaint": "복통, 구토",
+                                                "hr": 85,
+                                                "bp": "120/80",
+                                                "spo2": 99,
+                                                "rr": 16,
+                                                "bt": 36.5,
+                                                "hasGuardian": true
+                                            }
+                                        },
+                                        "message": "구급일지 전체 조회를 완료하였습니다.",
+                                        "timestamp": "2023-11-13T10:00:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "변경 없음 (If-None-Match 일치, 본문 없음)"
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "403",
+            description = "조회 권한 없음",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "권한 없음",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "ACCESS_DENIED",
+                                            "message": "본인이 작성한 구급일지만 조회할 수 있습니다."
+                                        },
+                                        "status": 403,
+                                        "timestamp": "2023-11-13T10:00:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "구급일지를 찾을 수 없음",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "구급일지 없음",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "EMERGENCY_REPORT_NOT_FOUND",
+                                            "message": "구급일지를 찾을 수 없습니다."
+                                        },
+                                        "status": 404,
+                                        "timestamp": "2023-11-13T10:00:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @ApiUnauthorizedError
+    @ApiInternalServerError
+    @GetMapping("/{emergencyReportId}/full")
+    ResponseEntity<? extends ApiResponse> getFullEmergencyReport(
+            @Parameter(description = "구급일지 ID", required = true, example = "5")
+            @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
+            @Parameter(description = "이전 응답의 ETag (일치하면 304 Not Modified)", example = "\"11-t8\"")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(description = "true면 섹션 데이터를 템플릿으로 복원하지 않고 입력된 값만 반환", example = "false")
+            @RequestParam(value = "sparse", defaultValue = "false") boolean sparse,
+            @Parameter(hidden = true) @org.springframework.security.core.annotation.AuthenticationPrincipal com.ssairen.global.security.dto.CustomUserPrincipal principal
+    );
+
     @Operation(
             summary = "구급일지 특정 섹션 조회",
-            description = "특정 구급일지의 특정 섹션 데이터를 조회합니다."
+            description = "특정 구급일지의 특정 섹션 데이터를 조회합니다. " +
+                    "sparse=true로 요청하면 템플릿으로 복원하지 않고 입력된 값만 반환합니다(schemaVersion 포함). " +
+                    "ETag는 섹션 버전에 응답 표현 식별자를 붙인 값(예: \"2-t8\", sparse=true면 \"2-s\")이며, " +
+                    "수정 요청의 If-Match로 그대로 보내면 버전만 비교합니다."
     )
     @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
@@ -1282,6 +1421,8 @@ public interface EmergencyReportApi {
             @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
             @Parameter(description = "섹션 유형", required = true, example = "PATIENT_INFO")
             @PathVariable("type") com.ssairen.domain.emergency.enums.ReportSectionType type,
+            @Parameter(description = "true면 섹션 데이터를 템플릿으로 복원하지 않고 입력된 값만 반환", example = "false")
+            @RequestParam(value = "sparse", defaultValue = "false") boolean sparse,
             @Parameter(hidden = true) @org.springframework.security.core.annotation.AuthenticationPrincipal com.ssairen.global.security.dto.CustomUserPrincipal principal
     );
 
@@ -1344,7 +1485,12 @@ public interface EmergencyReportApi {
                                                     },
                                                     "createdAt": "2025-11-01 21:00:41.284828"
                                                 }
-                                            ]
+                                            ],
+                                            "pagination": {
+                                                "next_cursor": null,
+                                                "has_more": false
+                                            },
+                                            "syncedAt": "2025-11-01T21:05:00.123456"
                                         }
                                       ],
                                       "message": "소방서 보고서 조회를 완료하였습니다.",
@@ -1379,6 +1525,14 @@ public interface EmergencyReportApi {
     @ApiInternalServerError
     @GetMapping("/fire-state")
     ResponseEntity<? extends ApiResponse> getEmergencyReportsByFireState(
+            @Parameter(description = """
+                    조회 조건 (모두 생략 시 전체 목록 조회)
+                    - cursor: 다음 페이지 커서 (첫 요청 시 생략, 이후 응답의 pagination.next_cursor 값 사용)
+                    - limit: 페이지당 개수 (최소: 1, 최대: 100, cursor만 지정 시 기본값 10)
+                    - updatedSince: 증분 동기화 기준 시각 (직전 응답의 syncedAt 값 사용, 이후 구급일지나 섹션이 변경된 구급일지만 조회, 경계 부근 변경분은 다시 포함될 수 있음)
+                    """)
+            @Valid
+            EmergencyReportListQueryRequest request,
             @AuthenticationPrincipal CustomUserPrincipal principal
     );
 
@@ -2322,6 +2476,27 @@ public interface EmergencyReportApi {
                     )
             )
     )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "412",
+            description = "버전 불일치 (If-Match 조건 실패)",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "버전 불일치",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "REPORT_SECTION_VERSION_MISMATCH",
+                                            "message": "섹션이 다른 요청에 의해 이미 수정되었습니다. 최신 데이터를 다시 조회해주세요."
+                                        },
+                                        "status": 412,
+                                        "timestamp": "2023-11-13T09:25:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
     @ApiUnauthorizedError
     @ApiInternalServerError
     @PatchMapping("/{emergencyReportId}/sections/{type}")
@@ -2331,6 +2506,353 @@ public interface EmergencyReportApi {
             @Parameter(description = "섹션 유형", required = true, example = "PATIENT_INFO")
             @PathVariable("type") ReportSectionType type,
             @Valid @RequestBody com.ssairen.domain.emergency.dto.ReportSectionUpdateRequest request,
+            @Parameter(description = "기대하는 섹션 버전 (조회/수정 응답의 ETag 값, 생략 시 버전 확인 없이 수정)", example = "\"2\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) @org.springframework.security.core.annotation.AuthenticationPrincipal com.ssairen.global.security.dto.CustomUserPrincipal principal
+    );
+
+    @Operation(
+            summary = "구급일지 섹션 부분 수정 (JSON Merge Patch)",
+            description = """
+                    RFC 7396 JSON Merge Patch 문서로 섹션의 변경된 필드만 전달합니다. 값이 null인 필드는 삭제됩니다.
+                    - If-Match 헤더에 조회/수정 응답의 ETag(섹션 버전)를 전달하면 현재 버전과 다를 때 412를 반환합니다.
+                    - 응답의 ETag 헤더에 수정 후 버전이 담기므로 다음 요청의 If-Match로 사용합니다.
+                    """
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "구급일지 섹션 부분 수정 (JSON Merge Patch) 문서",
+            required = true,
+            content = @Content(
+                    mediaType = "application/merge-patch+json",
+                    examples = @ExampleObject(
+                            name = "환자 이름/나이 수정",
+                            value = """
+                                    {
+                                        "patientInfo": {
+                                            "patient": {
+                                                "name": "홍길동",
+                                                "ageYears": 45
+                                            }
+                                        }
+                                    }
+                                    """
+                    )
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "구급일지 섹션 수정 성공 (ETag 헤더에 수정 후 버전 포함)"
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "패치 결과가 객체가 아님",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "패치 결과가 객체가 아님",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "INVALID_JSONB_FORMAT",
+                                            "message": "패치 결과 섹션 데이터는 JSON 객체여야 합니다."
+                                        },
+                                        "status": 400,
+                                        "timestamp": "2023-11-13T09:25:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "412",
+            description = "버전 불일치 (If-Match 조건 실패)",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "버전 불일치",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "REPORT_SECTION_VERSION_MISMATCH",
+                                            "message": "섹션이 다른 요청에 의해 이미 수정되었습니다. 최신 데이터를 다시 조회해주세요."
+                                        },
+                                        "status": 412,
+                                        "timestamp": "2023-11-13T09:25:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @ApiUnauthorizedError
+    @ApiInternalServerError
+    @PatchMapping(value = "/{emergencyReportId}/sections/{type}", consumes = ReportSectionPatchFormat.MERGE_PATCH_MEDIA_TYPE)
+    ResponseEntity<? extends ApiResponse> mergePatchReportSection(
+            @Parameter(description = "구급일지 ID", required = true, example = "5")
+            @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
+            @Parameter(description = "섹션 유형", required = true, example = "PATIENT_INFO")
+            @PathVariable("type") ReportSectionType type,
+            @RequestBody JsonNode patch,
+            @Parameter(description = "기대하는 섹션 버전 (조회/수정 응답의 ETag 값, 생략 시 버전 확인 없이 수정)", example = "\"2\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) @org.springframework.security.core.annotation.AuthenticationPrincipal com.ssairen.global.security.dto.CustomUserPrincipal principal
+    );
+
+    @Operation(
+            summary = "구급일지 섹션 부분 수정 (JSON Patch)",
+            description = """
+                    RFC 6902 JSON Patch 연산(add, remove, replace, move, copy, test) 목록으로 섹션을 수정합니다. 연산은 순서대로 적용되며 하나라도 실패하면 전체가 반영되지 않습니다.
+                    - If-Match 헤더에 조회/수정 응답의 ETag(섹션 버전)를 전달하면 현재 버전과 다를 때 412를 반환합니다.
+                    - 응답의 ETag 헤더에 수정 후 버전이 담기므로 다음 요청의 If-Match로 사용합니다.
+                    """
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "구급일지 섹션 부분 수정 (JSON Patch) 문서",
+            required = true,
+            content = @Content(
+                    mediaType = "application/json-patch+json",
+                    examples = @ExampleObject(
+                            name = "환자 이름/나이 수정",
+                            value = """
+                                    [
+                                        { "op": "test", "path": "/patientInfo/patient/name", "value": null },
+                                        { "op": "replace", "path": "/patientInfo/patient/name", "value": "홍길동" },
+                                        { "op": "replace", "path": "/patientInfo/patient/ageYears", "value": 45 }
+                                    ]
+                                    """
+                    )
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "구급일지 섹션 수정 성공 (ETag 헤더에 수정 후 버전 포함)"
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 패치 문서",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "잘못된 패치 문서",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "INVALID_JSON_PATCH",
+                                            "message": "경로를 찾을 수 없습니다: /patientInfo/unknown/name"
+                                        },
+                                        "status": 400,
+                                        "timestamp": "2023-11-13T09:25:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "409",
+            description = "test 연산 실패",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "test 연산 실패",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "JSON_PATCH_TEST_FAILED",
+                                            "message": "test 연산 실패 - 경로: /patientInfo/patient/name"
+                                        },
+                                        "status": 409,
+                                        "timestamp": "2023-11-13T09:25:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "412",
+            description = "버전 불일치 (If-Match 조건 실패)",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "버전 불일치",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "REPORT_SECTION_VERSION_MISMATCH",
+                                            "message": "섹션이 다른 요청에 의해 이미 수정되었습니다. 최신 데이터를 다시 조회해주세요."
+                                        },
+                                        "status": 412,
+                                        "timestamp": "2023-11-13T09:25:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @ApiUnauthorizedError
+    @ApiInternalServerError
+    @PatchMapping(value = "/{emergencyReportId}/sections/{type}", consumes = ReportSectionPatchFormat.JSON_PATCH_MEDIA_TYPE)
+    ResponseEntity<? extends ApiResponse> jsonPatchReportSection(
+            @Parameter(description = "구급일지 ID", required = true, example = "5")
+            @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
+            @Parameter(description = "섹션 유형", required = true, example = "PATIENT_INFO")
+            @PathVariable("type") ReportSectionType type,
+            @RequestBody JsonNode patch,
+            @Parameter(description = "기대하는 섹션 버전 (조회/수정 응답의 ETag 값, 생략 시 버전 확인 없이 수정)", example = "\"2\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) @org.springframework.security.core.annotation.AuthenticationPrincipal com.ssairen.global.security.dto.CustomUserPrincipal principal
+    );
+
+    @Operation(
+            summary = "구급일지 섹션 특정 버전 조회",
+            description = """
+                    섹션의 이전 버전 데이터를 조회합니다. 변경 이력의 스냅샷과 이후 변경분으로 복원합니다.
+                    - 변경 이력은 섹션이 처음 수정될 때부터 기록되므로, 그 이전 버전은 404(REPORT_SECTION_HISTORY_NOT_FOUND)를 반환합니다.
+                    """
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "섹션 버전 조회 성공",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = com.ssairen.domain.emergency.dto.ReportSectionVersionResponse.class)
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "현재 버전보다 큰 버전",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "잘못된 버전",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "INVALID_REPORT_SECTION_VERSION",
+                                            "message": "현재 버전(3)보다 큰 버전은 조회할 수 없습니다."
+                                        },
+                                        "status": 400,
+                                        "timestamp": "2023-11-13T10:00:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "변경 이력 없음",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "변경 이력 없음",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "REPORT_SECTION_HISTORY_NOT_FOUND",
+                                            "message": "요청한 버전의 섹션 변경 이력이 없습니다. 최신 데이터를 다시 조회해주세요."
+                                        },
+                                        "status": 404,
+                                        "timestamp": "2023-11-13T10:00:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @ApiUnauthorizedError
+    @ApiInternalServerError
+    @GetMapping("/{emergencyReportId}/sections/{type}/versions/{version}")
+    ResponseEntity<? extends ApiResponse> getReportSectionVersion(
+            @Parameter(description = "구급일지 ID", required = true, example = "5")
+            @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
+            @Parameter(description = "섹션 유형", required = true, example = "PATIENT_INFO")
+            @PathVariable("type") ReportSectionType type,
+            @Parameter(description = "조회할 섹션 버전", required = true, example = "2")
+            @PathVariable("version") @Positive(message = "섹션 버전은 양의 정수여야 합니다.") Integer version,
+            @Parameter(hidden = true) @org.springframework.security.core.annotation.AuthenticationPrincipal com.ssairen.global.security.dto.CustomUserPrincipal principal
+    );
+
+    @Operation(
+            summary = "구급일지 섹션 변경분 조회",
+            description = """
+                    클라이언트가 가진 버전(since) 이후의 변경분을 버전 순서대로 조회합니다.
+                    - 각 delta는 직전 버전 대비 JSON Merge Patch(RFC 7396)이며, null은 필드 삭제를 의미합니다.
+                    - schemaVersion이 있는 섹션의 delta는 희소 형식(sparse=true 조회 결과) 기준입니다.
+                    - since가 현재 버전이면 빈 목록을, 이력이 없는 구간이면 404를 반환하므로 이때는 섹션 전체를 다시 조회합니다.
+                    """
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "섹션 변경분 조회 성공",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = com.ssairen.domain.emergency.dto.ReportSectionChangesResponse.class),
+                    examples = @ExampleObject(
+                            name = "변경분 조회 성공",
+                            value = """
+                                    {
+                                        "success": true,
+                                        "data": {
+                                            "id": 1,
+                                            "emergencyReportId": 5,
+                                            "type": "PATIENT_INFO",
+                                            "sinceVersion": 2,
+                                            "currentVersion": 4,
+                                            "schemaVersion": 1,
+                                            "changes": [
+                                                {
+                                                    "version": 3,
+                                                    "delta": { "patientInfo": { "patient": { "name": "홍길동" } } },
+                                                    "changedAt": "2023-11-13T09:30:00Z"
+                                                },
+                                                {
+                                                    "version": 4,
+                                                    "delta": { "patientInfo": { "patient": { "ageYears": 45 } } },
+                                                    "changedAt": "2023-11-13T09:31:00Z"
+                                                }
+                                            ]
+                                        },
+                                        "message": "구급일지 섹션 변경분 조회를 완료하였습니다.",
+                                        "timestamp": "2023-11-13T10:00:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "변경 이력 없음 (섹션 전체를 다시 조회)",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(
+                            name = "변경 이력 없음",
+                            value = """
+                                    {
+                                        "success": false,
+                                        "error": {
+                                            "code": "REPORT_SECTION_HISTORY_NOT_FOUND",
+                                            "message": "요청한 버전의 섹션 변경 이력이 없습니다. 최신 데이터를 다시 조회해주세요."
+                                        },
+                                        "status": 404,
+                                        "timestamp": "2023-11-13T10:00:00Z"
+                                    }
+                                    """
+                    )
+            )
+    )
+    @ApiUnauthorizedError
+    @ApiInternalServerError
+    @GetMapping("/{emergencyReportId}/sections/{type}/changes")
+    ResponseEntity<? extends ApiResponse> getReportSectionChanges(
+            @Parameter(description = "구급일지 ID", required = true, example = "5")
+            @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
+            @Parameter(description = "섹션 유형", required = true, example = "PATIENT_INFO")
+            @PathVariable("type") ReportSectionType type,
+            @Parameter(description = "클라이언트가 가진 섹션 버전", required = true, example = "2")
+            @RequestParam("since") @Positive(message = "섹션 버전은 양의 정수여야 합니다.") Integer since,
             @Parameter(hidden = true) @org.springframework.security.core.annotation.AuthenticationPrincipal com.ssairen.global.security.dto.CustomUserPrincipal principal
     );
 
@@ -1,19 +1,30 @@
 package com.ssairen.domain.emergency.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.ssairen.domain.emergency.dto.EmergencyReportCompleteResponse;
 import com.ssairen.domain.emergency.dto.EmergencyReportCreateResponse;
+import com.ssairen.domain.emergency.dto.EmergencyReportFullResponse;
+import com.ssairen.domain.emergency.dto.EmergencyReportListQueryRequest;
 import com.ssairen.domain.emergency.dto.FireStateEmergencyReportsResponse;
 import com.ssairen.domain.emergency.dto.ParamedicEmergencyReportResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionChangesResponse;
 import com.ssairen.domain.emergency.dto.ReportSectionCreateResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionReadResponse;
 import com.ssairen.domain.emergency.dto.ReportSectionUpdateRequest;
+import com.ssairen.domain.emergency.dto.ReportSectionVersionResponse;
+import com.ssairen.domain.emergency.enums.ReportSectionPatchFormat;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
 import com.ssairen.domain.emergency.service.EmergencyReportService;
 import com.ssairen.domain.emergency.service.ReportSectionService;
+import com.ssairen.domain.emergency.util.ReportSectionDocument;
 import com.ssairen.global.dto.ApiResponse;
 import com.ssairen.global.security.dto.CustomUserPrincipal;
+import com.ssairen.global.utils.ETagUtils;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -42,8 +53,9 @@ public class EmergencyReportController implements EmergencyReportApi {
     @Override
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<ParamedicEmergencyReportResponse>> getEmergencyReportsByParamedic(
+            @Valid @ModelAttribute EmergencyReportListQueryRequest request,
             @AuthenticationPrincipal CustomUserPrincipal principal) {
-        ParamedicEmergencyReportResponse response = emergencyReportService.getEmergencyReportsByParamedic(principal.getId());
+        ParamedicEmergencyReportResponse response = emergencyReportService.getEmergencyReportsByParamedic(principal.getId(), request);
         return ResponseEntity.ok(ApiResponse.success(response, "구급대원이 작성한 보고서 조회를 완료하였습니다."));
     }
 
@@ -59,19 +71,43 @@ public class EmergencyReportController implements EmergencyReportApi {
 
     @Override
     @GetMapping("/{emergencyReportId}/sections/{type}")
-    public ResponseEntity<ApiResponse<ReportSectionCreateResponse>> getReportSection(
+    public ResponseEntity<ApiResponse<ReportSectionReadResponse>> getReportSection(
             @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
             @PathVariable("type") ReportSectionType type,
+            @RequestParam(value = "sparse", defaultValue = "false") boolean sparse,
             @AuthenticationPrincipal CustomUserPrincipal principal) {
-        ReportSectionCreateResponse response = reportSectionService.getReportSection(emergencyReportId, type, principal.getId());
-        return ResponseEntity.ok(ApiResponse.success(response, "구급일지 해당 섹션 조회를 완료하였습니다."));
+        ReportSectionReadResponse response = reportSectionService.getReportSection(emergencyReportId, type, principal.getId(), sparse);
+        // 희소 형식/복원 응답은 본문이 다르므로 표현 식별자를 ETag에 포함 (If-Match에는 버전만 사용)
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(response.version(), null, ReportSectionDocument.representation(sparse)))
+                .body(ApiResponse.success(response, "구급일지 해당 섹션 조회를 완료하였습니다."));
+    }
+
+    @Override
+    @GetMapping("/{emergencyReportId}/full")
+    public ResponseEntity<ApiResponse<EmergencyReportFullResponse>> getFullEmergencyReport(
+            @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(value = "sparse", defaultValue = "false") boolean sparse,
+            @AuthenticationPrincipal CustomUserPrincipal principal) {
+        EmergencyReportFullResponse response = emergencyReportService.getFullEmergencyReport(
+                emergencyReportId, principal.getId(), principal.getUserType(), sparse);
+        if (ETagUtils.matchesIfNoneMatch(ifNoneMatch, response.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(response.eTag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(response.eTag())
+                .body(ApiResponse.success(response, "구급일지 전체 조회를 완료하였습니다."));
     }
 
     @Override
     @GetMapping("/fire-state")
     public ResponseEntity<ApiResponse<List<FireStateEmergencyReportsResponse>>> getEmergencyReportsByFireState(
+            @Valid @ModelAttribute EmergencyReportListQueryRequest request,
             @AuthenticationPrincipal CustomUserPrincipal principal) {
-        List<FireStateEmergencyReportsResponse> response = emergencyReportService.getEmergencyReportsByFireState(principal.getId());
+        List<FireStateEmergencyReportsResponse> response = emergencyReportService.getEmergencyReportsByFireState(principal.getId(), request);
         return ResponseEntity.ok(ApiResponse.success(response, "소방서 보고서 조회를 완료하였습니다."));
     }
 
@@ -81,9 +117,69 @@ public class EmergencyReportController implements EmergencyReportApi {
             @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
             @PathVariable("type") ReportSectionType type,
             @Valid @RequestBody ReportSectionUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal CustomUserPrincipal principal) {
+        ReportSectionCreateResponse response = reportSectionService.updateReportSection(
+                emergencyReportId, type, request, ETagUtils.parseVersion(ifMatch), principal.getId());
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(response.version()))
+                .body(ApiResponse.success(response, "구급일지 섹션이 수정되었습니다."));
+    }
+
+    @Override
+    @PatchMapping(value = "/{emergencyReportId}/sections/{type}", consumes = ReportSectionPatchFormat.MERGE_PATCH_MEDIA_TYPE)
+    public ResponseEntity<ApiResponse<ReportSectionCreateResponse>> mergePatchReportSection(
+            @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
+            @PathVariable("type") ReportSectionType type,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal CustomUserPrincipal principal) {
+        ReportSectionCreateResponse response = reportSectionService.patchReportSection(
+                emergencyReportId, type, ReportSectionPatchFormat.MERGE_PATCH, patch, ETagUtils.parseVersion(ifMatch), principal.getId());
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(response.version()))
+                .body(ApiResponse.success(response, "구급일지 섹션이 수정되었습니다."));
+    }
+
+    @Override
+    @PatchMapping(value = "/{emergencyReportId}/sections/{type}", consumes = ReportSectionPatchFormat.JSON_PATCH_MEDIA_TYPE)
+    public ResponseEntity<ApiResponse<ReportSectionCreateResponse>> jsonPatchReportSection(
+            @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
+            @PathVariable("type") ReportSectionType type,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal CustomUserPrincipal principal) {
+        ReportSectionCreateResponse response = reportSectionService.patchReportSection(
+                emergencyReportId, type, ReportSectionPatchFormat.JSON_PATCH, patch, ETagUtils.parseVersion(ifMatch), principal.getId());
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(response.version()))
+                .body(ApiResponse.success(response, "구급일지 섹션이 수정되었습니다."));
+    }
+
+    @Override
+    @GetMapping("/{emergencyReportId}/sections/{type}/versions/{version}")
+    public ResponseEntity<ApiResponse<ReportSectionVersionResponse>> getReportSectionVersion(
+            @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
+            @PathVariable("type") ReportSectionType type,
+            @PathVariable("version") @Positive(message = "섹션 버전은 양의 정수여야 합니다.") Integer version,
+            @AuthenticationPrincipal CustomUserPrincipal principal) {
+        ReportSectionVersionResponse response = reportSectionService.getReportSectionVersion(
+                emergencyReportId, type, version, principal.getId());
+        return ResponseEntity.ok(ApiResponse.success(response, "구급일지 섹션 버전 조회를 완료하였습니다."));
+    }
+
+    @Override
+    @GetMapping("/{emergencyReportId}/sections/{type}/changes")
+    public ResponseEntity<ApiResponse<ReportSectionChangesResponse>> getReportSectionChanges(
+            @PathVariable("emergencyReportId") @Positive(message = "구급일지 ID는 양의 정수여야 합니다.") Long emergencyReportId,
+            @PathVariable("type") ReportSectionType type,
+            @RequestParam("since") @Positive(message = "섹션 버전은 양의 정수여야 합니다.") Integer since,
             @AuthenticationPrincipal CustomUserPrincipal principal) {
-        ReportSectionCreateResponse response = reportSectionService.updateReportSection(emergencyReportId, type, request, principal.getId());
-        return ResponseEntity.ok(ApiResponse.success(response, "구급일지 섹션이 수정되었습니다."));
+        ReportSectionChangesResponse response = reportSectionService.getReportSectionChanges(
+                emergencyReportId, type, since, principal.getId());
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.toETag(response.currentVersion()))
+                .body(ApiResponse.success(response, "구급일지 섹션 변경분 조회를 완료하였습니다."));
     }
 
     @Override
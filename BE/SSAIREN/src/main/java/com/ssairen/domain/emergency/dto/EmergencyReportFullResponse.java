@@ -0,0 +1,25 @@
+package com.ssairen.domain.emergency.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.ssairen.domain.hospital.dto.PatientInfoResponse;
+
+import java.util.List;
+
+/**
+ * 구급일지 전체 조회 응답 (모든 섹션 + 환자 정보)
+ *
+ * @param emergencyReportId 구급일지 ID
+ * @param version           섹션 버전 합계 (섹션이 하나라도 수정되면 증가)
+ * @param sections          섹션 목록 (ReportSectionType 선언 순서)
+ * @param patientInfo       환자 정보 (없으면 null)
+ * @param eTag              응답 ETag (섹션 버전 합계 + 환자 정보 수정 시각 + 희소/복원 표현, 응답 본문에는 포함하지 않음)
+ */
+public record EmergencyReportFullResponse(
+        Long emergencyReportId,
+        Integer version,
+        List<ReportSectionRawResponse> sections,
+        PatientInfoResponse patientInfo,
+        @JsonIgnore
+        String eTag
+) {
+}
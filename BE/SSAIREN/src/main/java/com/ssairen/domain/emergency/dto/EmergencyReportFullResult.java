@@ -0,0 +1,26 @@
+package com.ssairen.domain.emergency.dto;
+
+import com.ssairen.domain.hospital.dto.PatientInfoResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 구급일지 전체 조회 결과 (단일 쿼리)
+ *
+ * @param emergencyReportId    구급일지 ID
+ * @param paramedicId          구급일지 작성 구급대원 ID
+ * @param hospitalAccepted     조회 병원이 환자를 수용했는지 여부 (ACCEPTED, ARRIVED)
+ * @param sections             섹션 목록 (jsonb 원문)
+ * @param patientInfo          환자 정보 (없으면 null)
+ * @param patientInfoUpdatedAt 환자 정보 최종 수정 시각 (없으면 null)
+ */
+public record EmergencyReportFullResult(
+        Long emergencyReportId,
+        Integer paramedicId,
+        boolean hospitalAccepted,
+        List<ReportSectionRawResponse> sections,
+        PatientInfoResponse patientInfo,
+        LocalDateTime patientInfoUpdatedAt
+) {
+}
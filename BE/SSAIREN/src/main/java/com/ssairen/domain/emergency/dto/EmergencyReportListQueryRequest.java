@@ -0,0 +1,45 @@
+package com.ssairen.domain.emergency.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+public record EmergencyReportListQueryRequest(
+        @Schema(description = "다음 페이지 커서 (첫 요청 시 생략)", example = "Ng")
+        String cursor,
+
+        @Schema(description = "페이지당 개수 (최소: 1, 최대: 100). cursor와 limit을 모두 생략하면 전체 목록 조회", example = "10")
+        @Min(value = 1, message = "limit은 1 이상이어야 합니다.")
+        @Max(value = 100, message = "limit은 100 이하여야 합니다.")
+        Integer limit,
+
+        @Schema(description = "증분 동기화 기준 시각 (직전 응답의 syncedAt 값). 이후 구급일지나 섹션이 변경된 구급일지만 조회 (경계 부근 변경분은 중복 포함될 수 있음)", example = "2025-11-01T21:00:41.284828")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime updatedSince
+) {
+    public static final int DEFAULT_LIMIT = 10;
+
+    /**
+     * 조건 없는 전체 목록 조회 요청
+     */
+    public static EmergencyReportListQueryRequest all() {
+        return new EmergencyReportListQueryRequest(null, null, null);
+    }
+
+    /**
+     * 커서 페이지네이션 요청 여부 (cursor 또는 limit 지정 시)
+     */
+    public boolean isPaged() {
+        return cursor != null || limit != null;
+    }
+
+    /**
+     * 페이지당 개수 (limit 생략 시 기본값)
+     */
+    public int resolvedLimit() {
+        return limit != null ? limit : DEFAULT_LIMIT;
+    }
+}
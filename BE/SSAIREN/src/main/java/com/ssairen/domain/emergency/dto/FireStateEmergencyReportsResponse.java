@@ -1,9 +1,14 @@
 package com.ssairen.domain.emergency.dto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public record FireStateEmergencyReportsResponse(
         FireStateResponse fireStateInfo,
-        List<EmergencyReportSummaryResponse> emergencyReports
+        List<EmergencyReportSummaryResponse> emergencyReports,
+
+        PaginationResponse pagination,
+
+        LocalDateTime syncedAt
 ) {
 }
@@ -1,9 +1,14 @@
 package com.ssairen.domain.emergency.dto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public record ParamedicEmergencyReportResponse(
         ParamedicInfoResponse paramedicInfo,
-        List<EmergencyReportItemResponse> emergencyReports
+        List<EmergencyReportItemResponse> emergencyReports,
+
+        PaginationResponse pagination,
+
+        LocalDateTime syncedAt
 ) {
 }
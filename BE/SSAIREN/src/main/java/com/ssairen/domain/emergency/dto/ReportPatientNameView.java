@@ -0,0 +1,12 @@
+package com.ssairen.domain.emergency.dto;
+
+/**
+ * 구급일지별 환자 이름 프로젝션
+ * PATIENT_INFO 섹션 JSONB의 patientInfo.patient.name 값만 DB에서 추출하여 조회
+ */
+public interface ReportPatientNameView {
+
+    Long getEmergencyReportId();
+
+    String getPatientName();
+}
@@ -0,0 +1,36 @@
+package com.ssairen.domain.emergency.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 섹션 변경분 조회 응답 (sinceVersion 이후 ~ currentVersion)
+ * - 각 delta는 직전 버전 대비 JSON Merge Patch(RFC 7396)이며, 저장 형식 기준
+ *   (schemaVersion이 있으면 템플릿과 같은 값은 생략된 희소 형식)
+ * - 클라이언트는 sinceVersion 시점 데이터에 changes를 순서대로 적용해 currentVersion 데이터를 얻음
+ */
+public record ReportSectionChangesResponse(
+        Long id,
+        Long emergencyReportId,
+        ReportSectionType type,
+        Integer sinceVersion,
+        Integer currentVersion,
+        Integer schemaVersion,
+        List<Change> changes
+) {
+
+    /**
+     * 버전 하나의 변경분
+     */
+    public record Change(
+            Integer version,
+            JsonNode delta,
+            @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+            LocalDateTime changedAt
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssairen.domain.emergency.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 섹션 jsonb 부분 갱신 결과 (UPDATE ... RETURNING)
+ *
+ * @param id          섹션 ID
+ * @param version     갱신 후 버전
+ * @param data        갱신 후 섹션 데이터 (jsonb 텍스트)
+ * @param createdAt   섹션 생성 시각
+ * @param isCompleted 구급일지 완료 여부
+ * @param schemaVersion 섹션 저장 형식 스키마 버전 (null이면 템플릿 전체가 저장된 기존 행)
+ */
+public record ReportSectionPatchResult(
+        Long id,
+        Integer version,
+        String data,
+        LocalDateTime createdAt,
+        Boolean isCompleted,
+        Integer schemaVersion
+) {
+}
@@ -0,0 +1,30 @@
+package com.ssairen.domain.emergency.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 섹션 조회 응답 (jsonb 원문 전달)
+ * data는 DB에 저장된 jsonb 텍스트를 JsonNode로 변환하지 않고 응답 JSON에 그대로 기록
+ *
+ * @param id            섹션 ID
+ * @param type          섹션 타입
+ * @param version       섹션 버전
+ * @param data          섹션 데이터 (jsonb 텍스트)
+ * @param updatedAt     섹션 최종 수정 시각
+ * @param schemaVersion 섹션 저장 형식 스키마 버전 (sparse 조회 시 data에는 템플릿과 다른 값만 포함)
+ */
+public record ReportSectionRawResponse(
+        Long id,
+        ReportSectionType type,
+        Integer version,
+        @JsonRawValue
+        String data,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+        LocalDateTime updatedAt,
+        Integer schemaVersion
+) {
+}
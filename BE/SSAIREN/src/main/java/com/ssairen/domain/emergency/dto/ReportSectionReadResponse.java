@@ -0,0 +1,26 @@
+package com.ssairen.domain.emergency.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 섹션 조회 응답
+ * ReportSectionCreateResponse와 같은 JSON 형태이며, data는 jsonb 텍스트를 JsonNode로 변환하지 않고 그대로 기록
+ * - schemaVersion: 희소 형식 섹션의 스키마 버전 (sparse 조회 시 data에는 템플릿과 다른 값만 포함)
+ */
+public record ReportSectionReadResponse(
+        Long id,
+        Long emergencyReportId,
+        Boolean isCompleted,
+        ReportSectionType type,
+        @JsonRawValue
+        String data,
+        Integer version,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'")
+        LocalDateTime createdAt,
+        Integer schemaVersion
+) {
+}
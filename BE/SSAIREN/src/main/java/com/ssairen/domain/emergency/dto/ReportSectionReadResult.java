@@ -0,0 +1,28 @@
+package com.ssairen.domain.emergency.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 섹션 원문 조회 결과 (구급일지 LEFT JOIN 섹션)
+ * 섹션이 없으면 섹션 관련 값은 null
+ *
+ * @param emergencyReportId 구급일지 ID
+ * @param paramedicId       구급일지 작성 구급대원 ID
+ * @param isCompleted       구급일지 완료 여부
+ * @param id                섹션 ID
+ * @param version           섹션 버전
+ * @param data              섹션 데이터 (jsonb 텍스트)
+ * @param createdAt         섹션 생성 시각
+ * @param schemaVersion     섹션 저장 형식 스키마 버전 (null이면 템플릿 전체가 저장된 기존 행)
+ */
+public record ReportSectionReadResult(
+        Long emergencyReportId,
+        Integer paramedicId,
+        Boolean isCompleted,
+        Long id,
+        Integer version,
+        String data,
+        LocalDateTime createdAt,
+        Integer schemaVersion
+) {
+}
@@ -0,0 +1,19 @@
+package com.ssairen.domain.emergency.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+
+/**
+ * 섹션 특정 버전 조회 응답
+ * - data: 요청한 버전의 섹션 데이터 (희소 형식 섹션은 템플릿 전체 구조로 복원)
+ * - currentVersion: 조회 시점의 최신 버전
+ */
+public record ReportSectionVersionResponse(
+        Long id,
+        Long emergencyReportId,
+        ReportSectionType type,
+        JsonNode data,
+        Integer version,
+        Integer currentVersion
+) {
+}
@@ -5,12 +5,17 @@ import com.ssairen.domain.firestation.entity.Paramedic;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "emergency_reports")
+@Table(name = "emergency_reports", indexes = {
+        // 소방서/구급대원별 구급일지 커서 페이지네이션 (id DESC 순회)
+        @Index(name = "idx_emergency_reports_fire_state_id", columnList = "fire_states_id,id"),
+        @Index(name = "idx_emergency_reports_paramedic_id", columnList = "paramedics_id,id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -42,6 +47,13 @@ public class EmergencyReport {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 마지막 수정 시각 (목록 증분 동기화 updatedSince 기준)
+     */
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     // 비즈니스 메서드
     public void toggleCompleted() {
         this.isCompleted = !this.isCompleted;
@@ -16,8 +16,20 @@ import org.hibernate.annotations.Type;
 @Builder
 public class ReportSection extends BaseEntity {
 
+    public static final String SEQUENCE_NAME = "report_section_seq";
+    public static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    /**
+     * 시퀀스 기반 ID (allocationSize 단위로 미리 할당)
+     * 구급일지 생성 시 모든 타입의 섹션을 saveAll 한 번으로 배치 INSERT 하기 위해 IDENTITY 대신 시퀀스를 사용
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "report_section_seq_generator")
+    @SequenceGenerator(
+            name = "report_section_seq_generator",
+            sequenceName = ReportSection.SEQUENCE_NAME,
+            allocationSize = ReportSection.SEQUENCE_ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,6 +47,14 @@ public class ReportSection extends BaseEntity {
     @Column(name = "version", nullable = false)
     private Integer version;
 
+    /**
+     * 저장 형식의 템플릿 스키마 버전
+     * 값이 있으면 data에 템플릿과 다른 값만 저장된 희소 형식이며 조회/수정 시 이 버전의 템플릿으로 복원 (행이 있는 동안 바뀌지 않음),
+     * null이면 템플릿 전체가 저장된 기존 행
+     */
+    @Column(name = "schema_version")
+    private Integer schemaVersion;
+
     /**
      * 섹션 데이터 업데이트
      *
@@ -0,0 +1,103 @@
+package com.ssairen.domain.emergency.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구급일지 섹션 변경 이력 (추가 전용, 섹션 버전당 1행)
+ * - delta: 직전 버전 → 이 버전의 변경분 (RFC 7396 JSON Merge Patch, 저장 형식 기준)
+ * - snapshot: SNAPSHOT_INTERVAL 버전마다, 그리고 이력이 처음 기록될 때의 기준 버전에만 섹션 전체 데이터를 보관
+ * - 임의 버전은 해당 버전 이하의 가장 가까운 스냅샷에 이후 delta를 차례로 적용해 복원
+ * - 행 추가는 섹션 수정 경로에서만 수행하며, 수정/삭제하지 않음
+ */
+@Entity
+@Table(name = "report_section_changes",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_report_section_changes_version",
+                        columnNames = {"report_section_id", "version"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReportSectionChange {
+
+    /**
+     * 섹션 전체 스냅샷을 남기는 버전 간격
+     */
+    public static final int SNAPSHOT_INTERVAL = 20;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "report_section_id", nullable = false)
+    private Long reportSectionId;
+
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+    /**
+     * 직전 버전 대비 변경분 (기준 스냅샷 행은 null)
+     */
+    @Type(JsonBinaryType.class)
+    @Column(name = "delta", columnDefinition = "jsonb")
+    private JsonNode delta;
+
+    /**
+     * 이 버전의 섹션 전체 데이터 (스냅샷 버전이 아니면 null)
+     */
+    @Type(JsonBinaryType.class)
+    @Column(name = "snapshot", columnDefinition = "jsonb")
+    private JsonNode snapshot;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 섹션 수정 후 변경 이력 생성 (SNAPSHOT_INTERVAL 버전마다 스냅샷 포함)
+     *
+     * @param section 수정된 섹션 (버전 증가 후)
+     * @param delta   직전 버전 대비 변경분
+     * @return 변경 이력
+     */
+    public static ReportSectionChange of(ReportSection section, JsonNode delta) {
+        return ReportSectionChange.builder()
+                .reportSectionId(section.getId())
+                .version(section.getVersion())
+                .delta(delta)
+                .snapshot(isSnapshotVersion(section.getVersion()) ? section.getData() : null)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 첫 변경 직전 버전의 기준 스냅샷 생성 (delta 없음)
+     * 섹션 데이터를 직접 수정하는 경로에서 수정 전에 복사해 둔 데이터로 기록할 때 사용
+     *
+     * @param reportSectionId 섹션 ID
+     * @param version         수정 전 버전
+     * @param snapshot        수정 전 섹션 전체 데이터
+     * @return 기준 스냅샷 이력
+     */
+    public static ReportSectionChange baseline(Long reportSectionId, int version, JsonNode snapshot) {
+        return ReportSectionChange.builder()
+                .reportSectionId(reportSectionId)
+                .version(version)
+                .snapshot(snapshot)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 스냅샷을 남기는 버전인지 여부
+     */
+    public static boolean isSnapshotVersion(int version) {
+        return version % SNAPSHOT_INTERVAL == 0;
+    }
+}
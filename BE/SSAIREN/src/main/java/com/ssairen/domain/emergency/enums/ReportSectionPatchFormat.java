@@ -0,0 +1,12 @@
+package com.ssairen.domain.emergency.enums;
+
+/**
+ * 구급일지 섹션 부분 수정(PATCH) 문서 형식
+ */
+public enum ReportSectionPatchFormat {
+    MERGE_PATCH,    // RFC 7396 JSON Merge Patch
+    JSON_PATCH;     // RFC 6902 JSON Patch
+
+    public static final String MERGE_PATCH_MEDIA_TYPE = "application/merge-patch+json";
+    public static final String JSON_PATCH_MEDIA_TYPE = "application/json-patch+json";
+}
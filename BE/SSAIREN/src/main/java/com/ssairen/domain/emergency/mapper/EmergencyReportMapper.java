@@ -1,11 +1,8 @@
 package com.ssairen.domain.emergency.mapper;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.ssairen.domain.emergency.dto.*;
 import com.ssairen.domain.emergency.entity.Dispatch;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
-import com.ssairen.domain.emergency.entity.ReportSection;
-import com.ssairen.domain.emergency.enums.ReportSectionType;
 import com.ssairen.domain.emergency.repository.ReportSectionRepository;
 import com.ssairen.domain.firestation.entity.FireState;
 import com.ssairen.domain.firestation.entity.Paramedic;
@@ -13,7 +10,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -21,6 +21,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class EmergencyReportMapper {
 
+    private static final String PATIENT_NAME_NOT_FOUND = "환자 이름 정보 없음";
+
+    /**
+     * 환자 이름 일괄 조회 시 IN 절 최대 파라미터 수
+     */
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final ReportSectionRepository reportSectionRepository;
 
     public ParamedicInfoResponse toParamedicInfoResponse(Paramedic paramedic) {
@@ -75,7 +82,8 @@ public class EmergencyReportMapper {
         );
     }
 
-    public ParamedicEmergencyReportResponse toParamedicEmergencyReportResponse(Paramedic paramedic, List<EmergencyReport> emergencyReports) {
+    public ParamedicEmergencyReportResponse toParamedicEmergencyReportResponse(Paramedic paramedic, List<EmergencyReport> emergencyReports,
+                                                                              PaginationResponse pagination, LocalDateTime syncedAt) {
         ParamedicInfoResponse paramedicInfo = toParamedicInfoResponse(paramedic);
 
         // 모든 보고서를 EmergencyReportItemResponse로 변환
@@ -85,7 +93,9 @@ public class EmergencyReportMapper {
 
         return new ParamedicEmergencyReportResponse(
                 paramedicInfo,
-                reportItems
+                reportItems,
+                pagination,
+                syncedAt
         );
     }
 
@@ -108,10 +118,9 @@ public class EmergencyReportMapper {
         );
     }
 
-    public EmergencyReportSummaryResponse toEmergencyReportSummaryResponse(EmergencyReport emergencyReport) {
+    public EmergencyReportSummaryResponse toEmergencyReportSummaryResponse(EmergencyReport emergencyReport, String patientName) {
         ParamedicInfoSimple paramedicInfo = toParamedicInfoSimple(emergencyReport.getParamedic());
         DispatchInfoSimple dispatchInfo = toDispatchInfoSimple(emergencyReport.getDispatch());
-        String patientName = extractPatientName(emergencyReport);
 
         return new EmergencyReportSummaryResponse(
                 emergencyReport.getId(),
@@ -124,77 +133,66 @@ public class EmergencyReportMapper {
     }
 
     public List<EmergencyReportSummaryResponse> toEmergencyReportSummaryResponseList(List<EmergencyReport> emergencyReports) {
+        // 환자 이름은 구급일지 수와 무관하게 일괄 조회
+        Map<Long, String> patientNames = findPatientNames(emergencyReports);
+
         return emergencyReports.stream()
-                .map(this::toEmergencyReportSummaryResponse)
+                .map(report -> toEmergencyReportSummaryResponse(
+                        report, resolvePatientName(report.getId(), patientNames.get(report.getId()))))
                 .collect(Collectors.toList());
     }
 
-    public FireStateEmergencyReportsResponse toFireStateEmergencyReportsResponse(FireState fireState, List<EmergencyReport> emergencyReports) {
+    public FireStateEmergencyReportsResponse toFireStateEmergencyReportsResponse(FireState fireState, List<EmergencyReport> emergencyReports,
+                                                                                 PaginationResponse pagination, LocalDateTime syncedAt) {
         FireStateResponse fireStateInfo = toFireStateResponse(fireState);
         List<EmergencyReportSummaryResponse> summaryList = toEmergencyReportSummaryResponseList(emergencyReports);
 
         return new FireStateEmergencyReportsResponse(
                 fireStateInfo,
-                summaryList
+                summaryList,
+                pagination,
+                syncedAt
         );
     }
 
     /**
-     * EmergencyReport에서 환자 이름 추출
-     * ReportSection의 PATIENT_INFO 타입에서 patientInfo.patient.name 경로로 추출
+     * 구급일지 목록의 환자 이름 일괄 조회
+     * PATIENT_INFO 섹션의 patientInfo.patient.name 값을 IN_CLAUSE_CHUNK_SIZE 단위로 나누어 조회
      *
-     * @param emergencyReport 구급일지
-     * @return 환자 이름 (없거나 null인 경우 "환자 이름 정보 없음")
+     * @param emergencyReports 구급일지 목록
+     * @return 구급일지 ID별 환자 이름 (섹션이 없으면 포함되지 않음)
      */
-    private String extractPatientName(EmergencyReport emergencyReport) {
-        try {
-            // PATIENT_INFO 타입의 ReportSection 조회
-            ReportSection patientInfoSection = reportSectionRepository
-                    .findByEmergencyReportAndType(emergencyReport, ReportSectionType.PATIENT_INFO)
-                    .orElse(null);
-
-            if (patientInfoSection == null) {
-                log.debug("PATIENT_INFO 섹션을 찾을 수 없음 - EmergencyReport ID: {}", emergencyReport.getId());
-                return "환자 이름 정보 없음";
-            }
-
-            JsonNode data = patientInfoSection.getData();
-            if (data == null) {
-                log.debug("PATIENT_INFO 섹션의 데이터가 null - EmergencyReport ID: {}", emergencyReport.getId());
-                return "환자 이름 정보 없음";
-            }
-
-            // JSON 경로: patientInfo.patient.name
-            JsonNode patientInfoNode = data.get("patientInfo");
-            if (patientInfoNode == null || patientInfoNode.isNull()) {
-                log.debug("patientInfo 노드를 찾을 수 없음 - EmergencyReport ID: {}", emergencyReport.getId());
-                return "환자 이름 정보 없음";
-            }
-
-            JsonNode patientNode = patientInfoNode.get("patient");
-            if (patientNode == null || patientNode.isNull()) {
-                log.debug("patient 노드를 찾을 수 없음 - EmergencyReport ID: {}", emergencyReport.getId());
-                return "환자 이름 정보 없음";
-            }
+    private Map<Long, String> findPatientNames(List<EmergencyReport> emergencyReports) {
+        if (emergencyReports.isEmpty()) {
+            return Map.of();
+        }
 
-            JsonNode nameNode = patientNode.get("name");
-            if (nameNode == null || nameNode.isNull()) {
-                log.debug("name 필드가 null - EmergencyReport ID: {}", emergencyReport.getId());
-                return "환자 이름 정보 없음";
-            }
+        List<Long> emergencyReportIds = emergencyReports.stream()
+                .map(EmergencyReport::getId)
+                .toList();
 
-            String patientName = nameNode.asText();
-            if (patientName == null || patientName.isEmpty() || patientName.equals("null")) {
-                log.debug("name 필드가 비어있거나 null 문자열 - EmergencyReport ID: {}", emergencyReport.getId());
-                return "환자 이름 정보 없음";
+        Map<Long, String> patientNames = new HashMap<>(emergencyReportIds.size() * 2);
+        for (int from = 0; from < emergencyReportIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = emergencyReportIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, emergencyReportIds.size()));
+            for (ReportPatientNameView view : reportSectionRepository.findPatientNamesByEmergencyReportIds(chunk)) {
+                patientNames.put(view.getEmergencyReportId(), view.getPatientName());
             }
+        }
+        return patientNames;
+    }
 
-            log.debug("환자 이름 추출 성공 - EmergencyReport ID: {}, 환자 이름: {}", emergencyReport.getId(), patientName);
-            return patientName;
-
-        } catch (Exception e) {
-            log.error("환자 이름 추출 중 오류 발생 - EmergencyReport ID: {}", emergencyReport.getId(), e);
-            return "환자 이름 정보 없음";
+    /**
+     * 추출한 환자 이름 검증
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param patientName patientInfo.patient.name 값 (섹션이나 필드가 없으면 null)
+     * @return 환자 이름 (없거나 null인 경우 "환자 이름 정보 없음")
+     */
+    private String resolvePatientName(Long emergencyReportId, String patientName) {
+        if (patientName == null || patientName.isEmpty() || patientName.equals("null")) {
+            log.debug("환자 이름 정보 없음 - EmergencyReport ID: {}", emergencyReportId);
+            return PATIENT_NAME_NOT_FOUND;
         }
+        return patientName;
     }
 }
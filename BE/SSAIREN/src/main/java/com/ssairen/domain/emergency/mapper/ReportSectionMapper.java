@@ -1,15 +1,36 @@
 package com.ssairen.domain.emergency.mapper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssairen.domain.emergency.dto.ReportSectionChangesResponse;
 import com.ssairen.domain.emergency.dto.ReportSectionCreateResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionPatchResult;
+import com.ssairen.domain.emergency.dto.ReportSectionRawResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionReadResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionReadResult;
+import com.ssairen.domain.emergency.dto.ReportSectionVersionResponse;
 import com.ssairen.domain.emergency.entity.ReportSection;
+import com.ssairen.domain.emergency.entity.ReportSectionChange;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+import com.ssairen.domain.emergency.util.ReportSectionDocument;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * ReportSection 엔티티 ↔ DTO 변환 매퍼
+ * 희소 형식으로 저장된 섹션(schemaVersion 있음)은 템플릿 전체 구조로 복원해 응답
  */
 @Component
+@RequiredArgsConstructor
 public class ReportSectionMapper {
 
+    private final ObjectMapper objectMapper;
+
     /**
      * ReportSection 엔티티 → ReportSectionCreateResponse DTO 변환
      *
@@ -17,14 +38,146 @@ public class ReportSectionMapper {
      * @return 섹션 생성 응답 DTO
      */
     public ReportSectionCreateResponse toCreateResponse(ReportSection section) {
+        JsonNode data = ReportSectionDocument.isSparse(section.getSchemaVersion())
+                ? ReportSectionDocument.hydrate(section.getType(), section.getSchemaVersion(), section.getData())
+                : section.getData();
         return new ReportSectionCreateResponse(
                 section.getId(),
                 section.getEmergencyReport().getId(),
                 section.getEmergencyReport().getIsCompleted(),
                 section.getType(),
-                section.getData(),
+                data,
                 section.getVersion(),
                 section.getCreatedAt()
         );
     }
+
+    /**
+     * jsonb 부분 갱신 결과 → ReportSectionCreateResponse DTO 변환
+     *
+     * @param result            UPDATE ... RETURNING 결과
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @return 섹션 응답 DTO
+     */
+    public ReportSectionCreateResponse toCreateResponse(ReportSectionPatchResult result, Long emergencyReportId, ReportSectionType type) {
+        try {
+            JsonNode data = objectMapper.readTree(result.data());
+            if (ReportSectionDocument.isSparse(result.schemaVersion())) {
+                data = ReportSectionDocument.hydrate(type, result.schemaVersion(), data);
+            }
+            return new ReportSectionCreateResponse(
+                    result.id(),
+                    emergencyReportId,
+                    result.isCompleted(),
+                    type,
+                    data,
+                    result.version(),
+                    result.createdAt()
+            );
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INVALID_JSONB_FORMAT, e);
+        }
+    }
+
+    /**
+     * 섹션 원문 조회 결과 → ReportSectionReadResponse DTO 변환
+     * 템플릿 전체가 저장된 행이거나 희소 형식 그대로 요청한 경우 jsonb 텍스트를 파싱하지 않고 그대로 전달
+     *
+     * @param result 섹션 원문 조회 결과
+     * @param type   섹션 타입
+     * @param sparse true면 희소 형식 그대로 전달
+     * @return 섹션 조회 응답 DTO
+     */
+    public ReportSectionReadResponse toReadResponse(ReportSectionReadResult result, ReportSectionType type, boolean sparse) {
+        return new ReportSectionReadResponse(
+                result.id(),
+                result.emergencyReportId(),
+                result.isCompleted(),
+                type,
+                sparse ? result.data() : hydrateText(type, result.schemaVersion(), result.data()),
+                result.version(),
+                result.createdAt(),
+                result.schemaVersion()
+        );
+    }
+
+    /**
+     * 섹션 원문 → 구급일지 전체 조회용 섹션 DTO 변환
+     *
+     * @param section 섹션 원문
+     * @param sparse  true면 희소 형식 그대로 전달
+     * @return 섹션 DTO (희소 형식 섹션은 템플릿 전체 구조로 복원)
+     */
+    public ReportSectionRawResponse toRawResponse(ReportSectionRawResponse section, boolean sparse) {
+        if (sparse || !ReportSectionDocument.isSparse(section.schemaVersion())) {
+            return section;
+        }
+        return new ReportSectionRawResponse(
+                section.id(),
+                section.type(),
+                section.version(),
+                hydrateText(section.type(), section.schemaVersion(), section.data()),
+                section.updatedAt(),
+                section.schemaVersion()
+        );
+    }
+
+    /**
+     * 복원한 섹션 버전 → ReportSectionVersionResponse DTO 변환
+     *
+     * @param section 섹션 엔티티 (최신 버전)
+     * @param version 복원한 버전
+     * @param data    복원한 버전의 저장 형식 데이터
+     * @return 섹션 버전 응답 DTO
+     */
+    public ReportSectionVersionResponse toVersionResponse(ReportSection section, Integer version, JsonNode data) {
+        return new ReportSectionVersionResponse(
+                section.getId(),
+                section.getEmergencyReport().getId(),
+                section.getType(),
+                ReportSectionDocument.isSparse(section.getSchemaVersion())
+                        ? ReportSectionDocument.hydrate(section.getType(), section.getSchemaVersion(), data)
+                        : data,
+                version,
+                section.getVersion()
+        );
+    }
+
+    /**
+     * 변경 이력 목록 → ReportSectionChangesResponse DTO 변환
+     *
+     * @param section      섹션 엔티티 (최신 버전)
+     * @param sinceVersion 기준 버전 (미포함)
+     * @param changes      기준 버전 이후 변경 이력 (버전 오름차순)
+     * @return 섹션 변경분 응답 DTO
+     */
+    public ReportSectionChangesResponse toChangesResponse(ReportSection section, Integer sinceVersion, List<ReportSectionChange> changes) {
+        return new ReportSectionChangesResponse(
+                section.getId(),
+                section.getEmergencyReport().getId(),
+                section.getType(),
+                sinceVersion,
+                section.getVersion(),
+                section.getSchemaVersion(),
+                changes.stream()
+                        .map(change -> new ReportSectionChangesResponse.Change(
+                                change.getVersion(), change.getDelta(), change.getCreatedAt()))
+                        .toList()
+        );
+    }
+
+    /**
+     * 희소 형식 jsonb 텍스트를 템플릿 전체 구조의 JSON 텍스트로 복원 (기존 행은 그대로 반환)
+     */
+    private String hydrateText(ReportSectionType type, Integer schemaVersion, String data) {
+        if (!ReportSectionDocument.isSparse(schemaVersion)) {
+            return data;
+        }
+        try {
+            return objectMapper.writeValueAsString(ReportSectionDocument.hydrate(type, schemaVersion, objectMapper.readTree(data)));
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INVALID_JSONB_FORMAT, e);
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.ssairen.domain.emergency.repository;
+
+import com.ssairen.domain.emergency.dto.EmergencyReportFullResult;
+
+import java.util.Optional;
+
+/**
+ * 구급일지 전체 조회 Repository
+ * 구급일지, 모든 섹션, 환자 정보, 병원 수용 여부를 한 번의 쿼리로 조회
+ */
+public interface EmergencyReportFullRepository {
+
+    /**
+     * 구급일지 전체 조회
+     * 섹션 데이터는 jsonb 텍스트 그대로 반환하므로 JsonNode 변환 비용이 없음
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param hospitalId        조회 병원 ID (구급대원 조회 시 null)
+     * @return 조회 결과 (구급일지가 없으면 empty)
+     */
+    Optional<EmergencyReportFullResult> findFullById(Long emergencyReportId, Integer hospitalId);
+}
@@ -0,0 +1,136 @@
+package com.ssairen.domain.emergency.repository;
+
+import com.ssairen.domain.emergency.dto.EmergencyReportFullResult;
+import com.ssairen.domain.emergency.dto.ReportSectionRawResponse;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+import com.ssairen.domain.hospital.dto.PatientInfoResponse;
+import com.ssairen.domain.hospital.entity.PatientInfo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 구급일지 전체 조회 구현
+ * - 섹션은 LEFT JOIN으로 한 행씩, 환자 정보와 병원 수용 여부는 각 행에 함께 조회
+ * - 섹션 데이터는 CAST(data AS text)로 받아 엔티티/JsonNode를 거치지 않음
+ */
+class EmergencyReportFullRepositoryImpl implements EmergencyReportFullRepository {
+
+    private static final String SQL = "SELECT er.id AS report_id, er.paramedics_id AS paramedic_id, " +
+            "EXISTS (SELECT 1 FROM hospital_selection hs " +
+            "        WHERE hs.emergency_report_id = er.id " +
+            "        AND hs.hospital_id = :hospitalId " +
+            "        AND hs.status IN ('ACCEPTED', 'ARRIVED')) AS hospital_accepted, " +
+            "rs.id AS section_id, rs.type AS section_type, rs.version AS section_version, " +
+            "CAST(rs.data AS text) AS section_data, rs.updated_at AS section_updated_at, " +
+            "pi.emergency_report_id AS pi_id, pi.gender AS pi_gender, pi.age AS pi_age, " +
+            "pi.record_time AS pi_record_time, pi.mental_status AS pi_mental_status, " +
+            "pi.chief_complaint AS pi_chief_complaint, pi.hr AS pi_hr, pi.bp AS pi_bp, " +
+            "pi.spo2 AS pi_spo2, pi.rr AS pi_rr, pi.bt AS pi_bt, pi.has_guardian AS pi_has_guardian, " +
+            "pi.hx AS pi_hx, pi.onset_time AS pi_onset_time, pi.lnt AS pi_lnt, pi.updated_at AS pi_updated_at, " +
+            "rs.schema_version AS section_schema_version " +
+            "FROM emergency_reports er " +
+            "LEFT JOIN report_sections rs ON rs.emergency_report_id = er.id " +
+            "LEFT JOIN patient_info pi ON pi.emergency_report_id = er.id " +
+            "WHERE er.id = :emergencyReportId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<EmergencyReportFullResult> findFullById(Long emergencyReportId, Integer hospitalId) {
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(SQL)
+                .unwrap(NativeQuery.class)
+                .addScalar("report_id", Long.class)
+                .addScalar("paramedic_id", Integer.class)
+                .addScalar("hospital_accepted", Boolean.class)
+                .addScalar("section_id", Long.class)
+                .addScalar("section_type", String.class)
+                .addScalar("section_version", Integer.class)
+                .addScalar("section_data", String.class)
+                .addScalar("section_updated_at", LocalDateTime.class)
+                .addScalar("pi_id", Long.class)
+                .addScalar("pi_gender", String.class)
+                .addScalar("pi_age", Integer.class)
+                .addScalar("pi_record_time", LocalDateTime.class)
+                .addScalar("pi_mental_status", String.class)
+                .addScalar("pi_chief_complaint", String.class)
+                .addScalar("pi_hr", Integer.class)
+                .addScalar("pi_bp", String.class)
+                .addScalar("pi_spo2", Integer.class)
+                .addScalar("pi_rr", Integer.class)
+                .addScalar("pi_bt", BigDecimal.class)
+                .addScalar("pi_has_guardian", Boolean.class)
+                .addScalar("pi_hx", String.class)
+                .addScalar("pi_onset_time", LocalDateTime.class)
+                .addScalar("pi_lnt", LocalDateTime.class)
+                .addScalar("pi_updated_at", LocalDateTime.class)
+                .addScalar("section_schema_version", Integer.class);
+
+        query.setParameter("emergencyReportId", emergencyReportId);
+        // 구급대원 조회 시 null이므로 타입을 지정해 바인딩
+        query.setParameter("hospitalId", hospitalId, Integer.class);
+
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<ReportSectionRawResponse> sections = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[3] == null) {
+                continue;  // 섹션이 없는 구급일지 (LEFT JOIN)
+            }
+            sections.add(new ReportSectionRawResponse(
+                    (Long) row[3],
+                    ReportSectionType.valueOf((String) row[4]),
+                    (Integer) row[5],
+                    (String) row[6],
+                    (LocalDateTime) row[7],
+                    (Integer) row[24]
+            ));
+        }
+        sections.sort(Comparator.comparing(ReportSectionRawResponse::type));
+
+        Object[] first = rows.get(0);
+        return Optional.of(new EmergencyReportFullResult(
+                (Long) first[0],
+                (Integer) first[1],
+                Boolean.TRUE.equals(first[2]),
+                sections,
+                toPatientInfo(first),
+                (LocalDateTime) first[23]
+        ));
+    }
+
+    private PatientInfoResponse toPatientInfo(Object[] row) {
+        if (row[8] == null) {
+            return null;
+        }
+        return new PatientInfoResponse(
+                (Long) row[8],
+                row[9] != null ? PatientInfo.Gender.valueOf((String) row[9]) : null,
+                (Integer) row[10],
+                (LocalDateTime) row[11],
+                row[12] != null ? PatientInfo.MentalStatus.valueOf((String) row[12]) : null,
+                (String) row[13],
+                (Integer) row[14],
+                (String) row[15],
+                (Integer) row[16],
+                (Integer) row[17],
+                (BigDecimal) row[18],
+                (Boolean) row[19],
+                (String) row[20],
+                (LocalDateTime) row[21],
+                (LocalDateTime) row[22]
+        );
+    }
+}
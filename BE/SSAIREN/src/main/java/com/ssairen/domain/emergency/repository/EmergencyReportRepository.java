@@ -2,24 +2,39 @@ package com.ssairen.domain.emergency.repository;
 
 import com.ssairen.domain.emergency.entity.Dispatch;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 구급일지 Repository
  */
 @Repository
-public interface EmergencyReportRepository extends JpaRepository<EmergencyReport, Long> {
+public interface EmergencyReportRepository extends JpaRepository<EmergencyReport, Long>, EmergencyReportFullRepository {
 
     /**
      * 특정 출동지령에 대한 구급일지 존재 여부 확인
      */
     boolean existsByDispatch(Dispatch dispatch);
 
+    /**
+     * 구급일지를 쓰기 잠금과 함께 조회 (SELECT ... FOR UPDATE)
+     * 실시간 녹음 조각 추가와 녹음 종료처럼 같은 구급일지의 하위 데이터를 함께 바꾸는 요청을 직렬화
+     *
+     * @param id 구급일지 ID
+     * @return 구급일지 (Optional)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT er FROM EmergencyReport er WHERE er.id = :id")
+    Optional<EmergencyReport> findForUpdateById(@Param("id") Long id);
+
     /**
      * 특정 구급대원의 모든 구급일지 조회
      */
@@ -39,4 +54,62 @@ public interface EmergencyReportRepository extends JpaRepository<EmergencyReport
            "JOIN FETCH er.dispatch d " +
            "WHERE er.fireState.id = :fireStateId")
     List<EmergencyReport> findByFireStateIdWithFetchJoin(@Param("fireStateId") Integer fireStateId);
+
+    /**
+     * 구급일지 목록 증분 조회 조건
+     * 구급일지 자체 또는 어느 타입이든 섹션이 updatedSince 이후 변경되었으면 변경분으로 간주
+     * null일 수 있는 파라미터는 PostgreSQL이 타입을 추론하지 못하므로 IS NULL 비교 전에 명시적으로 CAST
+     */
+    String CURSOR_AND_UPDATED_SINCE_CONDITION =
+           "AND (CAST(:cursor AS Long) IS NULL OR er.id < :cursor) " +
+           "AND (CAST(:updatedSince AS LocalDateTime) IS NULL OR er.updatedAt > :updatedSince " +
+           "OR EXISTS (SELECT 1 FROM ReportSection rs " +
+           "WHERE rs.emergencyReport = er " +
+           "AND rs.updatedAt > :updatedSince)) ";
+
+    /**
+     * 특정 구급대원의 구급일지 커서 조회 (id 내림차순)
+     *
+     * @param paramedicId  구급대원 ID
+     * @param cursor       직전 페이지 마지막 구급일지 ID (null이면 처음부터)
+     * @param updatedSince 이 시각 이후 변경된 구급일지만 조회 (null이면 전체)
+     * @param limit        조회 개수
+     */
+    @Query("SELECT er FROM EmergencyReport er " +
+           "JOIN FETCH er.paramedic p " +
+           "JOIN FETCH er.dispatch d " +
+           "JOIN FETCH d.fireState " +
+           "JOIN FETCH p.fireState " +
+           "WHERE p.id = :paramedicId " +
+           CURSOR_AND_UPDATED_SINCE_CONDITION +
+           "ORDER BY er.id DESC " +
+           "LIMIT :limit")
+    List<EmergencyReport> findByParamedicIdWithFilters(
+            @Param("paramedicId") Integer paramedicId,
+            @Param("cursor") Long cursor,
+            @Param("updatedSince") LocalDateTime updatedSince,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 특정 소방서의 구급일지 커서 조회 (id 내림차순)
+     *
+     * @param fireStateId  소방서 ID
+     * @param cursor       직전 페이지 마지막 구급일지 ID (null이면 처음부터)
+     * @param updatedSince 이 시각 이후 변경된 구급일지만 조회 (null이면 전체)
+     * @param limit        조회 개수
+     */
+    @Query("SELECT er FROM EmergencyReport er " +
+           "JOIN FETCH er.paramedic p " +
+           "JOIN FETCH er.dispatch d " +
+           "WHERE er.fireState.id = :fireStateId " +
+           CURSOR_AND_UPDATED_SINCE_CONDITION +
+           "ORDER BY er.id DESC " +
+           "LIMIT :limit")
+    List<EmergencyReport> findByFireStateIdWithFilters(
+            @Param("fireStateId") Integer fireStateId,
+            @Param("cursor") Long cursor,
+            @Param("updatedSince") LocalDateTime updatedSince,
+            @Param("limit") int limit
+    );
 }
@@ -0,0 +1,168 @@
+package com.ssairen.domain.emergency.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON 병합 패치 → PostgreSQL jsonb 갱신 식 변환기
+ * - 패치의 객체 단계마다 (기존 값 - 삭제 키) || jsonb_build_object(변경 키, 값) 형태의 식을 생성
+ * - 하위 객체의 기존 값은 항상 원본 컬럼에서 경로(->)로 참조하므로 식의 크기는 패치 크기에 비례
+ * - 키와 값은 모두 바인딩 파라미터로 전달 (SQL 문자열에 사용자 입력이 들어가지 않음)
+ */
+final class JsonbMergeExpression {
+
+    /**
+     * jsonb_build_object 인자 수 제한(100개)을 넘지 않도록 한 번에 묶는 키/값 쌍 수
+     */
+    private static final int MAX_PAIRS_PER_BUILD = 50;
+
+    /**
+     * 패치 문서의 null 값 처리 방식
+     */
+    enum NullHandling {
+        /**
+         * RFC 7396 JSON Merge Patch - null은 필드 삭제, 기존 값이 객체가 아니면 빈 객체에 병합
+         */
+        REMOVE,
+        /**
+         * 기존 PATCH(mergeIgnoringNulls)와 동일 - null/빈 문자열은 무시, 기존 값이 객체가 아니면 새 값으로 교체
+         */
+        IGNORE
+    }
+
+    private final NullHandling nullHandling;
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    private JsonbMergeExpression(NullHandling nullHandling) {
+        this.nullHandling = nullHandling;
+    }
+
+    /**
+     * 컴파일 결과 (SQL 식 + 바인딩 파라미터 + 같은 결과를 내는 RFC 7396 Merge Patch)
+     * delta는 섹션 변경 이력에 그대로 기록 (IGNORE는 무시 대상 값을 뺀 패치)
+     */
+    record Compiled(String sql, Map<String, Object> parameters, JsonNode delta) {
+    }
+
+    /**
+     * 패치 객체를 jsonb 갱신 식으로 변환
+     *
+     * @param column       갱신 대상 jsonb 컬럼 식 (예: rs.data)
+     * @param patch        패치 문서 (JSON 객체)
+     * @param nullHandling null 값 처리 방식
+     * @return SQL 식과 파라미터
+     */
+    static Compiled compile(String column, JsonNode patch, NullHandling nullHandling) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("병합 패치는 JSON 객체여야 합니다.");
+        }
+        JsonbMergeExpression expression = new JsonbMergeExpression(nullHandling);
+        // IGNORE는 무시 대상 값(null/빈 문자열)과 그로 인해 비는 하위 객체를 먼저 제외
+        // (희소 형식 섹션에 null이나 빈 객체가 기록되지 않고, 남은 패치는 Merge Patch와 결과가 같음)
+        JsonNode effectivePatch = nullHandling == NullHandling.IGNORE ? withoutSkipped(patch) : patch;
+        String sql = expression.merge(column, effectivePatch);
+        return new Compiled(sql, Map.copyOf(expression.parameters), effectivePatch);
+    }
+
+    private String merge(String source, JsonNode patch) {
+        List<String> removedKeys = new ArrayList<>();
+        List<String> pairs = new ArrayList<>();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode value = entry.getValue();
+
+            if (isSkipped(value)) {
+                if (nullHandling == NullHandling.REMOVE) {
+                    removedKeys.add(bindText(entry.getKey()));
+                }
+                continue;
+            }
+
+            String key = bindText(entry.getKey());
+            if (value.isObject()) {
+                pairs.add(key + ", " + merge("(" + source + " -> " + key + ")", value));
+            } else {
+                pairs.add(key + ", " + bindJson(value));
+            }
+        }
+
+        StringBuilder merged = new StringBuilder();
+        String base = nullHandling == NullHandling.REMOVE
+                ? "(CASE WHEN jsonb_typeof(" + source + ") = 'object' THEN " + source + " ELSE CAST('{}' AS jsonb) END)"
+                : source;
+        merged.append("(").append(base);
+        for (String removedKey : removedKeys) {
+            merged.append(" - ").append(removedKey);
+        }
+        merged.append(")");
+        for (int from = 0; from < pairs.size(); from += MAX_PAIRS_PER_BUILD) {
+            List<String> chunk = pairs.subList(from, Math.min(from + MAX_PAIRS_PER_BUILD, pairs.size()));
+            merged.append(" || jsonb_build_object(").append(String.join(", ", chunk)).append(")");
+        }
+
+        if (nullHandling == NullHandling.REMOVE) {
+            return "(" + merged + ")";
+        }
+        // 기존 값이 객체가 아니거나 없으면 새 값을 그대로 사용 (mergeIgnoringNulls와 동일)
+        return "(CASE WHEN jsonb_typeof(" + source + ") = 'object' THEN " + merged
+                + " ELSE " + bindJson(patch) + " END)";
+    }
+
+    /**
+     * 무시 대상 값(null/빈 문자열)과 비게 된 하위 객체를 제외한 복사본
+     */
+    private static JsonNode withoutSkipped(JsonNode patch) {
+        ObjectNode pruned = JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode value = entry.getValue();
+            if (value.isNull() || isBlankText(value)) {
+                continue;
+            }
+            if (value.isObject()) {
+                JsonNode prunedValue = withoutSkipped(value);
+                if (!prunedValue.isEmpty()) {
+                    pruned.set(entry.getKey(), prunedValue);
+                }
+            } else {
+                pruned.set(entry.getKey(), value);
+            }
+        }
+        return pruned;
+    }
+
+    private boolean isSkipped(JsonNode value) {
+        if (value.isNull()) {
+            return true;
+        }
+        return nullHandling == NullHandling.IGNORE && isBlankText(value);
+    }
+
+    private static boolean isBlankText(JsonNode value) {
+        return value.isTextual() && value.asText().trim().isEmpty();
+    }
+
+    private String bindText(String value) {
+        return "CAST(" + bind(value) + " AS text)";
+    }
+
+    private String bindJson(JsonNode value) {
+        return "CAST(" + bind(value.toString()) + " AS jsonb)";
+    }
+
+    private String bind(Object value) {
+        String name = "p" + parameters.size();
+        parameters.put(name, value);
+        return ":" + name;
+    }
+}
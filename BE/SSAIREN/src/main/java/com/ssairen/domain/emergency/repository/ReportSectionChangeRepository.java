@@ -0,0 +1,75 @@
+package com.ssairen.domain.emergency.repository;
+
+import com.ssairen.domain.emergency.entity.ReportSectionChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 구급일지 섹션 변경 이력 Repository
+ */
+@Repository
+public interface ReportSectionChangeRepository extends JpaRepository<ReportSectionChange, Long> {
+
+    /**
+     * 섹션 변경 이력 존재 여부 (없으면 다음 변경이 첫 변경이므로 기준 스냅샷이 필요)
+     *
+     * @param reportSectionId 섹션 ID
+     * @return 이력이 한 건이라도 있으면 true
+     */
+    boolean existsByReportSectionId(Long reportSectionId);
+
+    /**
+     * 섹션의 첫 변경 전에 현재 버전을 기준 스냅샷으로 기록 (이력이 이미 있으면 아무것도 하지 않음)
+     * 섹션 엔티티를 수정하기 전에 호출해야 하며, 섹션 데이터를 애플리케이션으로 읽지 않고 DB에서 그대로 복사
+     *
+     * @param reportSectionId 섹션 ID
+     * @return 기록된 행 수 (0 또는 1)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO report_section_changes (report_section_id, version, snapshot, created_at) " +
+            "SELECT rs.id, rs.version, rs.data, now() FROM report_sections rs " +
+            "WHERE rs.id = :reportSectionId " +
+            "AND NOT EXISTS (SELECT 1 FROM report_section_changes c WHERE c.report_section_id = rs.id) " +
+            "ON CONFLICT (report_section_id, version) DO NOTHING",
+            nativeQuery = true)
+    int insertBaselineIfAbsent(@Param("reportSectionId") Long reportSectionId);
+
+    /**
+     * 지정 버전 이하에서 가장 최근 스냅샷 조회 (버전 복원의 시작점)
+     *
+     * @param reportSectionId 섹션 ID
+     * @param version         복원할 버전
+     * @return 스냅샷이 있는 변경 이력
+     */
+    @Query(value = "SELECT * FROM report_section_changes " +
+            "WHERE report_section_id = :reportSectionId AND version <= :version AND snapshot IS NOT NULL " +
+            "ORDER BY version DESC LIMIT 1",
+            nativeQuery = true)
+    Optional<ReportSectionChange> findLatestSnapshot(
+            @Param("reportSectionId") Long reportSectionId,
+            @Param("version") Integer version
+    );
+
+    /**
+     * 버전 범위의 변경 이력 조회 (버전 오름차순)
+     *
+     * @param reportSectionId 섹션 ID
+     * @param fromVersion     시작 버전 (포함)
+     * @param toVersion       끝 버전 (포함)
+     * @return 변경 이력 목록
+     */
+    @Query("SELECT c FROM ReportSectionChange c " +
+            "WHERE c.reportSectionId = :reportSectionId AND c.version BETWEEN :fromVersion AND :toVersion " +
+            "ORDER BY c.version")
+    List<ReportSectionChange> findVersionRange(
+            @Param("reportSectionId") Long reportSectionId,
+            @Param("fromVersion") Integer fromVersion,
+            @Param("toVersion") Integer toVersion
+    );
+}
@@ -0,0 +1,52 @@
+package com.ssairen.domain.emergency.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssairen.domain.emergency.dto.ReportSectionPatchResult;
+import com.ssairen.domain.emergency.dto.ReportSectionReadResult;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+
+import java.util.Optional;
+
+/**
+ * 구급일지 섹션 jsonb 직접 처리 Repository
+ * - 갱신: 섹션을 엔티티로 읽어 병합하지 않고, 변경분을 jsonb 연산으로 변환해 UPDATE 한 번으로 반영
+ * - 조회: 섹션을 엔티티로 읽지 않고 jsonb 텍스트를 그대로 조회 (JsonNode 변환 없음)
+ */
+public interface ReportSectionJsonbRepository {
+
+    /**
+     * JSON Merge Patch(RFC 7396) 변경분을 DB에서 직접 적용하고 버전을 1 증가
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @param patch             Merge Patch 문서 (JSON 객체, null은 필드 삭제)
+     * @param expectedVersion   기대 버전 (null이면 버전 조건 없음)
+     * @param paramedicId       구급일지 작성 구급대원 ID
+     * @return 갱신 결과 (구급일지/섹션이 없거나, 작성자가 아니거나, 버전이 다르면 empty)
+     */
+    Optional<ReportSectionPatchResult> applyMergePatch(Long emergencyReportId, ReportSectionType type, JsonNode patch,
+                                                       Integer expectedVersion, Integer paramedicId);
+
+    /**
+     * null/빈 문자열을 무시하는 병합(JsonMergeUtil.mergeIgnoringNulls와 동일한 규칙)을 DB에서 직접 적용하고 버전을 1 증가
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @param data              수정할 데이터 (JSON 객체)
+     * @param expectedVersion   기대 버전 (null이면 버전 조건 없음)
+     * @param paramedicId       구급일지 작성 구급대원 ID
+     * @return 갱신 결과 (구급일지/섹션이 없거나, 작성자가 아니거나, 버전이 다르면 empty)
+     */
+    Optional<ReportSectionPatchResult> applyMergeIgnoringNulls(Long emergencyReportId, ReportSectionType type, JsonNode data,
+                                                               Integer expectedVersion, Integer paramedicId);
+
+    /**
+     * 섹션 원문 조회 (읽기 전용)
+     * 구급일지를 기준으로 LEFT JOIN하므로 구급일지 존재 여부, 작성자, 섹션을 한 번의 쿼리로 확인
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @return 조회 결과 (구급일지가 없으면 empty, 섹션이 없으면 섹션 값이 null)
+     */
+    Optional<ReportSectionReadResult> findRawSection(Long emergencyReportId, ReportSectionType type);
+}
@@ -0,0 +1,153 @@
+package com.ssairen.domain.emergency.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssairen.domain.emergency.dto.ReportSectionPatchResult;
+import com.ssairen.domain.emergency.dto.ReportSectionReadResult;
+import com.ssairen.domain.emergency.entity.ReportSection;
+import com.ssairen.domain.emergency.entity.ReportSectionChange;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 구급일지 섹션 jsonb 직접 처리 구현
+ * - 병합 식은 JsonbMergeExpression이 생성하고, 작성자 확인/버전 조건/버전 증가까지 UPDATE 한 문장에서 처리
+ * - 같은 문장의 CTE에서 변경 이력(report_section_changes)도 추가 (첫 변경이면 직전 버전 기준 스냅샷 포함)
+ * - 갱신 결과는 RETURNING으로 받아 별도 조회 없이 응답을 구성
+ * - 조회는 CAST(data AS text)로 받아 JsonBinaryType의 JsonNode 변환을 거치지 않음
+ */
+@Slf4j
+class ReportSectionJsonbRepositoryImpl implements ReportSectionJsonbRepository {
+
+    private static final String LOG_PREFIX = "[ReportSectionJsonbRepository] ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<ReportSectionPatchResult> applyMergePatch(Long emergencyReportId, ReportSectionType type, JsonNode patch,
+                                                              Integer expectedVersion, Integer paramedicId) {
+        JsonbMergeExpression.Compiled expression =
+                JsonbMergeExpression.compile("rs.data", patch, JsonbMergeExpression.NullHandling.REMOVE);
+        return execute(emergencyReportId, type, expression, expectedVersion, paramedicId);
+    }
+
+    @Override
+    public Optional<ReportSectionPatchResult> applyMergeIgnoringNulls(Long emergencyReportId, ReportSectionType type, JsonNode data,
+                                                                      Integer expectedVersion, Integer paramedicId) {
+        JsonbMergeExpression.Compiled expression =
+                JsonbMergeExpression.compile("rs.data", data, JsonbMergeExpression.NullHandling.IGNORE);
+        return execute(emergencyReportId, type, expression, expectedVersion, paramedicId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<ReportSectionPatchResult> execute(Long emergencyReportId, ReportSectionType type,
+                                                       JsonbMergeExpression.Compiled expression,
+                                                       Integer expectedVersion, Integer paramedicId) {
+        // baseline: 문장 시작 시점의 행(직전 버전)은 이력이 없을 때만 기준 스냅샷으로 기록
+        // changes: 변경분은 병합 식과 결과가 같은 Merge Patch, SNAPSHOT_INTERVAL 버전마다 전체 데이터도 기록
+        String sql = "WITH updated AS (" +
+                "UPDATE report_sections rs " +
+                "SET data = " + expression.sql() + ", " +
+                "version = rs.version + 1, " +
+                "updated_at = :updatedAt " +
+                "FROM emergency_reports er " +
+                "WHERE er.id = rs.emergency_report_id " +
+                "AND rs.emergency_report_id = :emergencyReportId " +
+                "AND rs.type = :type " +
+                "AND er.paramedics_id = :paramedicId " +
+                (expectedVersion != null ? "AND rs.version = :expectedVersion " : "") +
+                "RETURNING rs.id, rs.version, rs.data, rs.created_at, er.is_completed, rs.schema_version" +
+                "), baseline AS (" +
+                "INSERT INTO report_section_changes (report_section_id, version, snapshot, created_at) " +
+                "SELECT prev.id, prev.version, prev.data, :updatedAt " +
+                "FROM report_sections prev JOIN updated u ON u.id = prev.id AND prev.version = u.version - 1 " +
+                "WHERE NOT EXISTS (SELECT 1 FROM report_section_changes c WHERE c.report_section_id = prev.id) " +
+                "ON CONFLICT (report_section_id, version) DO NOTHING" +
+                "), changes AS (" +
+                "INSERT INTO report_section_changes (report_section_id, version, delta, snapshot, created_at) " +
+                "SELECT u.id, u.version, CAST(:delta AS jsonb), " +
+                "CASE WHEN u.version % :snapshotInterval = 0 THEN u.data END, :updatedAt FROM updated u" +
+                ") " +
+                "SELECT u.id AS id, u.version AS version, CAST(u.data AS text) AS data, " +
+                "u.created_at AS created_at, u.is_completed AS is_completed, u.schema_version AS schema_version " +
+                "FROM updated u";
+
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("version", Integer.class)
+                .addScalar("data", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("is_completed", Boolean.class)
+                .addScalar("schema_version", Integer.class);
+
+        expression.parameters().forEach(query::setParameter);
+        query.setParameter("delta", expression.delta().toString());
+        query.setParameter("snapshotInterval", ReportSectionChange.SNAPSHOT_INTERVAL);
+        query.setParameter("updatedAt", LocalDateTime.now());
+        query.setParameter("emergencyReportId", emergencyReportId);
+        query.setParameter("type", type.name());
+        query.setParameter("paramedicId", paramedicId);
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            log.debug(LOG_PREFIX + "섹션 부분 갱신 대상 없음 - 구급일지 ID: {}, 타입: {}, 기대 버전: {}",
+                    emergencyReportId, type, expectedVersion);
+            return Optional.empty();
+        }
+
+        Object[] row = rows.get(0);
+        ReportSectionPatchResult result = new ReportSectionPatchResult(
+                (Long) row[0], (Integer) row[1], (String) row[2], (LocalDateTime) row[3], (Boolean) row[4], (Integer) row[5]);
+
+        // 영속성 컨텍스트에 남아 있는 섹션 엔티티는 갱신 전 상태이므로 분리 (SQL 실행 없음)
+        entityManager.detach(entityManager.getReference(ReportSection.class, result.id()));
+        return Optional.of(result);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<ReportSectionReadResult> findRawSection(Long emergencyReportId, ReportSectionType type) {
+        String sql = "SELECT er.id AS report_id, er.paramedics_id AS paramedic_id, er.is_completed AS is_completed, " +
+                "rs.id AS id, rs.version AS version, CAST(rs.data AS text) AS data, rs.created_at AS created_at, " +
+                "rs.schema_version AS schema_version " +
+                "FROM emergency_reports er " +
+                "LEFT JOIN report_sections rs ON rs.emergency_report_id = er.id AND rs.type = :type " +
+                "WHERE er.id = :emergencyReportId";
+
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addScalar("report_id", Long.class)
+                .addScalar("paramedic_id", Integer.class)
+                .addScalar("is_completed", Boolean.class)
+                .addScalar("id", Long.class)
+                .addScalar("version", Integer.class)
+                .addScalar("data", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("schema_version", Integer.class);
+
+        query.setParameter("emergencyReportId", emergencyReportId);
+        query.setParameter("type", type.name());
+
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object[] row = rows.get(0);
+        return Optional.of(new ReportSectionReadResult(
+                (Long) row[0], (Integer) row[1], (Boolean) row[2],
+                (Long) row[3], (Integer) row[4], (String) row[5], (LocalDateTime) row[6],
+                (Integer) row[7]));
+    }
+}
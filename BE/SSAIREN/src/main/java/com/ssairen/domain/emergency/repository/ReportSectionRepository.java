@@ -1,18 +1,25 @@
 package com.ssairen.domain.emergency.repository;
 
+import com.ssairen.domain.emergency.dto.ReportPatientNameView;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
 import com.ssairen.domain.emergency.entity.ReportSection;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 구급일지 섹션 Repository
  */
 @Repository
-public interface ReportSectionRepository extends JpaRepository<ReportSection, Long> {
+public interface ReportSectionRepository extends JpaRepository<ReportSection, Long>, ReportSectionJsonbRepository {
 
     /**
      * 특정 구급일지의 특정 타입 섹션 존재 여부 확인 (중복 생성 방지용)
@@ -23,6 +30,14 @@ public interface ReportSectionRepository extends JpaRepository<ReportSection, Lo
      */
     boolean existsByEmergencyReportAndType(EmergencyReport emergencyReport, ReportSectionType type);
 
+    /**
+     * 특정 구급일지의 섹션 존재 여부 확인 (섹션 일괄 생성 시 중복 방지용)
+     *
+     * @param emergencyReport 구급일지
+     * @return 하나 이상의 섹션 존재 여부
+     */
+    boolean existsByEmergencyReport(EmergencyReport emergencyReport);
+
     /**
      * 특정 구급일지의 특정 타입 섹션 조회
      *
@@ -31,4 +46,37 @@ public interface ReportSectionRepository extends JpaRepository<ReportSection, Lo
      * @return 섹션 엔티티 (Optional)
      */
     Optional<ReportSection> findByEmergencyReportAndType(EmergencyReport emergencyReport, ReportSectionType type);
+
+    /**
+     * 특정 구급일지의 특정 타입 섹션을 쓰기 잠금과 함께 조회 (수정용)
+     * If-Match 버전 확인과 갱신 사이에 다른 요청이 끼어들지 않도록 행 잠금(SELECT ... FOR UPDATE)
+     *
+     * @param emergencyReport 구급일지
+     * @param type 섹션 타입
+     * @return 섹션 엔티티 (Optional)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rs FROM ReportSection rs WHERE rs.emergencyReport = :emergencyReport AND rs.type = :type")
+    Optional<ReportSection> findForUpdateByEmergencyReportAndType(
+            @Param("emergencyReport") EmergencyReport emergencyReport,
+            @Param("type") ReportSectionType type
+    );
+
+    /**
+     * 여러 구급일지의 환자 이름 일괄 조회
+     * PATIENT_INFO 섹션의 data->'patientInfo'->'patient'->>'name' 값만 추출하므로
+     * 섹션 JSONB 전체를 역직렬화하지 않고 한 번의 쿼리로 조회
+     *
+     * @param emergencyReportIds 구급일지 ID 목록
+     * @return 구급일지 ID별 환자 이름 (PATIENT_INFO 섹션이 없는 구급일지는 결과에 포함되지 않음)
+     */
+    @Query(value = "SELECT rs.emergency_report_id AS emergencyReportId, " +
+            "rs.data -> 'patientInfo' -> 'patient' ->> 'name' AS patientName " +
+            "FROM report_sections rs " +
+            "WHERE rs.emergency_report_id IN (:emergencyReportIds) " +
+            "AND rs.type = 'PATIENT_INFO'",
+            nativeQuery = true)
+    List<ReportPatientNameView> findPatientNamesByEmergencyReportIds(
+            @Param("emergencyReportIds") Collection<Long> emergencyReportIds
+    );
 }
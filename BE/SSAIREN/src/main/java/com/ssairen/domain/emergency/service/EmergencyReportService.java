@@ -2,8 +2,11 @@ package com.ssairen.domain.emergency.service;
 
 import com.ssairen.domain.emergency.dto.EmergencyReportCompleteResponse;
 import com.ssairen.domain.emergency.dto.EmergencyReportCreateResponse;
+import com.ssairen.domain.emergency.dto.EmergencyReportFullResponse;
+import com.ssairen.domain.emergency.dto.EmergencyReportListQueryRequest;
 import com.ssairen.domain.emergency.dto.FireStateEmergencyReportsResponse;
 import com.ssairen.domain.emergency.dto.ParamedicEmergencyReportResponse;
+import com.ssairen.global.security.enums.UserType;
 
 import java.util.List;
 
@@ -26,6 +29,15 @@ public interface EmergencyReportService {
      */
     ParamedicEmergencyReportResponse getEmergencyReportsByParamedic(Integer paramedicId);
 
+    /**
+     * 특정 구급대원이 작성한 보고서 조회 (커서 페이지네이션 + 증분 동기화)
+     *
+     * @param paramedicId 구급대원 ID
+     * @param request     조회 조건 (커서, 페이지 크기, 변경 기준 시각)
+     * @return 구급대원 정보와 작성한 보고서 목록
+     */
+    ParamedicEmergencyReportResponse getEmergencyReportsByParamedic(Integer paramedicId, EmergencyReportListQueryRequest request);
+
     /**
      * 특정 소방서의 모든 구급일지 조회
      *
@@ -34,6 +46,15 @@ public interface EmergencyReportService {
      */
     List<FireStateEmergencyReportsResponse> getEmergencyReportsByFireState(Integer paramedicId);
 
+    /**
+     * 특정 소방서의 구급일지 조회 (커서 페이지네이션 + 증분 동기화)
+     *
+     * @param paramedicId 구급대원 ID
+     * @param request     조회 조건 (커서, 페이지 크기, 변경 기준 시각)
+     * @return 소방서별 구급일지 목록 (List로 래핑)
+     */
+    List<FireStateEmergencyReportsResponse> getEmergencyReportsByFireState(Integer paramedicId, EmergencyReportListQueryRequest request);
+
     /**
      * 구급일지 완료 상태 토글
      *
@@ -42,4 +63,17 @@ public interface EmergencyReportService {
      * @return 구급일지 ID와 변경된 완료 상태
      */
     EmergencyReportCompleteResponse toggleEmergencyReportCompleted(Long emergencyReportId, Integer paramedicId);
+
+    /**
+     * 구급일지 전체 조회 (모든 섹션 + 환자 정보)
+     * - 구급대원: 본인이 작성한 구급일지만 조회 가능
+     * - 병원: 수용한(ACCEPTED, ARRIVED) 환자의 구급일지만 조회 가능
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param userId            조회자 ID (구급대원 ID 또는 병원 ID)
+     * @param userType          조회자 타입
+     * @param sparse            true면 희소 형식 섹션을 템플릿으로 복원하지 않고 저장된 그대로 전달
+     * @return 모든 섹션(jsonb 원문)과 환자 정보, ETag
+     */
+    EmergencyReportFullResponse getFullEmergencyReport(Long emergencyReportId, Integer userId, UserType userType, boolean sparse);
 }
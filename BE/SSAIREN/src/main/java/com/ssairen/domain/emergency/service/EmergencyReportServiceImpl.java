@@ -2,14 +2,22 @@ package com.ssairen.domain.emergency.service;
 
 import com.ssairen.domain.emergency.dto.EmergencyReportCompleteResponse;
 import com.ssairen.domain.emergency.dto.EmergencyReportCreateResponse;
+import com.ssairen.domain.emergency.dto.EmergencyReportFullResponse;
+import com.ssairen.domain.emergency.dto.EmergencyReportFullResult;
+import com.ssairen.domain.emergency.dto.EmergencyReportListQueryRequest;
 import com.ssairen.domain.emergency.dto.FireStateEmergencyReportsResponse;
+import com.ssairen.domain.emergency.dto.PaginationResponse;
 import com.ssairen.domain.emergency.dto.ParamedicEmergencyReportResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionCreateResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionRawResponse;
 import com.ssairen.domain.emergency.entity.Dispatch;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
 import com.ssairen.domain.emergency.mapper.EmergencyReportMapper;
+import com.ssairen.domain.emergency.mapper.ReportSectionMapper;
 import com.ssairen.domain.emergency.repository.DispatchRepository;
 import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.emergency.util.ReportSectionDocument;
 import com.ssairen.domain.emergency.validation.EmergencyReportValidator;
 import com.ssairen.domain.firestation.entity.FireState;
 import com.ssairen.domain.firestation.entity.Paramedic;
@@ -17,12 +25,17 @@ import com.ssairen.domain.firestation.repository.FireStateRepository;
 import com.ssairen.domain.firestation.repository.ParamedicRepository;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
+import com.ssairen.global.security.enums.UserType;
+import com.ssairen.global.utils.CursorUtils;
+import com.ssairen.global.utils.ETagUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -31,12 +44,21 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EmergencyReportServiceImpl implements EmergencyReportService {
 
+    /**
+     * 증분 동기화 기준 시각 여유 시간
+     * updated_at은 flush 시점에 기록되고 커밋은 그 이후이므로, 조회 시점에 아직 커밋되지 않은 변경은
+     * 조회 시각보다 이른 updated_at으로 나중에 나타남. 기준 시각을 이만큼 앞당겨 다음 동기화에서 다시 조회
+     * (실행 중인 트랜잭션 시간 + 서버 간 시계 오차보다 길게 설정, 경계 부근 변경분은 중복으로 내려갈 수 있음)
+     */
+    private static final Duration SYNC_WATERMARK_MARGIN = Duration.ofSeconds(30);
+
     private final EmergencyReportRepository emergencyReportRepository;
     private final DispatchRepository dispatchRepository;
     private final ParamedicRepository paramedicRepository;
     private final FireStateRepository fireStateRepository;
     private final EmergencyReportValidator emergencyReportValidator;
     private final EmergencyReportMapper emergencyReportMapper;
+    private final ReportSectionMapper reportSectionMapper;
     private final ReportSectionService reportSectionService;
 
     /**
@@ -85,24 +107,20 @@ public class EmergencyReportServiceImpl implements EmergencyReportService {
 
     /**
      * 구급일지의 모든 상세섹션 생성 (SUMMATION 제외)
+     * 검증은 한 번만 수행하고 모든 섹션을 배치 INSERT 한 번으로 저장
      *
      * @param emergencyReportId 구급일지 ID
      * @param paramedicId       구급대원 ID
      */
     private void createAllReportSections(Long emergencyReportId, Integer paramedicId) {
-        // ReportSectionType의 모든 타입 가져오기
-        List<ReportSectionType> allTypes = Arrays.asList(ReportSectionType.values());
-
         log.info("구급일지 상세섹션 생성 시작 - 구급일지 ID: {}, 생성할 섹션 수: {}",
-                emergencyReportId, allTypes.size());
+                emergencyReportId, ReportSectionType.values().length);
 
-        for (ReportSectionType type : allTypes) {
-            reportSectionService.createReportSection(emergencyReportId, type, paramedicId);
-            log.debug("섹션 생성 완료 - 타입: {}", type);
-        }
+        List<ReportSectionCreateResponse> sections =
+                reportSectionService.createAllReportSections(emergencyReportId, paramedicId);
 
         log.info("구급일지 상세섹션 생성 완료 - 구급일지 ID: {}, 생성: {}개",
-                emergencyReportId, allTypes.size());
+                emergencyReportId, sections.size());
     }
 
     /**
@@ -114,18 +132,42 @@ public class EmergencyReportServiceImpl implements EmergencyReportService {
     @Override
     @Transactional(readOnly = true)
     public ParamedicEmergencyReportResponse getEmergencyReportsByParamedic(Integer paramedicId) {
+        return getEmergencyReportsByParamedic(paramedicId, EmergencyReportListQueryRequest.all());
+    }
+
+    /**
+     * 특정 구급대원이 작성한 보고서 조회 (커서 페이지네이션 + 증분 동기화)
+     *
+     * @param paramedicId 구급대원 ID
+     * @param request     조회 조건 (커서, 페이지 크기, 변경 기준 시각)
+     * @return 구급대원 정보와 작성한 보고서 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ParamedicEmergencyReportResponse getEmergencyReportsByParamedic(Integer paramedicId, EmergencyReportListQueryRequest request) {
         // 1. 구급대원 존재 여부 확인
         Paramedic paramedic = paramedicRepository.findById(paramedicId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PARAMEDIC_NOT_FOUND));
 
-        // 2. 구급일지 조회
-        List<EmergencyReport> emergencyReports = emergencyReportRepository.findByParamedicIdWithFetchJoin(paramedicId);
+        // 2. 동기화 기준 시각 (조회 전에 기록하고 아직 커밋되지 않은 변경분을 놓치지 않도록 여유 시간만큼 앞당김)
+        LocalDateTime syncedAt = LocalDateTime.now().minus(SYNC_WATERMARK_MARGIN);
 
-        log.info("구급대원 보고서 조회 완료 - 구급대원: {}, 조회 건수: {}",
-                paramedic.getName(), emergencyReports.size());
+        // 3. 구급일지 조회 (페이지네이션 요청 시 limit + 1개 조회하여 다음 페이지 존재 여부 확인)
+        Long cursorId = CursorUtils.decodeCursor(request.cursor());
+        List<EmergencyReport> emergencyReports = emergencyReportRepository.findByParamedicIdWithFilters(
+                paramedicId,
+                cursorId,
+                request.updatedSince(),
+                fetchLimit(request)
+        );
+        PagedReports page = toPage(emergencyReports, request);
+
+        log.info("구급대원 보고서 조회 완료 - 구급대원: {}, 조회 건수: {}, 다음 페이지 존재: {}, 변경 기준: {}",
+                paramedic.getName(), page.reports().size(), page.pagination().hasMore(), request.updatedSince());
 
-        // 3. DTO 변환
-        return emergencyReportMapper.toParamedicEmergencyReportResponse(paramedic, emergencyReports);
+        // 4. DTO 변환
+        return emergencyReportMapper.toParamedicEmergencyReportResponse(
+                paramedic, page.reports(), page.pagination(), syncedAt);
     }
 
     /**
@@ -137,6 +179,19 @@ public class EmergencyReportServiceImpl implements EmergencyReportService {
     @Override
     @Transactional(readOnly = true)
     public List<FireStateEmergencyReportsResponse> getEmergencyReportsByFireState(Integer paramedicId) {
+        return getEmergencyReportsByFireState(paramedicId, EmergencyReportListQueryRequest.all());
+    }
+
+    /**
+     * 특정 소방서의 구급일지 조회 (커서 페이지네이션 + 증분 동기화)
+     *
+     * @param paramedicId 구급대원 ID
+     * @param request     조회 조건 (커서, 페이지 크기, 변경 기준 시각)
+     * @return 소방서별 구급일지 목록 (List로 래핑)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<FireStateEmergencyReportsResponse> getEmergencyReportsByFireState(Integer paramedicId, EmergencyReportListQueryRequest request) {
         // 1. 구급대원 조회
         Paramedic paramedic = paramedicRepository.findById(paramedicId)
                 .orElseThrow(() -> new CustomException(ErrorCode.PARAMEDIC_NOT_FOUND));
@@ -145,19 +200,63 @@ public class EmergencyReportServiceImpl implements EmergencyReportService {
         FireState fireState = fireStateRepository.findById(paramedic.getFireState().getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.FIRE_STATE_NOT_FOUND));
 
-        // 3. 소방서의 모든 구급일지 조회
-        List<EmergencyReport> emergencyReports = emergencyReportRepository.findByFireStateIdWithFetchJoin(fireState.getId());
+        // 3. 동기화 기준 시각 (조회 전에 기록하고 아직 커밋되지 않은 변경분을 놓치지 않도록 여유 시간만큼 앞당김)
+        LocalDateTime syncedAt = LocalDateTime.now().minus(SYNC_WATERMARK_MARGIN);
 
-        log.info("소방서 보고서 조회 완료 - 소방서: {}, 조회 건수: {}",
-                fireState.getName(), emergencyReports.size());
+        // 4. 소방서의 구급일지 조회 (페이지네이션 요청 시 limit + 1개 조회하여 다음 페이지 존재 여부 확인)
+        Long cursorId = CursorUtils.decodeCursor(request.cursor());
+        List<EmergencyReport> emergencyReports = emergencyReportRepository.findByFireStateIdWithFilters(
+                fireState.getId(),
+                cursorId,
+                request.updatedSince(),
+                fetchLimit(request)
+        );
+        PagedReports page = toPage(emergencyReports, request);
+
+        log.info("소방서 보고서 조회 완료 - 소방서: {}, 조회 건수: {}, 다음 페이지 존재: {}, 변경 기준: {}",
+                fireState.getName(), page.reports().size(), page.pagination().hasMore(), request.updatedSince());
 
-        // 4. 응답 DTO 변환 (List로 래핑)
+        // 5. 응답 DTO 변환 (List로 래핑)
         FireStateEmergencyReportsResponse response = emergencyReportMapper
-                .toFireStateEmergencyReportsResponse(fireState, emergencyReports);
+                .toFireStateEmergencyReportsResponse(fireState, page.reports(), page.pagination(), syncedAt);
 
         return Collections.singletonList(response);
     }
 
+    /**
+     * 조회 개수 계산 (페이지네이션 요청이 아니면 제한 없음)
+     */
+    private int fetchLimit(EmergencyReportListQueryRequest request) {
+        return request.isPaged() ? request.resolvedLimit() + 1 : Integer.MAX_VALUE;
+    }
+
+    /**
+     * 조회 결과를 실제 반환할 목록과 다음 페이지 정보로 분리
+     */
+    private PagedReports toPage(List<EmergencyReport> emergencyReports, EmergencyReportListQueryRequest request) {
+        if (!request.isPaged()) {
+            return new PagedReports(emergencyReports, new PaginationResponse(null, false));
+        }
+
+        int limit = request.resolvedLimit();
+        boolean hasMore = emergencyReports.size() > limit;
+        List<EmergencyReport> actualReports = hasMore
+                ? emergencyReports.subList(0, limit)
+                : emergencyReports;
+
+        // 다음 커서 생성
+        String nextCursor = null;
+        if (hasMore && !actualReports.isEmpty()) {
+            Long lastId = actualReports.get(actualReports.size() - 1).getId();
+            nextCursor = CursorUtils.encodeCursor(lastId);
+        }
+
+        return new PagedReports(actualReports, new PaginationResponse(nextCursor, hasMore));
+    }
+
+    private record PagedReports(List<EmergencyReport> reports, PaginationResponse pagination) {
+    }
+
     /**
      * 구급일지 완료 상태 토글
      *
@@ -193,4 +292,56 @@ public class EmergencyReportServiceImpl implements EmergencyReportService {
                 savedReport.getIsCompleted()
         );
     }
+
+    /**
+     * 구급일지 전체 조회 (모든 섹션 + 환자 정보)
+     * 섹션별 조회를 반복하지 않고 구급일지/섹션/환자 정보/병원 수용 여부를 한 번의 쿼리로 조회하며,
+     * 섹션 데이터는 jsonb 텍스트 그대로 응답에 기록 (희소 형식 섹션은 sparse 요청이 아니면 템플릿 전체 구조로 복원)
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param userId            조회자 ID (구급대원 ID 또는 병원 ID)
+     * @param userType          조회자 타입
+     * @param sparse            true면 희소 형식 섹션을 복원하지 않고 저장된 그대로 전달
+     * @return 모든 섹션(jsonb 원문)과 환자 정보, ETag
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EmergencyReportFullResponse getFullEmergencyReport(Long emergencyReportId, Integer userId, UserType userType, boolean sparse) {
+        // 1. 구급일지 전체 조회 (단일 쿼리)
+        Integer hospitalId = userType == UserType.HOSPITAL ? userId : null;
+        EmergencyReportFullResult result = emergencyReportRepository.findFullById(emergencyReportId, hospitalId)
+                .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_REPORT_NOT_FOUND));
+
+        // 2. 권한 검증: 작성 구급대원 또는 환자를 수용한 병원
+        if (userType == UserType.HOSPITAL) {
+            if (!result.hospitalAccepted()) {
+                log.warn("수용하지 않은 환자의 구급일지 조회 시도 - 구급일지 ID: {}, 병원 ID: {}", emergencyReportId, userId);
+                throw new CustomException(ErrorCode.ACCESS_DENIED, "수용한 환자의 구급일지만 조회할 수 있습니다.");
+            }
+        } else if (!result.paramedicId().equals(userId)) {
+            log.warn("권한 없는 구급일지 전체 조회 시도 - 구급일지 ID: {}, 구급대원 ID: {}, 작성자: {}",
+                    emergencyReportId, userId, result.paramedicId());
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "본인이 작성한 구급일지만 조회할 수 있습니다.");
+        }
+
+        // 3. 섹션 버전 합계 (섹션이 수정될 때마다 버전이 1씩 증가하므로 합계도 단조 증가)
+        //    희소 형식 섹션은 sparse 요청이 아니면 템플릿 전체 구조로 복원
+        int versionSum = 0;
+        List<ReportSectionRawResponse> sections = new ArrayList<>(result.sections().size());
+        for (ReportSectionRawResponse section : result.sections()) {
+            versionSum += section.version();
+            sections.add(reportSectionMapper.toRawResponse(section, sparse));
+        }
+
+        // 4. 응답 DTO 생성
+        //    - 환자 정보는 섹션 버전에 반영되지 않으므로 수정 시각을 ETag에 포함
+        //    - 희소 형식/복원 응답은 본문이 다르므로 표현 식별자를 ETag에 포함 (복원 응답은 템플릿 리비전까지 포함)
+        return new EmergencyReportFullResponse(
+                result.emergencyReportId(),
+                versionSum,
+                sections,
+                result.patientInfo(),
+                ETagUtils.toETag(versionSum, result.patientInfoUpdatedAt(), ReportSectionDocument.representation(sparse))
+        );
+    }
 }
@@ -1,9 +1,16 @@
 package com.ssairen.domain.emergency.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssairen.domain.emergency.dto.ReportSectionChangesResponse;
 import com.ssairen.domain.emergency.dto.ReportSectionCreateResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionReadResponse;
 import com.ssairen.domain.emergency.dto.ReportSectionUpdateRequest;
+import com.ssairen.domain.emergency.dto.ReportSectionVersionResponse;
+import com.ssairen.domain.emergency.enums.ReportSectionPatchFormat;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
 
+import java.util.List;
+
 public interface ReportSectionService {
 
     /**
@@ -16,15 +23,26 @@ public interface ReportSectionService {
      */
     ReportSectionCreateResponse createReportSection(Long emergencyReportId, ReportSectionType type, Integer paramedicId);
 
+    /**
+     * 구급일지의 모든 타입 섹션 일괄 생성 (구급일지 생성 시 초기화용)
+     * 검증은 한 번만 수행하고, 스켈레톤 섹션은 JDBC 배치 INSERT 한 번으로 저장
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param paramedicId       구급대원 ID (권한 검증용)
+     * @return 생성된 섹션 정보 목록 (ReportSectionType 선언 순서)
+     */
+    List<ReportSectionCreateResponse> createAllReportSections(Long emergencyReportId, Integer paramedicId);
+
     /**
      * 구급일지 특정 섹션 조회
      *
      * @param emergencyReportId 구급일지 ID
      * @param type              섹션 타입
      * @param paramedicId       구급대원 ID (권한 검증용)
+     * @param sparse            true면 희소 형식 섹션을 템플릿으로 복원하지 않고 저장된 그대로 전달
      * @return 섹션 정보 (JSON 데이터 포함)
      */
-    ReportSectionCreateResponse getReportSection(Long emergencyReportId, ReportSectionType type, Integer paramedicId);
+    ReportSectionReadResponse getReportSection(Long emergencyReportId, ReportSectionType type, Integer paramedicId, boolean sparse);
 
     /**
      * 구급일지 섹션 수정
@@ -35,5 +53,56 @@ public interface ReportSectionService {
      * @param paramedicId       구급대원 ID (권한 검증용)
      * @return 수정된 섹션 정보
      */
-    ReportSectionCreateResponse updateReportSection(Long emergencyReportId, ReportSectionType type, ReportSectionUpdateRequest request, Integer paramedicId);
+    default ReportSectionCreateResponse updateReportSection(Long emergencyReportId, ReportSectionType type, ReportSectionUpdateRequest request, Integer paramedicId) {
+        return updateReportSection(emergencyReportId, type, request, null, paramedicId);
+    }
+
+    /**
+     * 구급일지 섹션 수정 (버전 조건부)
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @param request           수정할 데이터
+     * @param expectedVersion   If-Match로 전달된 기대 버전 (null이면 버전 확인 생략)
+     * @param paramedicId       구급대원 ID (권한 검증용)
+     * @return 수정된 섹션 정보
+     */
+    ReportSectionCreateResponse updateReportSection(Long emergencyReportId, ReportSectionType type, ReportSectionUpdateRequest request, Integer expectedVersion, Integer paramedicId);
+
+    /**
+     * 구급일지 섹션 부분 수정 (JSON Merge Patch / JSON Patch)
+     * 변경분만 전달받아 기존 데이터에 적용
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @param format            패치 문서 형식
+     * @param patch             패치 문서
+     * @param expectedVersion   If-Match로 전달된 기대 버전 (null이면 버전 확인 생략)
+     * @param paramedicId       구급대원 ID (권한 검증용)
+     * @return 수정된 섹션 정보
+     */
+    ReportSectionCreateResponse patchReportSection(Long emergencyReportId, ReportSectionType type, ReportSectionPatchFormat format, JsonNode patch, Integer expectedVersion, Integer paramedicId);
+
+    /**
+     * 구급일지 섹션의 특정 버전 조회
+     * 해당 버전 이하의 가장 가까운 스냅샷에 이후 변경분을 차례로 적용해 복원
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @param version           조회할 버전
+     * @param paramedicId       구급대원 ID (권한 검증용)
+     * @return 해당 버전의 섹션 데이터
+     */
+    ReportSectionVersionResponse getReportSectionVersion(Long emergencyReportId, ReportSectionType type, Integer version, Integer paramedicId);
+
+    /**
+     * 구급일지 섹션의 특정 버전 이후 변경분 조회
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @param sinceVersion      클라이언트가 가진 버전 (이 버전 이후의 변경분을 반환)
+     * @param paramedicId       구급대원 ID (권한 검증용)
+     * @return 버전별 변경분 목록
+     */
+    ReportSectionChangesResponse getReportSectionChanges(Long emergencyReportId, ReportSectionType type, Integer sinceVersion, Integer paramedicId);
 }
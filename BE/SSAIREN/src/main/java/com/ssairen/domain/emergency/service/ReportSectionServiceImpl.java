@@ -1,14 +1,25 @@
 package com.ssairen.domain.emergency.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssairen.domain.emergency.dto.ReportSectionChangesResponse;
 import com.ssairen.domain.emergency.dto.ReportSectionCreateResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionPatchResult;
+import com.ssairen.domain.emergency.dto.ReportSectionReadResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionReadResult;
 import com.ssairen.domain.emergency.dto.ReportSectionUpdateRequest;
+import com.ssairen.domain.emergency.dto.ReportSectionVersionResponse;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
 import com.ssairen.domain.emergency.entity.ReportSection;
+import com.ssairen.domain.emergency.entity.ReportSectionChange;
+import com.ssairen.domain.emergency.enums.ReportSectionPatchFormat;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
 import com.ssairen.domain.emergency.mapper.ReportSectionMapper;
+import com.ssairen.domain.emergency.repository.ReportSectionChangeRepository;
 import com.ssairen.domain.emergency.repository.ReportSectionRepository;
-import com.ssairen.domain.emergency.util.JsonMergeUtil;
+import com.ssairen.domain.emergency.util.JsonMergePatch;
+import com.ssairen.domain.emergency.util.JsonPatchUtil;
+import com.ssairen.domain.emergency.util.ReportSectionDocument;
 import com.ssairen.domain.emergency.util.ReportSectionTemplate;
 import com.ssairen.domain.emergency.validation.ReportSectionValidator;
 import com.ssairen.global.exception.CustomException;
@@ -18,15 +29,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReportSectionServiceImpl implements ReportSectionService {
 
     private final ReportSectionRepository reportSectionRepository;
+    private final ReportSectionChangeRepository reportSectionChangeRepository;
     private final ReportSectionValidator reportSectionValidator;
     private final ReportSectionMapper reportSectionMapper;
-    private final JsonMergeUtil jsonMergeUtil;
+    private final JsonPatchUtil jsonPatchUtil;
 
     /**
      * 구급일지 섹션 생성
@@ -61,88 +76,319 @@ public class ReportSectionServiceImpl implements ReportSectionService {
             throw new CustomException(ErrorCode.REPORT_SECTION_ALREADY_EXISTS);
         }
 
-        // 4. 타입에 맞는 스켈레톤 JSON 생성
-        JsonNode skeletonData;
-        if (type == ReportSectionType.DISPATCH) {
-            // DISPATCH 타입은 실제 Dispatch 데이터로 초기값 설정
-            skeletonData = ReportSectionTemplate.getTemplateForDispatch(emergencyReport.getDispatch());
-        } else {
-            // 다른 타입은 기본 템플릿 사용 (모든 값 null)
-            skeletonData = ReportSectionTemplate.getTemplate(type);
-        }
-
-        // 5. 섹션 엔티티 생성 및 저장
-        ReportSection section = ReportSection.builder()
-                .emergencyReport(emergencyReport)
-                .type(type)
-                .data(skeletonData)
-                .version(1)
-                .build();
-
-        ReportSection savedSection = reportSectionRepository.save(section);
+        // 4. 타입에 맞는 스켈레톤 섹션 생성 및 저장
+        ReportSection savedSection = reportSectionRepository.save(createSkeletonSection(emergencyReport, type));
 
         log.info("구급일지 섹션 생성 완료 - 섹션 ID: {}, 구급일지 ID: {}, 타입: {}",
                 savedSection.getId(), emergencyReport.getId(), type);
 
-        // 6. 응답 DTO 변환
+        // 5. 응답 DTO 변환
         return reportSectionMapper.toCreateResponse(savedSection);
     }
 
+    /**
+     * 구급일지의 모든 타입 섹션 일괄 생성
+     * 타입별로 createReportSection을 반복 호출하면 구급일지 조회/중복 확인/IDENTITY INSERT가
+     * 섹션 수만큼 반복되므로, 검증과 중복 확인은 한 번만 하고 시퀀스 ID + JDBC 배치로 한 번에 저장
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param paramedicId       구급대원 ID (권한 검증용)
+     * @return 생성된 섹션 정보 목록 (ReportSectionType 선언 순서)
+     */
+    @Override
+    @Transactional
+    public List<ReportSectionCreateResponse> createAllReportSections(Long emergencyReportId, Integer paramedicId) {
+        // 1. 구급일지 존재 여부 검증 (같은 트랜잭션에서 방금 저장한 구급일지라면 영속성 컨텍스트에서 조회)
+        EmergencyReport emergencyReport = reportSectionValidator
+                .validateEmergencyReportExists(emergencyReportId);
+
+        // 2. 권한 검증: 해당 구급일지를 작성한 구급대원인지 확인
+        if (!emergencyReport.getParamedic().getId().equals(paramedicId)) {
+            log.warn("Unauthorized section creation attempt - Emergency Report ID: {}, Paramedic ID: {}, Report Owner: {}",
+                    emergencyReportId, paramedicId, emergencyReport.getParamedic().getId());
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "본인이 작성한 구급일지에 대해서만 섹션을 생성할 수 있습니다.");
+        }
+
+        // 3. 중복 생성 방지 (타입별 확인 대신 섹션 존재 여부 한 번만 확인)
+        if (reportSectionRepository.existsByEmergencyReport(emergencyReport)) {
+            throw new CustomException(ErrorCode.REPORT_SECTION_ALREADY_EXISTS);
+        }
+
+        // 4. 모든 타입의 스켈레톤 섹션을 배치 INSERT로 저장
+        ReportSectionType[] types = ReportSectionType.values();
+        List<ReportSection> sections = new ArrayList<>(types.length);
+        for (ReportSectionType type : types) {
+            sections.add(createSkeletonSection(emergencyReport, type));
+        }
+        List<ReportSection> savedSections = reportSectionRepository.saveAllAndFlush(sections);
+
+        log.info("구급일지 섹션 일괄 생성 완료 - 구급일지 ID: {}, 생성: {}개",
+                emergencyReportId, savedSections.size());
+
+        // 5. 응답 DTO 변환
+        List<ReportSectionCreateResponse> responses = new ArrayList<>(savedSections.size());
+        for (ReportSection savedSection : savedSections) {
+            responses.add(reportSectionMapper.toCreateResponse(savedSection));
+        }
+        return responses;
+    }
+
     /**
      * 구급일지 특정 섹션 조회
      *
      * @param emergencyReportId 구급일지 ID
      * @param type              섹션 타입
      * @param paramedicId       구급대원 ID (권한 검증용)
+     * @param sparse            true면 희소 형식 섹션을 템플릿으로 복원하지 않고 저장된 그대로 전달
      * @return 섹션 정보 (JSON 데이터 포함)
      */
     @Override
     @Transactional(readOnly = true)
-    public ReportSectionCreateResponse getReportSection(Long emergencyReportId, ReportSectionType type, Integer paramedicId) {
+    public ReportSectionReadResponse getReportSection(Long emergencyReportId, ReportSectionType type, Integer paramedicId, boolean sparse) {
         log.info("Fetching report section - Emergency Report ID: {}, Type: {}, Paramedic ID: {}",
                 emergencyReportId, type, paramedicId);
 
-        // 1. 구급일지 존재 여부 검증
-        EmergencyReport emergencyReport = reportSectionValidator
-                .validateEmergencyReportExists(emergencyReportId);
+        // 1. 섹션 타입 유효성 검증
+        reportSectionValidator.validateSectionType(type);
 
-        // 2. 권한 검증: 해당 구급일지를 작성한 구급대원인지 확인
-        if (!emergencyReport.getParamedic().getId().equals(paramedicId)) {
+        // 2. 구급일지 + 섹션 원문 조회 (단일 쿼리, 엔티티/JsonNode 변환 없음)
+        ReportSectionReadResult result = reportSectionRepository.findRawSection(emergencyReportId, type)
+                .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_REPORT_NOT_FOUND));
+
+        // 3. 권한 검증: 해당 구급일지를 작성한 구급대원인지 확인
+        if (!result.paramedicId().equals(paramedicId)) {
             log.warn("Unauthorized section access attempt - Emergency Report ID: {}, Paramedic ID: {}, Report Owner: {}",
-                    emergencyReportId, paramedicId, emergencyReport.getParamedic().getId());
+                    emergencyReportId, paramedicId, result.paramedicId());
             throw new CustomException(ErrorCode.ACCESS_DENIED, "본인이 작성한 구급일지의 섹션만 조회할 수 있습니다.");
         }
 
-        // 3. 섹션 타입 유효성 검증
-        reportSectionValidator.validateSectionType(type);
-
-        // 3. 섹션 조회
-        ReportSection section = reportSectionRepository
-                .findByEmergencyReportAndType(emergencyReport, type)
-                .orElseThrow(() -> new CustomException(ErrorCode.REPORT_SECTION_NOT_FOUND));
+        // 4. 섹션 존재 여부 확인
+        if (result.id() == null) {
+            throw new CustomException(ErrorCode.REPORT_SECTION_NOT_FOUND);
+        }
 
         log.info("구급일지 섹션 조회 완료 - 섹션 ID: {}, 구급일지 ID: {}, 타입: {}",
-                section.getId(), emergencyReportId, type);
+                result.id(), emergencyReportId, type);
 
-        // 4. 응답 DTO 변환
-        return reportSectionMapper.toCreateResponse(section);
+        // 5. 응답 DTO 변환 (희소 형식 섹션은 sparse 요청이 아니면 템플릿 전체 구조로 복원)
+        return reportSectionMapper.toReadResponse(result, type, sparse);
     }
 
     /**
      * 구급일지 섹션 수정
+     * 기존 데이터를 읽어 병합하지 않고, null/빈값을 제외한 변경분을 jsonb 연산으로 변환해 UPDATE 한 번으로 반영
      *
      * @param emergencyReportId 구급일지 ID
      * @param type              섹션 타입
      * @param request           수정할 데이터
+     * @param expectedVersion   If-Match로 전달된 기대 버전 (null이면 버전 확인 생략)
      * @param paramedicId       구급대원 ID (권한 검증용)
      * @return 수정된 섹션 정보
      */
     @Override
     @Transactional
-    public ReportSectionCreateResponse updateReportSection(Long emergencyReportId, ReportSectionType type, ReportSectionUpdateRequest request, Integer paramedicId) {
+    public ReportSectionCreateResponse updateReportSection(Long emergencyReportId, ReportSectionType type, ReportSectionUpdateRequest request, Integer expectedVersion, Integer paramedicId) {
         log.info("Updating report section - Emergency Report ID: {}, Type: {}, Paramedic ID: {}",
                 emergencyReportId, type, paramedicId);
 
+        // 1. 섹션 타입 및 데이터 형식 검증
+        reportSectionValidator.validateSectionType(type);
+        validateObjectPatch(request.data());
+
+        // 2. 작성자/버전 조건과 함께 DB에서 병합 (null/빈값 무시, version +1)
+        ReportSectionPatchResult result = reportSectionRepository
+                .applyMergeIgnoringNulls(emergencyReportId, type, request.data(), expectedVersion, paramedicId)
+                .orElseThrow(() -> resolveUpdateFailure(emergencyReportId, type, expectedVersion, paramedicId));
+
+        log.info("구급일지 섹션 수정 완료 - 섹션 ID: {}, 구급일지 ID: {}, 타입: {}, 버전: {}",
+                result.id(), emergencyReportId, type, result.version());
+
+        // 3. 응답 DTO 변환
+        return reportSectionMapper.toCreateResponse(result, emergencyReportId, type);
+    }
+
+    /**
+     * 구급일지 섹션 부분 수정 (JSON Merge Patch / JSON Patch)
+     * - Merge Patch: 변경분을 jsonb 연산으로 변환해 UPDATE 한 번으로 반영 (섹션 조회 없음)
+     * - JSON Patch: test/경로 검증이 필요하므로 섹션을 잠금 조회한 뒤 변경분만 직접 적용
+     * - 두 형식 모두 적용 결과와 같은 Merge Patch를 섹션 변경 이력에 추가
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @param format            패치 문서 형식
+     * @param patch             패치 문서
+     * @param expectedVersion   If-Match로 전달된 기대 버전 (null이면 버전 확인 생략)
+     * @param paramedicId       구급대원 ID (권한 검증용)
+     * @return 수정된 섹션 정보
+     */
+    @Override
+    @Transactional
+    public ReportSectionCreateResponse patchReportSection(Long emergencyReportId, ReportSectionType type, ReportSectionPatchFormat format,
+                                                          JsonNode patch, Integer expectedVersion, Integer paramedicId) {
+        log.info("Patching report section - Emergency Report ID: {}, Type: {}, Format: {}, Expected Version: {}, Paramedic ID: {}",
+                emergencyReportId, type, format, expectedVersion, paramedicId);
+
+        if (format == ReportSectionPatchFormat.MERGE_PATCH) {
+            return mergePatchReportSection(emergencyReportId, type, patch, expectedVersion, paramedicId);
+        }
+
+        // 1~4. 권한/타입 검증 후 섹션 잠금 조회 및 버전 확인
+        ReportSection section = loadSectionForUpdate(emergencyReportId, type, expectedVersion, paramedicId);
+
+        // 5. 변경분 적용 (실패 시 예외 -> 트랜잭션 롤백으로 원본 유지)
+        //    JSON Patch는 문서를 직접 수정하므로 저장된 데이터의 복사본에 적용 (원본은 변경 이력 계산에 사용)
+        //    희소 형식 섹션은 템플릿 경로가 모두 있어야 하므로 저장 당시 스키마 버전의 템플릿으로 복원한 문서에 적용
+        //    (복원 결과는 전달한 노드를 그대로 연결하므로 복원 전에 복사)
+        reportSectionChangeRepository.insertBaselineIfAbsent(section.getId());
+        JsonNode previousData = section.getData();
+        boolean sparse = ReportSectionDocument.isSparse(section.getSchemaVersion());
+        JsonNode currentData = sparse
+                ? ReportSectionDocument.hydrate(type, section.getSchemaVersion(), previousData.deepCopy())
+                : previousData.deepCopy();
+        JsonNode patchedData = jsonPatchUtil.applyJsonPatch(currentData, patch);
+
+        // 6. 섹션 데이터는 항상 JSON 객체여야 함
+        if (patchedData == null || !patchedData.isObject()) {
+            throw new CustomException(ErrorCode.INVALID_JSONB_FORMAT, "패치 결과 섹션 데이터는 JSON 객체여야 합니다.");
+        }
+
+        // 7. 엔티티 업데이트 (희소 형식 섹션은 같은 스키마 버전 기준 희소 형식으로 저장, version도 자동으로 +1)
+        section.updateData(sparse
+                ? ReportSectionDocument.compact(type, section.getSchemaVersion(), (ObjectNode) patchedData)
+                : patchedData);
+        reportSectionChangeRepository.save(
+                ReportSectionChange.of(section, JsonMergePatch.diff(previousData, section.getData())));
+
+        log.info("구급일지 섹션 부분 수정 완료 - 섹션 ID: {}, 구급일지 ID: {}, 타입: {}, 버전: {}",
+                section.getId(), emergencyReportId, type, section.getVersion());
+
+        // 8. 응답 DTO 변환
+        return reportSectionMapper.toCreateResponse(section);
+    }
+
+    /**
+     * 구급일지 섹션의 특정 버전 조회
+     * 최신 버전은 섹션 데이터를 그대로, 이전 버전은 가장 가까운 스냅샷에 이후 변경분을 적용해 복원
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @param version           조회할 버전
+     * @param paramedicId       구급대원 ID (권한 검증용)
+     * @return 해당 버전의 섹션 데이터
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ReportSectionVersionResponse getReportSectionVersion(Long emergencyReportId, ReportSectionType type, Integer version, Integer paramedicId) {
+        log.info("Fetching report section version - Emergency Report ID: {}, Type: {}, Version: {}, Paramedic ID: {}",
+                emergencyReportId, type, version, paramedicId);
+
+        // 1~4. 권한/타입 검증 후 섹션 조회
+        ReportSection section = loadSectionForRead(emergencyReportId, type, paramedicId);
+
+        // 5. 버전 범위 확인
+        if (version > section.getVersion()) {
+            throw new CustomException(ErrorCode.INVALID_REPORT_SECTION_VERSION,
+                    "현재 버전(" + section.getVersion() + ")보다 큰 버전은 조회할 수 없습니다.");
+        }
+
+        // 6. 최신 버전이 아니면 변경 이력으로 복원
+        JsonNode data = version.equals(section.getVersion())
+                ? section.getData()
+                : reconstructVersion(section.getId(), version);
+
+        return reportSectionMapper.toVersionResponse(section, version, data);
+    }
+
+    /**
+     * 구급일지 섹션의 특정 버전 이후 변경분 조회
+     * 클라이언트가 가진 버전 이후의 변경분만 전달해 섹션 전체를 다시 받지 않도록 함
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @param type              섹션 타입
+     * @param sinceVersion      클라이언트가 가진 버전 (이 버전 이후의 변경분을 반환)
+     * @param paramedicId       구급대원 ID (권한 검증용)
+     * @return 버전별 변경분 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ReportSectionChangesResponse getReportSectionChanges(Long emergencyReportId, ReportSectionType type, Integer sinceVersion, Integer paramedicId) {
+        log.info("Fetching report section changes - Emergency Report ID: {}, Type: {}, Since Version: {}, Paramedic ID: {}",
+                emergencyReportId, type, sinceVersion, paramedicId);
+
+        // 1~4. 권한/타입 검증 후 섹션 조회
+        ReportSection section = loadSectionForRead(emergencyReportId, type, paramedicId);
+
+        // 5. 버전 범위 확인 (최신 버전이면 빈 목록)
+        if (sinceVersion > section.getVersion()) {
+            throw new CustomException(ErrorCode.INVALID_REPORT_SECTION_VERSION,
+                    "현재 버전(" + section.getVersion() + ")보다 큰 버전은 조회할 수 없습니다.");
+        }
+        if (sinceVersion.equals(section.getVersion())) {
+            return reportSectionMapper.toChangesResponse(section, sinceVersion, List.of());
+        }
+
+        // 6. 변경 이력 조회 (중간 버전이 비어 있거나 기준 스냅샷만 있는 버전이면 변경분으로 전달할 수 없음)
+        List<ReportSectionChange> changes = reportSectionChangeRepository
+                .findVersionRange(section.getId(), sinceVersion + 1, section.getVersion());
+        if (changes.size() != section.getVersion() - sinceVersion
+                || changes.stream().anyMatch(change -> change.getDelta() == null)) {
+            log.warn("섹션 변경 이력 없음 - 섹션 ID: {}, 기준 버전: {}, 현재 버전: {}, 이력 수: {}",
+                    section.getId(), sinceVersion, section.getVersion(), changes.size());
+            throw new CustomException(ErrorCode.REPORT_SECTION_HISTORY_NOT_FOUND);
+        }
+
+        return reportSectionMapper.toChangesResponse(section, sinceVersion, changes);
+    }
+
+    /**
+     * JSON Merge Patch를 DB에서 직접 적용
+     */
+    private ReportSectionCreateResponse mergePatchReportSection(Long emergencyReportId, ReportSectionType type, JsonNode patch,
+                                                                Integer expectedVersion, Integer paramedicId) {
+        // 1. 섹션 타입 및 패치 형식 검증 (객체가 아닌 Merge Patch는 문서 전체를 교체하므로 허용하지 않음)
+        reportSectionValidator.validateSectionType(type);
+        validateObjectPatch(patch);
+
+        // 2. 작성자/버전 조건과 함께 DB에서 병합 (null은 필드 삭제, version +1)
+        ReportSectionPatchResult result = reportSectionRepository
+                .applyMergePatch(emergencyReportId, type, patch, expectedVersion, paramedicId)
+                .orElseThrow(() -> resolveUpdateFailure(emergencyReportId, type, expectedVersion, paramedicId));
+
+        log.info("구급일지 섹션 부분 수정 완료 - 섹션 ID: {}, 구급일지 ID: {}, 타입: {}, 버전: {}",
+                result.id(), emergencyReportId, type, result.version());
+
+        // 3. 응답 DTO 변환
+        return reportSectionMapper.toCreateResponse(result, emergencyReportId, type);
+    }
+
+    private void validateObjectPatch(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new CustomException(ErrorCode.INVALID_JSONB_FORMAT, "패치 결과 섹션 데이터는 JSON 객체여야 합니다.");
+        }
+    }
+
+    /**
+     * 조건부 UPDATE가 반영되지 않은 원인 판별
+     * 정상 경로에서는 실행되지 않으며, 실패 시에만 기존 검증 순서대로 조회해 적절한 예외를 반환
+     */
+    private CustomException resolveUpdateFailure(Long emergencyReportId, ReportSectionType type, Integer expectedVersion, Integer paramedicId) {
+        try {
+            ReportSection section = loadSectionForUpdate(emergencyReportId, type, expectedVersion, paramedicId);
+            // 조회 시점에는 조건을 만족 - UPDATE와 조회 사이에 다른 요청이 버전을 올린 경우
+            log.warn("섹션 버전 경합 - 구급일지 ID: {}, 타입: {}, 기대 버전: {}, 현재 버전: {}",
+                    emergencyReportId, type, expectedVersion, section.getVersion());
+            return new CustomException(ErrorCode.REPORT_SECTION_VERSION_MISMATCH);
+        } catch (CustomException e) {
+            return e;
+        }
+    }
+
+    /**
+     * 수정 대상 섹션 조회
+     * - 구급일지 존재 및 작성자 권한, 섹션 타입 검증
+     * - 행 잠금으로 조회 후 If-Match 기대 버전과 비교 (불일치 시 412)
+     */
+    private ReportSection loadSectionForUpdate(Long emergencyReportId, ReportSectionType type, Integer expectedVersion, Integer paramedicId) {
         // 1. 구급일지 존재 여부 검증
         EmergencyReport emergencyReport = reportSectionValidator
                 .validateEmergencyReportExists(emergencyReportId);
@@ -157,24 +403,93 @@ public class ReportSectionServiceImpl implements ReportSectionService {
         // 3. 섹션 타입 유효성 검증
         reportSectionValidator.validateSectionType(type);
 
-        // 3. 섹션 조회
+        // 4. 섹션 잠금 조회 및 버전 확인
         ReportSection section = reportSectionRepository
-                .findByEmergencyReportAndType(emergencyReport, type)
+                .findForUpdateByEmergencyReportAndType(emergencyReport, type)
                 .orElseThrow(() -> new CustomException(ErrorCode.REPORT_SECTION_NOT_FOUND));
 
-        // 4. 기존 데이터와 새로운 데이터 병합 (null/빈값 무시)
-        JsonNode mergedData = jsonMergeUtil.mergeIgnoringNulls(section.getData(), request.data());
+        if (expectedVersion != null && !expectedVersion.equals(section.getVersion())) {
+            log.warn("섹션 버전 불일치 - 구급일지 ID: {}, 타입: {}, 기대 버전: {}, 현재 버전: {}",
+                    emergencyReportId, type, expectedVersion, section.getVersion());
+            throw new CustomException(ErrorCode.REPORT_SECTION_VERSION_MISMATCH);
+        }
+        return section;
+    }
+
+    /**
+     * 조회 대상 섹션 조회 (잠금 없음)
+     * - 구급일지 존재 및 작성자 권한, 섹션 타입 검증
+     */
+    private ReportSection loadSectionForRead(Long emergencyReportId, ReportSectionType type, Integer paramedicId) {
+        // 1. 구급일지 존재 여부 검증
+        EmergencyReport emergencyReport = reportSectionValidator
+                .validateEmergencyReportExists(emergencyReportId);
+
+        // 2. 권한 검증: 해당 구급일지를 작성한 구급대원인지 확인
+        if (!emergencyReport.getParamedic().getId().equals(paramedicId)) {
+            log.warn("Unauthorized section history access attempt - Emergency Report ID: {}, Paramedic ID: {}, Report Owner: {}",
+                    emergencyReportId, paramedicId, emergencyReport.getParamedic().getId());
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "본인이 작성한 구급일지의 섹션만 조회할 수 있습니다.");
+        }
 
-        // 5. 엔티티 업데이트 (version도 자동으로 +1)
-        section.updateData(mergedData);
+        // 3. 섹션 타입 유효성 검증
+        reportSectionValidator.validateSectionType(type);
 
-        // 6. 저장 (영속성 컨텍스트에 의해 자동으로 DB 반영)
-        ReportSection updatedSection = reportSectionRepository.save(section);
+        // 4. 섹션 조회
+        return reportSectionRepository.findByEmergencyReportAndType(emergencyReport, type)
+                .orElseThrow(() -> new CustomException(ErrorCode.REPORT_SECTION_NOT_FOUND));
+    }
 
-        log.info("구급일지 섹션 수정 완료 - 섹션 ID: {}, 구급일지 ID: {}, 타입: {}, 버전: {}",
-                updatedSection.getId(), emergencyReportId, type, updatedSection.getVersion());
+    /**
+     * 변경 이력으로 이전 버전 데이터 복원 (저장 형식)
+     * 해당 버전 이하의 가장 가까운 스냅샷에서 시작해 이후 변경분을 버전 순서대로 적용
+     */
+    private JsonNode reconstructVersion(Long reportSectionId, Integer version) {
+        ReportSectionChange base = reportSectionChangeRepository.findLatestSnapshot(reportSectionId, version)
+                .orElseThrow(() -> new CustomException(ErrorCode.REPORT_SECTION_HISTORY_NOT_FOUND));
 
-        // 7. 응답 DTO 변환
-        return reportSectionMapper.toCreateResponse(updatedSection);
+        JsonNode data = base.getSnapshot().deepCopy();
+        if (base.getVersion().equals(version)) {
+            return data;
+        }
+
+        List<ReportSectionChange> changes = reportSectionChangeRepository
+                .findVersionRange(reportSectionId, base.getVersion() + 1, version);
+        if (changes.size() != version - base.getVersion()) {
+            log.warn("섹션 변경 이력 누락 - 섹션 ID: {}, 스냅샷 버전: {}, 요청 버전: {}, 이력 수: {}",
+                    reportSectionId, base.getVersion(), version, changes.size());
+            throw new CustomException(ErrorCode.REPORT_SECTION_HISTORY_NOT_FOUND);
+        }
+        for (ReportSectionChange change : changes) {
+            data = JsonMergePatch.apply(data, change.getDelta());
+        }
+        return data;
+    }
+
+    /**
+     * 타입에 맞는 스켈레톤 섹션 엔티티 생성 (저장 전)
+     * 템플릿과 다른 값만 남긴 희소 형식으로 저장 (DISPATCH는 신고/출동 시각만, 나머지 타입은 빈 객체)
+     *
+     * @param emergencyReport 구급일지
+     * @param type            섹션 타입
+     * @return 버전 1의 스켈레톤 섹션
+     */
+    private ReportSection createSkeletonSection(EmergencyReport emergencyReport, ReportSectionType type) {
+        JsonNode skeletonData;
+        if (type == ReportSectionType.DISPATCH) {
+            // DISPATCH 타입은 실제 Dispatch 데이터로 초기값 설정
+            skeletonData = ReportSectionTemplate.getTemplateForDispatch(emergencyReport.getDispatch());
+        } else {
+            // 다른 타입은 기본 템플릿 사용 (모든 값 null)
+            skeletonData = ReportSectionTemplate.getTemplate(type);
+        }
+
+        return ReportSection.builder()
+                .emergencyReport(emergencyReport)
+                .type(type)
+                .data(ReportSectionDocument.compact(type, (ObjectNode) skeletonData))
+                .version(1)
+                .schemaVersion(ReportSectionTemplate.getSchemaVersion(type))
+                .build();
     }
 }
@@ -0,0 +1,114 @@
+package com.ssairen.domain.emergency.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * RFC 7396 JSON Merge Patch 계산/적용 (섹션 변경 이력용)
+ * - 객체는 키 단위로 재귀, 배열과 값은 통째로 교체, null은 필드 삭제
+ * - 저장 형식(희소 형식)에는 null 값이 없으므로 변경분을 손실 없이 표현
+ */
+public final class JsonMergePatch {
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * 두 문서의 차이를 Merge Patch로 계산 (apply(before, 결과) == after)
+     * 값 노드는 복사하지 않고 after의 노드를 그대로 연결
+     *
+     * @param before 변경 전 문서 (JSON 객체)
+     * @param after  변경 후 문서 (JSON 객체)
+     * @return 변경분 (변경이 없으면 빈 객체)
+     */
+    public static ObjectNode diff(JsonNode before, JsonNode after) {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode();
+
+        Iterator<String> beforeKeys = before.fieldNames();
+        while (beforeKeys.hasNext()) {
+            String key = beforeKeys.next();
+            if (!after.has(key)) {
+                patch.putNull(key);
+            }
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> fields = after.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode previous = before.get(entry.getKey());
+            JsonNode current = entry.getValue();
+            if (current.equals(previous)) {
+                continue;
+            }
+            if (previous != null && previous.isObject() && current.isObject()) {
+                patch.set(entry.getKey(), diff(previous, current));
+            } else {
+                patch.set(entry.getKey(), current);
+            }
+        }
+        return patch;
+    }
+
+    /**
+     * Merge Patch 적용 (대상이 객체이면 직접 수정, 대상이 객체가 아니면 빈 객체에 적용)
+     *
+     * @param target 대상 문서 (호출 측 소유, null 가능)
+     * @param patch  변경분
+     * @return 적용 결과
+     */
+    public static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target instanceof ObjectNode targetObject
+                ? targetObject
+                : JsonNodeFactory.instance.objectNode();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode value = entry.getValue();
+            if (value.isNull()) {
+                result.remove(entry.getKey());
+            } else if (value.isObject()) {
+                result.set(entry.getKey(), apply(result.get(entry.getKey()), value));
+            } else {
+                // 패치 문서와 결과가 노드를 공유하지 않도록 배열/값은 복사
+                result.set(entry.getKey(), value.deepCopy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 병합 입력 중 결과에 반영된 부분만 추출
+     * 값을 추가/교체만 하는 병합(JsonMergeUtil.mergeInPlace)은 병합 전 문서를 복사하지 않아도
+     * 입력과 결과를 비교해 변경분을 구할 수 있음 (결과와 다른 입력 값은 기존 값 우선으로 버려진 값)
+     *
+     * @param update 병합 입력
+     * @param merged 병합 결과
+     * @return 결과에 반영된 입력 (Merge Patch로 사용 가능)
+     */
+    public static ObjectNode retained(JsonNode update, JsonNode merged) {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = update.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode value = entry.getValue();
+            JsonNode mergedValue = merged != null ? merged.get(entry.getKey()) : null;
+            if (value.isObject() && mergedValue != null && mergedValue.isObject()) {
+                ObjectNode nested = retained(value, mergedValue);
+                if (!nested.isEmpty()) {
+                    patch.set(entry.getKey(), nested);
+                }
+            } else if (!value.isNull() && value.equals(mergedValue)) {
+                patch.set(entry.getKey(), value);
+            }
+        }
+        return patch;
+    }
+}
@@ -6,17 +6,30 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Iterator;
 import java.util.Map;
 
 /**
  * JSON 데이터 병합 유틸리티
  * 기존 JSON 데이터와 새로운 JSON 데이터를 깊은 병합(deep merge)하여 반환
+ * - merge / mergePreservingExisting / mergeIgnoringNulls: 기존 데이터를 복사한 뒤 병합 (원본 불변)
+ * - mergeInPlace: 호출자가 소유한 트리를 직접 수정하고 변경 여부를 반환 (복사 없음)
  */
 @Slf4j
 @Component
 public class JsonMergeUtil {
 
+    /**
+     * 병합 모드
+     */
+    public enum MergeMode {
+        /** 새 값으로 덮어씀 */
+        OVERWRITE,
+        /** 기존 값 우선 (기존 값이 비어있을 때만 새 값으로 채움) */
+        PRESERVE_EXISTING,
+        /** 새 값이 null/빈 문자열이면 무시 */
+        IGNORE_NULLS
+    }
+
     private final ObjectMapper objectMapper;
 
     public JsonMergeUtil(ObjectMapper objectMapper) {
@@ -31,7 +44,7 @@ public class JsonMergeUtil {
      * @return 병합된 JsonNode
      */
     public JsonNode merge(JsonNode existingData, JsonNode updateData) {
-        return merge(existingData, updateData, false);
+        return merge(existingData, updateData, MergeMode.OVERWRITE);
     }
 
     /**
@@ -44,7 +57,7 @@ public class JsonMergeUtil {
      * @return 병합된 JsonNode
      */
     public JsonNode mergePreservingExisting(JsonNode existingData, JsonNode updateData) {
-        return merge(existingData, updateData, true);
+        return merge(existingData, updateData, MergeMode.PRESERVE_EXISTING);
     }
 
     /**
@@ -57,29 +70,36 @@ public class JsonMergeUtil {
      * @return 병합된 JsonNode
      */
     public JsonNode mergeIgnoringNulls(JsonNode existingData, JsonNode updateData) {
-        if (existingData == null || existingData.isNull()) {
-            return updateData;
-        }
-        if (updateData == null || updateData.isNull()) {
-            return existingData;
-        }
-
-        // 복사본 생성
-        JsonNode mergedNode = existingData.deepCopy();
+        return merge(existingData, updateData, MergeMode.IGNORE_NULLS);
+    }
 
-        // 재귀적으로 병합
-        return mergeRecursiveIgnoringNulls(mergedNode, updateData);
+    /**
+     * 호출자가 소유한 객체 트리에 직접 병합 (복사 없음)
+     * - 값이 같은 필드는 다시 설정하지 않고, 하위 객체는 실제 변경이 있을 때만 변경으로 집계
+     * - 새로 추가되거나 교체되는 값은 updateData의 노드를 그대로 연결하므로
+     *   병합 이후 updateData를 수정하지 않아야 함
+     *
+     * @param target 병합 대상 (직접 수정됨)
+     * @param updateData 업데이트할 데이터
+     * @param mode 병합 모드
+     * @return target이 변경되었으면 true
+     */
+    public boolean mergeInPlace(ObjectNode target, JsonNode updateData, MergeMode mode) {
+        if (updateData == null || !updateData.isObject() || target == updateData) {
+            return false;
+        }
+        return mergeObjectInPlace(target, (ObjectNode) updateData, mode);
     }
 
     /**
-     * 두 개의 JsonNode를 깊은 병합(deep merge)하여 반환 (통합 메서드)
+     * 복사본을 만들어 병합 (통합 메서드)
      *
      * @param existingData 기존 데이터
      * @param updateData 업데이트할 데이터
-     * @param preserveExisting true인 경우 기존 값 우선, false인 경우 새 값으로 덮어씀
+     * @param mode 병합 모드
      * @return 병합된 JsonNode
      */
-    private JsonNode merge(JsonNode existingData, JsonNode updateData, boolean preserveExisting) {
+    private JsonNode merge(JsonNode existingData, JsonNode updateData, MergeMode mode) {
         if (existingData == null || existingData.isNull()) {
             return updateData;
         }
@@ -87,151 +107,96 @@ public class JsonMergeUtil {
             return existingData;
         }
 
-        // 복사본 생성
-        JsonNode mergedNode = existingData.deepCopy();
-
-        // 재귀적으로 병합
-        return mergeRecursive(mergedNode, updateData, preserveExisting);
-    }
-
-
-    /**
-     * JsonNode 값이 비어있는지 확인
-     * - null
-     * - 빈 문자열 ("")
-     *
-     * @param node 확인할 노드
-     * @return 비어있으면 true
-     */
-    private boolean isEmpty(JsonNode node) {
-        if (node == null || node.isNull()) {
-            return true;
+        // 객체가 아닌 경우: 모드에 따라 한쪽 값을 선택
+        if (!existingData.isObject() || !updateData.isObject()) {
+            return switch (mode) {
+                case OVERWRITE -> updateData;
+                case PRESERVE_EXISTING -> existingData.deepCopy();
+                case IGNORE_NULLS -> isEmpty(updateData) ? existingData.deepCopy() : updateData;
+            };
         }
-        if (node.isTextual()) {
-            String text = node.asText();
-            return text == null || text.trim().isEmpty();
-        }
-        return false;
+
+        // 복사본에 병합
+        ObjectNode mergedNode = existingData.deepCopy();
+        mergeObjectInPlace(mergedNode, (ObjectNode) updateData, mode);
+        return mergedNode;
     }
 
     /**
-     * null/빈값을 무시하며 재귀적으로 JSON을 병합
+     * 재귀적으로 객체를 병합
      *
-     * @param mainNode 기존 노드
+     * @param mainNode 기존 노드 (직접 수정됨)
      * @param updateNode 업데이트할 노드
-     * @return 병합된 노드
+     * @param mode 병합 모드
+     * @return mainNode가 변경되었으면 true
      */
-    private JsonNode mergeRecursiveIgnoringNulls(JsonNode mainNode, JsonNode updateNode) {
-        if (updateNode == null || updateNode.isNull()) {
-            return mainNode;
-        }
+    private boolean mergeObjectInPlace(ObjectNode mainNode, ObjectNode updateNode, MergeMode mode) {
+        boolean changed = false;
 
-        // updateNode가 객체인 경우
-        if (updateNode.isObject() && mainNode.isObject()) {
-            ObjectNode mainObjectNode = (ObjectNode) mainNode;
-            ObjectNode updateObjectNode = (ObjectNode) updateNode;
+        for (Map.Entry<String, JsonNode> entry : updateNode.properties()) {
+            String fieldName = entry.getKey();
+            JsonNode updateValue = entry.getValue();
 
-            Iterator<Map.Entry<String, JsonNode>> fields = updateObjectNode.fields();
-            while (fields.hasNext()) {
-                Map.Entry<String, JsonNode> entry = fields.next();
-                String fieldName = entry.getKey();
-                JsonNode updateValue = entry.getValue();
+            // null/빈값 무시 모드: 새 값이 비어있으면 기존 값 유지
+            if (mode == MergeMode.IGNORE_NULLS && isEmpty(updateValue)) {
+                continue;
+            }
 
-                // 새 값이 null이거나 빈 값이면 무시 (기존 값 유지)
-                if (isEmpty(updateValue)) {
-                    continue;
-                }
+            JsonNode existingValue = mainNode.get(fieldName);
+            if (existingValue == null) {
+                // 기존에 없던 필드는 새 값 추가
+                mainNode.set(fieldName, updateValue);
+                changed = true;
+                continue;
+            }
+            if (existingValue == updateValue) {
+                // 같은 하위 트리
+                continue;
+            }
 
-                if (mainObjectNode.has(fieldName)) {
-                    JsonNode existingValue = mainObjectNode.get(fieldName);
-
-                    // 둘 다 객체인 경우 재귀적으로 병합
-                    if (existingValue.isObject() && updateValue.isObject()) {
-                        JsonNode mergedChild = mergeRecursiveIgnoringNulls(existingValue, updateValue);
-                        mainObjectNode.set(fieldName, mergedChild);
-                    } else {
-                        // 새 값이 유효하면 새 값으로 대체
-                        mainObjectNode.set(fieldName, updateValue);
-                    }
-                } else {
-                    // 기존에 없던 필드는 새 값 추가 (null/빈값이 아닌 경우만)
-                    mainObjectNode.set(fieldName, updateValue);
-                }
+            if (mode == MergeMode.PRESERVE_EXISTING && isEmpty(existingValue)) {
+                // 기존 값 우선 모드: 기존 값이 비어있으면 새 값으로 대체
+                changed |= replaceIfDifferent(mainNode, fieldName, existingValue, updateValue);
+            } else if (existingValue.isObject() && updateValue.isObject()) {
+                // 둘 다 객체인 경우 재귀적으로 병합 (변경이 없으면 하위 트리는 그대로)
+                changed |= mergeObjectInPlace((ObjectNode) existingValue, (ObjectNode) updateValue, mode);
+            } else if (mode != MergeMode.PRESERVE_EXISTING) {
+                // 그 외의 경우 새로운 값으로 대체 (기존 값 우선 모드는 기존 값 유지)
+                changed |= replaceIfDifferent(mainNode, fieldName, existingValue, updateValue);
             }
-            return mainObjectNode;
         }
+        return changed;
+    }
 
-        // 객체가 아닌 경우: 새 값이 유효하면 대체, 아니면 기존 값 유지
-        if (isEmpty(updateNode)) {
-            return mainNode;
-        } else {
-            return updateNode;
+    private boolean replaceIfDifferent(ObjectNode node, String fieldName, JsonNode existingValue, JsonNode updateValue) {
+        if (existingValue.equals(updateValue)) {
+            return false;
         }
+        node.set(fieldName, updateValue);
+        return true;
     }
 
     /**
-     * 재귀적으로 JSON을 병합 (통합 메서드)
+     * JsonNode 값이 비어있는지 확인
+     * - null
+     * - 빈 문자열 ("") 또는 공백만 있는 문자열 (String.trim과 같은 기준, 문자열 생성 없이 검사)
      *
-     * @param mainNode 기존 노드
-     * @param updateNode 업데이트할 노드
-     * @param preserveExisting true인 경우 기존 값 우선, false인 경우 새 값으로 덮어씀
-     * @return 병합된 노드
+     * @param node 확인할 노드
+     * @return 비어있으면 true
      */
-    private JsonNode mergeRecursive(JsonNode mainNode, JsonNode updateNode, boolean preserveExisting) {
-        if (updateNode == null || updateNode.isNull()) {
-            return mainNode;
+    private boolean isEmpty(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return true;
         }
-
-        // updateNode가 객체인 경우
-        if (updateNode.isObject() && mainNode.isObject()) {
-            ObjectNode mainObjectNode = (ObjectNode) mainNode;
-            ObjectNode updateObjectNode = (ObjectNode) updateNode;
-
-            Iterator<Map.Entry<String, JsonNode>> fields = updateObjectNode.fields();
-            while (fields.hasNext()) {
-                Map.Entry<String, JsonNode> entry = fields.next();
-                String fieldName = entry.getKey();
-                JsonNode updateValue = entry.getValue();
-
-                if (mainObjectNode.has(fieldName)) {
-                    JsonNode existingValue = mainObjectNode.get(fieldName);
-
-                    if (preserveExisting) {
-                        // 기존 값 우선 모드: 기존 값이 비어있는지 확인
-                        if (isEmpty(existingValue)) {
-                            // 기존 값이 비어있으면 새 값으로 대체
-                            mainObjectNode.set(fieldName, updateValue);
-                        } else if (existingValue.isObject() && updateValue.isObject()) {
-                            // 둘 다 객체이고 기존 값이 비어있지 않으면 재귀적으로 병합
-                            JsonNode mergedChild = mergeRecursive(existingValue, updateValue, true);
-                            mainObjectNode.set(fieldName, mergedChild);
-                        }
-                        // 그 외의 경우 기존 값 유지 (아무것도 하지 않음)
-                    } else {
-                        // 덮어쓰기 모드: 둘 다 객체인 경우 재귀적으로 병합
-                        if (existingValue.isObject() && updateValue.isObject()) {
-                            JsonNode mergedChild = mergeRecursive(existingValue, updateValue, false);
-                            mainObjectNode.set(fieldName, mergedChild);
-                        } else {
-                            // 그 외의 경우 새로운 값으로 대체
-                            mainObjectNode.set(fieldName, updateValue);
-                        }
-                    }
-                } else {
-                    // 기존에 없던 필드는 새 값 추가
-                    mainObjectNode.set(fieldName, updateValue);
+        if (node.isTextual()) {
+            String text = node.textValue();
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) > ' ') {
+                    return false;
                 }
             }
-            return mainObjectNode;
-        }
-
-        // 객체가 아닌 경우
-        if (preserveExisting) {
-            // 기존 값 우선 모드: 기존 값 유지
-            return mainNode;
-        } else {
-            // 덮어쓰기 모드: 새로운 값으로 대체
-            return updateNode;
+            return true;
         }
+        return false;
     }
 }
@@ -0,0 +1,271 @@
+package com.ssairen.domain.emergency.util;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * JSON 패치 적용 유틸리티
+ * - RFC 7396 JSON Merge Patch: 변경할 필드만 담은 객체, null은 필드 삭제
+ * - RFC 6902 JSON Patch: add/remove/replace/move/copy/test 연산 목록
+ * 대상 문서를 복사하지 않고 그대로 수정하므로, 호출 측은 실패 시 트랜잭션 롤백으로 원본을 보호해야 함
+ */
+@Component
+public class JsonPatchUtil {
+
+    private static final String APPEND_INDEX = "-";
+
+    /**
+     * 숫자는 표현 방식(1 / 1.0)과 무관하게 값이 같으면 동일하게 비교 (RFC 6902 test 연산)
+     */
+    private static final Comparator<JsonNode> NUMERIC_AWARE_COMPARATOR = (a, b) -> {
+        if (a.equals(b)) {
+            return 0;
+        }
+        if (a.isNumber() && b.isNumber()) {
+            return a.decimalValue().compareTo(b.decimalValue());
+        }
+        return 1;
+    };
+
+    /**
+     * JSON Merge Patch 적용 (RFC 7396)
+     *
+     * @param target 대상 문서 (객체인 경우 직접 수정됨)
+     * @param patch  Merge Patch 문서
+     * @return 패치가 적용된 문서
+     */
+    public JsonNode applyMergePatch(JsonNode target, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            return patch;
+        }
+
+        ObjectNode targetObject = target != null && target.isObject()
+                ? (ObjectNode) target
+                : JsonNodeFactory.instance.objectNode();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            String fieldName = entry.getKey();
+            JsonNode patchValue = entry.getValue();
+
+            if (patchValue.isNull()) {
+                targetObject.remove(fieldName);
+            } else {
+                targetObject.set(fieldName, applyMergePatch(targetObject.get(fieldName), patchValue));
+            }
+        }
+        return targetObject;
+    }
+
+    /**
+     * JSON Patch 적용 (RFC 6902)
+     * 연산은 순서대로 적용되며, 하나라도 실패하면 예외를 던짐
+     *
+     * @param target     대상 문서 (직접 수정됨)
+     * @param operations JSON Patch 연산 배열
+     * @return 패치가 적용된 문서
+     * @throws CustomException 연산 형식이 잘못되었거나(INVALID_JSON_PATCH) test 연산이 실패한 경우(JSON_PATCH_TEST_FAILED)
+     */
+    public JsonNode applyJsonPatch(JsonNode target, JsonNode operations) {
+        if (operations == null || !operations.isArray()) {
+            throw new CustomException(ErrorCode.INVALID_JSON_PATCH, "JSON Patch 문서는 연산 배열이어야 합니다.");
+        }
+
+        JsonNode document = target;
+        for (JsonNode operation : operations) {
+            document = applyOperation(document, operation);
+        }
+        return document;
+    }
+
+    private JsonNode applyOperation(JsonNode document, JsonNode operation) {
+        if (!operation.isObject()) {
+            throw new CustomException(ErrorCode.INVALID_JSON_PATCH, "JSON Patch 연산은 객체여야 합니다.");
+        }
+
+        String op = requiredText(operation, "op");
+        JsonPointer path = pointer(requiredText(operation, "path"));
+
+        switch (op) {
+            case "add":
+                return add(document, path, requiredValue(operation));
+            case "remove":
+                remove(document, path);
+                return document;
+            case "replace":
+                return replace(document, path, requiredValue(operation));
+            case "move": {
+                JsonPointer from = pointer(requiredText(operation, "from"));
+                if (from.equals(path)) {
+                    return document;
+                }
+                if (path.toString().startsWith(from + "/")) {
+                    throw new CustomException(ErrorCode.INVALID_JSON_PATCH,
+                            "값을 자기 자신의 하위 경로로 이동할 수 없습니다: " + from);
+                }
+                JsonNode value = remove(document, from);
+                return add(document, path, value);
+            }
+            case "copy": {
+                JsonPointer from = pointer(requiredText(operation, "from"));
+                return add(document, path, valueAt(document, from).deepCopy());
+            }
+            case "test": {
+                JsonNode expected = requiredValue(operation);
+                if (!valueAt(document, path).equals(NUMERIC_AWARE_COMPARATOR, expected)) {
+                    throw new CustomException(ErrorCode.JSON_PATCH_TEST_FAILED,
+                            "test 연산 실패 - 경로: " + path);
+                }
+                return document;
+            }
+            default:
+                throw new CustomException(ErrorCode.INVALID_JSON_PATCH, "지원하지 않는 JSON Patch 연산입니다: " + op);
+        }
+    }
+
+    private JsonNode add(JsonNode document, JsonPointer path, JsonNode value) {
+        if (path.matches()) {
+            return value;
+        }
+
+        JsonNode parent = parentOf(document, path);
+        String key = path.last().getMatchingProperty();
+
+        if (parent.isObject()) {
+            ((ObjectNode) parent).set(key, value);
+        } else {
+            ArrayNode array = (ArrayNode) parent;
+            if (APPEND_INDEX.equals(key)) {
+                array.add(value);
+            } else {
+                array.insert(arrayIndex(key, array.size(), path), value);
+            }
+        }
+        return document;
+    }
+
+    private JsonNode remove(JsonNode document, JsonPointer path) {
+        if (path.matches()) {
+            throw new CustomException(ErrorCode.INVALID_JSON_PATCH, "문서 전체는 삭제할 수 없습니다.");
+        }
+
+        JsonNode parent = parentOf(document, path);
+        String key = path.last().getMatchingProperty();
+
+        if (parent.isObject()) {
+            if (!parent.has(key)) {
+                throw pathNotFound(path);
+            }
+            return ((ObjectNode) parent).remove(key);
+        }
+        ArrayNode array = (ArrayNode) parent;
+        return array.remove(arrayIndex(key, array.size() - 1, path));
+    }
+
+    private JsonNode replace(JsonNode document, JsonPointer path, JsonNode value) {
+        if (path.matches()) {
+            return value;
+        }
+
+        JsonNode parent = parentOf(document, path);
+        String key = path.last().getMatchingProperty();
+
+        if (parent.isObject()) {
+            if (!parent.has(key)) {
+                throw pathNotFound(path);
+            }
+            ((ObjectNode) parent).set(key, value);
+        } else {
+            ArrayNode array = (ArrayNode) parent;
+            array.set(arrayIndex(key, array.size() - 1, path), value);
+        }
+        return document;
+    }
+
+    private JsonNode valueAt(JsonNode document, JsonPointer path) {
+        JsonNode value = document.at(path);
+        if (value.isMissingNode()) {
+            throw pathNotFound(path);
+        }
+        return value;
+    }
+
+    /**
+     * 경로의 부모 컨테이너(객체 또는 배열) 조회
+     */
+    private JsonNode parentOf(JsonNode document, JsonPointer path) {
+        JsonNode parent = document.at(path.head());
+        if (!parent.isObject() && !parent.isArray()) {
+            throw pathNotFound(path);
+        }
+        return parent;
+    }
+
+    /**
+     * 배열 인덱스 파싱 - 0 또는 앞자리 0이 없는 양의 정수만 허용 (RFC 6901)
+     *
+     * @param token    경로의 마지막 토큰
+     * @param maxIndex 허용되는 최대 인덱스
+     * @param path     오류 메시지용 전체 경로
+     */
+    private int arrayIndex(String token, int maxIndex, JsonPointer path) {
+        if (token.isEmpty() || (token.length() > 1 && token.charAt(0) == '0')) {
+            throw pathNotFound(path);
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                throw pathNotFound(path);
+            }
+        }
+
+        int index;
+        try {
+            index = Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw pathNotFound(path);
+        }
+        if (index > maxIndex) {
+            throw pathNotFound(path);
+        }
+        return index;
+    }
+
+    private JsonPointer pointer(String expression) {
+        try {
+            return JsonPointer.compile(expression);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_JSON_PATCH, "유효하지 않은 JSON Pointer입니다: " + expression, e);
+        }
+    }
+
+    private String requiredText(JsonNode operation, String field) {
+        JsonNode value = operation.get(field);
+        if (value == null || !value.isTextual()) {
+            throw new CustomException(ErrorCode.INVALID_JSON_PATCH, "JSON Patch 연산에 '" + field + "' 문자열이 필요합니다.");
+        }
+        return value.asText();
+    }
+
+    private JsonNode requiredValue(JsonNode operation) {
+        JsonNode value = operation.get("value");
+        if (value == null) {
+            throw new CustomException(ErrorCode.INVALID_JSON_PATCH, "JSON Patch 연산에 'value'가 필요합니다.");
+        }
+        return value;
+    }
+
+    private CustomException pathNotFound(JsonPointer path) {
+        return new CustomException(ErrorCode.INVALID_JSON_PATCH, "경로를 찾을 수 없습니다: " + path);
+    }
+}
@@ -0,0 +1,141 @@
+package com.ssairen.domain.emergency.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 구급일지 섹션 희소 저장 형식 변환
+ * - 저장: null 값, 템플릿과 같은 값, 비게 된 객체를 제거하고 실제로 입력된 값만 보관 (report_sections.schema_version과 함께)
+ * - 조회: 템플릿 복사본 위에 저장된 값을 덮어써 전체 구조로 복원 (배열은 통째로 교체)
+ * - 저장된 행의 변환은 행의 schema_version에 해당하는 템플릿 기준 (템플릿 버전이 올라도 기존 행은 저장 당시 구조 유지)
+ * - schema_version이 null인 행은 템플릿 전체가 저장된 기존 행이므로 변환 없이 그대로 사용
+ */
+public final class ReportSectionDocument {
+
+    private static final String SPARSE_REPRESENTATION = "s";
+    private static final String HYDRATED_REPRESENTATION_PREFIX = "t";
+
+    private ReportSectionDocument() {
+    }
+
+    /**
+     * 섹션 조회 응답의 표현 식별자 (ETag 구분용)
+     * 같은 버전이라도 희소 형식 응답과 템플릿으로 복원한 응답은 본문이 다르므로 표현마다 다른 ETag를 만들 때 사용
+     *
+     * @param sparse 희소 형식 응답 여부
+     * @return 희소 형식이면 "s", 복원 응답이면 "t" + 템플릿 리비전 (예: "t8")
+     */
+    public static String representation(boolean sparse) {
+        return sparse ? SPARSE_REPRESENTATION : HYDRATED_REPRESENTATION_PREFIX + ReportSectionTemplate.getTemplateRevision();
+    }
+
+    /**
+     * 희소 형식으로 저장된 섹션인지 여부
+     *
+     * @param schemaVersion 섹션 행의 스키마 버전
+     * @return 스키마 버전이 있으면 true (null이면 템플릿 전체가 저장된 기존 행)
+     */
+    public static boolean isSparse(Integer schemaVersion) {
+        return schemaVersion != null;
+    }
+
+    /**
+     * 섹션 데이터를 현재 템플릿 기준 희소 형식으로 변환 (전달된 객체를 직접 수정)
+     * 새로 만드는 섹션용 - 저장된 행은 행의 스키마 버전을 받는 compact(type, schemaVersion, data) 사용
+     *
+     * @param type 섹션 타입
+     * @param data 섹션 전체 데이터 (예: {patientInfo: {...}})
+     * @return 같은 객체 (템플릿과 다른 값만 남음)
+     */
+    public static ObjectNode compact(ReportSectionType type, ObjectNode data) {
+        return compact(type, ReportSectionTemplate.getSchemaVersion(type), data);
+    }
+
+    /**
+     * 섹션 데이터를 지정한 스키마 버전 템플릿 기준 희소 형식으로 변환 (전달된 객체를 직접 수정)
+     *
+     * @param type          섹션 타입
+     * @param schemaVersion 섹션 행의 스키마 버전
+     * @param data          섹션 전체 데이터 (예: {patientInfo: {...}})
+     * @return 같은 객체 (템플릿과 다른 값만 남음)
+     */
+    public static ObjectNode compact(ReportSectionType type, int schemaVersion, ObjectNode data) {
+        compactObject(data, ReportSectionTemplate.getReadOnlyTemplate(type, schemaVersion));
+        return data;
+    }
+
+    /**
+     * 최상위 필드 하나의 값을 지정한 스키마 버전 템플릿 기준 희소 형식으로 변환 (전달된 객체를 직접 수정)
+     * AI 응답처럼 내부 섹션 단위로 들어오는 데이터를 저장 전에 정리하는 용도
+     *
+     * @param type          섹션 타입
+     * @param schemaVersion 병합 대상 섹션 행의 스키마 버전
+     * @param fieldName     최상위 필드명 (예: patientInfo)
+     * @param value         필드 값
+     * @return 같은 객체 (템플릿과 다른 값만 남음)
+     */
+    public static ObjectNode compactField(ReportSectionType type, int schemaVersion, String fieldName, ObjectNode value) {
+        compactObject(value, ReportSectionTemplate.getReadOnlyTemplate(type, schemaVersion).get(fieldName));
+        return value;
+    }
+
+    /**
+     * 희소 형식의 섹션 데이터를 저장 당시 스키마 버전의 템플릿 전체 구조로 복원
+     * 저장된 값 노드는 복사하지 않고 결과에 그대로 연결하므로 호출 측에서 수정하지 말 것
+     * (복원한 문서를 수정해야 하면 저장된 데이터의 복사본을 전달)
+     *
+     * @param type          섹션 타입
+     * @param schemaVersion 섹션 행의 스키마 버전
+     * @param stored        저장된 섹션 데이터
+     * @return 템플릿의 모든 필드를 가진 새 객체
+     * @throws IllegalStateException 등록되지 않은 스키마 버전인 경우
+     */
+    public static ObjectNode hydrate(ReportSectionType type, int schemaVersion, JsonNode stored) {
+        ObjectNode hydrated = (ObjectNode) ReportSectionTemplate.getReadOnlyTemplate(type, schemaVersion).deepCopy();
+        if (stored != null && stored.isObject()) {
+            overlay(hydrated, stored);
+        }
+        return hydrated;
+    }
+
+    /**
+     * 템플릿과 같은 값과 null을 제거하고, 하위 값이 모두 제거된 객체도 제거
+     */
+    private static void compactObject(ObjectNode node, JsonNode template) {
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode value = entry.getValue();
+            JsonNode templateValue = template != null ? template.get(entry.getKey()) : null;
+
+            if (value.isObject()) {
+                compactObject((ObjectNode) value, templateValue != null && templateValue.isObject() ? templateValue : null);
+                if (value.isEmpty()) {
+                    fields.remove();
+                }
+            } else if (value.isNull() || value.equals(templateValue)) {
+                fields.remove();
+            }
+        }
+    }
+
+    /**
+     * 저장된 값을 템플릿 위에 덮어쓰기 (양쪽 모두 객체인 필드만 재귀)
+     */
+    private static void overlay(ObjectNode target, JsonNode source) {
+        Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            JsonNode current = target.get(entry.getKey());
+            if (current instanceof ObjectNode currentObject && entry.getValue().isObject()) {
+                overlay(currentObject, entry.getValue());
+            } else {
+                target.set(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+}
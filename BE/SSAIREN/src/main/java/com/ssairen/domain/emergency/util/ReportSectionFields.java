@@ -0,0 +1,60 @@
+package com.ssairen.domain.emergency.util;
+
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+
+/**
+ * 구급일지 섹션 JSON 필드명 상수
+ * - 섹션 데이터를 직접 읽고 쓰는 코드에서 문자열 경로 대신 사용
+ * - 값은 ReportSectionTemplate의 템플릿 필드명과 같아야 함 (템플릿을 바꾸면 함께 수정, ReportSectionFieldsTest에서 확인)
+ */
+public final class ReportSectionFields {
+
+    // 섹션 타입별 최상위 필드
+    public static final String PATIENT_INFO = "patientInfo";
+    public static final String DISPATCH = "dispatch";
+    public static final String INCIDENT_TYPE = "incidentType";
+    public static final String ASSESSMENT = "assessment";
+    public static final String TREATMENT = "treatment";
+    public static final String MEDICAL_GUIDANCE = "medicalGuidance";
+    public static final String TRANSPORT = "transport";
+    public static final String DETAIL_REPORT = "detailReport";
+
+    // dispatch
+    public static final String DISPATCH_REPORT_DATETIME = "reportDatetime";
+    public static final String DISPATCH_DEPARTURE_TIME = "departureTime";
+    public static final String DISPATCH_SYMPTOMS = "symptoms";
+
+    // dispatch.symptoms
+    public static final String SYMPTOMS_PAIN = "pain";
+    public static final String SYMPTOMS_TRAUMA = "trauma";
+    public static final String SYMPTOMS_OTHER_SYMPTOMS = "otherSymptoms";
+
+    // incidentType
+    public static final String INCIDENT_TYPE_CATEGORY = "category";
+    public static final String INCIDENT_TYPE_SUB_CATEGORY_TRAFFIC = "subCategory_traffic";
+    public static final String INCIDENT_TYPE_SUB_CATEGORY_INJURY = "subCategory_injury";
+    public static final String INCIDENT_TYPE_SUB_CATEGORY_NON_TRAUMA = "subCategory_nonTrauma";
+    public static final String INCIDENT_TYPE_SUB_CATEGORY_OTHER = "subCategory_other";
+
+    private ReportSectionFields() {
+    }
+
+    /**
+     * 섹션 타입의 최상위 필드명 (예: PATIENT_INFO -> "patientInfo")
+     *
+     * @param type 섹션 타입
+     * @return 최상위 필드명
+     */
+    public static String sectionField(ReportSectionType type) {
+        return switch (type) {
+            case PATIENT_INFO -> PATIENT_INFO;
+            case DISPATCH -> DISPATCH;
+            case INCIDENT_TYPE -> INCIDENT_TYPE;
+            case ASSESSMENT -> ASSESSMENT;
+            case TREATMENT -> TREATMENT;
+            case MEDICAL_GUIDANCE -> MEDICAL_GUIDANCE;
+            case TRANSPORT -> TRANSPORT;
+            case DETAIL_REPORT -> DETAIL_REPORT;
+        };
+    }
+}
@@ -6,16 +6,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.ssairen.domain.emergency.entity.Dispatch;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
-import com.ssairen.global.exception.CustomException;
-import com.ssairen.global.exception.ErrorCode;
 
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 구급일지 섹션 타입별 스켈레톤 JSON 템플릿 제공
- * TODO: 스키마 변경되면 맞춰서 수정할 것
  * 모든 값은 null로 초기화되며, 추후 PATCH 메서드로 값을 입력
+ * - 템플릿 구조를 바꾸면 SCHEMA_VERSIONS의 해당 타입 버전을 올리고, 바꾸기 전 텍스트를 PREVIOUS_TEMPLATE_SOURCES로 옮김
+ *   (희소 저장 행은 저장 당시 스키마 버전의 템플릿으로 복원/정리하므로 이전 버전 템플릿을 지우지 않음)
+ * - 필드명을 바꾸면 ReportSectionFields 상수도 함께 수정
+ * - 템플릿 텍스트는 클래스 로딩 시 한 번만 파싱하여 타입별 레지스트리에 보관
+ * - 외부 호출 측에는 레지스트리 원본의 복사본만 전달하고, 원본 조회는 같은 패키지의 희소 형식 변환에만 허용
  */
 public class ReportSectionTemplate {
 
@@ -318,15 +324,121 @@ public class ReportSectionTemplate {
             }
             """;
 
+    /**
+     * 섹션 타입별 템플릿 스키마 버전 (템플릿 구조가 바뀌면 해당 타입 버전을 올림)
+     */
+    private static final Map<ReportSectionType, Integer> SCHEMA_VERSIONS = new EnumMap<>(Map.of(
+            ReportSectionType.PATIENT_INFO, 1,
+            ReportSectionType.DISPATCH, 1,
+            ReportSectionType.INCIDENT_TYPE, 1,
+            ReportSectionType.ASSESSMENT, 1,
+            ReportSectionType.TREATMENT, 1,
+            ReportSectionType.MEDICAL_GUIDANCE, 1,
+            ReportSectionType.TRANSPORT, 1,
+            ReportSectionType.DETAIL_REPORT, 1
+    ));
+
+    /**
+     * 전체 템플릿 리비전 (모든 타입 스키마 버전의 합계, 어느 타입이든 버전을 올리면 증가)
+     */
+    private static final int TEMPLATE_REVISION = SCHEMA_VERSIONS.values().stream().mapToInt(Integer::intValue).sum();
+
+    /**
+     * 파싱이 끝난 템플릿 레지스트리 (외부로 원본을 노출하지 않음)
+     */
+    private static final Map<ReportSectionType, ObjectNode> REGISTRY = buildRegistry();
+
+    /**
+     * 이전 스키마 버전의 템플릿 원문 (타입 → 버전 → 템플릿 텍스트, 아직 버전을 올린 타입이 없어 비어 있음)
+     * 예: Map.of(ReportSectionType.PATIENT_INFO, Map.of(1, PATIENT_INFO_TEMPLATE_V1))
+     */
+    private static final Map<ReportSectionType, Map<Integer, String>> PREVIOUS_TEMPLATE_SOURCES = Map.of();
+
+    /**
+     * 파싱이 끝난 이전 스키마 버전 템플릿 레지스트리 (외부로 원본을 노출하지 않음)
+     */
+    private static final Map<ReportSectionType, Map<Integer, ObjectNode>> PREVIOUS_REGISTRY =
+            buildPreviousRegistry(PREVIOUS_TEMPLATE_SOURCES);
+
+    private ReportSectionTemplate() {
+    }
+
     /**
      * 섹션 타입에 따른 스켈레톤 JSON 템플릿 반환
+     * 미리 파싱된 템플릿의 복사본을 반환하므로 호출 측에서 자유롭게 수정 가능
      *
      * @param type 섹션 타입 (SUMMATION 제외)
      * @return 스켈레톤 JsonNode (모든 값 null)
-     * @throws CustomException JSON 파싱 실패 시
      */
     public static JsonNode getTemplate(ReportSectionType type) {
-        String template = switch (type) {
+        return REGISTRY.get(type).deepCopy();
+    }
+
+    /**
+     * 템플릿의 최상위 필드 값 조회 (읽기 전용, 희소 형식 변환용)
+     * 레지스트리 원본을 그대로 반환하므로 패키지 밖으로 노출하지 않음 - 외부에서는 getTemplate 사용
+     *
+     * @param type      섹션 타입
+     * @param fieldName 최상위 필드명 (예: patientInfo)
+     * @return 필드 값 (없으면 null)
+     */
+    static JsonNode getReadOnlyField(ReportSectionType type, String fieldName) {
+        return REGISTRY.get(type).get(fieldName);
+    }
+
+    /**
+     * 섹션 타입의 템플릿 전체 (읽기 전용, 희소 형식 변환용)
+     * 레지스트리 원본을 그대로 반환하므로 패키지 밖으로 노출하지 않음 - 외부에서는 getTemplate 사용
+     */
+    static JsonNode getReadOnlyTemplate(ReportSectionType type) {
+        return REGISTRY.get(type);
+    }
+
+    /**
+     * 지정한 스키마 버전의 템플릿 전체 (읽기 전용, 희소 형식 변환용)
+     * 레지스트리 원본을 그대로 반환하므로 패키지 밖으로 노출하지 않음
+     *
+     * @param type          섹션 타입
+     * @param schemaVersion 섹션 행의 스키마 버전
+     * @return 해당 버전의 템플릿
+     * @throws IllegalStateException 등록되지 않은 스키마 버전인 경우
+     */
+    static JsonNode getReadOnlyTemplate(ReportSectionType type, int schemaVersion) {
+        if (schemaVersion == SCHEMA_VERSIONS.get(type)) {
+            return REGISTRY.get(type);
+        }
+        ObjectNode previous = PREVIOUS_REGISTRY.getOrDefault(type, Map.of()).get(schemaVersion);
+        if (previous == null) {
+            throw new IllegalStateException("섹션 템플릿 스키마 버전이 없습니다: " + type + " v" + schemaVersion);
+        }
+        return previous;
+    }
+
+    /**
+     * 섹션 타입의 현재 템플릿 스키마 버전
+     *
+     * @param type 섹션 타입
+     * @return 스키마 버전
+     */
+    public static int getSchemaVersion(ReportSectionType type) {
+        return SCHEMA_VERSIONS.get(type);
+    }
+
+    /**
+     * 전체 템플릿 리비전
+     * 템플릿으로 복원한 응답은 섹션 버전이 같아도 템플릿이 바뀌면 달라지므로 ETag 등 캐시 키에 함께 사용
+     *
+     * @return 모든 섹션 타입 스키마 버전의 합계
+     */
+    public static int getTemplateRevision() {
+        return TEMPLATE_REVISION;
+    }
+
+    /**
+     * 섹션 타입별 템플릿 원문 (JSON 텍스트)
+     */
+    static String getTemplateSource(ReportSectionType type) {
+        return switch (type) {
             case PATIENT_INFO -> PATIENT_INFO_TEMPLATE;
             case DISPATCH -> DISPATCH_TEMPLATE;
             case INCIDENT_TYPE -> INCIDENT_TYPE_TEMPLATE;
@@ -336,12 +448,57 @@ public class ReportSectionTemplate {
             case TRANSPORT -> TRANSPORT_TEMPLATE;
             case DETAIL_REPORT -> DETAIL_REPORT_TEMPLATE;
         };
+    }
 
-        try {
-            return objectMapper.readTree(template);
-        } catch (JsonProcessingException e) {
-            throw new CustomException(ErrorCode.INVALID_JSONB_FORMAT);
+    /**
+     * 모든 섹션 타입 템플릿을 한 번 파싱하여 레지스트리 구성
+     * 템플릿 텍스트가 잘못되었거나 스키마 버전이 누락된 경우 클래스 로딩 시점에 실패
+     */
+    private static Map<ReportSectionType, ObjectNode> buildRegistry() {
+        Map<ReportSectionType, ObjectNode> registry = new EnumMap<>(ReportSectionType.class);
+        for (ReportSectionType type : ReportSectionType.values()) {
+            if (!SCHEMA_VERSIONS.containsKey(type)) {
+                throw new IllegalStateException("섹션 템플릿 스키마 버전이 없습니다: " + type);
+            }
+            try {
+                JsonNode template = objectMapper.readTree(getTemplateSource(type));
+                if (!template.isObject()) {
+                    throw new IllegalStateException("섹션 템플릿은 JSON 객체여야 합니다: " + type);
+                }
+                registry.put(type, (ObjectNode) template);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("섹션 템플릿 파싱 실패: " + type, e);
+            }
         }
+        return Collections.unmodifiableMap(registry);
+    }
+
+    /**
+     * 이전 스키마 버전 템플릿을 한 번 파싱하여 레지스트리 구성
+     * 현재 버전 이상의 버전이 등록되었거나 템플릿 텍스트가 잘못된 경우 클래스 로딩 시점에 실패
+     */
+    static Map<ReportSectionType, Map<Integer, ObjectNode>> buildPreviousRegistry(
+            Map<ReportSectionType, Map<Integer, String>> sources) {
+        Map<ReportSectionType, Map<Integer, ObjectNode>> registry = new EnumMap<>(ReportSectionType.class);
+        sources.forEach((type, versions) -> {
+            Map<Integer, ObjectNode> parsed = new HashMap<>();
+            versions.forEach((version, source) -> {
+                if (version < 1 || version >= SCHEMA_VERSIONS.get(type)) {
+                    throw new IllegalStateException("이전 섹션 템플릿의 스키마 버전이 잘못되었습니다: " + type + " v" + version);
+                }
+                try {
+                    JsonNode template = objectMapper.readTree(source);
+                    if (!template.isObject()) {
+                        throw new IllegalStateException("섹션 템플릿은 JSON 객체여야 합니다: " + type + " v" + version);
+                    }
+                    parsed.put(version, (ObjectNode) template);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("섹션 템플릿 파싱 실패: " + type + " v" + version, e);
+                }
+            });
+            registry.put(type, Collections.unmodifiableMap(parsed));
+        });
+        return Collections.unmodifiableMap(registry);
     }
 
     /**
@@ -349,13 +506,12 @@ public class ReportSectionTemplate {
      *
      * @param dispatch Dispatch 엔티티
      * @return DISPATCH 템플릿 (reportDatetime, departureTime에 실제 값 설정됨)
-     * @throws CustomException JSON 파싱 실패 시
      */
     public static JsonNode getTemplateForDispatch(Dispatch dispatch) {
         JsonNode template = getTemplate(ReportSectionType.DISPATCH);
 
         // dispatch 노드를 ObjectNode로 캐스팅하여 수정 가능하게 함
-        ObjectNode dispatchNode = (ObjectNode) template.get("dispatch");
+        ObjectNode dispatchNode = (ObjectNode) template.get(ReportSectionFields.DISPATCH);
 
         // ISO 8601 형식으로 날짜/시간 포맷팅 (밀리초 제외)
         String reportDatetime = dispatch.getDate()
@@ -366,8 +522,8 @@ public class ReportSectionTemplate {
                 .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
 
         // 실제 값으로 설정
-        dispatchNode.put("reportDatetime", reportDatetime);
-        dispatchNode.put("departureTime", departureTime);
+        dispatchNode.put(ReportSectionFields.DISPATCH_REPORT_DATETIME, reportDatetime);
+        dispatchNode.put(ReportSectionFields.DISPATCH_DEPARTURE_TIME, departureTime);
 
         return template;
     }
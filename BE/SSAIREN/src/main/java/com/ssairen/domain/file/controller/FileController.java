@@ -1,13 +1,16 @@
 package com.ssairen.domain.file.controller;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssairen.domain.ai.entity.LlmSummary;
+import com.ssairen.domain.ai.dto.AiJobResponse;
+import com.ssairen.domain.ai.dto.LiveSttChunkResponse;
+import com.ssairen.domain.ai.dto.LiveSttFinishResponse;
 import com.ssairen.domain.ai.entity.SttTranscript;
-import com.ssairen.domain.ai.repository.LlmSummaryRepository;
-import com.ssairen.domain.ai.repository.SttTranscriptRepository;
+import com.ssairen.domain.ai.service.AiJobService;
 import com.ssairen.domain.ai.service.AiResponseToReportSectionService;
+import com.ssairen.domain.ai.service.AiResultService;
+import com.ssairen.domain.ai.service.LiveSttService;
 import com.ssairen.domain.ai.service.LocalWhisperSttService;
 import com.ssairen.domain.ai.service.SttService;
+import com.ssairen.domain.ai.service.SttStreamService;
 import com.ssairen.domain.ai.service.TextToJsonService;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
 import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
@@ -15,7 +18,9 @@ import com.ssairen.domain.file.dto.AudioUploadWithSttResponse;
 import com.ssairen.domain.file.dto.FileUploadResponse;
 import com.ssairen.domain.file.dto.LocalWhisperSttResponse;
 import com.ssairen.domain.file.dto.SttResponse;
+import com.ssairen.domain.file.dto.SttStreamEvent;
 import com.ssairen.domain.file.dto.TextToJsonResponse;
+import com.ssairen.domain.file.service.AudioUploadWithSttService;
 import com.ssairen.domain.file.service.MinioService;
 import com.ssairen.global.dto.ApiResponse;
 import com.ssairen.global.exception.CustomException;
@@ -26,12 +31,16 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 /**
  * 파일 업로드/다운로드 Controller
@@ -41,18 +50,21 @@ import org.springframework.web.multipart.MultipartFile;
 @RestController
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
+@Validated
 @Tag(name = "File", description = "파일 관리 API")
 public class FileController {
 
     private final MinioService minioService;
+    private final AudioUploadWithSttService audioUploadWithSttService;
     private final SttService sttService;
     private final LocalWhisperSttService localWhisperSttService;
     private final TextToJsonService textToJsonService;
-    private final SttTranscriptRepository sttTranscriptRepository;
     private final EmergencyReportRepository emergencyReportRepository;
-    private final ObjectMapper objectMapper;
     private final AiResponseToReportSectionService aiResponseToReportSectionService;
-    private final LlmSummaryRepository llmSummaryRepository;
+    private final AiResultService aiResultService;
+    private final AiJobService aiJobService;
+    private final SttStreamService sttStreamService;
+    private final LiveSttService liveSttService;
 
     /**
      * 구급일지 존재 여부 확인 및 조회
@@ -65,44 +77,6 @@ public class FileController {
                 .orElseThrow(() -> new CustomException(ErrorCode.EMERGENCY_REPORT_NOT_FOUND));
     }
 
-    /**
-     * STT 결과를 DB에 저장
-     *
-     * @param emergencyReport 구급일지
-     * @param data            STT 텍스트 데이터
-     * @return 저장된 SttTranscript
-     */
-    private SttTranscript saveSttTranscript(EmergencyReport emergencyReport, String data) {
-        SttTranscript sttTranscript = SttTranscript.builder()
-                .emergencyReport(emergencyReport)
-                .data(data)
-                .build();
-        SttTranscript saved = sttTranscriptRepository.save(sttTranscript);
-        log.info("STT 결과 DB 저장 완료 - 구급일지 ID: {}, STT ID: {}", emergencyReport.getId(), saved.getId());
-        return saved;
-    }
-
-    /**
-     * LLM JSON 응답을 DB에 저장
-     *
-     * @param sttTranscript STT 트랜스크립트
-     * @param jsonResponse  JSON 응답 객체
-     */
-    private void saveLlmSummary(SttTranscript sttTranscript, Object jsonResponse) {
-        try {
-            String jsonDataString = objectMapper.writeValueAsString(jsonResponse);
-            LlmSummary llmSummary = LlmSummary.builder()
-                    .sttTranscript(sttTranscript)
-                    .data(jsonDataString)
-                    .build();
-            llmSummaryRepository.save(llmSummary);
-            log.info("LLM JSON 응답 DB 저장 완료 - STT ID: {}", sttTranscript.getId());
-        } catch (Exception e) {
-            log.error("JSON 응답 저장 실패", e);
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "JSON 응답 저장에 실패했습니다.");
-        }
-    }
-
     /**
      * 오디오 파일 업로드
      * - STT 처리용 오디오 파일 업로드
@@ -299,35 +273,66 @@ public class FileController {
         // 1. 구급일지 존재 여부 확인
         EmergencyReport emergencyReport = validateAndGetEmergencyReport(emergencyReportId);
 
-        // 2. MinIO에 오디오 파일 저장
-        FileUploadResponse fileUploadResponse = minioService.uploadAudioFile(file);
-        log.info("MinIO 업로드 완료 - 파일명: {}", fileUploadResponse.getFileName());
-
-        // 3. AI 서버로 STT 요청
-        SttResponse sttResponse = sttService.convertSpeechToText(file, language);
-        log.info("STT 변환 완료 - 텍스트 길이: {} 문자", sttResponse.getText().length());
+        // 2~3. MinIO 저장과 AI 서버 STT 요청을 동시에 처리 (업로드 파일은 한 번만 읽음)
+        AudioUploadWithSttResponse response = audioUploadWithSttService.uploadAndTranscribe(file, language);
+        SttResponse sttResponse = response.getSttResult();
+        log.info("MinIO 업로드 + STT 변환 완료 - 파일명: {}, 텍스트 길이: {} 문자",
+                response.getFileInfo().getFileName(), sttResponse.getText().length());
 
         // 4. STT 결과를 JSON 문자열로 변환하여 DB에 저장
-        String sttDataJson;
-        try {
-            sttDataJson = objectMapper.writeValueAsString(sttResponse);
-        } catch (Exception e) {
-            log.error("STT 결과 JSON 변환 실패", e);
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "STT 결과 저장에 실패했습니다.");
-        }
-        saveSttTranscript(emergencyReport, sttDataJson);
-
-        // 5. 통합 응답 생성
-        AudioUploadWithSttResponse response = AudioUploadWithSttResponse.builder()
-                .fileInfo(fileUploadResponse)
-                .sttResult(sttResponse)
-                .build();
+        aiResultService.saveSttTranscript(emergencyReport, sttResponse);
 
         return ResponseEntity.ok(
                 ApiResponse.success(response, "오디오 파일 업로드 및 STT 변환이 완료되었습니다.")
         );
     }
 
+    /**
+     * 오디오 파일 스트리밍 STT API (SSE)
+     * - AI 서버에서 세그먼트가 도착할 때마다 segment 이벤트로 바로 전송
+     * - 변환이 끝나면 녹취록을 저장하고 done 이벤트(전체 결과 + 녹취록 ID)로 전송
+     */
+    @PostMapping(value = "/stt/stream",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "STT 스트리밍 (SSE)",
+            description = "오디오 파일을 STT 변환하면서 세그먼트가 도착할 때마다 Server-Sent Events로 전송합니다. "
+                    + "이벤트 종류: segment(세그먼트), done(전체 결과 + 저장된 녹취록 ID), error(실패)."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "스트리밍 시작",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = SttStreamEvent.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "구급일지를 찾을 수 없음"
+            )
+    })
+    public Flux<ServerSentEvent<SttStreamEvent>> streamSpeechToText(
+            @Parameter(description = "오디오 파일 (mp3, wav, m4a 등)", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "구급일지 ID", required = true)
+            @RequestParam("emergencyReportId") Long emergencyReportId,
+            @Parameter(description = "언어 코드 (선택사항, 예: ko, en, ja)")
+            @RequestParam(value = "language", required = false, defaultValue = "ko") String language
+    ) {
+        log.info("STT 스트리밍 요청 - 파일명: {}, 구급일지 ID: {}, 언어: {}, 크기: {} bytes",
+                file.getOriginalFilename(), emergencyReportId, language, file.getSize());
+
+        EmergencyReport emergencyReport = validateAndGetEmergencyReport(emergencyReportId);
+
+        return sttStreamService.streamAndSave(file, emergencyReport, language)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getEvent())
+                        .build());
+    }
+
     /**
      * 로컬 Whisper STT 변환 API
      * - 로컬 Faster-Whisper 모델을 사용한 음성-텍스트 변환
@@ -421,7 +426,7 @@ public class FileController {
         log.info("STT 변환 완료 - 텍스트 길이: {} 문자", sttResponse.getText().length());
 
         // 3. STT 변환된 텍스트를 stt_transcripts 테이블에 저장
-        SttTranscript sttTranscript = saveSttTranscript(emergencyReport, sttResponse.getText());
+        SttTranscript sttTranscript = aiResultService.saveSttTranscript(emergencyReport, sttResponse.getText());
 
         // 4. AI 서버로 텍스트를 JSON으로 변환
         Object jsonResponse = textToJsonService.convertTextToJson(
@@ -432,7 +437,7 @@ public class FileController {
         log.info("JSON 변환 완료");
 
         // 5. JSON 응답을 llm_summaries 테이블에 저장
-        saveLlmSummary(sttTranscript, jsonResponse);
+        aiResultService.saveLlmSummary(sttTranscript, jsonResponse);
 
         // 6. AI 응답을 ReportSection에 저장
         int savedCount = aiResponseToReportSectionService.saveAiResponseToReportSections(
@@ -446,6 +451,188 @@ public class FileController {
         );
     }
 
+    /**
+     * 오디오 파일 STT + JSON 변환 비동기 작업 등록 API
+     * - /stt/local/full-to-json과 같은 처리를 AI 작업 Executor에서 실행하고 작업 ID를 바로 반환
+     * - 진행 상황은 /topic/ai-job.{jobId} 구독 또는 작업 조회 API로 확인
+     */
+    @PostMapping(value = "/stt/local/full-to-json/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "로컬 Whisper STT + JSON 변환 + ReportSection 저장 (비동기)",
+            description = "작업을 등록하고 작업 ID를 바로 반환합니다. STT → JSON 변환 → 섹션 저장 단계가 바뀔 때마다 "
+                    + "웹소켓 /topic/ai-job.{jobId}로 작업 상태가 전송되며, GET /api/files/jobs/{jobId}로도 조회할 수 있습니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "작업 등록 성공",
+                    content = @Content(schema = @Schema(implementation = AiJobResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (빈 파일 등)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "구급일지를 찾을 수 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "대기 작업 수 초과"
+            )
+    })
+    public ResponseEntity<ApiResponse<AiJobResponse>> submitSpeechToJsonJob(
+            @Parameter(description = "오디오 파일 (mp3, wav, m4a 등)", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "구급일지 ID", required = true)
+            @RequestParam("emergencyReportId") Long emergencyReportId,
+            @Parameter(description = "언어 코드 (예: ko, en, ja)")
+            @RequestParam(value = "language", required = false, defaultValue = "ko") String language,
+            @Parameter(description = "최대 생성 토큰 수")
+            @RequestParam(value = "maxNewTokens", required = false, defaultValue = "700") Integer maxNewTokens,
+            @Parameter(description = "생성 온도 (0.0 ~ 1.0)")
+            @RequestParam(value = "temperature", required = false, defaultValue = "0.1") Double temperature
+    ) {
+        log.info("로컬 Whisper STT + JSON 변환 작업 등록 요청 - 파일명: {}, 구급일지 ID: {}, 언어: {}, 크기: {} bytes",
+                file.getOriginalFilename(), emergencyReportId, language, file.getSize());
+
+        AiJobResponse response = aiJobService.submitSpeechToJson(file, emergencyReportId, language, maxNewTokens, temperature);
+
+        return ResponseEntity.accepted().body(
+                ApiResponse.success(response, "STT 및 JSON 변환 작업이 등록되었습니다.")
+        );
+    }
+
+    /**
+     * AI 작업 상태 조회 API
+     */
+    @GetMapping("/jobs/{jobId}")
+    @Operation(
+            summary = "AI 작업 상태 조회",
+            description = "STT + JSON 변환 작업의 상태(QUEUED, RUNNING, COMPLETED, FAILED)와 현재/실패 단계를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "작업 조회 성공",
+                    content = @Content(schema = @Schema(implementation = AiJobResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "작업을 찾을 수 없음"
+            )
+    })
+    public ResponseEntity<ApiResponse<AiJobResponse>> getJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable Long jobId
+    ) {
+        AiJobResponse response = aiJobService.getJob(jobId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(response, "AI 작업 조회를 완료하였습니다.")
+        );
+    }
+
+    /**
+     * 실시간 녹음 음성 조각 STT API
+     * - 녹음 중 짧은 음성 조각(각각 단독으로 재생 가능한 오디오)을 순번과 함께 전송하면 바로 변환하여 진행중인 녹취록에 추가
+     * - 같은 순번을 다시 보내면 다시 변환하지 않고 저장된 결과를 반환
+     * - 녹음 종료 후 새 순번을 보내면 409
+     */
+    @PostMapping(value = "/stt/live/chunks", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "실시간 녹음 음성 조각 STT",
+            description = "녹음 중인 음성 조각을 로컬 Whisper로 바로 변환하고, 지금까지 받은 조각을 순번 순서로 이어 붙인 "
+                    + "진행중인 녹취록을 함께 반환합니다. 녹음이 끝나면 /stt/live/finish를 호출합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조각 변환 성공",
+                    content = @Content(schema = @Schema(implementation = LiveSttChunkResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (빈 파일 등)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "구급일지를 찾을 수 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "이미 종료된 녹음"
+            )
+    })
+    public ResponseEntity<ApiResponse<LiveSttChunkResponse>> appendLiveSttChunk(
+            @Parameter(description = "음성 조각 오디오 파일 (wav, webm 등)", required = true)
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "구급일지 ID", required = true)
+            @RequestParam("emergencyReportId") Long emergencyReportId,
+            @Parameter(description = "조각 순번 (0부터 시작)", required = true)
+            @RequestParam("sequence") @PositiveOrZero Integer sequence,
+            @Parameter(description = "언어 코드 (예: ko, en, ja)")
+            @RequestParam(value = "language", required = false, defaultValue = "ko") String language
+    ) {
+        log.info("실시간 음성 조각 STT 요청 - 구급일지 ID: {}, 순번: {}, 크기: {} bytes",
+                emergencyReportId, sequence, file.getSize());
+
+        LiveSttChunkResponse response = liveSttService.appendChunk(file, emergencyReportId, sequence, language);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(response, "음성 조각 변환이 완료되었습니다.")
+        );
+    }
+
+    /**
+     * 실시간 녹음 종료 API
+     * - 받은 음성 조각을 녹취록으로 저장하고 JSON 변환 + 섹션 저장 작업을 바로 등록
+     * - 진행 상황은 /topic/ai-job.{jobId} 구독 또는 작업 조회 API로 확인
+     * - 다시 호출하면 같은 녹취록의 작업을 반환하고, 작업이 실패했으면(503 포함) 다시 등록
+     */
+    @PostMapping("/stt/live/finish")
+    @Operation(
+            summary = "실시간 녹음 종료 + JSON 변환 작업 등록",
+            description = "진행중인 녹취록을 STT 녹취록으로 저장하고 JSON 변환 → 섹션 저장 작업을 등록합니다. "
+                    + "작업 상태는 웹소켓 /topic/ai-job.{jobId} 또는 GET /api/files/jobs/{jobId}로 확인할 수 있습니다. "
+                    + "이미 종료된 녹음에 다시 호출하면 같은 녹취록의 작업을 반환하고, 작업이 실패했으면 다시 등록합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "녹취록 저장 및 작업 등록 성공",
+                    content = @Content(schema = @Schema(implementation = LiveSttFinishResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "전송된 음성 조각이 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "구급일지를 찾을 수 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "대기 작업 수 초과 (녹취록은 저장됨, 다시 호출하면 작업 재등록)"
+            )
+    })
+    public ResponseEntity<ApiResponse<LiveSttFinishResponse>> finishLiveStt(
+            @Parameter(description = "구급일지 ID", required = true)
+            @RequestParam("emergencyReportId") Long emergencyReportId,
+            @Parameter(description = "최대 생성 토큰 수")
+            @RequestParam(value = "maxNewTokens", required = false, defaultValue = "700") Integer maxNewTokens,
+            @Parameter(description = "생성 온도 (0.0 ~ 1.0)")
+            @RequestParam(value = "temperature", required = false, defaultValue = "0.1") Double temperature
+    ) {
+        log.info("실시간 녹음 종료 요청 - 구급일지 ID: {}", emergencyReportId);
+
+        LiveSttFinishResponse response = liveSttService.finish(emergencyReportId, maxNewTokens, temperature);
+
+        return ResponseEntity.accepted().body(
+                ApiResponse.success(response, "녹취록이 저장되고 JSON 변환 작업이 등록되었습니다.")
+        );
+    }
+
     /**
      * 텍스트를 직접 받아서 JSON으로 변환하는 API
      * - STT 과정 없이 텍스트를 직접 입력받아 JSON으로 변환
@@ -491,7 +678,7 @@ public class FileController {
         EmergencyReport emergencyReport = validateAndGetEmergencyReport(emergencyReportId);
 
         // 2. 입력 텍스트를 stt_transcripts 테이블에 저장
-        SttTranscript sttTranscript = saveSttTranscript(emergencyReport, text);
+        SttTranscript sttTranscript = aiResultService.saveSttTranscript(emergencyReport, text);
 
         // 3. 텍스트를 AI 서버로 JSON으로 변환
         Object jsonResponse = textToJsonService.convertTextToJson(
@@ -502,7 +689,7 @@ public class FileController {
         log.info("JSON 변환 완료");
 
         // 4. JSON 응답을 llm_summaries 테이블에 저장
-        saveLlmSummary(sttTranscript, jsonResponse);
+        aiResultService.saveLlmSummary(sttTranscript, jsonResponse);
 
         // 5. AI 응답을 ReportSection에 저장
         int savedCount = aiResponseToReportSectionService.saveAiResponseToReportSections(
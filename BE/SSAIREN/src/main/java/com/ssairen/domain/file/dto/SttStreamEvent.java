@@ -0,0 +1,75 @@
+package com.ssairen.domain.file.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * STT 스트리밍 이벤트 DTO
+ * - segment: AI 서버에서 세그먼트가 도착할 때마다 전송
+ * - done: 전체 변환 결과 (녹취록 저장 후 전송되는 경우 sttTranscriptId 포함)
+ * - error: 변환/저장 실패
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SttStreamEvent {
+
+    public static final String SEGMENT = "segment";
+    public static final String DONE = "done";
+    public static final String ERROR = "error";
+
+    /**
+     * 이벤트 종류 (segment, done, error)
+     */
+    private String event;
+
+    /**
+     * 도착한 세그먼트 (segment 이벤트)
+     */
+    private TranscriptSegment segment;
+
+    /**
+     * 전체 변환 결과 (done 이벤트)
+     */
+    private SttResponse result;
+
+    /**
+     * 저장된 STT 녹취록 ID (done 이벤트)
+     */
+    private Long sttTranscriptId;
+
+    /**
+     * 에러 메시지 (error 이벤트)
+     */
+    private String message;
+
+    public static SttStreamEvent segment(TranscriptSegment segment) {
+        return SttStreamEvent.builder()
+                .event(SEGMENT)
+                .segment(segment)
+                .build();
+    }
+
+    public static SttStreamEvent done(SttResponse result) {
+        return SttStreamEvent.builder()
+                .event(DONE)
+                .result(result)
+                .build();
+    }
+
+    public static SttStreamEvent done(SttResponse result, Long sttTranscriptId) {
+        return SttStreamEvent.builder()
+                .event(DONE)
+                .result(result)
+                .sttTranscriptId(sttTranscriptId)
+                .build();
+    }
+
+    public static SttStreamEvent error(String message) {
+        return SttStreamEvent.builder()
+                .event(ERROR)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.ssairen.domain.file.service;
+
+import com.ssairen.domain.ai.service.SttService;
+import com.ssairen.domain.file.dto.AudioUploadWithSttResponse;
+import com.ssairen.domain.file.dto.FileUploadResponse;
+import com.ssairen.domain.file.dto.SttResponse;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 오디오 업로드 + STT 동시 처리 Service
+ * - 업로드 파일을 한 번만 읽어 MinIO 저장과 AI 서버 STT 요청에 동시에 나눠 보냄
+ * - 대상별로 크기가 제한된 버퍼(BoundedPipe)를 두어, 느린 쪽이 버퍼를 다 채우면 읽기를 멈추고 기다림 (메모리 사용량 = 버퍼 크기)
+ * - 전체 소요 시간이 MinIO 저장 시간 + STT 시간에서 둘 중 긴 쪽 수준으로 줄어듦
+ * - MinIO 저장이 실패하면 결과를 쓸 수 없으므로 STT도 중단 (STT가 실패해도 업로드는 끝까지 진행)
+ */
+@Slf4j
+@Service
+public class AudioUploadWithSttService {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final MinioService minioService;
+    private final SttService sttService;
+    private final TaskExecutor audioUploadExecutor;
+    private final int bufferChunks;
+
+    public AudioUploadWithSttService(
+            MinioService minioService,
+            SttService sttService,
+            @Qualifier("audioUploadExecutor") TaskExecutor audioUploadExecutor,
+            @Value("${audio-upload.tee-buffer-chunks:32}") int bufferChunks
+    ) {
+        this.minioService = minioService;
+        this.sttService = sttService;
+        this.audioUploadExecutor = audioUploadExecutor;
+        this.bufferChunks = bufferChunks;
+    }
+
+    /**
+     * 오디오 파일을 MinIO에 저장하면서 동시에 STT 변환
+     *
+     * @param file     오디오 파일
+     * @param language 언어 코드
+     * @return 업로드 파일 정보와 STT 결과
+     */
+    public AudioUploadWithSttResponse uploadAndTranscribe(MultipartFile file, String language) {
+        // 1. 두 처리를 시작하기 전에 파일 검증 (잘못된 파일로 STT를 시작하지 않도록)
+        minioService.validateAudioFile(file);
+
+        // 2. 대상별 버퍼를 읽는 소비자 시작
+        BoundedPipe uploadPipe = new BoundedPipe(bufferChunks);
+        BoundedPipe sttPipe = new BoundedPipe(bufferChunks);
+
+        CompletableFuture<FileUploadResponse> upload = CompletableFuture.supplyAsync(
+                () -> consume(uploadPipe, content -> minioService.uploadAudioFile(file, content)),
+                audioUploadExecutor);
+        CompletableFuture<SttResponse> stt = CompletableFuture.supplyAsync(
+                () -> consume(sttPipe, content -> sttService.convertSpeechToText(
+                        content, file.getOriginalFilename(), file.getContentType(), language)),
+                audioUploadExecutor);
+        upload.whenComplete((result, error) -> {
+            if (error != null) {
+                cancelStt(stt, sttPipe, error);
+            }
+        });
+
+        // 3. 업로드 파일을 한 번 읽어 두 버퍼에 씀
+        long startTime = System.currentTimeMillis();
+        copy(file, uploadPipe, sttPipe);
+
+        // 4. 두 처리 완료 대기
+        FileUploadResponse fileInfo = await(upload);
+        SttResponse sttResult = await(stt);
+
+        log.info("오디오 업로드 + STT 완료 - 파일명: {}, 크기: {} bytes, 소요 시간: {}ms",
+                fileInfo.getFileName(), file.getSize(), System.currentTimeMillis() - startTime);
+
+        return AudioUploadWithSttResponse.builder()
+                .fileInfo(fileInfo)
+                .sttResult(sttResult)
+                .build();
+    }
+
+    /**
+     * 소비자 실행 (정상 종료든 실패든 끝나면 파이프를 중단하여 생산자가 대기하지 않도록 함)
+     */
+    private <T> T consume(BoundedPipe pipe, Function<InputStream, T> consumer) {
+        try {
+            return consumer.apply(pipe.inputStream());
+        } finally {
+            pipe.abort();
+        }
+    }
+
+    /**
+     * MinIO 저장 실패 시 STT 중단 (아직 시작 전인 작업은 취소하고, 읽는 중이면 파이프에서 예외를 받아 바로 종료)
+     */
+    private void cancelStt(CompletableFuture<SttResponse> stt, BoundedPipe sttPipe, Throwable cause) {
+        log.warn("MinIO 업로드 실패로 STT 중단");
+        sttPipe.cancel(new IOException("MinIO 업로드가 실패하여 STT를 중단합니다.", cause));
+        stt.cancel(true);
+    }
+
+    /**
+     * 업로드 파일을 청크 단위로 읽어 모든 파이프에 씀
+     */
+    private void copy(MultipartFile file, BoundedPipe... pipes) {
+        try (InputStream inputStream = file.getInputStream()) {
+            byte[] buffer = new byte[CHUNK_SIZE];
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, CHUNK_SIZE)) > 0) {
+                // 소비자는 청크를 읽기만 하므로 두 파이프가 같은 배열을 공유
+                byte[] chunk = Arrays.copyOf(buffer, read);
+                for (BoundedPipe pipe : pipes) {
+                    pipe.write(chunk);
+                }
+            }
+            for (BoundedPipe pipe : pipes) {
+                pipe.close();
+            }
+        } catch (IOException e) {
+            log.error("업로드 파일 읽기 실패 - 파일명: {}", file.getOriginalFilename(), e);
+            failAll(pipes, e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 파일을 읽지 못했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failAll(pipes, new InterruptedIOException("업로드 파일 전달이 중단되었습니다."));
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 파일 전달이 중단되었습니다.", e);
+        }
+    }
+
+    private void failAll(BoundedPipe[] pipes, IOException cause) {
+        for (BoundedPipe pipe : pipes) {
+            pipe.fail(cause);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ssairen.domain.file.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크기가 제한된 단일 생산자-단일 소비자 바이트 파이프
+ * - 생산자는 write로 청크를 넣고, 소비자는 inputStream()으로 읽음
+ * - 버퍼(청크 수)가 가득 차면 생산자가 대기하므로 업로드 전체를 메모리에 올리지 않음
+ * - 소비자가 끝까지 읽지 않고 끝내면(실패, 필요한 만큼만 읽음) abort로 알리고, 이후 write는 버려짐
+ * - 외부에서 처리를 중단할 때는 cancel로 양쪽을 모두 풀어줌 (소비자는 예외, 이후 write는 버려짐)
+ */
+final class BoundedPipe {
+
+    private static final byte[] END = new byte[0];
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final BlockingQueue<byte[]> queue;
+    private volatile boolean aborted;
+    private volatile IOException failure;
+
+    BoundedPipe(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 청크 추가 (버퍼가 가득 차면 소비자가 읽을 때까지 대기, 소비자가 중단했으면 버림)
+     * 생산자는 청크를 넘긴 뒤 수정하지 않아야 함
+     */
+    void write(byte[] chunk) throws InterruptedException {
+        if (chunk.length == 0) {
+            return;
+        }
+        offer(chunk);
+    }
+
+    /**
+     * 정상 종료 (소비자는 남은 청크를 모두 읽은 뒤 EOF를 받음)
+     */
+    void close() throws InterruptedException {
+        offer(END);
+    }
+
+    /**
+     * 생산자 실패 (소비자는 대기중인 청크를 버리고 바로 예외를 받음)
+     */
+    void fail(IOException cause) {
+        failure = cause;
+        queue.clear();
+        queue.offer(END);
+    }
+
+    /**
+     * 소비자 중단 (대기중인 생산자를 풀어주고 이후 청크는 버림)
+     */
+    void abort() {
+        aborted = true;
+        queue.clear();
+    }
+
+    /**
+     * 외부 중단 (대기중인 생산자를 풀어주고, 소비자는 시작 전이든 읽는 중이든 바로 예외를 받음)
+     */
+    void cancel(IOException cause) {
+        aborted = true;
+        fail(cause);
+    }
+
+    InputStream inputStream() {
+        return new PipeInputStream();
+    }
+
+    private void offer(byte[] chunk) throws InterruptedException {
+        while (!aborted) {
+            if (queue.offer(chunk, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        }
+    }
+
+    private final class PipeInputStream extends InputStream {
+
+        private byte[] current;
+        private int position;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (current == END) {
+                return -1;
+            }
+            if (current == null || position == current.length) {
+                try {
+                    current = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("업로드 파일 읽기 대기 중 인터럽트되었습니다.");
+                }
+                position = 0;
+                if (current == END) {
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    return -1;
+                }
+            }
+
+            int count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            abort();
+        }
+    }
+}
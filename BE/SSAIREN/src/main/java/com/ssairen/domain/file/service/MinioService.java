@@ -3,6 +3,8 @@ package com.ssairen.domain.file.service;
 import com.ssairen.domain.file.dto.FileUploadResponse;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 /**
  * MinIO 파일 스토리지 Service 인터페이스
  */
@@ -16,6 +18,24 @@ public interface MinioService {
      */
     FileUploadResponse uploadAudioFile(MultipartFile file);
 
+    /**
+     * 오디오 파일 업로드 (내용은 전달받은 스트림에서 읽음)
+     * 업로드 파일을 한 번만 읽어 여러 곳으로 나눠 보낼 때 사용하며, 파일명/크기/형식은 file에서 가져옴
+     *
+     * @param file 업로드할 오디오 파일 (메타데이터)
+     * @param content 파일 내용 스트림 (file.getSize() 만큼 읽음)
+     * @return 업로드된 파일 정보
+     */
+    FileUploadResponse uploadAudioFile(MultipartFile file, InputStream content);
+
+    /**
+     * 오디오 파일 유효성 검증 (빈 파일, 크기, 확장자)
+     * 업로드와 다른 처리를 동시에 시작하기 전에 먼저 검증할 때 사용
+     *
+     * @param file 검증할 오디오 파일
+     */
+    void validateAudioFile(MultipartFile file);
+
     /**
      * 영상 파일 업로드
      *
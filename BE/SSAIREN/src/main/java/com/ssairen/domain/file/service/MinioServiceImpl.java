@@ -11,6 +11,7 @@ import io.minio.RemoveObjectArgs;
 import io.minio.http.Method;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -43,11 +44,22 @@ public class MinioServiceImpl implements MinioService {
     @Override
     public FileUploadResponse uploadAudioFile(MultipartFile file) {
         // 파일 유효성 검증
-        validateFile(file);
         validateAudioFile(file);
 
         String bucketName = minioProperties.getBucketName();
-        return uploadFile(file, bucketName, "오디오");
+        return uploadFile(file, file, bucketName, "오디오");
+    }
+
+    /**
+     * 오디오 파일 업로드 (내용은 전달받은 스트림에서 읽음)
+     */
+    @Override
+    public FileUploadResponse uploadAudioFile(MultipartFile file, InputStream content) {
+        // 파일 유효성 검증
+        validateAudioFile(file);
+
+        String bucketName = minioProperties.getBucketName();
+        return uploadFile(file, () -> content, bucketName, "오디오");
     }
 
     /**
@@ -60,13 +72,16 @@ public class MinioServiceImpl implements MinioService {
         validateVideoFile(file);
 
         String bucketName = minioProperties.getVideoBucketName();
-        return uploadFile(file, bucketName, "영상");
+        return uploadFile(file, file, bucketName, "영상");
     }
 
     /**
      * 파일 업로드 공통 로직
+     *
+     * @param file    업로드할 파일 (파일명/크기/형식)
+     * @param content 파일 내용 (MultipartFile 자체 또는 이미 열린 스트림)
      */
-    private FileUploadResponse uploadFile(MultipartFile file, String bucketName, String fileType) {
+    private FileUploadResponse uploadFile(MultipartFile file, InputStreamSource content, String bucketName, String fileType) {
         try {
             // 원본 파일명과 확장자 추출
             String originalFileName = file.getOriginalFilename();
@@ -87,7 +102,7 @@ public class MinioServiceImpl implements MinioService {
             }
 
             // MinIO에 파일 업로드
-            try (InputStream inputStream = file.getInputStream()) {
+            try (InputStream inputStream = content.getInputStream()) {
                 minioClient.putObject(
                         PutObjectArgs.builder()
                                 .bucket(bucketName)
@@ -180,7 +195,10 @@ public class MinioServiceImpl implements MinioService {
     /**
      * 오디오 파일 유효성 검증
      */
-    private void validateAudioFile(MultipartFile file) {
+    @Override
+    public void validateAudioFile(MultipartFile file) {
+        validateFile(file);
+
         // 파일 크기 체크
         long maxSizeBytes = minioProperties.getMaxAudioFileSize() * 1024L * 1024L; // MB to Bytes
         if (file.getSize() > maxSizeBytes) {
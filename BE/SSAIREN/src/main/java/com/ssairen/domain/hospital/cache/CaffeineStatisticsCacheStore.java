@@ -0,0 +1,74 @@
+package com.ssairen.domain.hospital.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caffeine 기반 병원 통계 캐시 저장소 (기본값)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "statistics.cache.type", havingValue = "caffeine", matchIfMissing = true)
+public class CaffeineStatisticsCacheStore implements HospitalStatisticsCacheStore {
+
+    private final Cache<StatisticsCacheKey, Object> cache;
+    private final AtomicLong globalGeneration = new AtomicLong();
+    private final Map<Integer, AtomicLong> hospitalGenerations = new ConcurrentHashMap<>();
+
+    public CaffeineStatisticsCacheStore(
+            @Value("${statistics.cache.ttl:10m}") Duration ttl,
+            @Value("${statistics.cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+        log.info("병원 통계 캐시 초기화 완료 - Caffeine, TTL: {}, 최대 항목 수: {}", ttl, maximumSize);
+    }
+
+    @Override
+    public long generation(Integer hospitalId) {
+        AtomicLong hospitalGeneration = hospitalGenerations.get(hospitalId);
+        return globalGeneration.get() + (hospitalGeneration == null ? 0 : hospitalGeneration.get());
+    }
+
+    @Override
+    public <T> T get(StatisticsCacheKey key, Class<T> type) {
+        Object value = cache.getIfPresent(key);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    @Override
+    public void put(StatisticsCacheKey key, Object value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public void evict(StatisticsCacheKey key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public int evictCovering(Integer hospitalId, LocalDate date) {
+        hospitalGenerations.computeIfAbsent(hospitalId, id -> new AtomicLong()).incrementAndGet();
+        int before = cache.asMap().size();
+        cache.asMap().keySet().removeIf(key -> key.covers(hospitalId, date));
+        return before - cache.asMap().size();
+    }
+
+    @Override
+    public void clear() {
+        globalGeneration.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
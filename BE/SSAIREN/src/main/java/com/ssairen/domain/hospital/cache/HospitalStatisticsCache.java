@@ -0,0 +1,104 @@
+package com.ssairen.domain.hospital.cache;
+
+import com.ssairen.domain.hospital.enums.StatisticsEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 병원 통계 캐시
+ * - 키: (병원 ID, 통계 API 종류, 시작 날짜, 종료 날짜)
+ * - 수용/내원 처리로 집계가 바뀌면 해당 병원의 해당 날짜를 포함하는 키만 무효화
+ * - 계산 중에 무효화가 일어나면(커밋 전 집계를 읽었을 수 있음) 계산 결과를 캐시에 남기지 않음 (저장소의 무효화 세대로 확인)
+ * - 메트릭: hospital.statistics.cache.requests{endpoint, result=hit|miss}, hospital.statistics.cache.evictions
+ */
+@Slf4j
+@Component
+public class HospitalStatisticsCache {
+
+    private static final String LOG_PREFIX = "[HospitalStatisticsCache] ";
+
+    private final HospitalStatisticsCacheStore store;
+    private final Map<StatisticsEndpoint, Counter> hitCounters = new EnumMap<>(StatisticsEndpoint.class);
+    private final Map<StatisticsEndpoint, Counter> missCounters = new EnumMap<>(StatisticsEndpoint.class);
+    private final Counter evictionCounter;
+
+    public HospitalStatisticsCache(HospitalStatisticsCacheStore store, MeterRegistry meterRegistry) {
+        this.store = store;
+        for (StatisticsEndpoint endpoint : StatisticsEndpoint.values()) {
+            hitCounters.put(endpoint, requestCounter(meterRegistry, endpoint, "hit"));
+            missCounters.put(endpoint, requestCounter(meterRegistry, endpoint, "miss"));
+        }
+        this.evictionCounter = Counter.builder("hospital.statistics.cache.evictions")
+                .description("병원 통계 캐시 무효화 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 계산 후 저장
+     * loader에서 발생한 예외(병원 없음 등)는 캐시하지 않고 그대로 전파
+     * 계산 시작 전 세대와 저장 전후 세대가 다르면 저장하지 않거나 방금 저장한 값을 삭제
+     * (무효화는 세대를 먼저 올린 뒤 삭제하므로, 저장과 무효화가 어떤 순서로 겹쳐도 둘 중 하나가 값을 지움)
+     */
+    public <T> T get(
+            Integer hospitalId,
+            StatisticsEndpoint endpoint,
+            LocalDate startDate,
+            LocalDate endDate,
+            Class<T> type,
+            Supplier<T> loader
+    ) {
+        StatisticsCacheKey key = new StatisticsCacheKey(hospitalId, endpoint, startDate, endDate);
+
+        T cached = store.get(key, type);
+        if (cached != null) {
+            hitCounters.get(endpoint).increment();
+            return cached;
+        }
+
+        missCounters.get(endpoint).increment();
+        long generation = store.generation(hospitalId);
+        T value = loader.get();
+        if (store.generation(hospitalId) != generation) {
+            log.debug(LOG_PREFIX + "계산 중 무효화되어 캐시 저장 생략 - 키: {}", key);
+            return value;
+        }
+
+        store.put(key, value);
+        if (store.generation(hospitalId) != generation) {
+            store.evict(key);
+        }
+        return value;
+    }
+
+    /**
+     * 해당 병원의 해당 날짜 집계를 포함하는 캐시 무효화
+     */
+    public void invalidate(Integer hospitalId, LocalDate date) {
+        int evicted = store.evictCovering(hospitalId, date);
+        evictionCounter.increment(evicted);
+        log.debug(LOG_PREFIX + "캐시 무효화 - 병원 ID: {}, 날짜: {}, 삭제 건수: {}", hospitalId, date, evicted);
+    }
+
+    /**
+     * 전체 캐시 무효화 (집계 백필 이후)
+     */
+    public void invalidateAll() {
+        store.clear();
+        log.info(LOG_PREFIX + "전체 캐시 무효화");
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, StatisticsEndpoint endpoint, String result) {
+        return Counter.builder("hospital.statistics.cache.requests")
+                .description("병원 통계 캐시 조회 건수")
+                .tag("endpoint", endpoint.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
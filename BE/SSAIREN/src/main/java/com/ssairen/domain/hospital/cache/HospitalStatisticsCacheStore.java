@@ -0,0 +1,46 @@
+package com.ssairen.domain.hospital.cache;
+
+import java.time.LocalDate;
+
+/**
+ * 병원 통계 캐시 저장소
+ * - 기본은 인스턴스 로컬 Caffeine, statistics.cache.type=redis 이면 인스턴스 간 공유되는 Redis 사용
+ * - 무효화 세대: 병원의 캐시를 무효화할 때마다 증가하는 값. 무효화는 세대를 먼저 올린 뒤 캐시를 삭제해야 함
+ */
+public interface HospitalStatisticsCacheStore {
+
+    /**
+     * 해당 병원의 현재 무효화 세대
+     * 값 자체는 의미가 없고, 두 시점의 값이 다르면 그 사이에 해당 병원(또는 전체) 무효화가 있었음을 뜻함
+     */
+    long generation(Integer hospitalId);
+
+    /**
+     * 캐시 조회
+     *
+     * @return 캐시된 값 (없으면 null)
+     */
+    <T> T get(StatisticsCacheKey key, Class<T> type);
+
+    /**
+     * 캐시 저장
+     */
+    void put(StatisticsCacheKey key, Object value);
+
+    /**
+     * 캐시 1건 삭제
+     */
+    void evict(StatisticsCacheKey key);
+
+    /**
+     * 해당 병원의 해당 날짜를 포함하는 캐시만 삭제 (병원 세대 증가 후 삭제)
+     *
+     * @return 삭제된 캐시 수
+     */
+    int evictCovering(Integer hospitalId, LocalDate date);
+
+    /**
+     * 전체 캐시 삭제 (전체 세대 증가 후 삭제)
+     */
+    void clear();
+}
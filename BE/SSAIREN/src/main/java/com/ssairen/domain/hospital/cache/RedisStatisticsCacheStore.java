@@ -0,0 +1,177 @@
+package com.ssairen.domain.hospital.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssairen.domain.hospital.enums.StatisticsEndpoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 기반 병원 통계 캐시 저장소
+ * - 여러 인스턴스가 같은 캐시와 무효화 결과를 공유
+ * - 키: hospital-statistics:{hospitalId}:{endpoint}:{startDate}:{endDate}, 값: 응답 JSON
+ * - 무효화 세대: hospital-statistics-generation:{hospitalId}, hospital-statistics-generation:all (INCR, 인스턴스 간 공유)
+ * - Redis 장애 시 캐시 미스로 처리하고 무효화 실패는 로그만 남겨 통계 조회/커밋 후 처리는 계속 동작
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "statistics.cache.type", havingValue = "redis")
+public class RedisStatisticsCacheStore implements HospitalStatisticsCacheStore {
+
+    private static final String KEY_PREFIX = "hospital-statistics:";
+    private static final String GENERATION_KEY_PREFIX = "hospital-statistics-generation:";
+    private static final String GLOBAL_GENERATION_KEY = GENERATION_KEY_PREFIX + "all";
+    private static final long UNKNOWN_GENERATION = -1;
+    private static final int SCAN_COUNT = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public RedisStatisticsCacheStore(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${statistics.cache.ttl:10m}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        log.info("병원 통계 캐시 초기화 완료 - Redis, TTL: {}", ttl);
+    }
+
+    @Override
+    public long generation(Integer hospitalId) {
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(List.of(GLOBAL_GENERATION_KEY, GENERATION_KEY_PREFIX + hospitalId));
+            if (values == null) {
+                return UNKNOWN_GENERATION;
+            }
+            long generation = 0;
+            for (String value : values) {
+                generation += value == null ? 0 : Long.parseLong(value);
+            }
+            return generation;
+        } catch (Exception e) {
+            log.warn("병원 통계 캐시 세대 조회 실패 - 병원 ID: {}, 에러: {}", hospitalId, e.getMessage());
+            return UNKNOWN_GENERATION;
+        }
+    }
+
+    @Override
+    public <T> T get(StatisticsCacheKey key, Class<T> type) {
+        try {
+            String json = redisTemplate.opsForValue().get(toRedisKey(key));
+            return json == null ? null : objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            log.warn("병원 통계 캐시 조회 실패 - 키: {}, 에러: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(StatisticsCacheKey key, Object value) {
+        try {
+            redisTemplate.opsForValue().set(toRedisKey(key), objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("병원 통계 캐시 직렬화 실패 - 키: {}, 에러: {}", key, e.getMessage());
+        } catch (Exception e) {
+            log.warn("병원 통계 캐시 저장 실패 - 키: {}, 에러: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(StatisticsCacheKey key) {
+        try {
+            redisTemplate.delete(toRedisKey(key));
+        } catch (Exception e) {
+            log.warn("병원 통계 캐시 삭제 실패 - 키: {}, 에러: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public int evictCovering(Integer hospitalId, LocalDate date) {
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + hospitalId);
+
+            List<String> targets = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(KEY_PREFIX + hospitalId + ":*")
+                    .count(SCAN_COUNT)
+                    .build();
+
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    String redisKey = cursor.next();
+                    StatisticsCacheKey key = fromRedisKey(redisKey);
+                    if (key != null && key.covers(hospitalId, date)) {
+                        targets.add(redisKey);
+                    }
+                }
+            }
+
+            if (targets.isEmpty()) {
+                return 0;
+            }
+            Long deleted = redisTemplate.delete(targets);
+            return deleted == null ? 0 : deleted.intValue();
+        } catch (Exception e) {
+            log.warn("병원 통계 캐시 무효화 실패 - 병원 ID: {}, 날짜: {}, 에러: {}", hospitalId, date, e.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public void clear() {
+        try {
+            redisTemplate.opsForValue().increment(GLOBAL_GENERATION_KEY);
+
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(KEY_PREFIX + "*")
+                    .count(SCAN_COUNT)
+                    .build();
+
+            List<String> targets = new ArrayList<>();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                cursor.forEachRemaining(targets::add);
+            }
+            if (!targets.isEmpty()) {
+                redisTemplate.delete(targets);
+            }
+        } catch (Exception e) {
+            log.warn("병원 통계 캐시 전체 무효화 실패 - 에러: {}", e.getMessage());
+        }
+    }
+
+    private String toRedisKey(StatisticsCacheKey key) {
+        return KEY_PREFIX + key.hospitalId() + ":" + key.endpoint().name() + ":"
+                + key.startDate() + ":" + key.endDate();
+    }
+
+    private StatisticsCacheKey fromRedisKey(String redisKey) {
+        String[] parts = redisKey.substring(KEY_PREFIX.length()).split(":");
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            return new StatisticsCacheKey(
+                    Integer.valueOf(parts[0]),
+                    StatisticsEndpoint.valueOf(parts[1]),
+                    LocalDate.parse(parts[2]),
+                    LocalDate.parse(parts[3])
+            );
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
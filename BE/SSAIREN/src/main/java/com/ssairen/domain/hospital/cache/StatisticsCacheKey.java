@@ -0,0 +1,30 @@
+package com.ssairen.domain.hospital.cache;
+
+import com.ssairen.domain.hospital.enums.StatisticsEndpoint;
+
+import java.time.LocalDate;
+
+/**
+ * 병원 통계 캐시 키
+ *
+ * @param hospitalId 병원 ID
+ * @param endpoint 통계 API 종류
+ * @param startDate 시작 날짜 (포함)
+ * @param endDate 종료 날짜 (포함)
+ */
+public record StatisticsCacheKey(
+        Integer hospitalId,
+        StatisticsEndpoint endpoint,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+
+    /**
+     * 해당 병원의 해당 날짜 집계를 포함하는 키인지 여부
+     */
+    public boolean covers(Integer hospitalId, LocalDate date) {
+        return this.hospitalId.equals(hospitalId)
+                && !date.isBefore(startDate)
+                && !date.isAfter(endDate);
+    }
+}
@@ -4,6 +4,7 @@ import com.ssairen.config.swagger.annotation.ApiInternalServerError;
 import com.ssairen.config.swagger.annotation.ApiUnauthorizedError;
 import com.ssairen.domain.hospital.dto.*;
 import com.ssairen.global.dto.ApiResponse;
+import com.ssairen.global.dto.CursorPageResponse;
 import com.ssairen.global.dto.PageResponse;
 import com.ssairen.global.security.dto.CustomUserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +14,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
@@ -191,6 +194,63 @@ public interface HospitalApi {
             @AuthenticationPrincipal CustomUserPrincipal principal
     );
 
+    /**
+     * 병원이 수용한 환자 목록 조회 (커서 페이지네이션)
+     * - cursor 파라미터가 있으면 커서 모드로 동작 (첫 페이지는 빈 값으로 요청)
+     * - 페이지 깊이와 무관하게 일정한 비용으로 다음 페이지 조회
+     */
+    @Operation(
+            summary = "수용한 환자 목록 조회 (커서 페이지네이션)",
+            description = "병원이 수용(ACCEPTED)하거나 내원 완료(ARRIVED)된 환자 목록을 (응답 시각, ID) 커서로 조회합니다. " +
+                    "OFFSET 방식과 달리 뒤쪽 페이지도 첫 페이지와 동일한 비용으로 조회됩니다.\n\n" +
+                    "**cursor 파라미터 설명:**\n" +
+                    "- 첫 페이지: `cursor=` (빈 값)\n" +
+                    "- 다음 페이지: 직전 응답의 `nextCursor` 값 (`hasNext`가 false면 마지막 페이지)\n\n" +
+                    "**includeTotal 파라미터 설명:**\n" +
+                    "- `true`면 첫 페이지 응답에 전체 개수(`totalElements`)를 포함 (이후 페이지는 null)\n" +
+                    "- `false`면 전체 개수를 집계하지 않음 (기본값)\n\n" +
+                    "**커서 페이지네이션 예시:**\n" +
+                    "- 1페이지: `cursor=&size=10&includeTotal=true`\n" +
+                    "- 2페이지: `cursor={1페이지 nextCursor}&size=10`"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서 형식"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "권한 없음 (다른 병원의 환자 목록 조회 시도)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "병원을 찾을 수 없음"
+            )
+    })
+    @ApiUnauthorizedError
+    @ApiInternalServerError
+    ResponseEntity<ApiResponse<CursorPageResponse<AcceptedPatientDto>>> getAcceptedPatientsByCursor(
+            @Parameter(description = "병원 ID", required = true, example = "2")
+            @PathVariable @Positive(message = "병원 ID는 양의 정수여야 합니다.") Integer hospitalId,
+            @Parameter(description = "직전 페이지의 nextCursor (첫 페이지는 빈 값)", example = "")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지당 데이터 개수", example = "10")
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.") @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size,
+            @Parameter(description = "상태 필터 (all: 전체, accepted: 내원 대기만)", example = "all")
+            @RequestParam(defaultValue = "all") String status,
+            @Parameter(description = "기간 필터 (all: 전체, week: 최근 일주일, month: 최근 한달)", example = "all")
+            @RequestParam(defaultValue = "all") String dateRange,
+            @Parameter(description = "첫 페이지에서 전체 개수 집계 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserPrincipal principal
+    );
+
     /**
      * 병원이 수용한 환자의 상세 정보 조회
      * - 환자의 모든 바이탈 사인, 과거력 등 전체 정보 조회
@@ -374,4 +434,36 @@ public interface HospitalApi {
             @Parameter(description = "AI 병원 추천 요청 정보 (구급일지 ID, 위도, 경도, 반경)", required = true)
             @Valid @RequestBody HospitalAiRecommendationRequest request
     );
+
+    /**
+     * 주변 병원 조회
+     * - 현재 위치 기준 가까운 병원을 거리순으로 반환
+     * - 서버 메모리의 공간 인덱스로 처리하므로 DB를 조회하지 않음
+     */
+    @Operation(
+            summary = "주변 병원 조회",
+            description = "현재 위치(위도, 경도)를 기준으로 반경 내에서 가까운 병원을 거리순으로 최대 limit개 조회합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (유효하지 않은 좌표, 반경, 개수)"
+            )
+    })
+    @ApiUnauthorizedError
+    @ApiInternalServerError
+    ResponseEntity<ApiResponse<List<NearbyHospitalResponse>>> getNearbyHospitals(
+            @Parameter(description = "위도", required = true, example = "37.5062528")
+            @RequestParam @DecimalMin(value = "-90.0", message = "위도는 -90 이상이어야 합니다.") @DecimalMax(value = "90.0", message = "위도는 90 이하여야 합니다.") Double latitude,
+            @Parameter(description = "경도", required = true, example = "127.0317056")
+            @RequestParam @DecimalMin(value = "-180.0", message = "경도는 -180 이상이어야 합니다.") @DecimalMax(value = "180.0", message = "경도는 180 이하여야 합니다.") Double longitude,
+            @Parameter(description = "최대 검색 반경 (킬로미터)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "반경은 1km 이상이어야 합니다.") @Max(value = 100, message = "반경은 100km 이하여야 합니다.") Integer radius,
+            @Parameter(description = "최대 병원 수", example = "10")
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "병원 수는 1 이상이어야 합니다.") @Max(value = 50, message = "병원 수는 50 이하여야 합니다.") int limit
+    );
 }
@@ -5,11 +5,14 @@ import com.ssairen.domain.hospital.enums.DateRangeFilter;
 import com.ssairen.domain.hospital.enums.PatientFilterType;
 import com.ssairen.domain.hospital.service.HospitalService;
 import com.ssairen.global.dto.ApiResponse;
+import com.ssairen.global.dto.CursorPageResponse;
 import com.ssairen.global.dto.PageResponse;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
 import com.ssairen.global.security.dto.CustomUserPrincipal;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
@@ -94,31 +97,39 @@ public class HospitalController implements HospitalApi {
             @RequestParam(defaultValue = "all") String dateRange,
             @AuthenticationPrincipal CustomUserPrincipal principal
     ) {
-        // status 파라미터를 PatientFilterType으로 변환
-        PatientFilterType filterType;
-        try {
-            filterType = PatientFilterType.valueOf(status.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
-                    "status는 'all' 또는 'accepted'만 가능합니다.");
-        }
-
-        // dateRange 파라미터를 DateRangeFilter로 변환
-        DateRangeFilter dateRangeFilter;
-        try {
-            dateRangeFilter = DateRangeFilter.valueOf(dateRange.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
-                    "dateRange는 'all', 'week', 'month'만 가능합니다.");
-        }
-
         PageResponse<AcceptedPatientDto> patients = hospitalService.getAcceptedPatientsWithPagination(
                 hospitalId,
                 principal.getId(),
                 page,
                 size,
-                filterType,
-                dateRangeFilter
+                parsePatientFilterType(status),
+                parseDateRangeFilter(dateRange)
+        );
+
+        return ResponseEntity.ok(
+                ApiResponse.success(patients, "수용한 환자 목록을 조회했습니다.")
+        );
+    }
+
+    @Override
+    @GetMapping(value = "/hospitals/{hospitalId}/patients", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<AcceptedPatientDto>>> getAcceptedPatientsByCursor(
+            @PathVariable @Positive(message = "병원 ID는 양의 정수여야 합니다.") Integer hospitalId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.") @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size,
+            @RequestParam(defaultValue = "all") String status,
+            @RequestParam(defaultValue = "all") String dateRange,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @AuthenticationPrincipal CustomUserPrincipal principal
+    ) {
+        CursorPageResponse<AcceptedPatientDto> patients = hospitalService.getAcceptedPatientsWithCursor(
+                hospitalId,
+                principal.getId(),
+                cursor,
+                size,
+                parsePatientFilterType(status),
+                parseDateRangeFilter(dateRange),
+                includeTotal
         );
 
         return ResponseEntity.ok(
@@ -211,4 +222,43 @@ public class HospitalController implements HospitalApi {
                 ApiResponse.success(response, "AI 기반 병원 추천 및 이송 요청이 완료되었습니다.")
         );
     }
+
+    @Override
+    @GetMapping("/hospital-selection/nearby")
+    public ResponseEntity<ApiResponse<List<NearbyHospitalResponse>>> getNearbyHospitals(
+            @RequestParam @DecimalMin(value = "-90.0", message = "위도는 -90 이상이어야 합니다.") @DecimalMax(value = "90.0", message = "위도는 90 이하여야 합니다.") Double latitude,
+            @RequestParam @DecimalMin(value = "-180.0", message = "경도는 -180 이상이어야 합니다.") @DecimalMax(value = "180.0", message = "경도는 180 이하여야 합니다.") Double longitude,
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "반경은 1km 이상이어야 합니다.") @Max(value = 100, message = "반경은 100km 이하여야 합니다.") Integer radius,
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "병원 수는 1 이상이어야 합니다.") @Max(value = 50, message = "병원 수는 50 이하여야 합니다.") int limit
+    ) {
+        List<NearbyHospitalResponse> hospitals = hospitalService.getNearbyHospitals(latitude, longitude, radius, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(hospitals, "주변 병원 목록을 조회했습니다.")
+        );
+    }
+
+    /**
+     * status 파라미터를 PatientFilterType으로 변환
+     */
+    private PatientFilterType parsePatientFilterType(String status) {
+        try {
+            return PatientFilterType.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "status는 'all' 또는 'accepted'만 가능합니다.");
+        }
+    }
+
+    /**
+     * dateRange 파라미터를 DateRangeFilter로 변환
+     */
+    private DateRangeFilter parseDateRangeFilter(String dateRange) {
+        try {
+            return DateRangeFilter.valueOf(dateRange.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "dateRange는 'all', 'week', 'month'만 가능합니다.");
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.ssairen.domain.hospital.controller;
 
 import com.ssairen.domain.hospital.dto.DisasterTypeStatisticsResponse;
 import com.ssairen.domain.hospital.dto.PatientStatisticsResponse;
+import com.ssairen.domain.hospital.dto.StatisticsOverviewResponse;
 import com.ssairen.domain.hospital.dto.StatisticsRequest;
 import com.ssairen.domain.hospital.dto.TimeStatisticsResponse;
 import com.ssairen.domain.hospital.service.HospitalStatisticsService;
@@ -201,4 +202,60 @@ public class HospitalStatisticsController {
                 ApiResponse.success(response, "재난 유형별 통계가 조회되었습니다.")
         );
     }
+
+    @Operation(
+            summary = "통계 대시보드 통합 조회",
+            description = "특정 기간 동안 병원의 시간별, 환자, 재난 유형별 통계를 한 번에 조회합니다. " +
+                    "세 통계 API를 각각 호출하는 대신 한 번의 집계 조회로 모든 분포와 총 수용 건수를 제공합니다. " +
+                    "병원은 본인의 통계만 조회 가능합니다."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "통계 조회 성공",
+                    content = @Content(schema = @Schema(implementation = StatisticsOverviewResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (날짜 형식 오류 등)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "권한 없음 (다른 병원의 통계 조회 시도)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "병원을 찾을 수 없음"
+            )
+    })
+    @PostMapping("/overview")
+    public ResponseEntity<ApiResponse<StatisticsOverviewResponse>> getOverviewStatistics(
+            @Parameter(description = "병원 ID", required = true)
+            @PathVariable Integer hospitalId,
+
+            @Parameter(description = "통계 조회 요청", required = true)
+            @Valid @RequestBody StatisticsRequest request,
+
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomUserPrincipal principal
+    ) {
+        log.info("🔍 GET /api/hospitals/{}/statistics/overview - User ID: {}, Period: {} ~ {}",
+                hospitalId, principal.getId(), request.startDate(), request.endDate());
+
+        // 권한 검증: 본인 병원 통계만 조회 가능
+        if (!hospitalId.equals(principal.getId())) {
+            log.warn("⚠️ Access denied - Requested hospital ID: {}, User ID: {}",
+                    hospitalId, principal.getId());
+            throw new com.ssairen.global.exception.CustomException(
+                    com.ssairen.global.exception.ErrorCode.ACCESS_DENIED,
+                    "본인 병원의 통계만 조회할 수 있습니다."
+            );
+        }
+
+        StatisticsOverviewResponse response = hospitalStatisticsService.getOverviewStatistics(request, hospitalId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(response, "통계 대시보드가 조회되었습니다.")
+        );
+    }
 }
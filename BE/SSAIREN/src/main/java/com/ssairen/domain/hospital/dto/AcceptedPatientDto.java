@@ -47,4 +47,20 @@ public class AcceptedPatientDto {
                 .status(selection.getStatus())
                 .build();
     }
+
+    /**
+     * 병원 선택 + 환자 정보 프로젝션으로부터 DTO 생성
+     */
+    public static AcceptedPatientDto from(HospitalSelectionPatientView view) {
+        return AcceptedPatientDto.builder()
+                .hospitalSelectionId(view.getHospitalSelectionId())
+                .emergencyReportId(view.getEmergencyReportId())
+                .gender(view.getGender().name())
+                .age(view.getAge())
+                .recordTime(view.getRecordTime())
+                .chiefComplaint(view.getChiefComplaint())
+                .mentalStatus(view.getMentalStatus().name())
+                .status(view.getStatus())
+                .build();
+    }
 }
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -22,4 +24,10 @@ public class AiRecommendationRequest {
 
     @JsonProperty("radius")
     private Integer radius;
+
+    /**
+     * 백엔드 공간 인덱스로 미리 추린 반경 내 병원 이름 목록 (null이면 AI 서버 검색 결과 전체 사용)
+     */
+    @JsonProperty("candidate_hospitals")
+    private List<String> candidateHospitals;
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.ssairen.domain.hospital.dto;
+
+import com.ssairen.domain.hospital.entity.PatientInfo;
+import com.ssairen.domain.hospital.enums.HospitalSelectionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 병원 선택 + 구급일지 + 환자 정보 + 구급대원 ID 평면 프로젝션
+ * 병원 대기/수용 목록을 한 번의 쿼리로 조회하기 위해 사용 (행마다 환자 정보를 따로 조회하지 않음)
+ * 환자 정보가 없는 경우(LEFT JOIN) 환자 관련 필드는 모두 null
+ */
+public interface HospitalSelectionPatientView {
+
+    // 병원 선택
+    Integer getHospitalSelectionId();
+
+    HospitalSelectionStatus getStatus();
+
+    LocalDateTime getResponseAt();
+
+    // 구급일지
+    Long getEmergencyReportId();
+
+    Integer getParamedicId();
+
+    // 환자 정보
+    Long getPatientInfoId();
+
+    PatientInfo.Gender getGender();
+
+    Integer getAge();
+
+    LocalDateTime getRecordTime();
+
+    PatientInfo.MentalStatus getMentalStatus();
+
+    String getChiefComplaint();
+
+    Integer getHr();
+
+    String getBp();
+
+    Integer getSpo2();
+
+    Integer getRr();
+
+    BigDecimal getBt();
+
+    Boolean getHasGuardian();
+
+    String getHx();
+
+    LocalDateTime getOnsetTime();
+
+    LocalDateTime getLnt();
+
+    /**
+     * 환자 정보 존재 여부
+     */
+    default boolean hasPatientInfo() {
+        return getPatientInfoId() != null;
+    }
+}
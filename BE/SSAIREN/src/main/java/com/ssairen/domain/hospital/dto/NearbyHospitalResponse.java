@@ -0,0 +1,60 @@
+package com.ssairen.domain.hospital.dto;
+
+import com.ssairen.domain.hospital.service.HospitalGeoIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주변 병원 조회 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "주변 병원 정보")
+public class NearbyHospitalResponse {
+
+    @Schema(description = "병원 ID", example = "1")
+    private Integer hospitalId;
+
+    @Schema(description = "병원 이름", example = "서울대")
+    private String hospitalName;
+
+    @Schema(description = "병원 공식 명칭", example = "서울대학교병원")
+    private String officialName;
+
+    @Schema(description = "위도", example = "37.5796")
+    private Double latitude;
+
+    @Schema(description = "경도", example = "126.9990")
+    private Double longitude;
+
+    @Schema(description = "기준 좌표로부터의 거리 (킬로미터)", example = "2.35")
+    private Double distanceKm;
+
+    @Schema(description = "병원 전화번호", example = "02-2072-2114")
+    private String phoneNumber;
+
+    @Schema(description = "병원 주소", example = "서울특별시 종로구 대학로 101")
+    private String address;
+
+    /**
+     * 공간 인덱스 검색 결과로부터 DTO 생성
+     */
+    public static NearbyHospitalResponse from(HospitalGeoIndex.Candidate candidate) {
+        HospitalGeoIndex.Entry hospital = candidate.hospital();
+        return NearbyHospitalResponse.builder()
+                .hospitalId(hospital.id())
+                .hospitalName(hospital.name())
+                .officialName(hospital.officialName())
+                .latitude(hospital.latitude())
+                .longitude(hospital.longitude())
+                .distanceKm(Math.round(candidate.distanceKm() * 100) / 100.0)
+                .phoneNumber(hospital.phoneNumber())
+                .address(hospital.address())
+                .build();
+    }
+}
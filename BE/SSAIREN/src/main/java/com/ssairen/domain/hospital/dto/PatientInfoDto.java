@@ -58,4 +58,31 @@ public class PatientInfoDto {
                 .lnt(patientInfo.getLnt())
                 .build();
     }
+
+    /**
+     * 병원 선택 + 환자 정보 프로젝션을 DTO로 변환 (환자 정보가 없으면 null)
+     */
+    public static PatientInfoDto from(HospitalSelectionPatientView view) {
+        if (view == null || !view.hasPatientInfo()) {
+            return null;
+        }
+
+        return PatientInfoDto.builder()
+                .emergencyReportId(view.getPatientInfoId())
+                .gender(view.getGender().name())
+                .age(view.getAge())
+                .recordTime(view.getRecordTime())
+                .mentalStatus(view.getMentalStatus().name())
+                .chiefComplaint(view.getChiefComplaint())
+                .hr(view.getHr())
+                .bp(view.getBp())
+                .spo2(view.getSpo2())
+                .rr(view.getRr())
+                .bt(view.getBt())
+                .hasGuardian(view.getHasGuardian())
+                .hx(view.getHx())
+                .onsetTime(view.getOnsetTime())
+                .lnt(view.getLnt())
+                .build();
+    }
 }
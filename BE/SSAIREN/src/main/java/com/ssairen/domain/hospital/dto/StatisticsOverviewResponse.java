@@ -0,0 +1,39 @@
+package com.ssairen.domain.hospital.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.Map;
+
+@Schema(description = "통계 대시보드 통합 응답 (시간별 + 환자 + 재난 유형별)")
+public record StatisticsOverviewResponse(
+        @Schema(description = "요일별 환자 수용 건수", example = "{\"MONDAY\": 45, \"TUESDAY\": 52}")
+        Map<String, Long> byDayOfWeek,
+
+        @Schema(description = "시간대별 환자 수용 건수 (0-23시)", example = "{\"0\": 12, \"1\": 8, \"23\": 15}")
+        Map<String, Long> byHour,
+
+        @Schema(description = "성별 환자 수용 건수", example = "{\"M\": 120, \"F\": 95}")
+        Map<String, Long> byGender,
+
+        @Schema(description = "연령대별 환자 수용 건수", example = "{\"0-9\": 5, \"10-19\": 12, \"80+\": 7}")
+        Map<String, Long> byAgeGroup,
+
+        @Schema(description = "의식 상태별 환자 수용 건수", example = "{\"ALERT\": 80, \"VERBAL\": 30, \"PAIN\": 15, \"UNRESPONSIVE\": 10}")
+        Map<String, Long> byMentalStatus,
+
+        @Schema(description = "재난 유형별 환자 수용 건수", example = "{\"화재\": 30, \"교통사고\": 50}")
+        Map<String, Long> byDisasterType,
+
+        @Schema(description = "재난 세부 유형별 환자 수용 건수", example = "{\"건물화재\": 20, \"승용차 추돌\": 30}")
+        Map<String, Long> byDisasterSubtype,
+
+        @Schema(description = "통계 시작 날짜", example = "2025-01-01")
+        LocalDate startDate,
+
+        @Schema(description = "통계 종료 날짜", example = "2025-01-31")
+        LocalDate endDate,
+
+        @Schema(description = "총 수용 건수", example = "292")
+        Long totalCount
+) {
+}
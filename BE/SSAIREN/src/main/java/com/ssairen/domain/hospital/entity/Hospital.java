@@ -1,6 +1,7 @@
 package com.ssairen.domain.hospital.entity;
 
 import com.ssairen.domain.common.entity.BaseEntity;
+import com.ssairen.domain.hospital.service.HospitalGeoIndexListener;
 import com.ssairen.global.annotation.ExcludeFromLogging;
 import jakarta.persistence.*;
 import lombok.*;
@@ -12,6 +13,7 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "hospitals")
+@EntityListeners(HospitalGeoIndexListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,49 @@
+package com.ssairen.domain.hospital.entity;
+
+import com.ssairen.domain.hospital.enums.StatisticsDimension;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 병원 일별 통계 집계 (hospital, day, dimension, bucket 단위)
+ * - 수용(ACCEPTED/ARRIVED) 건수를 날짜별로 미리 합산해 두어, 통계 조회 시 원본 테이블 대신 집계 행만 합산
+ * - 행 생성/갱신은 {@code HospitalDailyStatisticsRepository}의 네이티브 UPSERT로만 수행
+ */
+@Entity
+@Table(name = "hospital_daily_statistics",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_hospital_daily_statistics_key",
+                        columnNames = {"hospital_id", "stat_date", "dimension", "bucket"})
+        },
+        indexes = {
+                // 통계 조회: 병원 + 차원 + 기간 범위
+                @Index(name = "idx_hospital_daily_statistics_dimension", columnList = "hospital_id,dimension,stat_date")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class HospitalDailyStatistics {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "hospital_id", nullable = false)
+    private Integer hospitalId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 30)
+    private StatisticsDimension dimension;
+
+    @Column(name = "bucket", nullable = false, length = 100)
+    private String bucket;
+
+    @Column(name = "selection_count", nullable = false)
+    private Long selectionCount;
+}
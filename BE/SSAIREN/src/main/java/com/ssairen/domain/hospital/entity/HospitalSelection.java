@@ -9,15 +9,31 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "hospital_selection")
+@Table(name = "hospital_selection", indexes = {
+        // 병원별 수용 환자 목록 커서 페이지네이션 (병원/상태별 response_at 범위 조회)
+        @Index(name = "idx_hospital_selection_hospital_status_response", columnList = "hospital_id,status,response_at DESC,id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class HospitalSelection extends BaseEntity {
 
+    public static final String SEQUENCE_NAME = "hospital_selection_seq";
+    public static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    /**
+     * 시퀀스 기반 ID (allocationSize 단위로 미리 할당)
+     * IDENTITY는 INSERT 시점에 ID를 받아야 해서 JDBC 배치가 불가능하므로,
+     * 다수 병원에 동시 요청 시 saveAll 한 번으로 배치 INSERT 되도록 시퀀스를 사용
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hospital_selection_seq_generator")
+    @SequenceGenerator(
+            name = "hospital_selection_seq_generator",
+            sequenceName = HospitalSelection.SEQUENCE_NAME,
+            allocationSize = HospitalSelection.SEQUENCE_ALLOCATION_SIZE
+    )
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,24 @@
+package com.ssairen.domain.hospital.enums;
+
+import lombok.Getter;
+
+/**
+ * 일별 통계 집계 차원
+ * - 요일별 통계는 별도 차원 없이 TOTAL 행의 집계 날짜(stat_date)로 계산
+ */
+@Getter
+public enum StatisticsDimension {
+    TOTAL("전체 수용 건수"),
+    HOUR("시간대"),
+    GENDER("성별"),
+    AGE_GROUP("연령대"),
+    MENTAL_STATUS("의식 상태"),
+    DISASTER_TYPE("재난 유형"),
+    DISASTER_SUBTYPE("재난 세부 유형");
+
+    private final String description;
+
+    StatisticsDimension(String description) {
+        this.description = description;
+    }
+}
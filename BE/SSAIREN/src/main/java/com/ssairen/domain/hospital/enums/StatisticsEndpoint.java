@@ -0,0 +1,20 @@
+package com.ssairen.domain.hospital.enums;
+
+import lombok.Getter;
+
+/**
+ * 병원 통계 조회 API 종류 (통계 캐시 키 구성 요소)
+ */
+@Getter
+public enum StatisticsEndpoint {
+    TIME("시간별 통계"),
+    PATIENT("환자 통계"),
+    DISASTER_TYPE("재난 유형별 통계"),
+    OVERVIEW("통계 대시보드");
+
+    private final String description;
+
+    StatisticsEndpoint(String description) {
+        this.description = description;
+    }
+}
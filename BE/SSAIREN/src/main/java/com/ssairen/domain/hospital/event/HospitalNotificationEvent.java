@@ -0,0 +1,33 @@
+package com.ssairen.domain.hospital.event;
+
+import java.util.List;
+
+/**
+ * 병원 웹소켓 알림 이벤트
+ * 트랜잭션 커밋 이후 {@link HospitalNotificationListener}가 병원별 토픽으로 병렬 전송
+ *
+ * @param emergencyReportId 구급일지 ID (로그용)
+ * @param notifications 병원별 전송 메시지 목록
+ */
+public record HospitalNotificationEvent(Long emergencyReportId, List<Notification> notifications) {
+
+    private static final String TOPIC_PREFIX = "/topic/hospital.";
+
+    public HospitalNotificationEvent {
+        notifications = List.copyOf(notifications);
+    }
+
+    /**
+     * 병원 한 곳에 보낼 메시지
+     *
+     * @param hospitalId 병원 ID
+     * @param hospitalSelectionId 병원 선택 ID (로그용)
+     * @param payload 전송할 메시지 (HospitalRequestMessage, HospitalCompletedMessage 등)
+     */
+    public record Notification(Integer hospitalId, Integer hospitalSelectionId, Object payload) {
+
+        public String topic() {
+            return TOPIC_PREFIX + hospitalId;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ssairen.domain.hospital.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 병원 웹소켓 알림 리스너
+ * - 트랜잭션 커밋 이후에만 전송하므로 롤백된 요청으로 병원에 알림이 가지 않음
+ * - 병원별 전송은 알림 전용 Executor에서 병렬로 처리하여 요청 스레드를 붙잡지 않음
+ */
+@Slf4j
+@Component
+public class HospitalNotificationListener {
+
+    private static final String LOG_PREFIX = "[HospitalNotificationListener] ";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TaskExecutor hospitalNotificationExecutor;
+
+    public HospitalNotificationListener(
+            SimpMessagingTemplate messagingTemplate,
+            @Qualifier("hospitalNotificationExecutor") TaskExecutor hospitalNotificationExecutor
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.hospitalNotificationExecutor = hospitalNotificationExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onHospitalNotification(HospitalNotificationEvent event) {
+        log.info(LOG_PREFIX + "병원 알림 전송 시작 - 구급일지 ID: {}, 대상 병원 수: {}",
+                event.emergencyReportId(), event.notifications().size());
+
+        for (HospitalNotificationEvent.Notification notification : event.notifications()) {
+            hospitalNotificationExecutor.execute(() -> send(notification));
+        }
+    }
+
+    private void send(HospitalNotificationEvent.Notification notification) {
+        String topic = notification.topic();
+        try {
+            messagingTemplate.convertAndSend(topic, notification.payload());
+            log.info(LOG_PREFIX + "웹소켓 메시지 전송 성공 - 병원 ID: {}, 선택 ID: {}, 토픽: {}",
+                    notification.hospitalId(), notification.hospitalSelectionId(), topic);
+        } catch (Exception e) {
+            log.error(LOG_PREFIX + "웹소켓 메시지 전송 실패 - 병원 ID: {}, 선택 ID: {}, 에러: {}",
+                    notification.hospitalId(), notification.hospitalSelectionId(), e.getMessage(), e);
+        }
+    }
+}
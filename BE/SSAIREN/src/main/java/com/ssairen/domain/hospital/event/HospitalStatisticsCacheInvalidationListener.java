@@ -0,0 +1,26 @@
+package com.ssairen.domain.hospital.event;
+
+import com.ssairen.domain.hospital.cache.HospitalStatisticsCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 병원 통계 캐시 무효화 리스너
+ * - 커밋 이후에 무효화하여, 무효화 뒤 커밋 전 집계가 다시 캐시에 올라가지 않도록 함
+ * - 무효화 전에 이전 집계를 읽어 계산 중이던 요청은 HospitalStatisticsCache가 무효화 세대를 확인해 저장하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HospitalStatisticsCacheInvalidationListener {
+
+    private final HospitalStatisticsCache hospitalStatisticsCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatisticsChanged(HospitalStatisticsChangedEvent event) {
+        hospitalStatisticsCache.invalidate(event.hospitalId(), event.statDate());
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssairen.domain.hospital.event;
+
+import java.time.LocalDate;
+
+/**
+ * 병원 일별 통계 변경 이벤트
+ * 트랜잭션 커밋 이후 해당 일자를 포함하는 통계 캐시만 무효화하는 데 사용
+ *
+ * @param hospitalId 병원 ID
+ * @param statDate 집계가 변경된 날짜
+ */
+public record HospitalStatisticsChangedEvent(Integer hospitalId, LocalDate statDate) {
+}
@@ -0,0 +1,296 @@
+package com.ssairen.domain.hospital.repository;
+
+import com.ssairen.domain.hospital.entity.HospitalDailyStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 병원 일별 통계 집계 Repository
+ */
+@Repository
+public interface HospitalDailyStatisticsRepository extends JpaRepository<HospitalDailyStatistics, Long> {
+
+    /**
+     * 수용 건(ACCEPTED, ARRIVED) 1건을 차원별 버킷 행으로 펼치는 공통 FROM/WHERE 절
+     * - LATERAL VALUES로 한 번의 스캔에서 모든 차원의 버킷을 생성
+     * - TOTAL/HOUR 버킷은 hospital_selection만으로 계산하므로 모든 JOIN은 LEFT JOIN (기존 통계처럼 구급일지/출동 정보가 없어도 집계)
+     * - 환자 정보/출동 정보가 없는 건은 해당 차원의 버킷이 NULL이므로 제외 (기존 INNER JOIN 통계와 동일)
+     */
+    String DIMENSION_ROWS =
+            "FROM hospital_selection hs " +
+            "LEFT JOIN emergency_reports er ON hs.emergency_report_id = er.id " +
+            "LEFT JOIN dispatches d ON er.dispatches_id = d.id " +
+            "LEFT JOIN patient_info pi ON er.id = pi.emergency_report_id " +
+            "CROSS JOIN LATERAL (VALUES " +
+            "  ('TOTAL', 'ALL'), " +
+            "  ('HOUR', CAST(CAST(EXTRACT(HOUR FROM hs.response_at) AS INTEGER) AS VARCHAR)), " +
+            "  ('GENDER', CAST(pi.gender AS VARCHAR)), " +
+            "  ('AGE_GROUP', CASE " +
+            "    WHEN pi.age IS NULL THEN NULL " +
+            "    WHEN pi.age < 10 THEN '0-9' " +
+            "    WHEN pi.age < 20 THEN '10-19' " +
+            "    WHEN pi.age < 30 THEN '20-29' " +
+            "    WHEN pi.age < 40 THEN '30-39' " +
+            "    WHEN pi.age < 50 THEN '40-49' " +
+            "    WHEN pi.age < 60 THEN '50-59' " +
+            "    WHEN pi.age < 70 THEN '60-69' " +
+            "    WHEN pi.age < 80 THEN '70-79' " +
+            "    ELSE '80+' " +
+            "  END), " +
+            "  ('MENTAL_STATUS', CAST(pi.mental_status AS VARCHAR)), " +
+            "  ('DISASTER_TYPE', CAST(d.disaster_type AS VARCHAR)), " +
+            "  ('DISASTER_SUBTYPE', CAST(d.disaster_subtype AS VARCHAR)) " +
+            ") AS dim(dimension, bucket) " +
+            "WHERE hs.status IN ('ACCEPTED', 'ARRIVED') " +
+            "AND hs.response_at IS NOT NULL " +
+            "AND dim.bucket IS NOT NULL ";
+
+    String INSERT_INTO =
+            "INSERT INTO hospital_daily_statistics (hospital_id, stat_date, dimension, bucket, selection_count) ";
+
+    String GROUP_BY_KEY =
+            "GROUP BY hs.hospital_id, CAST(hs.response_at AS DATE), dim.dimension, dim.bucket ";
+
+    String ON_CONFLICT =
+            "ON CONFLICT (hospital_id, stat_date, dimension, bucket) ";
+
+    // ==================== 집계 갱신 ====================
+
+    /**
+     * 집계 재계산 잠금 시도 (PostgreSQL 트랜잭션 단위 advisory lock, 커밋/롤백 시 자동 해제)
+     * 여러 인스턴스가 동시에 백필/보정을 실행하지 않도록 사용
+     *
+     * @param lockKey 잠금 키
+     * @return 잠금 획득 여부 (다른 트랜잭션이 잡고 있으면 대기하지 않고 false)
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryAcquireRebuildLock(@Param("lockKey") long lockKey);
+
+    /**
+     * 수용 건 1건을 집계에 더함 (증분 갱신)
+     * - 상태가 ACCEPTED/ARRIVED가 아니면 아무 행도 변경되지 않음
+     *
+     * @param hospitalSelectionId 병원 선택 ID
+     * @return 변경된 집계 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = INSERT_INTO +
+            "SELECT hs.hospital_id, CAST(hs.response_at AS DATE), dim.dimension, dim.bucket, 1 " +
+            DIMENSION_ROWS +
+            "AND hs.id = :hospitalSelectionId " +
+            ON_CONFLICT +
+            "DO UPDATE SET selection_count = hospital_daily_statistics.selection_count + EXCLUDED.selection_count",
+            nativeQuery = true)
+    int incrementBySelectionId(@Param("hospitalSelectionId") Integer hospitalSelectionId);
+
+    /**
+     * 특정 병원의 기간 집계 삭제 (재계산 전 단계)
+     *
+     * @param hospitalId 병원 ID
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (포함)
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM hospital_daily_statistics " +
+            "WHERE hospital_id = :hospitalId " +
+            "AND stat_date BETWEEN :startDate AND :endDate",
+            nativeQuery = true)
+    int deleteByHospitalIdAndPeriod(
+            @Param("hospitalId") Integer hospitalId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 특정 병원의 기간 집계를 원본 데이터로 다시 계산
+     *
+     * @param hospitalId 병원 ID
+     * @param startDateTime 시작 일시 (포함)
+     * @param endDateTime 종료 일시 (미포함)
+     * @return 생성된 집계 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = INSERT_INTO +
+            "SELECT hs.hospital_id, CAST(hs.response_at AS DATE), dim.dimension, dim.bucket, COUNT(*) " +
+            DIMENSION_ROWS +
+            "AND hs.hospital_id = :hospitalId " +
+            "AND hs.response_at >= :startDateTime " +
+            "AND hs.response_at < :endDateTime " +
+            GROUP_BY_KEY +
+            ON_CONFLICT +
+            "DO UPDATE SET selection_count = EXCLUDED.selection_count",
+            nativeQuery = true)
+    int rebuildByHospitalIdAndPeriod(
+            @Param("hospitalId") Integer hospitalId,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime
+    );
+
+    /**
+     * 전체 병원의 기간 집계 삭제 (백필 전 단계)
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (포함)
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM hospital_daily_statistics " +
+            "WHERE stat_date BETWEEN :startDate AND :endDate",
+            nativeQuery = true)
+    int deleteByPeriod(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 전체 병원의 기간 집계를 원본 데이터로 다시 계산 (백필)
+     *
+     * @param startDateTime 시작 일시 (포함)
+     * @param endDateTime 종료 일시 (미포함)
+     * @return 생성된 집계 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = INSERT_INTO +
+            "SELECT hs.hospital_id, CAST(hs.response_at AS DATE), dim.dimension, dim.bucket, COUNT(*) " +
+            DIMENSION_ROWS +
+            "AND hs.response_at >= :startDateTime " +
+            "AND hs.response_at < :endDateTime " +
+            GROUP_BY_KEY +
+            ON_CONFLICT +
+            "DO UPDATE SET selection_count = EXCLUDED.selection_count",
+            nativeQuery = true)
+    int rebuildByPeriod(
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime
+    );
+
+    /**
+     * 구급일지가 집계에 반영된 (병원, 날짜) 목록 조회
+     * 환자 정보 변경 시 재계산할 범위를 찾기 위해 사용
+     *
+     * @param emergencyReportId 구급일지 ID
+     * @return [hospital_id, stat_date] 목록
+     */
+    @Query(value = "SELECT DISTINCT hs.hospital_id, CAST(hs.response_at AS DATE) " +
+            "FROM hospital_selection hs " +
+            "WHERE hs.emergency_report_id = :emergencyReportId " +
+            "AND hs.status IN ('ACCEPTED', 'ARRIVED') " +
+            "AND hs.response_at IS NOT NULL",
+            nativeQuery = true)
+    List<Object[]> findCountedDaysByEmergencyReportId(@Param("emergencyReportId") Long emergencyReportId);
+
+    /**
+     * 집계 대상 원본 데이터의 가장 이른/늦은 응답 일시 조회 (백필 범위 계산)
+     *
+     * @return [min(response_at), max(response_at)]
+     */
+    @Query(value = "SELECT MIN(hs.response_at), MAX(hs.response_at) " +
+            "FROM hospital_selection hs " +
+            "WHERE hs.status IN ('ACCEPTED', 'ARRIVED') " +
+            "AND hs.response_at IS NOT NULL",
+            nativeQuery = true)
+    List<Object[]> findCountedResponseRange();
+
+    // ==================== 통계 조회 ====================
+
+    /**
+     * 차원별 버킷 합계 조회
+     *
+     * @param hospitalId 병원 ID
+     * @param dimension 집계 차원 (StatisticsDimension 이름)
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (포함)
+     * @return [bucket, 합계] 목록
+     */
+    @Query(value = "SELECT s.bucket, SUM(s.selection_count) " +
+            "FROM hospital_daily_statistics s " +
+            "WHERE s.hospital_id = :hospitalId " +
+            "AND s.dimension = :dimension " +
+            "AND s.stat_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY s.bucket",
+            nativeQuery = true)
+    List<Object[]> sumByDimension(
+            @Param("hospitalId") Integer hospitalId,
+            @Param("dimension") String dimension,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 요일별 합계 조회 (TOTAL 행의 집계 날짜 기준)
+     *
+     * @param hospitalId 병원 ID
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (포함)
+     * @return [요일(0=일요일 ~ 6=토요일), 합계] 목록
+     */
+    @Query(value = "SELECT EXTRACT(DOW FROM s.stat_date) AS day_of_week, SUM(s.selection_count) " +
+            "FROM hospital_daily_statistics s " +
+            "WHERE s.hospital_id = :hospitalId " +
+            "AND s.dimension = 'TOTAL' " +
+            "AND s.stat_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY day_of_week",
+            nativeQuery = true)
+    List<Object[]> sumByDayOfWeek(
+            @Param("hospitalId") Integer hospitalId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 기간 내 총 수용 건수 조회
+     *
+     * @param hospitalId 병원 ID
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (포함)
+     * @return 총 수용 건수
+     */
+    @Query(value = "SELECT CAST(COALESCE(SUM(s.selection_count), 0) AS BIGINT) " +
+            "FROM hospital_daily_statistics s " +
+            "WHERE s.hospital_id = :hospitalId " +
+            "AND s.dimension = 'TOTAL' " +
+            "AND s.stat_date BETWEEN :startDate AND :endDate",
+            nativeQuery = true)
+    long sumTotal(
+            @Param("hospitalId") Integer hospitalId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 대시보드용 전체 차원 합계를 한 번의 스캔으로 조회 (GROUPING SETS)
+     * - (dimension, bucket) 그룹: 차원별 버킷 합계 (TOTAL 차원은 총 수용 건수)
+     * - (dimension, 요일) 그룹: TOTAL 차원만 남겨 요일별 합계
+     *
+     * @param hospitalId 병원 ID
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (포함)
+     * @return [dimension, bucket, 요일(0=일요일 ~ 6=토요일), 합계, 요일 그룹 여부(1이면 요일별 합계)] 목록
+     */
+    @Query(value = "SELECT s.dimension, s.bucket, " +
+            "  CAST(EXTRACT(DOW FROM s.stat_date) AS INTEGER) AS day_of_week, " +
+            "  SUM(s.selection_count), " +
+            "  GROUPING(s.bucket) AS by_day_of_week " +
+            "FROM hospital_daily_statistics s " +
+            "WHERE s.hospital_id = :hospitalId " +
+            "AND s.stat_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY GROUPING SETS ( " +
+            "  (s.dimension, s.bucket), " +
+            "  (s.dimension, CAST(EXTRACT(DOW FROM s.stat_date) AS INTEGER)) " +
+            ") " +
+            "HAVING GROUPING(s.bucket) = 0 OR s.dimension = 'TOTAL'",
+            nativeQuery = true)
+    List<Object[]> sumAllDimensions(
+            @Param("hospitalId") Integer hospitalId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+}
@@ -1,5 +1,6 @@
 package com.ssairen.domain.hospital.repository;
 
+import com.ssairen.domain.hospital.dto.HospitalSelectionPatientView;
 import com.ssairen.domain.hospital.entity.HospitalSelection;
 import com.ssairen.domain.hospital.enums.HospitalSelectionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -59,28 +60,57 @@ public interface HospitalSelectionRepository extends JpaRepository<HospitalSelec
     List<HospitalSelection> findByEmergencyReportIdWithHospital(@Param("emergencyReportId") Long emergencyReportId);
 
     /**
-     * 특정 병원의 PENDING 상태인 요청 목록 조회 (EmergencyReport Fetch Join)
+     * HospitalSelectionPatientView 프로젝션 SELECT 절
+     * hospital_selection + emergency_reports + patient_info + 구급대원 ID를 한 행으로 조회
      */
-    @Query("SELECT hs FROM HospitalSelection hs " +
-            "JOIN FETCH hs.emergencyReport " +
+    String PATIENT_VIEW_SELECT = "SELECT hs.id AS hospitalSelectionId, " +
+            "hs.status AS status, " +
+            "hs.responseAt AS responseAt, " +
+            "er.id AS emergencyReportId, " +
+            "er.paramedic.id AS paramedicId, " +
+            "pi.emergencyReportId AS patientInfoId, " +
+            "pi.gender AS gender, " +
+            "pi.age AS age, " +
+            "pi.recordTime AS recordTime, " +
+            "pi.mentalStatus AS mentalStatus, " +
+            "pi.chiefComplaint AS chiefComplaint, " +
+            "pi.hr AS hr, " +
+            "pi.bp AS bp, " +
+            "pi.spo2 AS spo2, " +
+            "pi.rr AS rr, " +
+            "pi.bt AS bt, " +
+            "pi.hasGuardian AS hasGuardian, " +
+            "pi.hx AS hx, " +
+            "pi.onsetTime AS onsetTime, " +
+            "pi.lnt AS lnt ";
+
+    /**
+     * 특정 병원의 특정 상태 요청 목록 조회 (환자 정보 LEFT JOIN, 단일 쿼리)
+     */
+    @Query(PATIENT_VIEW_SELECT +
+            "FROM HospitalSelection hs " +
+            "JOIN hs.emergencyReport er " +
+            "LEFT JOIN PatientInfo pi ON pi.emergencyReportId = er.id " +
             "WHERE hs.hospital.id = :hospitalId " +
             "AND hs.status = :status " +
             "ORDER BY hs.createdAt DESC")
-    List<HospitalSelection> findByHospitalIdAndStatus(
+    List<HospitalSelectionPatientView> findPatientViewsByHospitalIdAndStatus(
             @Param("hospitalId") Integer hospitalId,
             @Param("status") HospitalSelectionStatus status
     );
 
     /**
      * 특정 병원이 수용한 환자 목록 조회 (ACCEPTED, ARRIVED 상태)
-     * EmergencyReport Fetch Join
+     * 환자 정보가 있는 건만 조회 (INNER JOIN, 단일 쿼리)
      */
-    @Query("SELECT hs FROM HospitalSelection hs " +
-            "JOIN FETCH hs.emergencyReport " +
+    @Query(PATIENT_VIEW_SELECT +
+            "FROM HospitalSelection hs " +
+            "JOIN hs.emergencyReport er " +
+            "JOIN PatientInfo pi ON pi.emergencyReportId = er.id " +
             "WHERE hs.hospital.id = :hospitalId " +
             "AND hs.status IN ('ACCEPTED', 'ARRIVED') " +
             "ORDER BY hs.responseAt DESC")
-    List<HospitalSelection> findAcceptedPatientsByHospitalId(
+    List<HospitalSelectionPatientView> findAcceptedPatientViewsByHospitalId(
             @Param("hospitalId") Integer hospitalId
     );
 
@@ -122,12 +152,14 @@ public interface HospitalSelectionRepository extends JpaRepository<HospitalSelec
 
     /**
      * 특정 병원의 환자 전체 개수 조회 (필터 + 기간)
+     * 목록 조회와 동일하게 환자 정보가 있는 건만 집계
      *
      * @param hospitalId 병원 ID
      * @param statuses 필터링할 상태 목록
      * @param startDateTime 시작 날짜 (null이면 전체 기간)
      */
     @Query(value = "SELECT COUNT(*) FROM hospital_selection hs " +
+            "JOIN patient_info pi ON pi.emergency_report_id = hs.emergency_report_id " +
             "WHERE hs.hospital_id = :hospitalId " +
             "AND hs.status IN (:statuses) " +
             "AND hs.response_at >= COALESCE(:startDateTime, '1900-01-01'::timestamp)",
@@ -140,7 +172,8 @@ public interface HospitalSelectionRepository extends JpaRepository<HospitalSelec
 
     /**
      * 특정 병원의 환자 목록 조회 (페이지네이션 + 필터 + 기간)
-     * EmergencyReport Fetch Join은 별도 쿼리로 처리
+     * 환자 정보가 있는 건만 조회 (INNER JOIN, 단일 쿼리)
+     * startDateTime이 null이면 PostgreSQL이 파라미터 타입을 추론하지 못하므로 IS NULL 비교 전에 명시적으로 CAST
      *
      * @param hospitalId 병원 ID
      * @param statuses 필터링할 상태 목록 (ACCEPTED, ARRIVED)
@@ -148,21 +181,57 @@ public interface HospitalSelectionRepository extends JpaRepository<HospitalSelec
      * @param offset 시작 위치 (페이지 * 크기)
      * @param limit 페이지 크기
      */
-    @Query(value = "SELECT * FROM hospital_selection hs " +
-            "WHERE hs.hospital_id = :hospitalId " +
-            "AND hs.status IN (:statuses) " +
-            "AND hs.response_at >= COALESCE(:startDateTime, '1900-01-01'::timestamp) " +
-            "ORDER BY hs.response_at DESC " +
-            "LIMIT :limit OFFSET :offset",
-            nativeQuery = true)
-    List<HospitalSelection> findPatientsByHospitalIdWithPaginationAndDateRange(
+    @Query(PATIENT_VIEW_SELECT +
+            "FROM HospitalSelection hs " +
+            "JOIN hs.emergencyReport er " +
+            "JOIN PatientInfo pi ON pi.emergencyReportId = er.id " +
+            "WHERE hs.hospital.id = :hospitalId " +
+            "AND hs.status IN :statuses " +
+            "AND (CAST(:startDateTime AS LocalDateTime) IS NULL OR hs.responseAt >= :startDateTime) " +
+            "ORDER BY hs.responseAt DESC, hs.id ASC " +
+            "LIMIT :limit OFFSET :offset")
+    List<HospitalSelectionPatientView> findPatientsByHospitalIdWithPaginationAndDateRange(
             @Param("hospitalId") Integer hospitalId,
-            @Param("statuses") List<String> statuses,
+            @Param("statuses") List<HospitalSelectionStatus> statuses,
             @Param("startDateTime") LocalDateTime startDateTime,
             @Param("offset") int offset,
             @Param("limit") int limit
     );
 
+    /**
+     * 특정 병원의 환자 목록 커서 조회 (필터 + 기간, 커서 이후)
+     * (response_at DESC, id ASC) 순서에서 커서 다음 행부터 조회하므로 OFFSET처럼 앞 페이지 행을 건너뛰지 않음
+     * idx_hospital_selection_hospital_status_response 인덱스로 병원/상태/커서 범위를 좁히되,
+     * 상태가 여러 개(IN)이면 상태별 구간을 합쳐야 하므로 정렬은 범위 내 행에 대해 별도로 수행
+     * startDateTime은 null 비교 전에 명시적으로 CAST (PostgreSQL 파라미터 타입 추론 불가)
+     *
+     * @param hospitalId 병원 ID
+     * @param statuses 필터링할 상태 목록 (ACCEPTED, ARRIVED)
+     * @param startDateTime 시작 날짜 (null이면 전체 기간)
+     * @param cursorResponseAt 직전 페이지 마지막 행의 응답 시각
+     * @param cursorId 직전 페이지 마지막 행의 ID
+     * @param limit 조회 개수
+     */
+    @Query(PATIENT_VIEW_SELECT +
+            "FROM HospitalSelection hs " +
+            "JOIN hs.emergencyReport er " +
+            "JOIN PatientInfo pi ON pi.emergencyReportId = er.id " +
+            "WHERE hs.hospital.id = :hospitalId " +
+            "AND hs.status IN :statuses " +
+            "AND (CAST(:startDateTime AS LocalDateTime) IS NULL OR hs.responseAt >= :startDateTime) " +
+            "AND (hs.responseAt < :cursorResponseAt " +
+            "OR (hs.responseAt = :cursorResponseAt AND hs.id > :cursorId)) " +
+            "ORDER BY hs.responseAt DESC, hs.id ASC " +
+            "LIMIT :limit")
+    List<HospitalSelectionPatientView> findPatientsByHospitalIdAfterCursor(
+            @Param("hospitalId") Integer hospitalId,
+            @Param("statuses") List<HospitalSelectionStatus> statuses,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("cursorResponseAt") LocalDateTime cursorResponseAt,
+            @Param("cursorId") Integer cursorId,
+            @Param("limit") int limit
+    );
+
     /**
      * 병원이 특정 환자를 수용했는지 확인 (ACCEPTED 또는 ARRIVED 상태)
      */
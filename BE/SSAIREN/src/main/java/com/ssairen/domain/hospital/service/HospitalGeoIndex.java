@@ -0,0 +1,261 @@
+package com.ssairen.domain.hospital.service;
+
+import com.ssairen.domain.hospital.entity.Hospital;
+import com.ssairen.domain.hospital.repository.HospitalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 병원 위치 인메모리 공간 인덱스
+ * - 위도/경도를 고정 크기 격자(grid)로 나누어 병원을 셀 단위로 보관
+ * - 반경 검색 시 반경을 덮는 셀만 확인하므로 DB 조회 없이 후보 병원을 추려낼 수 있음
+ * - 병원 데이터가 변경되면 stale 표시 후 다음 조회 시점에 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HospitalGeoIndex {
+
+    private static final String LOG_PREFIX = "[HospitalGeoIndex] ";
+
+    /**
+     * 격자 한 칸의 크기 (도 단위, 위도 기준 약 5.5km)
+     */
+    static final double CELL_SIZE_DEGREES = 0.05;
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    private final HospitalRepository hospitalRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean stale = true;
+
+    /**
+     * 애플리케이션 기동 완료 후 인덱스 초기 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 병원 데이터 변경 시 호출 - 다음 조회에서 인덱스를 재구성
+     */
+    public void markStale() {
+        this.stale = true;
+    }
+
+    /**
+     * DB의 병원 목록으로 인덱스 재구성
+     */
+    public synchronized void rebuild() {
+        this.stale = false;
+        List<Hospital> hospitals = hospitalRepository.findAll();
+        this.snapshot = Snapshot.of(hospitals);
+        log.info(LOG_PREFIX + "공간 인덱스 재구성 완료 - 전체 병원 수: {}, 좌표 보유 병원 수: {}, 셀 수: {}",
+                hospitals.size(), snapshot.size, snapshot.cells.size());
+    }
+
+    /**
+     * 좌표가 등록된 병원이 하나라도 있는지 여부
+     */
+    public boolean isEmpty() {
+        return currentSnapshot().size == 0;
+    }
+
+    /**
+     * 반경 내 병원 조회 (가까운 순 정렬)
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm 반경 (킬로미터)
+     * @return 반경 내 병원 목록 (거리 오름차순)
+     */
+    public List<Candidate> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        Snapshot current = currentSnapshot();
+        if (current.size == 0 || radiusKm <= 0) {
+            return List.of();
+        }
+
+        double latSpan = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double lonSpan = radiusKm / (KM_PER_DEGREE_LATITUDE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        int minLatCell = cellIndex(latitude - latSpan);
+        int maxLatCell = cellIndex(latitude + latSpan);
+        int minLonCell = cellIndex(longitude - lonSpan);
+        int maxLonCell = cellIndex(longitude + lonSpan);
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                List<Entry> entries = current.cells.get(cellKey(latCell, lonCell));
+                if (entries == null) {
+                    continue;
+                }
+                for (Entry entry : entries) {
+                    double distanceKm = distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+                    if (distanceKm <= radiusKm) {
+                        candidates.add(new Candidate(entry, distanceKm));
+                    }
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::distanceKm));
+        return candidates;
+    }
+
+    /**
+     * 가까운 병원 N개 조회
+     * 기준 셀에서 시작해 바깥쪽 링으로 확장하며, N번째 후보보다 가까운 병원이 더 이상 없을 때 종료
+     *
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param limit 최대 개수
+     * @param maxRadiusKm 최대 탐색 반경 (킬로미터)
+     * @return 가까운 병원 목록 (거리 오름차순)
+     */
+    public List<Candidate> findNearest(double latitude, double longitude, int limit, double maxRadiusKm) {
+        Snapshot current = currentSnapshot();
+        if (current.size == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        int centerLat = cellIndex(latitude);
+        int centerLon = cellIndex(longitude);
+        // 링 r 바깥의 병원은 최소 (r * 셀 크기) 이상 떨어져 있음 (경도 방향은 위도에 따라 줄어듦)
+        double ringWidthKm = CELL_SIZE_DEGREES * KM_PER_DEGREE_LATITUDE
+                * Math.max(Math.cos(Math.toRadians(Math.abs(latitude) + CELL_SIZE_DEGREES)), 0.01);
+        int maxRing = (int) Math.ceil(maxRadiusKm / ringWidthKm) + 1;
+
+        List<Candidate> candidates = new ArrayList<>();
+        int visited = 0;
+        for (int ring = 0; ring <= maxRing && visited < current.size; ring++) {
+            for (int latCell = centerLat - ring; latCell <= centerLat + ring; latCell++) {
+                for (int lonCell = centerLon - ring; lonCell <= centerLon + ring; lonCell++) {
+                    // 링의 테두리 셀만 방문
+                    if (Math.abs(latCell - centerLat) != ring && Math.abs(lonCell - centerLon) != ring) {
+                        continue;
+                    }
+                    List<Entry> entries = current.cells.get(cellKey(latCell, lonCell));
+                    if (entries == null) {
+                        continue;
+                    }
+                    visited += entries.size();
+                    for (Entry entry : entries) {
+                        double distanceKm = distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+                        if (distanceKm <= maxRadiusKm) {
+                            candidates.add(new Candidate(entry, distanceKm));
+                        }
+                    }
+                }
+            }
+
+            if (candidates.size() >= limit) {
+                candidates.sort(Comparator.comparingDouble(Candidate::distanceKm));
+                if (candidates.get(limit - 1).distanceKm() <= ring * ringWidthKm) {
+                    break;
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::distanceKm));
+        return candidates.size() > limit ? List.copyOf(candidates.subList(0, limit)) : candidates;
+    }
+
+    private Snapshot currentSnapshot() {
+        if (stale) {
+            rebuild();
+        }
+        return snapshot;
+    }
+
+    static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (Haversine, 킬로미터)
+     */
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 인덱스에 보관되는 병원 정보 (엔티티와 분리된 불변 값)
+     */
+    public record Entry(Integer id, String name, String officialName, double latitude, double longitude,
+                        String phoneNumber, String address) {
+
+        static Entry from(Hospital hospital) {
+            return new Entry(
+                    hospital.getId(),
+                    hospital.getName(),
+                    hospital.getOfficialName(),
+                    hospital.getLatitude().doubleValue(),
+                    hospital.getLongitude().doubleValue(),
+                    hospital.getPhoneNumber(),
+                    hospital.getAddress()
+            );
+        }
+    }
+
+    /**
+     * 검색 결과 (병원 + 기준 좌표로부터의 거리)
+     */
+    public record Candidate(Entry hospital, double distanceKm) {
+    }
+
+    /**
+     * 재구성 시점의 불변 인덱스 스냅샷 - 조회 스레드는 락 없이 읽음
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), 0);
+
+        private final Map<Long, List<Entry>> cells;
+        private final int size;
+
+        private Snapshot(Map<Long, List<Entry>> cells, int size) {
+            this.cells = cells;
+            this.size = size;
+        }
+
+        private static Snapshot of(List<Hospital> hospitals) {
+            Map<Long, List<Entry>> cells = new HashMap<>();
+            int size = 0;
+            for (Hospital hospital : hospitals) {
+                if (hospital.getLatitude() == null || hospital.getLongitude() == null) {
+                    continue;
+                }
+                Entry entry = Entry.from(hospital);
+                long key = cellKey(cellIndex(entry.latitude()), cellIndex(entry.longitude()));
+                cells.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+                size++;
+            }
+
+            Map<Long, List<Entry>> frozen = new HashMap<>(cells.size() * 2);
+            cells.forEach((key, entries) -> frozen.put(key, List.copyOf(entries)));
+            return new Snapshot(Map.copyOf(frozen), size);
+        }
+    }
+}
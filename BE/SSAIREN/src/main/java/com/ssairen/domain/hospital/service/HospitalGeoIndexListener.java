@@ -0,0 +1,45 @@
+package com.ssairen.domain.hospital.service;
+
+import com.ssairen.domain.hospital.entity.Hospital;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hospital 엔티티 변경 감지 리스너
+ * 병원이 추가/수정/삭제되면 트랜잭션 커밋 이후 공간 인덱스를 stale 처리
+ */
+@Component
+public class HospitalGeoIndexListener {
+
+    // EntityManagerFactory 생성 시점에 인덱스(Repository 의존)가 아직 없을 수 있으므로 지연 조회
+    private final ObjectProvider<HospitalGeoIndex> hospitalGeoIndexProvider;
+
+    public HospitalGeoIndexListener(ObjectProvider<HospitalGeoIndex> hospitalGeoIndexProvider) {
+        this.hospitalGeoIndexProvider = hospitalGeoIndexProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onHospitalChanged(Hospital hospital) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markStale();
+                }
+            });
+        } else {
+            markStale();
+        }
+    }
+
+    private void markStale() {
+        hospitalGeoIndexProvider.ifAvailable(HospitalGeoIndex::markStale);
+    }
+}
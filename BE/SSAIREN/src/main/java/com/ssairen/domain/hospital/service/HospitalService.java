@@ -9,16 +9,19 @@ import com.ssairen.domain.hospital.entity.PatientInfo;
 import com.ssairen.domain.hospital.enums.DateRangeFilter;
 import com.ssairen.domain.hospital.enums.HospitalSelectionStatus;
 import com.ssairen.domain.hospital.enums.PatientFilterType;
+import com.ssairen.domain.hospital.event.HospitalNotificationEvent;
 import com.ssairen.domain.hospital.repository.HospitalRepository;
 import com.ssairen.domain.hospital.repository.HospitalSelectionRepository;
 import com.ssairen.domain.hospital.repository.PatientInfoRepository;
+import com.ssairen.global.dto.CursorPageResponse;
 import com.ssairen.global.dto.PageResponse;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
+import com.ssairen.global.utils.CursorUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
@@ -44,7 +47,9 @@ public class HospitalService {
     private final HospitalSelectionRepository hospitalSelectionRepository;
     private final EmergencyReportRepository emergencyReportRepository;
     private final PatientInfoRepository patientInfoRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final HospitalGeoIndex hospitalGeoIndex;
+    private final HospitalStatisticsRollupService hospitalStatisticsRollupService;
+    private final ApplicationEventPublisher eventPublisher;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
@@ -88,38 +93,11 @@ public class HospitalService {
                     "요청한 병원 중 일부를 찾을 수 없습니다.");
         }
 
-        // 4. HospitalSelection 생성 및 저장
-        List<HospitalSelection> selections = new ArrayList<>();
-        for (Hospital hospital : hospitals) {
-            HospitalSelection selection = HospitalSelection.builder()
-                    .emergencyReport(emergencyReport)
-                    .hospital(hospital)
-                    .status(HospitalSelectionStatus.PENDING)
-                    .build();
-            HospitalSelection savedSelection = hospitalSelectionRepository.save(selection);
-            selections.add(savedSelection);
-
-            // 5. 각 병원에게 웹소켓으로 요청 메시지 전송 (환자 정보 및 구급대원 ID 포함)
-            String topic = "/topic/hospital." + hospital.getId();
-            HospitalRequestMessage message = HospitalRequestMessage.of(
-                    savedSelection.getId(),
-                    request.getEmergencyReportId(),
-                    emergencyReport.getParamedic().getId(),
-                    patientInfoDto
-            );
+        // 4. HospitalSelection 일괄 생성 및 저장 (배치 INSERT)
+        List<HospitalSelection> selections = createPendingSelections(emergencyReport, hospitals);
 
-            log.info(LOG_PREFIX + "웹소켓 메시지 전송 시작 - 병원 ID: {}, 토픽: {}, 구급대원 ID: {}, 환자 정보 포함: {}",
-                    hospital.getId(), topic, emergencyReport.getParamedic().getId(), (patientInfoDto != null));
-
-            try {
-                messagingTemplate.convertAndSend(topic, message);
-                log.info(LOG_PREFIX + "웹소켓 메시지 전송 성공 - 병원 ID: {}, 병원명: {}, 토픽: {}",
-                        hospital.getId(), hospital.getName(), topic);
-            } catch (Exception e) {
-                log.error(LOG_PREFIX + "웹소켓 메시지 전송 실패 - 병원 ID: {}, 에러: {}",
-                        hospital.getId(), e.getMessage(), e);
-            }
-        }
+        // 5. 각 병원에게 웹소켓으로 요청 메시지 전송 (커밋 이후 병렬 전송, 환자 정보 및 구급대원 ID 포함)
+        publishRequestNotifications(emergencyReport, selections, patientInfoDto);
 
         log.info(LOG_PREFIX + "병원 이송 요청 생성 완료 - 구급일지 ID: {}, 요청 병원 수: {}",
                 request.getEmergencyReportId(), selections.size());
@@ -165,6 +143,7 @@ public class HospitalService {
         }
 
         // 4. 상태 변경 및 응답 시간 설정
+        HospitalSelectionStatus previousStatus = selection.getStatus();
         selection.respond(request.getStatus());
 
         log.info(LOG_PREFIX + "상태 변경 완료 - 선택 ID: {}, 새로운 상태: {}",
@@ -192,33 +171,28 @@ public class HospitalService {
             log.info(LOG_PREFIX + "다른 병원 요청 완료 처리 - 구급일지 ID: {}, 완료 처리된 요청 수: {}",
                     emergencyReportId, updatedCount);
 
-            // 5-3. 거절된 병원들에게 웹소켓으로 COMPLETED 메시지 전송
-            for (HospitalSelection otherSelection : otherSelections) {
-                Integer otherHospitalId = otherSelection.getHospital().getId();
-                String topic = "/topic/hospital." + otherHospitalId;
-
-                HospitalCompletedMessage completedMessage = HospitalCompletedMessage.of(
-                        otherSelection.getId(),
-                        emergencyReportId
-                );
-
-                log.info(LOG_PREFIX + "웹소켓 COMPLETED 메시지 전송 시작 - 병원 ID: {}, 토픽: {}, 선택 ID: {}",
-                        otherHospitalId, topic, otherSelection.getId());
-
-                try {
-                    messagingTemplate.convertAndSend(topic, completedMessage);
-                    log.info(LOG_PREFIX + "✅ 웹소켓 COMPLETED 메시지 전송 성공 - 병원 ID: {}, 토픽: {}",
-                            otherHospitalId, topic);
-                } catch (Exception e) {
-                    log.error(LOG_PREFIX + "❌ 웹소켓 COMPLETED 메시지 전송 실패 - 병원 ID: {}, 에러: {}",
-                            otherHospitalId, e.getMessage(), e);
-                }
+            // 5-3. 거절된 병원들에게 웹소켓으로 COMPLETED 메시지 전송 (커밋 이후 병렬 전송)
+            List<HospitalNotificationEvent.Notification> notifications = otherSelections.stream()
+                    .map(otherSelection -> new HospitalNotificationEvent.Notification(
+                            otherSelection.getHospital().getId(),
+                            otherSelection.getId(),
+                            HospitalCompletedMessage.of(otherSelection.getId(), emergencyReportId)
+                    ))
+                    .toList();
+
+            if (!notifications.isEmpty()) {
+                eventPublisher.publishEvent(new HospitalNotificationEvent(emergencyReportId, notifications));
+                log.info(LOG_PREFIX + "COMPLETED 알림 예약 - 구급일지 ID: {}, 대상 병원 수: {}",
+                        emergencyReportId, notifications.size());
             }
         }
 
         // 6. 저장
         HospitalSelection savedSelection = hospitalSelectionRepository.save(selection);
 
+        // 6-1. 일별 통계 집계 반영 (ACCEPTED인 경우에만 증분)
+        hospitalStatisticsRollupService.recordStatusChange(savedSelection, previousStatus);
+
         log.info(LOG_PREFIX + "병원 응답 처리 완료 - 선택 ID: {}, 상태: {}, 응답 시간: {}",
                 savedSelection.getId(), savedSelection.getStatus(), savedSelection.getResponseAt());
 
@@ -249,38 +223,30 @@ public class HospitalService {
             throw new CustomException(ErrorCode.HOSPITAL_NOT_FOUND);
         }
 
-        // 3. PENDING 상태인 HospitalSelection 목록 조회
-        List<HospitalSelection> pendingSelections = hospitalSelectionRepository
-                .findByHospitalIdAndStatus(hospitalId, HospitalSelectionStatus.PENDING);
+        // 3. PENDING 상태인 요청 + 환자 정보 + 구급대원 ID 단일 쿼리 조회
+        List<HospitalSelectionPatientView> pendingViews = hospitalSelectionRepository
+                .findPatientViewsByHospitalIdAndStatus(hospitalId, HospitalSelectionStatus.PENDING);
 
         log.info(LOG_PREFIX + "PENDING 요청 조회 완료 - 병원 ID: {}, 요청 수: {}",
-                hospitalId, pendingSelections.size());
-
-        // 4. 각 selection에 대해 환자 정보 조회 및 DTO 변환
-        List<HospitalRequestMessage> requestMessages = new ArrayList<>();
-        for (HospitalSelection selection : pendingSelections) {
-            Long emergencyReportId = selection.getEmergencyReport().getId();
-
-            // 환자 정보 조회
-            Optional<PatientInfo> patientInfoOptional = patientInfoRepository
-                    .findById(emergencyReportId);
+                hospitalId, pendingViews.size());
 
-            PatientInfoDto patientInfoDto = patientInfoOptional
-                    .map(PatientInfoDto::from)
-                    .orElse(null);
+        // 4. DTO 변환
+        List<HospitalRequestMessage> requestMessages = new ArrayList<>(pendingViews.size());
+        for (HospitalSelectionPatientView view : pendingViews) {
+            PatientInfoDto patientInfoDto = PatientInfoDto.from(view);
 
             // HospitalRequestMessage 생성 (구급대원 ID 포함)
             HospitalRequestMessage message = HospitalRequestMessage.of(
-                    selection.getId(),
-                    emergencyReportId,
-                    selection.getEmergencyReport().getParamedic().getId(),
+                    view.getHospitalSelectionId(),
+                    view.getEmergencyReportId(),
+                    view.getParamedicId(),
                     patientInfoDto
             );
 
             requestMessages.add(message);
 
             log.debug(LOG_PREFIX + "요청 메시지 생성 - 선택 ID: {}, 구급일지 ID: {}, 구급대원 ID: {}, 환자 정보 포함: {}",
-                    selection.getId(), emergencyReportId, selection.getEmergencyReport().getParamedic().getId(), (patientInfoDto != null));
+                    view.getHospitalSelectionId(), view.getEmergencyReportId(), view.getParamedicId(), (patientInfoDto != null));
         }
 
         log.info(LOG_PREFIX + "PENDING 요청 목록 조회 완료 - 병원 ID: {}, 반환 개수: {}",
@@ -314,34 +280,17 @@ public class HospitalService {
             throw new CustomException(ErrorCode.HOSPITAL_NOT_FOUND);
         }
 
-        // 3. ACCEPTED, ARRIVED 상태인 HospitalSelection 목록 조회
-        List<HospitalSelection> acceptedSelections = hospitalSelectionRepository
-                .findAcceptedPatientsByHospitalId(hospitalId);
+        // 3. ACCEPTED, ARRIVED 상태인 요청 + 환자 정보 단일 쿼리 조회 (환자 정보 없는 건 제외)
+        List<HospitalSelectionPatientView> acceptedViews = hospitalSelectionRepository
+                .findAcceptedPatientViewsByHospitalId(hospitalId);
 
         log.info(LOG_PREFIX + "수용한 환자 조회 완료 - 병원 ID: {}, 환자 수: {}",
-                hospitalId, acceptedSelections.size());
-
-        // 4. 각 selection에 대해 환자 정보 조회 및 DTO 변환
-        List<AcceptedPatientDto> acceptedPatients = new ArrayList<>();
-        for (HospitalSelection selection : acceptedSelections) {
-            Long emergencyReportId = selection.getEmergencyReport().getId();
-
-            // 환자 정보 조회
-            Optional<PatientInfo> patientInfoOptional = patientInfoRepository
-                    .findById(emergencyReportId);
+                hospitalId, acceptedViews.size());
 
-            if (patientInfoOptional.isPresent()) {
-                PatientInfo patientInfo = patientInfoOptional.get();
-                AcceptedPatientDto dto = AcceptedPatientDto.from(selection, patientInfo);
-                acceptedPatients.add(dto);
-
-                log.debug(LOG_PREFIX + "환자 정보 추가 - 선택 ID: {}, 구급일지 ID: {}, 상태: {}",
-                        selection.getId(), emergencyReportId, selection.getStatus());
-            } else {
-                log.warn(LOG_PREFIX + "환자 정보 없음 - 선택 ID: {}, 구급일지 ID: {}",
-                        selection.getId(), emergencyReportId);
-            }
-        }
+        // 4. DTO 변환
+        List<AcceptedPatientDto> acceptedPatients = acceptedViews.stream()
+                .map(AcceptedPatientDto::from)
+                .toList();
 
         log.info(LOG_PREFIX + "수용한 환자 목록 조회 완료 - 병원 ID: {}, 반환 개수: {}",
                 hospitalId, acceptedPatients.size());
@@ -387,7 +336,7 @@ public class HospitalService {
         // 3. 필터에 따른 상태 목록 가져오기
         List<HospitalSelectionStatus> statuses = filterType.getStatuses();
 
-        // 3-1. Enum을 String으로 변환 (Native Query용)
+        // 3-1. Enum을 String으로 변환 (개수 조회 Native Query용)
         List<String> statusStrings = statuses.stream()
                 .map(Enum::name)
                 .toList();
@@ -401,41 +350,107 @@ public class HospitalService {
 
         log.info(LOG_PREFIX + "전체 환자 수 - 병원 ID: {}, 개수: {}, 시작일시: {}", hospitalId, totalElements, startDateTime);
 
-        // 6. 페이지네이션된 데이터 조회 (기간 필터 적용)
+        // 6. 페이지네이션된 데이터 + 환자 정보 단일 쿼리 조회 (기간 필터 적용)
         int offset = page * size;
-        List<HospitalSelection> selections = hospitalSelectionRepository
-                .findPatientsByHospitalIdWithPaginationAndDateRange(hospitalId, statusStrings, startDateTime, offset, size);
+        List<HospitalSelectionPatientView> views = hospitalSelectionRepository
+                .findPatientsByHospitalIdWithPaginationAndDateRange(hospitalId, statuses, startDateTime, offset, size);
 
         log.info(LOG_PREFIX + "페이지네이션 데이터 조회 완료 - 병원 ID: {}, 조회 개수: {}",
-                hospitalId, selections.size());
+                hospitalId, views.size());
 
-        // 6. 각 selection에 대해 환자 정보 조회 및 DTO 변환
-        List<AcceptedPatientDto> acceptedPatients = new ArrayList<>();
-        for (HospitalSelection selection : selections) {
-            Long emergencyReportId = selection.getEmergencyReport().getId();
+        // 7. DTO 변환
+        List<AcceptedPatientDto> acceptedPatients = views.stream()
+                .map(AcceptedPatientDto::from)
+                .toList();
 
-            // 환자 정보 조회
-            Optional<PatientInfo> patientInfoOptional = patientInfoRepository
-                    .findById(emergencyReportId);
+        log.info(LOG_PREFIX + "수용한 환자 목록 조회 완료 (페이지네이션) - 병원 ID: {}, 현재 페이지 반환: {}개, 전체 환자 수: {}개, 페이지: {}/{}",
+                hospitalId, acceptedPatients.size(), totalElements, page + 1, (int) Math.ceil((double) totalElements / size));
 
-            if (patientInfoOptional.isPresent()) {
-                PatientInfo patientInfo = patientInfoOptional.get();
-                AcceptedPatientDto dto = AcceptedPatientDto.from(selection, patientInfo);
-                acceptedPatients.add(dto);
+        // 8. PageResponse 생성 및 반환
+        return PageResponse.of(acceptedPatients, page, size, totalElements);
+    }
 
-                log.debug(LOG_PREFIX + "환자 정보 추가 - 선택 ID: {}, 구급일지 ID: {}, 상태: {}",
-                        selection.getId(), emergencyReportId, selection.getStatus());
-            } else {
-                log.warn(LOG_PREFIX + "환자 정보 없음 - 선택 ID: {}, 구급일지 ID: {}",
-                        selection.getId(), emergencyReportId);
-            }
+    /**
+     * 병원이 수용한 환자 목록 조회 (커서 페이지네이션 + 필터)
+     * (response_at, id) 복합 커서로 다음 페이지를 조회하므로 OFFSET 방식과 달리 페이지 깊이와 무관하게 일정한 비용
+     * 전체 개수는 includeTotal이 true인 첫 페이지 요청에서만 집계
+     *
+     * @param hospitalId 병원 ID
+     * @param currentHospitalId 현재 로그인한 병원 ID
+     * @param cursor 직전 페이지의 nextCursor (null 또는 빈 값이면 첫 페이지)
+     * @param size 페이지당 데이터 개수
+     * @param filterType 필터 타입 (ALL: ACCEPTED+ARRIVED, ACCEPTED: ACCEPTED만)
+     * @param dateRangeFilter 기간 필터 (ALL: 전체, WEEK: 최근 일주일, MONTH: 최근 한달)
+     * @param includeTotal 첫 페이지에서 전체 개수 집계 여부
+     * @return 커서 페이지네이션된 환자 목록
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AcceptedPatientDto> getAcceptedPatientsWithCursor(
+            Integer hospitalId,
+            Integer currentHospitalId,
+            String cursor,
+            int size,
+            PatientFilterType filterType,
+            DateRangeFilter dateRangeFilter,
+            boolean includeTotal
+    ) {
+        log.info(LOG_PREFIX + "수용한 환자 목록 조회 시작 (커서) - 병원 ID: {}, size: {}, filter: {}, dateRange: {}, 첫 페이지: {}",
+                hospitalId, size, filterType, dateRangeFilter, (cursor == null || cursor.isBlank()));
+
+        // 1. 권한 검증: 본인의 환자만 조회 가능
+        if (!hospitalId.equals(currentHospitalId)) {
+            log.warn(LOG_PREFIX + "권한 없는 환자 목록 조회 시도 - 요청 병원 ID: {}, 현재 병원 ID: {}",
+                    hospitalId, currentHospitalId);
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
 
-        log.info(LOG_PREFIX + "수용한 환자 목록 조회 완료 (페이지네이션) - 병원 ID: {}, 현재 페이지 반환: {}개, 전체 환자 수: {}개, 페이지: {}/{}",
-                hospitalId, acceptedPatients.size(), totalElements, page + 1, (int) Math.ceil((double) totalElements / size));
+        // 2. 병원 존재 여부 확인
+        if (!hospitalRepository.existsById(hospitalId)) {
+            throw new CustomException(ErrorCode.HOSPITAL_NOT_FOUND);
+        }
 
-        // 7. PageResponse 생성 및 반환
-        return PageResponse.of(acceptedPatients, page, size, totalElements);
+        // 3. 커서 디코딩 및 필터 조건 계산
+        CursorUtils.KeysetCursor keysetCursor = CursorUtils.decodeKeysetCursor(cursor);
+        List<HospitalSelectionStatus> statuses = filterType.getStatuses();
+        LocalDateTime startDateTime = dateRangeFilter.getStartDateTime();
+
+        // 4. 데이터 조회 (size + 1개 조회하여 다음 페이지 존재 여부 확인)
+        List<HospitalSelectionPatientView> views = keysetCursor == null
+                ? hospitalSelectionRepository.findPatientsByHospitalIdWithPaginationAndDateRange(
+                        hospitalId, statuses, startDateTime, 0, size + 1)
+                : hospitalSelectionRepository.findPatientsByHospitalIdAfterCursor(
+                        hospitalId, statuses, startDateTime,
+                        keysetCursor.timestamp(), keysetCursor.intId(), size + 1);
+
+        // 5. 다음 페이지 존재 여부 확인 및 실제 반환할 데이터 추출
+        boolean hasNext = views.size() > size;
+        List<HospitalSelectionPatientView> pageViews = hasNext ? views.subList(0, size) : views;
+
+        // 6. 다음 커서 생성
+        String nextCursor = null;
+        if (hasNext && !pageViews.isEmpty()) {
+            HospitalSelectionPatientView last = pageViews.get(pageViews.size() - 1);
+            nextCursor = CursorUtils.encodeCursor(last.getResponseAt(), last.getHospitalSelectionId().longValue());
+        }
+
+        // 7. 전체 개수 (첫 페이지 + 요청 시에만 집계)
+        Long totalElements = null;
+        if (includeTotal && keysetCursor == null) {
+            List<String> statusStrings = statuses.stream()
+                    .map(Enum::name)
+                    .toList();
+            totalElements = hospitalSelectionRepository
+                    .countPatientsByHospitalIdAndStatusesAndDateRange(hospitalId, statusStrings, startDateTime);
+        }
+
+        List<AcceptedPatientDto> acceptedPatients = pageViews.stream()
+                .map(AcceptedPatientDto::from)
+                .toList();
+
+        log.info(LOG_PREFIX + "수용한 환자 목록 조회 완료 (커서) - 병원 ID: {}, 반환: {}개, 다음 페이지 존재: {}, 전체 환자 수: {}",
+                hospitalId, acceptedPatients.size(), hasNext, totalElements);
+
+        return CursorPageResponse.of(acceptedPatients, size, nextCursor, hasNext, totalElements);
     }
 
     /**
@@ -547,6 +562,9 @@ public class HospitalService {
         // 5. 저장 (변경 감지로 자동 저장되지만 명시적으로 호출)
         PatientInfo updatedPatientInfo = patientInfoRepository.save(patientInfo);
 
+        // 5-1. 성별/연령대/의식 상태가 바뀔 수 있으므로 해당 일자 통계 집계 재계산
+        hospitalStatisticsRollupService.refreshForEmergencyReport(emergencyReportId);
+
         log.info(LOG_PREFIX + "환자 정보 수정 완료 - 병원 ID: {}, 구급일지 ID: {}, 나이: {}, 성별: {}",
                 hospitalId, emergencyReportId, updatedPatientInfo.getAge(), updatedPatientInfo.getGender());
 
@@ -592,11 +610,15 @@ public class HospitalService {
                 });
 
         // 3. 상태를 ARRIVED로 변경
+        HospitalSelectionStatus previousStatus = selection.getStatus();
         selection.markAsArrived();
 
         // 4. 저장 (변경 감지로 자동 저장되지만 명시적으로 호출)
         hospitalSelectionRepository.save(selection);
 
+        // 5. 일별 통계 집계 반영 (ACCEPTED에서 이미 집계되었으므로 중복 증분되지 않음)
+        hospitalStatisticsRollupService.recordStatusChange(selection, previousStatus);
+
         log.info(LOG_PREFIX + "환자 내원 완료 처리 완료 - 병원 ID: {}, 구급일지 ID: {}, 선택 ID: {}",
                 hospitalId, emergencyReportId, selection.getId());
     }
@@ -642,7 +664,7 @@ public class HospitalService {
      * @param emergencyReportId 구급일지 ID
      * @param latitude 위도
      * @param longitude 경도
-     * @param radius 반경 (미터)
+     * @param radius 반경 (킬로미터)
      * @return AI 추천 병원 목록 및 병원 이송 요청 결과
      */
     @Transactional
@@ -681,12 +703,29 @@ public class HospitalService {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "환자 정보를 JSON으로 변환하는 데 실패했습니다.");
         }
 
-        // 4. AI API 호출
+        // 4. 공간 인덱스로 반경 내 후보 병원 사전 필터링 (좌표가 등록된 병원이 없으면 AI 서버 검색에 위임)
+        List<String> candidateHospitalNames = null;
+        if (!hospitalGeoIndex.isEmpty()) {
+            candidateHospitalNames = hospitalGeoIndex.findWithinRadius(latitude, longitude, radius).stream()
+                    .map(candidate -> candidate.hospital().name())
+                    .toList();
+
+            log.info(LOG_PREFIX + "반경 내 후보 병원 필터링 완료 - 구급일지 ID: {}, 후보 병원 수: {}",
+                    emergencyReportId, candidateHospitalNames.size());
+
+            if (candidateHospitalNames.isEmpty()) {
+                log.warn(LOG_PREFIX + "반경 내 병원이 없습니다 - 구급일지 ID: {}, 반경: {}km", emergencyReportId, radius);
+                throw new CustomException(ErrorCode.NO_AVAILABLE_HOSPITALS, "반경 " + radius + "km 내에 등록된 병원이 없습니다.");
+            }
+        }
+
+        // 5. AI API 호출
         AiRecommendationRequest aiRequest = AiRecommendationRequest.builder()
                 .patientCondition(patientConditionJson)
                 .latitude(latitude)
                 .longitude(longitude)
                 .radius(radius)
+                .candidateHospitals(candidateHospitalNames)
                 .build();
 
         AiRecommendationResponse aiResponse;
@@ -718,7 +757,7 @@ public class HospitalService {
             throw new CustomException(ErrorCode.EXTERNAL_API_ERROR, "AI 추천 API 호출 중 오류가 발생했습니다: " + e.getMessage());
         }
 
-        // 5. recommended_hospitals로 병원 조회
+        // 6. recommended_hospitals로 병원 조회
         List<String> recommendedHospitalNames = aiResponse.getRecommendedHospitals();
         if (recommendedHospitalNames == null || recommendedHospitalNames.isEmpty()) {
             log.warn(LOG_PREFIX + "추천된 병원이 없습니다 - 구급일지 ID: {}", emergencyReportId);
@@ -727,7 +766,7 @@ public class HospitalService {
 
         List<Hospital> hospitals = hospitalRepository.findByNameIn(recommendedHospitalNames);
 
-        // 6. 요청된 병원 중 찾지 못한 병원이 있는지 확인
+        // 7. 요청된 병원 중 찾지 못한 병원이 있는지 확인
         if (hospitals.isEmpty()) {
             log.warn(LOG_PREFIX + "추천된 병원을 DB에서 찾을 수 없습니다 - 구급일지 ID: {}", emergencyReportId);
             throw new CustomException(ErrorCode.HOSPITAL_NOT_FOUND, "추천된 병원을 찾을 수 없습니다.");
@@ -739,46 +778,101 @@ public class HospitalService {
             // 찾은 병원만 사용하도록 계속 진행
         }
 
-        // 7. HospitalSelection 생성 및 저장
-        List<HospitalSelection> selections = new ArrayList<>();
+        // 8. HospitalSelection 일괄 생성 및 저장 (배치 INSERT)
+        List<HospitalSelection> selections = createPendingSelections(emergencyReport, hospitals);
+
+        // 9. 각 병원에게 웹소켓으로 요청 메시지 전송 (커밋 이후 병렬 전송, 환자 정보 및 구급대원 ID 포함)
+        publishRequestNotifications(emergencyReport, selections, patientInfoDto);
+
+        log.info(LOG_PREFIX + "AI 병원 추천 및 이송 요청 완료 - 구급일지 ID: {}, 추천 병원 수: {}, 요청 병원 수: {}",
+                emergencyReportId, aiResponse.getRecommendedHospitals().size(), selections.size());
+
+        // 10. HospitalSelectionResponse 생성
+        HospitalSelectionResponse selectionResponse = HospitalSelectionResponse.from(emergencyReportId, selections);
+
+        // 11. 통합 응답 생성
+        return AiHospitalRecommendationResponse.of(emergencyReportId, aiResponse, selectionResponse);
+    }
+
+    /**
+     * 병원별 PENDING 상태의 HospitalSelection을 일괄 저장
+     * 시퀀스 ID를 미리 할당받으므로 saveAllAndFlush 시 한 번의 배치 INSERT로 처리됨
+     *
+     * @param emergencyReport 구급일지
+     * @param hospitals 요청 대상 병원 목록
+     * @return 저장된 HospitalSelection 목록 (ID 할당 완료)
+     */
+    private List<HospitalSelection> createPendingSelections(EmergencyReport emergencyReport, List<Hospital> hospitals) {
+        List<HospitalSelection> selections = new ArrayList<>(hospitals.size());
         for (Hospital hospital : hospitals) {
-            HospitalSelection selection = HospitalSelection.builder()
+            selections.add(HospitalSelection.builder()
                     .emergencyReport(emergencyReport)
                     .hospital(hospital)
                     .status(HospitalSelectionStatus.PENDING)
-                    .build();
-            HospitalSelection savedSelection = hospitalSelectionRepository.save(selection);
-            selections.add(savedSelection);
+                    .build());
+        }
 
-            // 8. 각 병원에게 웹소켓으로 요청 메시지 전송 (환자 정보 및 구급대원 ID 포함)
-            String topic = "/topic/hospital." + hospital.getId();
-            HospitalRequestMessage message = HospitalRequestMessage.of(
-                    savedSelection.getId(),
-                    emergencyReportId,
-                    emergencyReport.getParamedic().getId(),
-                    patientInfoDto
-            );
+        List<HospitalSelection> savedSelections = hospitalSelectionRepository.saveAllAndFlush(selections);
 
-            log.info(LOG_PREFIX + "웹소켓 메시지 전송 시작 - 병원 ID: {}, 토픽: {}, 구급대원 ID: {}, 환자 정보 포함: {}",
-                    hospital.getId(), topic, emergencyReport.getParamedic().getId(), (patientInfoDto != null));
+        log.info(LOG_PREFIX + "HospitalSelection 일괄 저장 완료 - 구급일지 ID: {}, 저장 개수: {}",
+                emergencyReport.getId(), savedSelections.size());
 
-            try {
-                messagingTemplate.convertAndSend(topic, message);
-                log.info(LOG_PREFIX + "웹소켓 메시지 전송 성공 - 병원 ID: {}, 병원명: {}, 토픽: {}",
-                        hospital.getId(), hospital.getName(), topic);
-            } catch (Exception e) {
-                log.error(LOG_PREFIX + "웹소켓 메시지 전송 실패 - 병원 ID: {}, 에러: {}",
-                        hospital.getId(), e.getMessage(), e);
-            }
-        }
+        return savedSelections;
+    }
 
-        log.info(LOG_PREFIX + "AI 병원 추천 및 이송 요청 완료 - 구급일지 ID: {}, 추천 병원 수: {}, 요청 병원 수: {}",
-                emergencyReportId, aiResponse.getRecommendedHospitals().size(), selections.size());
+    /**
+     * 병원별 이송 요청 알림 이벤트 발행
+     * 실제 전송은 트랜잭션 커밋 이후 HospitalNotificationListener에서 병렬로 수행
+     *
+     * @param emergencyReport 구급일지
+     * @param selections 저장된 HospitalSelection 목록
+     * @param patientInfoDto 환자 정보 (없으면 null)
+     */
+    private void publishRequestNotifications(
+            EmergencyReport emergencyReport,
+            List<HospitalSelection> selections,
+            PatientInfoDto patientInfoDto
+    ) {
+        Integer paramedicId = emergencyReport.getParamedic().getId();
+
+        List<HospitalNotificationEvent.Notification> notifications = selections.stream()
+                .map(selection -> new HospitalNotificationEvent.Notification(
+                        selection.getHospital().getId(),
+                        selection.getId(),
+                        HospitalRequestMessage.of(selection.getId(), emergencyReport.getId(), paramedicId, patientInfoDto)
+                ))
+                .toList();
 
-        // 9. HospitalSelectionResponse 생성
-        HospitalSelectionResponse selectionResponse = HospitalSelectionResponse.from(emergencyReportId, selections);
+        eventPublisher.publishEvent(new HospitalNotificationEvent(emergencyReport.getId(), notifications));
 
-        // 10. 통합 응답 생성
-        return AiHospitalRecommendationResponse.of(emergencyReportId, aiResponse, selectionResponse);
+        log.info(LOG_PREFIX + "이송 요청 알림 예약 - 구급일지 ID: {}, 대상 병원 수: {}, 구급대원 ID: {}, 환자 정보 포함: {}",
+                emergencyReport.getId(), notifications.size(), paramedicId, (patientInfoDto != null));
+    }
+
+    /**
+     * 주변 병원 조회 (가까운 순)
+     * DB 조회 없이 인메모리 공간 인덱스로 처리
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param radius 최대 반경 (킬로미터)
+     * @param limit 최대 병원 수
+     * @return 가까운 병원 목록
+     */
+    public List<NearbyHospitalResponse> getNearbyHospitals(
+            Double latitude,
+            Double longitude,
+            Integer radius,
+            int limit
+    ) {
+        List<NearbyHospitalResponse> nearbyHospitals = hospitalGeoIndex.findNearest(latitude, longitude, limit, radius)
+                .stream()
+                .map(NearbyHospitalResponse::from)
+                .toList();
+
+        log.info(LOG_PREFIX + "주변 병원 조회 완료 - 위도: {}, 경도: {}, 반경: {}km, 반환 개수: {}",
+                latitude, longitude, radius, nearbyHospitals.size());
+
+        return nearbyHospitals;
     }
 }
@@ -0,0 +1,68 @@
+package com.ssairen.domain.hospital.service;
+
+import com.ssairen.domain.hospital.cache.HospitalStatisticsCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 병원 일별 통계 집계 백필/보정 작업
+ * - 기동 시 집계 테이블이 비어 있으면 원본 데이터 전체 기간을 백필
+ * - 여러 인스턴스가 동시에 실행해도 advisory lock을 잡은 한 인스턴스만 백필/보정
+ * - 매일 새벽 최근 N일 집계를 원본 데이터로 다시 계산하여 증분 갱신 누락(직접 DB 수정 등)을 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HospitalStatisticsRollupJob {
+
+    private static final String LOG_PREFIX = "[HospitalStatisticsRollupJob] ";
+
+    private final HospitalStatisticsRollupService hospitalStatisticsRollupService;
+    private final HospitalStatisticsCache hospitalStatisticsCache;
+
+    @Value("${statistics.rollup.reconcile-days:3}")
+    private int reconcileDays;
+
+    /**
+     * 애플리케이션 기동 완료 후 최초 백필
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            int rows = hospitalStatisticsRollupService.backfillAllIfEmpty();
+            if (rows == HospitalStatisticsRollupService.SKIPPED) {
+                return;
+            }
+            hospitalStatisticsCache.invalidateAll();
+            log.info(LOG_PREFIX + "초기 백필 완료 - 집계 행 수: {}", rows);
+        } catch (Exception e) {
+            log.error(LOG_PREFIX + "초기 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 최근 N일 집계 보정 (기본: 매일 03:30)
+     */
+    @Scheduled(cron = "${statistics.rollup.reconcile-cron:0 30 3 * * *}")
+    public void reconcileRecentDays() {
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(Math.max(reconcileDays - 1, 0));
+        try {
+            int rows = hospitalStatisticsRollupService.backfill(startDate, endDate);
+            if (rows == HospitalStatisticsRollupService.SKIPPED) {
+                return;
+            }
+            hospitalStatisticsCache.invalidateAll();
+            log.info(LOG_PREFIX + "최근 집계 보정 완료 - 기간: {} ~ {}, 집계 행 수: {}", startDate, endDate, rows);
+        } catch (Exception e) {
+            log.error(LOG_PREFIX + "최근 집계 보정 실패 - 기간: {} ~ {}: {}", startDate, endDate, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.ssairen.domain.hospital.service;
+
+import com.ssairen.domain.hospital.entity.HospitalSelection;
+import com.ssairen.domain.hospital.enums.HospitalSelectionStatus;
+import com.ssairen.domain.hospital.event.HospitalStatisticsChangedEvent;
+import com.ssairen.domain.hospital.repository.HospitalDailyStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 병원 일별 통계 집계(hospital_daily_statistics) 유지 서비스
+ * - 증분 갱신: 병원 선택이 ACCEPTED/ARRIVED로 처음 전환될 때 해당 건의 버킷을 +1
+ * - 재계산: 환자 정보가 바뀌면 그 구급일지가 반영된 (병원, 날짜)만 원본 데이터로 다시 계산
+ * - 백필: 기간 단위로 전체 병원의 집계를 원본 데이터로 다시 계산 (advisory lock으로 인스턴스 간 동시 실행 방지)
+ * - 집계 대상 건이 바뀌면 {@link HospitalStatisticsChangedEvent}를 발행하여 커밋 후 통계 캐시 무효화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class HospitalStatisticsRollupService {
+
+    private static final String LOG_PREFIX = "[HospitalStatisticsRollup] ";
+
+    /**
+     * 백필/보정을 다른 인스턴스가 실행 중이거나 백필이 필요 없어 건너뛴 경우의 반환값
+     */
+    public static final int SKIPPED = -1;
+
+    /**
+     * 백필/보정 advisory lock 키 (테이블 이름 기반 고정값)
+     */
+    private static final long REBUILD_LOCK_KEY = "hospital_daily_statistics".hashCode();
+
+    /**
+     * 통계 집계 대상 상태 (기존 통계 쿼리의 status IN ('ACCEPTED', 'ARRIVED')와 동일)
+     */
+    private static final Set<HospitalSelectionStatus> COUNTED_STATUSES =
+            EnumSet.of(HospitalSelectionStatus.ACCEPTED, HospitalSelectionStatus.ARRIVED);
+
+    private final HospitalDailyStatisticsRepository hospitalDailyStatisticsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 병원 선택 상태 변경을 집계에 반영
+     * 집계 대상이 아니던 상태에서 집계 대상 상태로 바뀐 경우에만 증분 (ACCEPTED → ARRIVED는 이미 집계됨)
+     *
+     * @param selection 상태가 변경된 병원 선택
+     * @param previousStatus 변경 전 상태
+     */
+    public void recordStatusChange(HospitalSelection selection, HospitalSelectionStatus previousStatus) {
+        boolean wasCounted = COUNTED_STATUSES.contains(previousStatus);
+        boolean isCounted = COUNTED_STATUSES.contains(selection.getStatus());
+        if (!wasCounted && !isCounted) {
+            return;
+        }
+
+        // 수용/내원 처리된 건이 속한 날짜의 통계 캐시 무효화 (커밋 이후)
+        if (selection.getResponseAt() != null) {
+            eventPublisher.publishEvent(new HospitalStatisticsChangedEvent(
+                    selection.getHospital().getId(), selection.getResponseAt().toLocalDate()));
+        }
+
+        if (wasCounted) {
+            return;
+        }
+
+        int updatedRows = hospitalDailyStatisticsRepository.incrementBySelectionId(selection.getId());
+        log.debug(LOG_PREFIX + "증분 반영 - 선택 ID: {}, 상태: {} → {}, 갱신 행 수: {}",
+                selection.getId(), previousStatus, selection.getStatus(), updatedRows);
+    }
+
+    /**
+     * 구급일지의 환자 정보 변경 후, 해당 구급일지가 반영된 일자 집계 재계산
+     * 성별/연령대/의식 상태 버킷이 이동할 수 있으므로 증분 대신 해당 일자만 다시 계산
+     *
+     * @param emergencyReportId 구급일지 ID
+     */
+    public void refreshForEmergencyReport(Long emergencyReportId) {
+        List<Object[]> countedDays = hospitalDailyStatisticsRepository
+                .findCountedDaysByEmergencyReportId(emergencyReportId);
+
+        for (Object[] countedDay : countedDays) {
+            Integer hospitalId = ((Number) countedDay[0]).intValue();
+            LocalDate statDate = toLocalDate(countedDay[1]);
+            rebuild(hospitalId, statDate, statDate);
+            eventPublisher.publishEvent(new HospitalStatisticsChangedEvent(hospitalId, statDate));
+        }
+    }
+
+    /**
+     * 특정 병원의 기간 집계 재계산
+     *
+     * @param hospitalId 병원 ID
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (포함)
+     * @return 생성된 집계 행 수
+     */
+    public int rebuild(Integer hospitalId, LocalDate startDate, LocalDate endDate) {
+        hospitalDailyStatisticsRepository.deleteByHospitalIdAndPeriod(hospitalId, startDate, endDate);
+        int rows = hospitalDailyStatisticsRepository.rebuildByHospitalIdAndPeriod(
+                hospitalId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()
+        );
+
+        log.debug(LOG_PREFIX + "병원 집계 재계산 - 병원 ID: {}, 기간: {} ~ {}, 집계 행 수: {}",
+                hospitalId, startDate, endDate, rows);
+        return rows;
+    }
+
+    /**
+     * 전체 병원의 기간 집계 재계산 (백필)
+     * 다른 인스턴스가 백필/보정 중이면 기다리지 않고 건너뜀
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (포함)
+     * @return 생성된 집계 행 수 (건너뛰면 {@link #SKIPPED})
+     */
+    public int backfill(LocalDate startDate, LocalDate endDate) {
+        if (!hospitalDailyStatisticsRepository.tryAcquireRebuildLock(REBUILD_LOCK_KEY)) {
+            log.info(LOG_PREFIX + "다른 인스턴스가 집계 재계산 중이므로 백필 건너뜀 - 기간: {} ~ {}", startDate, endDate);
+            return SKIPPED;
+        }
+        return rebuildAll(startDate, endDate);
+    }
+
+    /**
+     * 집계 테이블이 비어 있으면 원본 데이터 전체 기간 백필
+     * 비어 있는지 확인과 백필을 같은 잠금 안에서 수행하여, 동시에 기동한 인스턴스가 중복 백필하지 않도록 함
+     *
+     * @return 생성된 집계 행 수 (다른 인스턴스가 실행 중이거나 이미 집계가 있으면 {@link #SKIPPED})
+     */
+    public int backfillAllIfEmpty() {
+        if (!hospitalDailyStatisticsRepository.tryAcquireRebuildLock(REBUILD_LOCK_KEY)) {
+            log.info(LOG_PREFIX + "다른 인스턴스가 집계 재계산 중이므로 초기 백필 건너뜀");
+            return SKIPPED;
+        }
+        if (hospitalDailyStatisticsRepository.count() > 0) {
+            return SKIPPED;
+        }
+
+        List<Object[]> range = hospitalDailyStatisticsRepository.findCountedResponseRange();
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            log.info(LOG_PREFIX + "백필 대상 데이터 없음");
+            return 0;
+        }
+
+        LocalDate startDate = toLocalDateTime(range.get(0)[0]).toLocalDate();
+        LocalDate endDate = toLocalDateTime(range.get(0)[1]).toLocalDate();
+        return rebuildAll(startDate, endDate);
+    }
+
+    private int rebuildAll(LocalDate startDate, LocalDate endDate) {
+        hospitalDailyStatisticsRepository.deleteByPeriod(startDate, endDate);
+        int rows = hospitalDailyStatisticsRepository.rebuildByPeriod(
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()
+        );
+
+        log.info(LOG_PREFIX + "집계 백필 완료 - 기간: {} ~ {}, 집계 행 수: {}", startDate, endDate, rows);
+        return rows;
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -1,11 +1,15 @@
 package com.ssairen.domain.hospital.service;
 
+import com.ssairen.domain.hospital.cache.HospitalStatisticsCache;
 import com.ssairen.domain.hospital.dto.DisasterTypeStatisticsResponse;
 import com.ssairen.domain.hospital.dto.PatientStatisticsResponse;
+import com.ssairen.domain.hospital.dto.StatisticsOverviewResponse;
 import com.ssairen.domain.hospital.dto.StatisticsRequest;
 import com.ssairen.domain.hospital.dto.TimeStatisticsResponse;
+import com.ssairen.domain.hospital.enums.StatisticsDimension;
+import com.ssairen.domain.hospital.enums.StatisticsEndpoint;
+import com.ssairen.domain.hospital.repository.HospitalDailyStatisticsRepository;
 import com.ssairen.domain.hospital.repository.HospitalRepository;
-import com.ssairen.domain.hospital.repository.HospitalSelectionRepository;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -14,13 +18,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * 병원 통계 서비스
+ * - 원본 테이블 대신 일별 통계 집계(hospital_daily_statistics)를 기간 합산하여 응답
+ * - 집계 유지는 {@link HospitalStatisticsRollupService} 참고
+ * - 동일 기간 반복 조회는 {@link HospitalStatisticsCache}에서 응답
  */
 @Slf4j
 @Service
@@ -29,7 +37,8 @@ import java.util.Map;
 public class HospitalStatisticsService {
 
     private final HospitalRepository hospitalRepository;
-    private final HospitalSelectionRepository hospitalSelectionRepository;
+    private final HospitalDailyStatisticsRepository hospitalDailyStatisticsRepository;
+    private final HospitalStatisticsCache hospitalStatisticsCache;
 
     // 요일 매핑 (PostgreSQL DOW: 0=일요일, 1=월요일, ..., 6=토요일)
     private static final Map<Integer, String> DAY_OF_WEEK_MAP = Map.of(
@@ -42,6 +51,13 @@ public class HospitalStatisticsService {
             6, "SATURDAY"
     );
 
+    // 0으로 초기화해 두는 버킷 (데이터가 없어도 응답에 포함)
+    private static final String[] AGE_GROUPS = {"0-9", "10-19", "20-29", "30-39", "40-49", "50-59", "60-69", "70-79", "80+"};
+    private static final String[] GENDERS = {"M", "F"};
+    private static final String[] MENTAL_STATUSES = {"ALERT", "VERBAL", "PAIN", "UNRESPONSIVE"};
+
+    private static final String UNCLASSIFIED = "미분류";
+
     /**
      * 시간별 통계 조회
      *
@@ -50,6 +66,13 @@ public class HospitalStatisticsService {
      * @return 요일별, 시간대별 통계
      */
     public TimeStatisticsResponse getTimeStatistics(StatisticsRequest request, Integer hospitalId) {
+        return hospitalStatisticsCache.get(
+                hospitalId, StatisticsEndpoint.TIME, request.startDate(), request.endDate(),
+                TimeStatisticsResponse.class, () -> loadTimeStatistics(request, hospitalId)
+        );
+    }
+
+    private TimeStatisticsResponse loadTimeStatistics(StatisticsRequest request, Integer hospitalId) {
         log.info("📊 Fetching time statistics for hospital ID: {}, period: {} ~ {}",
                 hospitalId, request.startDate(), request.endDate());
 
@@ -58,20 +81,18 @@ public class HospitalStatisticsService {
             throw new CustomException(ErrorCode.HOSPITAL_NOT_FOUND);
         }
 
-        // 2. LocalDate → LocalDateTime 변환
-        LocalDateTime startDateTime = request.startDate().atStartOfDay();
-        LocalDateTime endDateTime = request.endDate().plusDays(1).atStartOfDay(); // 종료일 23:59:59까지 포함
+        // 2. 조회 기간 (시작일, 종료일 모두 포함)
+        LocalDate startDate = request.startDate();
+        LocalDate endDate = request.endDate();
 
         // 3. 요일별 통계 조회
-        Map<String, Long> byDayOfWeek = getDayOfWeekStatistics(hospitalId, startDateTime, endDateTime);
+        Map<String, Long> byDayOfWeek = getDayOfWeekStatistics(hospitalId, startDate, endDate);
 
         // 4. 시간대별 통계 조회
-        Map<String, Long> byHour = getHourStatistics(hospitalId, startDateTime, endDateTime);
+        Map<String, Long> byHour = getHourStatistics(hospitalId, startDate, endDate);
 
         // 5. 총 수용 건수
-        long totalCount = hospitalSelectionRepository.countByHospitalIdAndPeriod(
-                hospitalId, startDateTime, endDateTime
-        );
+        long totalCount = hospitalDailyStatisticsRepository.sumTotal(hospitalId, startDate, endDate);
 
         log.info("✅ Time statistics calculated - Total: {}, DayOfWeek: {}, Hour: {}",
                 totalCount, byDayOfWeek.size(), byHour.size());
@@ -90,19 +111,14 @@ public class HospitalStatisticsService {
      */
     private Map<String, Long> getDayOfWeekStatistics(
             Integer hospitalId,
-            LocalDateTime startDateTime,
-            LocalDateTime endDateTime
+            LocalDate startDate,
+            LocalDate endDate
     ) {
-        List<Object[]> results = hospitalSelectionRepository.countByDayOfWeek(
-                hospitalId, startDateTime, endDateTime
+        List<Object[]> results = hospitalDailyStatisticsRepository.sumByDayOfWeek(
+                hospitalId, startDate, endDate
         );
 
-        Map<String, Long> statistics = new HashMap<>();
-
-        // 모든 요일을 0으로 초기화
-        for (String dayName : DAY_OF_WEEK_MAP.values()) {
-            statistics.put(dayName, 0L);
-        }
+        Map<String, Long> statistics = newDayOfWeekHistogram();
 
         // 쿼리 결과를 Map으로 변환
         for (Object[] result : results) {
@@ -124,26 +140,21 @@ public class HospitalStatisticsService {
      */
     private Map<String, Long> getHourStatistics(
             Integer hospitalId,
-            LocalDateTime startDateTime,
-            LocalDateTime endDateTime
+            LocalDate startDate,
+            LocalDate endDate
     ) {
-        List<Object[]> results = hospitalSelectionRepository.countByHour(
-                hospitalId, startDateTime, endDateTime
+        List<Object[]> results = sumByDimension(
+                hospitalId, StatisticsDimension.HOUR, startDate, endDate
         );
 
-        Map<String, Long> statistics = new HashMap<>();
-
-        // 모든 시간대를 0으로 초기화 (0~23시)
-        for (int hour = 0; hour < 24; hour++) {
-            statistics.put(String.valueOf(hour), 0L);
-        }
+        Map<String, Long> statistics = newHistogram(StatisticsDimension.HOUR);
 
         // 쿼리 결과를 Map으로 변환
         for (Object[] result : results) {
-            int hour = ((Number) result[0]).intValue();
+            String hour = (String) result[0];
             Long count = ((Number) result[1]).longValue();
 
-            statistics.put(String.valueOf(hour), count);
+            statistics.put(hour, count);
         }
 
         return statistics;
@@ -157,6 +168,13 @@ public class HospitalStatisticsService {
      * @return 성별, 연령대, 의식 상태별 통계
      */
     public PatientStatisticsResponse getPatientStatistics(StatisticsRequest request, Integer hospitalId) {
+        return hospitalStatisticsCache.get(
+                hospitalId, StatisticsEndpoint.PATIENT, request.startDate(), request.endDate(),
+                PatientStatisticsResponse.class, () -> loadPatientStatistics(request, hospitalId)
+        );
+    }
+
+    private PatientStatisticsResponse loadPatientStatistics(StatisticsRequest request, Integer hospitalId) {
         log.info("📊 Fetching patient statistics for hospital ID: {}, period: {} ~ {}",
                 hospitalId, request.startDate(), request.endDate());
 
@@ -165,23 +183,21 @@ public class HospitalStatisticsService {
             throw new CustomException(ErrorCode.HOSPITAL_NOT_FOUND);
         }
 
-        // 2. LocalDate → LocalDateTime 변환
-        LocalDateTime startDateTime = request.startDate().atStartOfDay();
-        LocalDateTime endDateTime = request.endDate().plusDays(1).atStartOfDay();
+        // 2. 조회 기간 (시작일, 종료일 모두 포함)
+        LocalDate startDate = request.startDate();
+        LocalDate endDate = request.endDate();
 
         // 3. 성별 통계 조회
-        Map<String, Long> byGender = getGenderStatistics(hospitalId, startDateTime, endDateTime);
+        Map<String, Long> byGender = getGenderStatistics(hospitalId, startDate, endDate);
 
         // 4. 연령대 통계 조회
-        Map<String, Long> byAgeGroup = getAgeGroupStatistics(hospitalId, startDateTime, endDateTime);
+        Map<String, Long> byAgeGroup = getAgeGroupStatistics(hospitalId, startDate, endDate);
 
         // 5. 의식 상태 통계 조회
-        Map<String, Long> byMentalStatus = getMentalStatusStatistics(hospitalId, startDateTime, endDateTime);
+        Map<String, Long> byMentalStatus = getMentalStatusStatistics(hospitalId, startDate, endDate);
 
         // 6. 총 수용 건수
-        long totalCount = hospitalSelectionRepository.countByHospitalIdAndPeriod(
-                hospitalId, startDateTime, endDateTime
-        );
+        long totalCount = hospitalDailyStatisticsRepository.sumTotal(hospitalId, startDate, endDate);
 
         log.info("✅ Patient statistics calculated - Total: {}, Gender: {}, AgeGroup: {}, MentalStatus: {}",
                 totalCount, byGender.size(), byAgeGroup.size(), byMentalStatus.size());
@@ -201,18 +217,14 @@ public class HospitalStatisticsService {
      */
     private Map<String, Long> getGenderStatistics(
             Integer hospitalId,
-            LocalDateTime startDateTime,
-            LocalDateTime endDateTime
+            LocalDate startDate,
+            LocalDate endDate
     ) {
-        List<Object[]> results = hospitalSelectionRepository.countByGender(
-                hospitalId, startDateTime, endDateTime
+        List<Object[]> results = sumByDimension(
+                hospitalId, StatisticsDimension.GENDER, startDate, endDate
         );
 
-        Map<String, Long> statistics = new HashMap<>();
-
-        // M, F 초기화
-        statistics.put("M", 0L);
-        statistics.put("F", 0L);
+        Map<String, Long> statistics = newHistogram(StatisticsDimension.GENDER);
 
         // 쿼리 결과를 Map으로 변환
         for (Object[] result : results) {
@@ -229,20 +241,14 @@ public class HospitalStatisticsService {
      */
     private Map<String, Long> getAgeGroupStatistics(
             Integer hospitalId,
-            LocalDateTime startDateTime,
-            LocalDateTime endDateTime
+            LocalDate startDate,
+            LocalDate endDate
     ) {
-        List<Object[]> results = hospitalSelectionRepository.countByAgeGroup(
-                hospitalId, startDateTime, endDateTime
+        List<Object[]> results = sumByDimension(
+                hospitalId, StatisticsDimension.AGE_GROUP, startDate, endDate
         );
 
-        Map<String, Long> statistics = new HashMap<>();
-
-        // 모든 연령대를 0으로 초기화
-        String[] ageGroups = {"0-9", "10-19", "20-29", "30-39", "40-49", "50-59", "60-69", "70-79", "80+"};
-        for (String ageGroup : ageGroups) {
-            statistics.put(ageGroup, 0L);
-        }
+        Map<String, Long> statistics = newHistogram(StatisticsDimension.AGE_GROUP);
 
         // 쿼리 결과를 Map으로 변환
         for (Object[] result : results) {
@@ -259,20 +265,14 @@ public class HospitalStatisticsService {
      */
     private Map<String, Long> getMentalStatusStatistics(
             Integer hospitalId,
-            LocalDateTime startDateTime,
-            LocalDateTime endDateTime
+            LocalDate startDate,
+            LocalDate endDate
     ) {
-        List<Object[]> results = hospitalSelectionRepository.countByMentalStatus(
-                hospitalId, startDateTime, endDateTime
+        List<Object[]> results = sumByDimension(
+                hospitalId, StatisticsDimension.MENTAL_STATUS, startDate, endDate
         );
 
-        Map<String, Long> statistics = new HashMap<>();
-
-        // 모든 의식 상태를 0으로 초기화
-        statistics.put("ALERT", 0L);
-        statistics.put("VERBAL", 0L);
-        statistics.put("PAIN", 0L);
-        statistics.put("UNRESPONSIVE", 0L);
+        Map<String, Long> statistics = newHistogram(StatisticsDimension.MENTAL_STATUS);
 
         // 쿼리 결과를 Map으로 변환
         for (Object[] result : results) {
@@ -292,6 +292,13 @@ public class HospitalStatisticsService {
      * @return 재난 유형별, 재난 세부 유형별 통계
      */
     public DisasterTypeStatisticsResponse getDisasterTypeStatistics(StatisticsRequest request, Integer hospitalId) {
+        return hospitalStatisticsCache.get(
+                hospitalId, StatisticsEndpoint.DISASTER_TYPE, request.startDate(), request.endDate(),
+                DisasterTypeStatisticsResponse.class, () -> loadDisasterTypeStatistics(request, hospitalId)
+        );
+    }
+
+    private DisasterTypeStatisticsResponse loadDisasterTypeStatistics(StatisticsRequest request, Integer hospitalId) {
         log.info("📊 Fetching disaster type statistics for hospital ID: {}, period: {} ~ {}",
                 hospitalId, request.startDate(), request.endDate());
 
@@ -300,20 +307,18 @@ public class HospitalStatisticsService {
             throw new CustomException(ErrorCode.HOSPITAL_NOT_FOUND);
         }
 
-        // 2. LocalDate → LocalDateTime 변환
-        LocalDateTime startDateTime = request.startDate().atStartOfDay();
-        LocalDateTime endDateTime = request.endDate().plusDays(1).atStartOfDay();
+        // 2. 조회 기간 (시작일, 종료일 모두 포함)
+        LocalDate startDate = request.startDate();
+        LocalDate endDate = request.endDate();
 
         // 3. 재난 유형별 통계 조회
-        Map<String, Long> byDisasterType = getDisasterTypeMap(hospitalId, startDateTime, endDateTime);
+        Map<String, Long> byDisasterType = getDisasterTypeMap(hospitalId, startDate, endDate);
 
         // 4. 재난 세부 유형별 통계 조회
-        Map<String, Long> byDisasterSubtype = getDisasterSubtypeMap(hospitalId, startDateTime, endDateTime);
+        Map<String, Long> byDisasterSubtype = getDisasterSubtypeMap(hospitalId, startDate, endDate);
 
         // 5. 총 수용 건수
-        long totalCount = hospitalSelectionRepository.countByHospitalIdAndPeriod(
-                hospitalId, startDateTime, endDateTime
-        );
+        long totalCount = hospitalDailyStatisticsRepository.sumTotal(hospitalId, startDate, endDate);
 
         log.info("✅ Disaster type statistics calculated - Total: {}, Types: {}, Subtypes: {}",
                 totalCount, byDisasterType.size(), byDisasterSubtype.size());
@@ -332,18 +337,18 @@ public class HospitalStatisticsService {
      */
     private Map<String, Long> getDisasterTypeMap(
             Integer hospitalId,
-            LocalDateTime startDateTime,
-            LocalDateTime endDateTime
+            LocalDate startDate,
+            LocalDate endDate
     ) {
-        List<Object[]> results = hospitalSelectionRepository.countByDisasterType(
-                hospitalId, startDateTime, endDateTime
+        List<Object[]> results = sumByDimension(
+                hospitalId, StatisticsDimension.DISASTER_TYPE, startDate, endDate
         );
 
         Map<String, Long> statistics = new HashMap<>();
 
         // 쿼리 결과를 Map으로 변환 (NULL 체크)
         for (Object[] result : results) {
-            String disasterType = result[0] != null ? (String) result[0] : "미분류";
+            String disasterType = result[0] != null ? (String) result[0] : UNCLASSIFIED;
             Long count = ((Number) result[1]).longValue();
             statistics.put(disasterType, count);
         }
@@ -356,22 +361,144 @@ public class HospitalStatisticsService {
      */
     private Map<String, Long> getDisasterSubtypeMap(
             Integer hospitalId,
-            LocalDateTime startDateTime,
-            LocalDateTime endDateTime
+            LocalDate startDate,
+            LocalDate endDate
     ) {
-        List<Object[]> results = hospitalSelectionRepository.countByDisasterSubtype(
-                hospitalId, startDateTime, endDateTime
+        List<Object[]> results = sumByDimension(
+                hospitalId, StatisticsDimension.DISASTER_SUBTYPE, startDate, endDate
         );
 
         Map<String, Long> statistics = new HashMap<>();
 
         // 쿼리 결과를 Map으로 변환 (NULL 체크)
         for (Object[] result : results) {
-            String disasterSubtype = result[0] != null ? (String) result[0] : "미분류";
+            String disasterSubtype = result[0] != null ? (String) result[0] : UNCLASSIFIED;
             Long count = ((Number) result[1]).longValue();
             statistics.put(disasterSubtype, count);
         }
 
         return statistics;
     }
+
+    /**
+     * 통계 대시보드 통합 조회
+     * 시간별/환자/재난 유형별 통계를 일별 집계 테이블 1회 스캔(GROUPING SETS)으로 계산
+     *
+     * @param request 통계 조회 요청 (startDate, endDate)
+     * @param hospitalId 병원 ID
+     * @return 요일, 시간대, 성별, 연령대, 의식 상태, 재난 유형/세부 유형별 통계
+     */
+    public StatisticsOverviewResponse getOverviewStatistics(StatisticsRequest request, Integer hospitalId) {
+        return hospitalStatisticsCache.get(
+                hospitalId, StatisticsEndpoint.OVERVIEW, request.startDate(), request.endDate(),
+                StatisticsOverviewResponse.class, () -> loadOverviewStatistics(request, hospitalId)
+        );
+    }
+
+    private StatisticsOverviewResponse loadOverviewStatistics(StatisticsRequest request, Integer hospitalId) {
+        log.info("📊 Fetching overview statistics for hospital ID: {}, period: {} ~ {}",
+                hospitalId, request.startDate(), request.endDate());
+
+        // 1. 병원 존재 확인
+        if (!hospitalRepository.existsById(hospitalId)) {
+            throw new CustomException(ErrorCode.HOSPITAL_NOT_FOUND);
+        }
+
+        // 2. 전체 차원 합계 조회 (단일 쿼리)
+        List<Object[]> results = hospitalDailyStatisticsRepository.sumAllDimensions(
+                hospitalId, request.startDate(), request.endDate()
+        );
+
+        // 3. 차원별 히스토그램 초기화
+        Map<String, Long> byDayOfWeek = newDayOfWeekHistogram();
+        Map<StatisticsDimension, Map<String, Long>> histograms = new EnumMap<>(StatisticsDimension.class);
+        for (StatisticsDimension dimension : StatisticsDimension.values()) {
+            histograms.put(dimension, newHistogram(dimension));
+        }
+
+        // 4. 쿼리 결과를 차원별로 분배
+        long totalCount = 0L;
+        for (Object[] result : results) {
+            StatisticsDimension dimension = StatisticsDimension.valueOf((String) result[0]);
+            long count = ((Number) result[3]).longValue();
+            boolean byDay = ((Number) result[4]).intValue() == 1;
+
+            if (byDay) {
+                String dayName = DAY_OF_WEEK_MAP.get(((Number) result[2]).intValue());
+                if (dayName != null) {
+                    byDayOfWeek.put(dayName, count);
+                }
+            } else if (dimension == StatisticsDimension.TOTAL) {
+                totalCount = count;
+            } else {
+                histograms.get(dimension).put((String) result[1], count);
+            }
+        }
+
+        log.info("✅ Overview statistics calculated - Total: {}, Rows: {}", totalCount, results.size());
+
+        return new StatisticsOverviewResponse(
+                byDayOfWeek,
+                histograms.get(StatisticsDimension.HOUR),
+                histograms.get(StatisticsDimension.GENDER),
+                histograms.get(StatisticsDimension.AGE_GROUP),
+                histograms.get(StatisticsDimension.MENTAL_STATUS),
+                histograms.get(StatisticsDimension.DISASTER_TYPE),
+                histograms.get(StatisticsDimension.DISASTER_SUBTYPE),
+                request.startDate(),
+                request.endDate(),
+                totalCount
+        );
+    }
+
+    /**
+     * 모든 요일을 0으로 초기화한 히스토그램
+     */
+    private Map<String, Long> newDayOfWeekHistogram() {
+        Map<String, Long> statistics = new HashMap<>();
+        for (String dayName : DAY_OF_WEEK_MAP.values()) {
+            statistics.put(dayName, 0L);
+        }
+        return statistics;
+    }
+
+    /**
+     * 차원별 고정 버킷을 0으로 초기화한 히스토그램
+     * 시간대(0~23시), 성별, 연령대, 의식 상태는 데이터가 없어도 모든 버킷을 포함하고
+     * 재난 유형/세부 유형은 값이 정해져 있지 않으므로 빈 맵으로 시작
+     */
+    private Map<String, Long> newHistogram(StatisticsDimension dimension) {
+        Map<String, Long> statistics = new HashMap<>();
+        switch (dimension) {
+            case HOUR -> {
+                for (int hour = 0; hour < 24; hour++) {
+                    statistics.put(String.valueOf(hour), 0L);
+                }
+            }
+            case GENDER -> putZeros(statistics, GENDERS);
+            case AGE_GROUP -> putZeros(statistics, AGE_GROUPS);
+            case MENTAL_STATUS -> putZeros(statistics, MENTAL_STATUSES);
+            default -> {
+            }
+        }
+        return statistics;
+    }
+
+    private void putZeros(Map<String, Long> statistics, String[] buckets) {
+        for (String bucket : buckets) {
+            statistics.put(bucket, 0L);
+        }
+    }
+
+    /**
+     * 차원별 버킷 합계 조회
+     */
+    private List<Object[]> sumByDimension(
+            Integer hospitalId,
+            StatisticsDimension dimension,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        return hospitalDailyStatisticsRepository.sumByDimension(hospitalId, dimension.name(), startDate, endDate);
+    }
 }
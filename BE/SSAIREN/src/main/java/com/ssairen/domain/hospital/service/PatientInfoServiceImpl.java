@@ -24,6 +24,7 @@ public class PatientInfoServiceImpl implements PatientInfoService {
 
     private final PatientInfoRepository patientInfoRepository;
     private final EmergencyReportRepository emergencyReportRepository;
+    private final HospitalStatisticsRollupService hospitalStatisticsRollupService;
 
     /**
      * 환자 정보 생성
@@ -80,6 +81,9 @@ public class PatientInfoServiceImpl implements PatientInfoService {
         // 4. 저장
         PatientInfo savedPatientInfo = patientInfoRepository.save(patientInfo);
 
+        // 5. 이미 병원에 수용된 구급일지라면 해당 일자 통계 집계 재계산
+        hospitalStatisticsRollupService.refreshForEmergencyReport(request.emergencyReportId());
+
         log.info("Patient info created successfully for emergency report ID: {}", request.emergencyReportId());
 
         return PatientInfoResponse.from(savedPatientInfo);
@@ -145,6 +149,9 @@ public class PatientInfoServiceImpl implements PatientInfoService {
                 request.lnt()
         );
 
+        // 3. 성별/연령대/의식 상태가 바뀔 수 있으므로 해당 일자 통계 집계 재계산
+        hospitalStatisticsRollupService.refreshForEmergencyReport(emergencyReportId);
+
         log.info("Patient info updated successfully for emergency report ID: {}", emergencyReportId);
 
         return PatientInfoResponse.from(patientInfo);
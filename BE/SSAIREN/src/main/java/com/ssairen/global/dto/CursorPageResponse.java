@@ -0,0 +1,42 @@
+package com.ssairen.global.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지네이션 응답 DTO
+ * @param <T> 페이지네이션할 데이터 타입
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> content;          // 현재 페이지의 데이터 목록
+    private int size;                 // 요청한 페이지 크기
+    private String nextCursor;        // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;          // 다음 페이지 존재 여부
+    private Long totalElements;       // 전체 데이터 개수 (요청한 경우 첫 페이지에서만 제공, 그 외 null)
+
+    /**
+     * CursorPageResponse 생성 팩토리 메서드
+     *
+     * @param content 현재 페이지 데이터
+     * @param size 페이지 크기
+     * @param nextCursor 다음 페이지 커서
+     * @param hasNext 다음 페이지 존재 여부
+     * @param totalElements 전체 데이터 개수 (없으면 null)
+     */
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, String nextCursor, boolean hasNext, Long totalElements) {
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalElements(totalElements)
+                .build();
+    }
+}
@@ -71,6 +71,12 @@ ErrorCode {
     REPORT_SECTION_NOT_FOUND(HttpStatus.NOT_FOUND, "REPORT_SECTION_NOT_FOUND", "구급일지 섹션을 찾을 수 없습니다."),
     REPORT_SECTION_ALREADY_EXISTS(HttpStatus.CONFLICT, "REPORT_SECTION_ALREADY_EXISTS", "해당 구급일지에 이미 동일한 타입의 섹션이 존재합니다."),
     INVALID_JSONB_FORMAT(HttpStatus.BAD_REQUEST, "INVALID_JSONB_FORMAT", "데이터 형식이 올바르지 않습니다."),
+    REPORT_SECTION_VERSION_MISMATCH(HttpStatus.PRECONDITION_FAILED, "REPORT_SECTION_VERSION_MISMATCH", "섹션이 다른 요청에 의해 이미 수정되었습니다. 최신 데이터를 다시 조회해주세요."),
+    INVALID_IF_MATCH(HttpStatus.BAD_REQUEST, "INVALID_IF_MATCH", "If-Match 헤더 형식이 올바르지 않습니다."),
+    INVALID_JSON_PATCH(HttpStatus.BAD_REQUEST, "INVALID_JSON_PATCH", "패치 문서 형식이 올바르지 않습니다."),
+    JSON_PATCH_TEST_FAILED(HttpStatus.CONFLICT, "JSON_PATCH_TEST_FAILED", "패치의 test 연산 조건이 현재 데이터와 일치하지 않습니다."),
+    INVALID_REPORT_SECTION_VERSION(HttpStatus.BAD_REQUEST, "INVALID_REPORT_SECTION_VERSION", "존재하지 않는 섹션 버전입니다."),
+    REPORT_SECTION_HISTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "REPORT_SECTION_HISTORY_NOT_FOUND", "요청한 버전의 섹션 변경 이력이 없습니다. 최신 데이터를 다시 조회해주세요."),
 
     // ============================================
     // Hospital (7000번대)
@@ -102,6 +108,10 @@ ErrorCode {
     INVALID_AUDIO_FORMAT(HttpStatus.BAD_REQUEST, "INVALID_AUDIO_FORMAT", "지원하지 않는 오디오 형식입니다."),
     AUDIO_FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, "AUDIO_FILE_TOO_LARGE", "오디오 파일 크기가 너무 큽니다."),
     EXTERNAL_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "EXTERNAL_API_ERROR", "외부 API 호출에 실패했습니다."),
+    AI_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "AI_JOB_NOT_FOUND", "AI 작업을 찾을 수 없습니다."),
+    AI_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "AI_JOB_QUEUE_FULL", "처리 대기중인 AI 작업이 많습니다. 잠시 후 다시 시도해주세요."),
+    LIVE_STT_NO_CHUNKS(HttpStatus.BAD_REQUEST, "LIVE_STT_NO_CHUNKS", "전송된 실시간 음성 조각이 없습니다."),
+    LIVE_STT_ALREADY_FINISHED(HttpStatus.CONFLICT, "LIVE_STT_ALREADY_FINISHED", "이미 종료된 실시간 녹음입니다."),
 
     // ============================================
     // 파일 스토리지 (9100번대)
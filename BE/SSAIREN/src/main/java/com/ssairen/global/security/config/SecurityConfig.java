@@ -3,6 +3,7 @@ package com.ssairen.global.security.config;
 import com.ssairen.global.security.handler.CustomAccessDeniedHandler;
 import com.ssairen.global.security.handler.CustomAuthenticationEntryPoint;
 import com.ssairen.global.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -55,6 +56,9 @@ public class SecurityConfig {
 
                 // 엔드포인트별 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(SSE 스트리밍) 재디스패치 허용 - 최초 요청에서 이미 인가를 통과함
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 인증 없이 접근 가능한 엔드포인트
                         .requestMatchers("/api/auth/login", "/api/auth/refresh").permitAll()
                         .requestMatchers("/api/auth/logout").authenticated()  // 로그아웃은 인증 필요
@@ -76,6 +80,7 @@ public class SecurityConfig {
                         // 병원 선택 요청 관련 (더 구체적인 패턴 먼저)
                         .requestMatchers("/api/hospital-selection/request").hasRole(ROLE_PARAMEDIC)  // ������ ������
                         .requestMatchers("/api/hospital-selection/ai-recommendation").hasRole(ROLE_PARAMEDIC)  // AI 병원 추천
+                        .requestMatchers("/api/hospital-selection/nearby").hasRole(ROLE_PARAMEDIC)  // 주변 병원 조회
                         .requestMatchers("/api/hospital-selection/**").hasRole("HOSPITAL")  // 요청 응답
 
                         // 병원 전용 엔드포인트
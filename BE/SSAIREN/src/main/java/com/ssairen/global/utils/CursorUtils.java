@@ -4,10 +4,14 @@ import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Base64;
 
 public class CursorUtils {
 
+    private static final String KEYSET_DELIMITER = "_";
+
     private CursorUtils() {
         throw new AssertionError("Utility class should not be instantiated");
     }
@@ -48,4 +52,68 @@ public class CursorUtils {
             throw new CustomException(ErrorCode.INVALID_CURSOR);
         }
     }
+
+    /**
+     * (시각, ID) 복합 키를 Base64로 인코딩하여 커서 문자열 생성
+     * 동일 시각의 행이 여러 개일 수 있으므로 ID를 함께 인코딩하여 순서를 고정
+     *
+     * @param timestamp 정렬 기준 시각
+     * @param id 동일 시각 내 정렬 기준 ID
+     * @return Base64로 인코딩된 커서 문자열
+     */
+    public static String encodeCursor(LocalDateTime timestamp, Long id) {
+        if (timestamp == null || id == null) {
+            return null;
+        }
+        String keyString = timestamp + KEYSET_DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(keyString.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Base64로 인코딩된 (시각, ID) 복합 커서 문자열을 디코딩
+     *
+     * @param cursor Base64로 인코딩된 커서 문자열
+     * @return 디코딩된 복합 커서 (커서가 비어 있으면 null)
+     * @throws CustomException 유효하지 않은 커서 형식인 경우
+     */
+    public static KeysetCursor decodeKeysetCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            byte[] decodedBytes = Base64.getUrlDecoder().decode(cursor);
+            String decodedString = new String(decodedBytes, StandardCharsets.UTF_8);
+            int delimiterIndex = decodedString.lastIndexOf(KEYSET_DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            LocalDateTime timestamp = LocalDateTime.parse(decodedString.substring(0, delimiterIndex));
+            Long id = Long.parseLong(decodedString.substring(delimiterIndex + 1));
+            return new KeysetCursor(timestamp, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * (시각, ID) 복합 커서
+     */
+    public record KeysetCursor(LocalDateTime timestamp, Long id) {
+
+        /**
+         * Integer ID 테이블용 커서 ID 반환
+         *
+         * @return Integer 범위의 ID
+         * @throws CustomException ID가 1 미만이거나 Integer 범위를 벗어난 경우 (위조/손상된 커서)
+         */
+        public Integer intId() {
+            if (id < 1 || id > Integer.MAX_VALUE) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return id.intValue();
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package com.ssairen.global.utils;
+
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public class ETagUtils {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    private ETagUtils() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * 버전 번호로 ETag 문자열 생성
+     *
+     * @param version 리소스 버전
+     * @return 따옴표로 감싼 ETag (예: "3")
+     */
+    public static String toETag(Integer version) {
+        if (version == null) {
+            return null;
+        }
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * 버전 번호와 부가 수정 시각으로 ETag 문자열 생성
+     * 버전으로 추적되지 않는 데이터가 응답에 함께 포함될 때 사용
+     *
+     * @param version   리소스 버전
+     * @param updatedAt 버전에 반영되지 않는 데이터의 수정 시각 (없으면 null)
+     * @return 따옴표로 감싼 ETag (예: "12" 또는 "12-1736919000000")
+     */
+    public static String toETag(int version, LocalDateTime updatedAt) {
+        return toETag(version, updatedAt, null);
+    }
+
+    /**
+     * 버전 번호, 부가 수정 시각, 응답 표현 식별자로 ETag 문자열 생성
+     * 같은 버전의 리소스를 여러 표현(예: 희소 형식/템플릿 복원)으로 응답할 때 표현마다 다른 ETag를 만들기 위해 사용
+     *
+     * @param version        리소스 버전
+     * @param updatedAt      버전에 반영되지 않는 데이터의 수정 시각 (없으면 null)
+     * @param representation 응답 표현 식별자 (없으면 null)
+     * @return 따옴표로 감싼 ETag (예: "12-s" 또는 "12-1736919000000-t8")
+     */
+    public static String toETag(int version, LocalDateTime updatedAt, String representation) {
+        StringBuilder eTag = new StringBuilder().append('"').append(version);
+        if (updatedAt != null) {
+            eTag.append('-').append(updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+        if (representation != null) {
+            eTag.append('-').append(representation);
+        }
+        return eTag.append('"').toString();
+    }
+
+    /**
+     * If-None-Match 헤더 값이 현재 ETag와 일치하는지 확인 (약한 비교)
+     * - 쉼표로 구분된 여러 ETag와 "*"를 허용
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값
+     * @param eTag        현재 ETag
+     * @return 일치하면 true (304 Not Modified 응답 대상)
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || eTag == null) {
+            return false;
+        }
+
+        String current = stripWeakPrefix(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (ANY.equals(value) || stripWeakPrefix(value).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+
+    /**
+     * If-Match 헤더 값에서 기대 버전 추출
+     * - 헤더가 없거나 "*"이면 버전 조건 없음(null)
+     * - 약한 ETag(W/"3")와 따옴표가 없는 값(3)도 허용
+     * - 조회 응답 ETag의 표현 식별자("3-s", "3-t8")는 무시하고 버전만 사용
+     *
+     * @param ifMatch If-Match 헤더 값
+     * @return 기대 버전 (조건이 없으면 null)
+     * @throws CustomException 버전 형식이 아닌 경우
+     */
+    public static Integer parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        if (ANY.equals(value)) {
+            return null;
+        }
+        if (value.startsWith(WEAK_PREFIX)) {
+            value = value.substring(WEAK_PREFIX.length());
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        int representationStart = value.indexOf('-', 1);
+        if (representationStart > 0) {
+            value = value.substring(0, representationStart);
+        }
+
+        try {
+            int version = Integer.parseInt(value);
+            if (version < 1) {
+                throw new CustomException(ErrorCode.INVALID_IF_MATCH);
+            }
+            return version;
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_IF_MATCH, e);
+        }
+    }
+}
@@ -12,7 +12,8 @@ TRUNCATE TABLE hospital_selection CASCADE;
 ALTER SEQUENCE paramedics_id_seq RESTART WITH 1;
 ALTER SEQUENCE fire_states_id_seq RESTART WITH 1;
 ALTER SEQUENCE hospitals_id_seq RESTART WITH 1;
-ALTER SEQUENCE hospital_selection_id_seq RESTART WITH 1;
+ALTER SEQUENCE hospital_selection_seq RESTART WITH 1;
+ALTER SEQUENCE report_section_seq RESTART WITH 1;
 
 -- 1. 소방서 데이터 삽입 (서울시 25개 소방서)
 INSERT INTO fire_states (name) VALUES
@@ -0,0 +1,156 @@
+package com.ssairen.domain.ai.repository;
+
+import com.ssairen.domain.ai.entity.AiJob;
+import com.ssairen.domain.ai.enums.AiJobStage;
+import com.ssairen.domain.ai.enums.AiJobStatus;
+import com.ssairen.domain.emergency.entity.Dispatch;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.repository.DispatchRepository;
+import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.firestation.entity.FireState;
+import com.ssairen.domain.firestation.entity.Paramedic;
+import com.ssairen.domain.firestation.repository.FireStateRepository;
+import com.ssairen.domain.firestation.repository.ParamedicRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class AiJobRepositoryTest {
+
+    private static final String INSTANCE_ID = "backend-blue";
+    private static final List<AiJobStatus> UNFINISHED_STATUSES = List.of(AiJobStatus.QUEUED, AiJobStatus.RUNNING);
+
+    @Autowired
+    private AiJobRepository aiJobRepository;
+
+    @Autowired
+    private EmergencyReportRepository emergencyReportRepository;
+
+    @Autowired
+    private DispatchRepository dispatchRepository;
+
+    @Autowired
+    private ParamedicRepository paramedicRepository;
+
+    @Autowired
+    private FireStateRepository fireStateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private EmergencyReport emergencyReport;
+
+    @BeforeEach
+    void setUp() {
+        emergencyReport = createTestEmergencyReport();
+    }
+
+    @Test
+    @DisplayName("미완료 작업 일괄 실패 - 인스턴스가 기준 시각 이전에 등록한 대기/실행중 작업만 실패 처리")
+    void failUnfinishedJobs_failsOnlyUnfinishedJobs() {
+        // given
+        AiJob queued = saveJob(AiJobStatus.QUEUED, INSTANCE_ID);
+        AiJob running = saveJob(AiJobStatus.RUNNING, INSTANCE_ID);
+        AiJob completed = saveJob(AiJobStatus.COMPLETED, INSTANCE_ID);
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        int failedCount = aiJobRepository.failUnfinishedJobs(
+                UNFINISHED_STATUSES, AiJobStatus.FAILED, "서버 재시작", INSTANCE_ID, now.plusMinutes(1), now);
+
+        // then
+        assertThat(failedCount).isEqualTo(2);
+        assertThat(aiJobRepository.findById(queued.getId()).orElseThrow().getStatus()).isEqualTo(AiJobStatus.FAILED);
+        AiJob failedRunning = aiJobRepository.findById(running.getId()).orElseThrow();
+        assertThat(failedRunning.getStatus()).isEqualTo(AiJobStatus.FAILED);
+        assertThat(failedRunning.getStage()).isEqualTo(AiJobStage.TEXT_TO_JSON);
+        assertThat(failedRunning.getErrorMessage()).isEqualTo("서버 재시작");
+        assertThat(aiJobRepository.findById(completed.getId()).orElseThrow().getStatus())
+                .isEqualTo(AiJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("미완료 작업 일괄 실패 - 다른 인스턴스가 등록한 작업은 그 인스턴스에서 진행중일 수 있으므로 유지")
+    void failUnfinishedJobs_keepsOtherInstanceJobs() {
+        // given
+        AiJob otherInstance = saveJob(AiJobStatus.QUEUED, "backend-green");
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        int failedCount = aiJobRepository.failUnfinishedJobs(
+                UNFINISHED_STATUSES, AiJobStatus.FAILED, "서버 재시작", INSTANCE_ID, now.plusMinutes(1), now);
+
+        // then
+        assertThat(failedCount).isZero();
+        assertThat(aiJobRepository.findById(otherInstance.getId()).orElseThrow().getStatus())
+                .isEqualTo(AiJobStatus.QUEUED);
+    }
+
+    @Test
+    @DisplayName("미완료 작업 일괄 실패 - 기준 시각 이후에 등록된 작업(현재 실행의 작업)은 유지")
+    void failUnfinishedJobs_keepsJobsCreatedAfterBoot() {
+        // given
+        LocalDateTime bootedAt = LocalDateTime.now().minusSeconds(1);
+        AiJob queued = saveJob(AiJobStatus.QUEUED, INSTANCE_ID);
+        entityManager.flush();
+
+        // when
+        int failedCount = aiJobRepository.failUnfinishedJobs(
+                UNFINISHED_STATUSES, AiJobStatus.FAILED, "서버 재시작", INSTANCE_ID, bootedAt, LocalDateTime.now());
+
+        // then
+        assertThat(failedCount).isZero();
+        assertThat(aiJobRepository.findById(queued.getId()).orElseThrow().getStatus()).isEqualTo(AiJobStatus.QUEUED);
+    }
+
+    private AiJob saveJob(AiJobStatus status, String ownerInstance) {
+        AiJob job = AiJob.builder()
+                .emergencyReport(emergencyReport)
+                .status(AiJobStatus.QUEUED)
+                .ownerInstance(ownerInstance)
+                .build();
+        if (status == AiJobStatus.RUNNING) {
+            job.start(AiJobStage.TEXT_TO_JSON);
+        } else if (status == AiJobStatus.COMPLETED) {
+            job.complete(3);
+        }
+        return aiJobRepository.save(job);
+    }
+
+    private EmergencyReport createTestEmergencyReport() {
+        FireState fireState = fireStateRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 소방서 데이터가 없습니다."));
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        Dispatch dispatch = dispatchRepository.save(Dispatch.builder()
+                .fireState(fireState)
+                .paramedic(paramedic)
+                .disasterNumber("TEST-" + System.nanoTime())
+                .disasterType("구급")
+                .disasterSubtype("질병")
+                .locationAddress("서울시 중구")
+                .date(LocalDateTime.now())
+                .build());
+
+        return emergencyReportRepository.save(EmergencyReport.builder()
+                .dispatch(dispatch)
+                .paramedic(paramedic)
+                .fireState(fireState)
+                .isCompleted(false)
+                .build());
+    }
+}
@@ -0,0 +1,249 @@
+package com.ssairen.domain.ai.service;
+
+import com.ssairen.domain.ai.dto.AiJobResponse;
+import com.ssairen.domain.ai.entity.AiJob;
+import com.ssairen.domain.ai.entity.SttTranscript;
+import com.ssairen.domain.ai.enums.AiJobStage;
+import com.ssairen.domain.ai.enums.AiJobStatus;
+import com.ssairen.domain.ai.repository.AiJobRepository;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.file.dto.LocalWhisperSttResponse;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AiJobServiceTest {
+
+    private static final String INSTANCE_ID = "backend-blue";
+
+    @Mock
+    private AiJobRepository aiJobRepository;
+
+    @Mock
+    private EmergencyReportRepository emergencyReportRepository;
+
+    @Mock
+    private LocalWhisperSttService localWhisperSttService;
+
+    @Mock
+    private TextToJsonService textToJsonService;
+
+    @Mock
+    private AiResultService aiResultService;
+
+    @Mock
+    private AiResponseToReportSectionService aiResponseToReportSectionService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private EmergencyReport emergencyReport;
+    private MockMultipartFile audioFile;
+    private final Map<Long, AiJob> jobs = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        emergencyReport = EmergencyReport.builder()
+                .id(1L)
+                .isCompleted(false)
+                .build();
+        audioFile = new MockMultipartFile("file", "call.wav", "audio/wav", new byte[]{1, 2, 3, 4});
+
+        lenient().when(emergencyReportRepository.findById(1L)).thenReturn(Optional.of(emergencyReport));
+        lenient().when(aiJobRepository.save(any(AiJob.class))).thenAnswer(invocation -> {
+            AiJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                ReflectionTestUtils.setField(job, "id", (long) jobs.size() + 1);
+            }
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        lenient().when(aiJobRepository.findById(any())).thenAnswer(invocation ->
+                Optional.ofNullable(jobs.get(invocation.<Long>getArgument(0))));
+    }
+
+    private AiJobService createService(TaskExecutor executor) {
+        return new AiJobService(aiJobRepository, emergencyReportRepository, localWhisperSttService, textToJsonService,
+                aiResultService, aiResponseToReportSectionService, messagingTemplate, executor, INSTANCE_ID);
+    }
+
+    @Test
+    @DisplayName("AI 작업 - 단계별 상태를 저장/전송하고 완료")
+    void submitSpeechToJson_success() {
+        // given
+        AiJobService service = createService(new SyncTaskExecutor());
+        SttTranscript sttTranscript = SttTranscript.builder().id(10L).emergencyReport(emergencyReport).data("대화").build();
+        Object jsonResponse = Map.of("ReportSectionType", Map.of());
+
+        when(localWhisperSttService.convertSpeechToText(any(Resource.class), eq("audio/wav"), eq("ko")))
+                .thenReturn(LocalWhisperSttResponse.builder().text("대화").build());
+        when(aiResultService.saveSttTranscript(emergencyReport, "대화")).thenReturn(sttTranscript);
+        when(textToJsonService.convertTextToJson("대화", 700, 0.1)).thenReturn(jsonResponse);
+        when(aiResponseToReportSectionService.saveAiResponseToReportSections(jsonResponse, emergencyReport)).thenReturn(2);
+
+        // when
+        AiJobResponse response = service.submitSpeechToJson(audioFile, 1L, "ko", 700, 0.1);
+
+        // then
+        assertThat(response.status()).isEqualTo(AiJobStatus.QUEUED);
+
+        AiJob job = jobs.get(response.jobId());
+        assertThat(job.getStatus()).isEqualTo(AiJobStatus.COMPLETED);
+        assertThat(job.getStage()).isEqualTo(AiJobStage.SECTION_SAVE);
+        assertThat(job.getSttTranscriptId()).isEqualTo(10L);
+        assertThat(job.getSavedSectionCount()).isEqualTo(2);
+        assertThat(job.getOwnerInstance()).isEqualTo(INSTANCE_ID);
+        verify(aiResultService).saveLlmSummary(sttTranscript, jsonResponse);
+
+        ArgumentCaptor<Object> messages = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(4)).convertAndSend(eq("/topic/ai-job." + response.jobId()), messages.capture());
+        assertThat(messages.getAllValues())
+                .extracting(message -> ((AiJobResponse) message).stage())
+                .containsExactly(AiJobStage.STT, AiJobStage.TEXT_TO_JSON, AiJobStage.SECTION_SAVE, AiJobStage.SECTION_SAVE);
+        assertThat(((AiJobResponse) messages.getValue()).status()).isEqualTo(AiJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("AI 작업 - STT 실패 시 실패 단계를 남기고 이후 단계는 실행하지 않음")
+    void submitSpeechToJson_sttFailed() {
+        // given
+        AiJobService service = createService(new SyncTaskExecutor());
+        when(localWhisperSttService.convertSpeechToText(any(Resource.class), anyString(), anyString()))
+                .thenThrow(new CustomException(ErrorCode.STT_PROCESSING_FAILED, "로컬 Whisper STT 변환에 실패했습니다"));
+
+        // when
+        AiJobResponse response = service.submitSpeechToJson(audioFile, 1L, "ko", 700, 0.1);
+
+        // then
+        ArgumentCaptor<Resource> audio = ArgumentCaptor.forClass(Resource.class);
+        verify(localWhisperSttService).convertSpeechToText(audio.capture(), anyString(), anyString());
+
+        AiJob job = jobs.get(response.jobId());
+        assertThat(job.getStatus()).isEqualTo(AiJobStatus.FAILED);
+        assertThat(job.getStage()).isEqualTo(AiJobStage.STT);
+        assertThat(job.getErrorMessage()).contains("로컬 Whisper STT 변환에 실패했습니다");
+        assertThat(audio.getValue().exists()).isFalse();
+        verify(textToJsonService, never()).convertTextToJson(anyString(), any(), any());
+        verify(aiResponseToReportSectionService, never()).saveAiResponseToReportSections(any(), any());
+    }
+
+    @Test
+    @DisplayName("AI 작업 - 저장된 녹취록은 STT 없이 JSON 변환부터 실행")
+    void createAndEnqueueTranscriptToJson_success() {
+        // given
+        AiJobService service = createService(new SyncTaskExecutor());
+        SttTranscript sttTranscript = SttTranscript.builder().id(10L).emergencyReport(emergencyReport).data("대화").build();
+        Object jsonResponse = Map.of("ReportSectionType", Map.of());
+
+        when(textToJsonService.convertTextToJson("대화", 700, 0.1)).thenReturn(jsonResponse);
+        when(aiResponseToReportSectionService.saveAiResponseToReportSections(jsonResponse, emergencyReport)).thenReturn(3);
+
+        // when
+        AiJob created = service.createTranscriptToJson(emergencyReport, sttTranscript, 700, 0.1);
+        AiJobResponse response = service.enqueueTranscriptToJson(created, sttTranscript);
+
+        // then
+        assertThat(response.status()).isEqualTo(AiJobStatus.QUEUED);
+        assertThat(response.sttTranscriptId()).isEqualTo(10L);
+
+        AiJob job = jobs.get(response.jobId());
+        assertThat(job.getStatus()).isEqualTo(AiJobStatus.COMPLETED);
+        assertThat(job.getSavedSectionCount()).isEqualTo(3);
+        assertThat(job.getOwnerInstance()).isEqualTo(INSTANCE_ID);
+        verify(aiResultService).saveLlmSummary(sttTranscript, jsonResponse);
+        verifyNoInteractions(localWhisperSttService);
+    }
+
+    @Test
+    @DisplayName("AI 작업 - 대기 큐가 가득 차면 즉시 거절")
+    void submitSpeechToJson_queueFull() {
+        // given
+        AiJobService service = createService(task -> {
+            throw new TaskRejectedException("queue full");
+        });
+
+        // when & then
+        assertThatThrownBy(() -> service.submitSpeechToJson(audioFile, 1L, "ko", 700, 0.1))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AI_JOB_QUEUE_FULL);
+
+        assertThat(jobs.values()).extracting(AiJob::getStatus).containsExactly(AiJobStatus.FAILED);
+        verifyNoInteractions(localWhisperSttService);
+    }
+
+    @Test
+    @DisplayName("AI 작업 - 구급일지가 없으면 등록 실패")
+    void submitSpeechToJson_reportNotFound() {
+        // given
+        AiJobService service = createService(new SyncTaskExecutor());
+
+        // when & then
+        assertThatThrownBy(() -> service.submitSpeechToJson(audioFile, 99999L, "ko", 700, 0.1))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMERGENCY_REPORT_NOT_FOUND);
+        assertThat(jobs).isEmpty();
+        verify(aiJobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("기동 시 정리 - 이 인스턴스가 기동 전에 등록한 대기/실행중 작업만 실패 처리")
+    void failInterruptedJobs_failsOnlyOwnJobsFromPreviousRun() {
+        // given
+        LocalDateTime beforeBoot = LocalDateTime.now();
+        AiJobService service = createService(new SyncTaskExecutor());
+        LocalDateTime afterBoot = LocalDateTime.now();
+        when(aiJobRepository.failUnfinishedJobs(any(), any(), anyString(), anyString(), any(), any())).thenReturn(2);
+
+        // when
+        service.failInterruptedJobs();
+
+        // then
+        ArgumentCaptor<LocalDateTime> createdBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(aiJobRepository).failUnfinishedJobs(eq(List.of(AiJobStatus.QUEUED, AiJobStatus.RUNNING)),
+                eq(AiJobStatus.FAILED), anyString(), eq(INSTANCE_ID), createdBefore.capture(), now.capture());
+        assertThat(createdBefore.getValue()).isBetween(beforeBoot, afterBoot);
+        assertThat(now.getValue()).isAfterOrEqualTo(createdBefore.getValue());
+    }
+
+    @Test
+    @DisplayName("기동 시 정리 - DB 오류가 나도 기동을 막지 않음")
+    void failInterruptedJobs_repositoryError_shouldNotThrow() {
+        // given
+        AiJobService service = createService(new SyncTaskExecutor());
+        when(aiJobRepository.failUnfinishedJobs(any(), any(), anyString(), anyString(), any(), any()))
+                .thenThrow(new RuntimeException("connection refused"));
+
+        // when & then
+        assertThatCode(service::failInterruptedJobs).doesNotThrowAnyException();
+    }
+}
@@ -5,7 +5,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
 import com.ssairen.domain.emergency.entity.ReportSection;
+import com.ssairen.domain.emergency.entity.ReportSectionChange;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
+import com.ssairen.domain.emergency.repository.ReportSectionChangeRepository;
 import com.ssairen.domain.emergency.repository.ReportSectionRepository;
 import com.ssairen.domain.emergency.util.JsonMergeUtil;
 import com.ssairen.global.exception.CustomException;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -31,6 +34,9 @@ class AiResponseToReportSectionServiceTest {
     @Mock
     private ReportSectionRepository reportSectionRepository;
 
+    @Mock
+    private ReportSectionChangeRepository reportSectionChangeRepository;
+
     @Mock
     private JsonMergeUtil jsonMergeUtil;
 
@@ -78,10 +84,8 @@ class AiResponseToReportSectionServiceTest {
 
         Object aiResponse = objectMapper.readTree(aiResponseJson);
 
-        when(reportSectionRepository.findByEmergencyReportAndType(any(), any()))
+        when(reportSectionRepository.findForUpdateByEmergencyReportAndType(any(), any()))
                 .thenReturn(Optional.empty());
-        when(jsonMergeUtil.mergePreservingExisting(any(), any()))
-                .thenAnswer(invocation -> invocation.getArgument(1));
 
         // when
         int savedCount = service.saveAiResponseToReportSections(aiResponse, mockEmergencyReport);
@@ -132,10 +136,8 @@ class AiResponseToReportSectionServiceTest {
 
         Object aiResponse = objectMapper.readTree(aiResponseJson);
 
-        when(reportSectionRepository.findByEmergencyReportAndType(any(), any()))
+        when(reportSectionRepository.findForUpdateByEmergencyReportAndType(any(), any()))
                 .thenReturn(Optional.empty());
-        when(jsonMergeUtil.mergePreservingExisting(any(), any()))
-                .thenAnswer(invocation -> invocation.getArgument(1));
 
         // when
         int savedCount = service.saveAiResponseToReportSections(aiResponse, mockEmergencyReport);
@@ -179,11 +181,11 @@ class AiResponseToReportSectionServiceTest {
                 .version(1)
                 .build();
 
-        when(reportSectionRepository.findByEmergencyReportAndType(
+        when(reportSectionRepository.findForUpdateByEmergencyReportAndType(
                 eq(mockEmergencyReport), eq(ReportSectionType.PATIENT_INFO)))
                 .thenReturn(Optional.of(existingSection));
-        when(jsonMergeUtil.mergePreservingExisting(any(), any()))
-                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(jsonMergeUtil.mergeInPlace(any(ObjectNode.class), any(), eq(JsonMergeUtil.MergeMode.PRESERVE_EXISTING)))
+                .thenReturn(true);
 
         // when
         int savedCount = service.saveAiResponseToReportSections(aiResponse, mockEmergencyReport);
@@ -191,6 +193,64 @@ class AiResponseToReportSectionServiceTest {
         // then
         assertThat(savedCount).isEqualTo(1);
         verify(reportSectionRepository, times(1)).save(eq(existingSection));
+        ArgumentCaptor<ReportSectionChange> changeCaptor = ArgumentCaptor.forClass(ReportSectionChange.class);
+        verify(reportSectionChangeRepository, times(2)).save(changeCaptor.capture());
+        ReportSectionChange baseline = changeCaptor.getAllValues().get(0);
+        assertThat(baseline.getVersion()).isEqualTo(1);
+        assertThat(baseline.getDelta()).isNull();
+        assertThat(baseline.getSnapshot().at("/patientInfo/name").asText()).isEqualTo("김철수");
+        assertThat(changeCaptor.getAllValues().get(1).getVersion()).isEqualTo(2);
+        assertThat(existingSection.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("AI 응답 저장 - 병합 결과 변경이 없으면 저장과 버전 증가 생략")
+    void saveAiResponseToReportSections_unchangedExisting() throws Exception {
+        // given
+        String aiResponseJson = """
+                {
+                    "ReportSectionType": {
+                        "patientInfo": {
+                            "name": "홍길동"
+                        }
+                    }
+                }
+                """;
+
+        Object aiResponse = objectMapper.readTree(aiResponseJson);
+
+        JsonNode existingData = objectMapper.readTree("""
+                {
+                    "schemaVersion": 1,
+                    "patientInfo": {
+                        "name": "홍길동"
+                    }
+                }
+                """);
+
+        ReportSection existingSection = ReportSection.builder()
+                .id(1L)
+                .emergencyReport(mockEmergencyReport)
+                .type(ReportSectionType.PATIENT_INFO)
+                .data(existingData)
+                .version(1)
+                .build();
+
+        when(reportSectionRepository.findForUpdateByEmergencyReportAndType(
+                eq(mockEmergencyReport), eq(ReportSectionType.PATIENT_INFO)))
+                .thenReturn(Optional.of(existingSection));
+        when(jsonMergeUtil.mergeInPlace(any(ObjectNode.class), any(), eq(JsonMergeUtil.MergeMode.PRESERVE_EXISTING)))
+                .thenReturn(false);
+
+        // when
+        int savedCount = service.saveAiResponseToReportSections(aiResponse, mockEmergencyReport);
+
+        // then
+        assertThat(savedCount).isEqualTo(1);
+        verify(reportSectionRepository, never()).save(any());
+        verify(reportSectionChangeRepository, never()).save(any());
+        verify(reportSectionChangeRepository, never()).insertBaselineIfAbsent(any());
+        assertThat(existingSection.getVersion()).isEqualTo(1);
     }
 
     @Test
@@ -209,7 +269,7 @@ class AiResponseToReportSectionServiceTest {
 
         Object aiResponse = objectMapper.readTree(aiResponseJson);
 
-        when(reportSectionRepository.findByEmergencyReportAndType(any(), any()))
+        when(reportSectionRepository.findForUpdateByEmergencyReportAndType(any(), any()))
                 .thenThrow(new RuntimeException("Database error"));
 
         // when & then
@@ -239,10 +299,8 @@ class AiResponseToReportSectionServiceTest {
 
         Object aiResponse = objectMapper.readTree(aiResponseJson);
 
-        when(reportSectionRepository.findByEmergencyReportAndType(any(), any()))
+        when(reportSectionRepository.findForUpdateByEmergencyReportAndType(any(), any()))
                 .thenReturn(Optional.empty());
-        when(jsonMergeUtil.mergePreservingExisting(any(), any()))
-                .thenAnswer(invocation -> invocation.getArgument(1));
 
         // when
         int savedCount = service.saveAiResponseToReportSections(aiResponse, mockEmergencyReport);
@@ -279,10 +337,8 @@ class AiResponseToReportSectionServiceTest {
 
         Object aiResponse = objectMapper.readTree(aiResponseJson);
 
-        when(reportSectionRepository.findByEmergencyReportAndType(any(), any()))
+        when(reportSectionRepository.findForUpdateByEmergencyReportAndType(any(), any()))
                 .thenReturn(Optional.empty());
-        when(jsonMergeUtil.mergePreservingExisting(any(), any()))
-                .thenAnswer(invocation -> invocation.getArgument(1));
 
         // when
         int savedCount = service.saveAiResponseToReportSections(aiResponse, mockEmergencyReport);
@@ -298,6 +354,37 @@ class AiResponseToReportSectionServiceTest {
         }));
     }
 
+    @Test
+    @DisplayName("새 섹션 생성 - AI 응답의 null 값은 제외하고 희소 형식으로 저장")
+    void saveAiResponseToReportSections_newSectionIsSparse() throws Exception {
+        // given
+        String aiResponseJson = """
+                {
+                    "ReportSectionType": {
+                        "patientInfo": {
+                            "patient": {"name": "홍길동", "gender": null},
+                            "guardian": {"name": null}
+                        }
+                    }
+                }
+                """;
+
+        Object aiResponse = objectMapper.readTree(aiResponseJson);
+
+        when(reportSectionRepository.findForUpdateByEmergencyReportAndType(any(), any()))
+                .thenReturn(Optional.empty());
+
+        // when
+        service.saveAiResponseToReportSections(aiResponse, mockEmergencyReport);
+
+        // then
+        verify(reportSectionRepository).save(argThat(section ->
+                section.getSchemaVersion() != null
+                        && section.getData().equals(objectMapper.createObjectNode().set("patientInfo",
+                        objectMapper.createObjectNode().set("patient",
+                                objectMapper.createObjectNode().put("name", "홍길동"))))));
+    }
+
     @Test
     @DisplayName("모든 섹션 타입 저장 - 성공")
     void saveAiResponseToReportSections_allSectionTypes() throws Exception {
@@ -319,10 +406,8 @@ class AiResponseToReportSectionServiceTest {
 
         Object aiResponse = objectMapper.readTree(aiResponseJson);
 
-        when(reportSectionRepository.findByEmergencyReportAndType(any(), any()))
+        when(reportSectionRepository.findForUpdateByEmergencyReportAndType(any(), any()))
                 .thenReturn(Optional.empty());
-        when(jsonMergeUtil.mergePreservingExisting(any(), any()))
-                .thenAnswer(invocation -> invocation.getArgument(1));
 
         // when
         int savedCount = service.saveAiResponseToReportSections(aiResponse, mockEmergencyReport);
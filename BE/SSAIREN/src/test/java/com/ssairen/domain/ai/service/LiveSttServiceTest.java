@@ -0,0 +1,282 @@
+package com.ssairen.domain.ai.service;
+
+import com.ssairen.domain.ai.dto.AiJobResponse;
+import com.ssairen.domain.ai.dto.LiveSttChunkResponse;
+import com.ssairen.domain.ai.dto.LiveSttFinishResponse;
+import com.ssairen.domain.ai.entity.AiJob;
+import com.ssairen.domain.ai.entity.LiveSttChunk;
+import com.ssairen.domain.ai.entity.SttTranscript;
+import com.ssairen.domain.ai.enums.AiJobStatus;
+import com.ssairen.domain.ai.repository.LiveSttChunkRepository;
+import com.ssairen.domain.ai.repository.SttTranscriptRepository;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.file.dto.LocalWhisperSttResponse;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiveSttServiceTest {
+
+    @Mock
+    private LiveSttChunkRepository liveSttChunkRepository;
+
+    @Mock
+    private EmergencyReportRepository emergencyReportRepository;
+
+    @Mock
+    private LocalWhisperSttService localWhisperSttService;
+
+    @Mock
+    private AiResultService aiResultService;
+
+    @Mock
+    private AiJobService aiJobService;
+
+    @Mock
+    private SttTranscriptRepository sttTranscriptRepository;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private LiveSttService liveSttService;
+
+    private EmergencyReport emergencyReport;
+    private MockMultipartFile chunkFile;
+    private final List<LiveSttChunk> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        emergencyReport = EmergencyReport.builder()
+                .id(1L)
+                .isCompleted(false)
+                .build();
+        chunkFile = new MockMultipartFile("file", "chunk.wav", "audio/wav", new byte[]{1, 2, 3, 4});
+
+        lenient().when(emergencyReportRepository.findById(1L)).thenReturn(Optional.of(emergencyReport));
+        lenient().when(emergencyReportRepository.findForUpdateById(1L)).thenReturn(Optional.of(emergencyReport));
+        lenient().when(liveSttChunkRepository.existsByEmergencyReportIdAndSttTranscriptIdIsNotNull(1L))
+                .thenAnswer(invocation -> chunks.stream().anyMatch(chunk -> chunk.getSttTranscriptId() != null));
+        lenient().when(liveSttChunkRepository.save(any(LiveSttChunk.class))).thenAnswer(invocation -> {
+            LiveSttChunk chunk = invocation.getArgument(0);
+            chunks.add(chunk);
+            return chunk;
+        });
+        lenient().when(liveSttChunkRepository.findByEmergencyReportIdAndSequence(eq(1L), anyInt()))
+                .thenAnswer(invocation -> chunks.stream()
+                        .filter(chunk -> chunk.getSequence().equals(invocation.getArgument(1)))
+                        .findFirst());
+        lenient().when(liveSttChunkRepository.findByEmergencyReportIdOrderBySequenceAsc(1L))
+                .thenAnswer(invocation -> chunks.stream()
+                        .sorted(Comparator.comparing(LiveSttChunk::getSequence))
+                        .toList());
+    }
+
+    private void givenStt(String text) {
+        when(localWhisperSttService.convertSpeechToText(any(MultipartFile.class), eq("ko")))
+                .thenReturn(LocalWhisperSttResponse.builder().text(text).duration(3.0).build());
+    }
+
+    @Test
+    @DisplayName("실시간 STT - 조각을 변환하고 순번 순서로 이어 붙인 녹취록을 반환")
+    void appendChunk_success() {
+        // given
+        givenStt(" 혈압 측정할게요 ");
+        liveSttService.appendChunk(chunkFile, 1L, 1, "ko");
+        givenStt("환자 의식 있습니다");
+
+        // when
+        LiveSttChunkResponse response = liveSttService.appendChunk(chunkFile, 1L, 0, "ko");
+
+        // then
+        assertThat(response.sequence()).isEqualTo(0);
+        assertThat(response.text()).isEqualTo("환자 의식 있습니다");
+        assertThat(response.transcript()).isEqualTo("환자 의식 있습니다 혈압 측정할게요");
+        assertThat(response.chunkCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실시간 STT - 이미 받은 순번은 다시 변환하지 않음")
+    void appendChunk_resent() {
+        // given
+        givenStt("환자 의식 있습니다");
+        liveSttService.appendChunk(chunkFile, 1L, 0, "ko");
+
+        // when
+        LiveSttChunkResponse response = liveSttService.appendChunk(chunkFile, 1L, 0, "ko");
+
+        // then
+        assertThat(response.text()).isEqualTo("환자 의식 있습니다");
+        assertThat(response.chunkCount()).isEqualTo(1);
+        verify(localWhisperSttService, times(1)).convertSpeechToText(any(MultipartFile.class), eq("ko"));
+        verify(liveSttChunkRepository, times(1)).save(any(LiveSttChunk.class));
+    }
+
+    @Test
+    @DisplayName("실시간 STT - 녹음 종료 시 녹취록 저장 후 JSON 변환 작업 등록")
+    void finish_success() {
+        // given
+        SttTranscript sttTranscript = givenRecordingFinishable();
+        AiJob job = queuedJob(5L);
+        when(aiJobService.createTranscriptToJson(emergencyReport, sttTranscript, 700, 0.1)).thenReturn(job);
+        when(aiJobService.enqueueTranscriptToJson(job, sttTranscript)).thenReturn(AiJobResponse.from(job));
+
+        // when
+        LiveSttFinishResponse response = liveSttService.finish(1L, 700, 0.1);
+
+        // then
+        assertThat(response.sttTranscriptId()).isEqualTo(10L);
+        assertThat(response.chunkCount()).isEqualTo(2);
+        assertThat(response.job().jobId()).isEqualTo(5L);
+        assertThat(chunks).allMatch(chunk -> chunk.getSttTranscriptId() != null);
+        verify(liveSttChunkRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("실시간 STT - 녹음 종료를 다시 호출하면 새 작업 없이 같은 작업 반환")
+    void finish_calledTwice_shouldReturnSameJob() {
+        // given
+        SttTranscript sttTranscript = givenRecordingFinishable();
+        AiJob job = queuedJob(5L);
+        when(aiJobService.createTranscriptToJson(emergencyReport, sttTranscript, 700, 0.1)).thenReturn(job);
+        when(aiJobService.enqueueTranscriptToJson(job, sttTranscript)).thenReturn(AiJobResponse.from(job));
+        liveSttService.finish(1L, 700, 0.1);
+        when(sttTranscriptRepository.findById(10L)).thenReturn(Optional.of(sttTranscript));
+        when(aiJobService.findLatestTranscriptJob(10L)).thenReturn(Optional.of(job));
+
+        // when
+        LiveSttFinishResponse response = liveSttService.finish(1L, 700, 0.1);
+
+        // then
+        assertThat(response.sttTranscriptId()).isEqualTo(10L);
+        assertThat(response.job().jobId()).isEqualTo(5L);
+        verify(aiResultService, times(1)).saveLiveTranscript(any(), any(), any());
+        verify(aiJobService, times(1)).createTranscriptToJson(any(), any(), any(), any());
+        verify(aiJobService, times(1)).enqueueTranscriptToJson(any(), any());
+    }
+
+    @Test
+    @DisplayName("실시간 STT - 작업이 실패한 녹음은 같은 녹취록으로 작업을 다시 등록")
+    void finish_failedJob_shouldResubmit() {
+        // given
+        SttTranscript sttTranscript = givenRecordingFinishable();
+        AiJob failedJob = queuedJob(5L);
+        when(aiJobService.createTranscriptToJson(emergencyReport, sttTranscript, 700, 0.1)).thenReturn(failedJob);
+        when(aiJobService.enqueueTranscriptToJson(failedJob, sttTranscript))
+                .thenThrow(new CustomException(ErrorCode.AI_JOB_QUEUE_FULL));
+        assertThatThrownBy(() -> liveSttService.finish(1L, 700, 0.1))
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AI_JOB_QUEUE_FULL);
+        failedJob.fail("대기 작업 수 초과");
+
+        AiJob retryJob = queuedJob(6L);
+        when(sttTranscriptRepository.findById(10L)).thenReturn(Optional.of(sttTranscript));
+        when(aiJobService.findLatestTranscriptJob(10L)).thenReturn(Optional.of(failedJob));
+        when(aiJobService.createTranscriptToJson(emergencyReport, sttTranscript, 700, 0.1)).thenReturn(retryJob);
+        when(aiJobService.enqueueTranscriptToJson(retryJob, sttTranscript)).thenReturn(AiJobResponse.from(retryJob));
+
+        // when
+        LiveSttFinishResponse response = liveSttService.finish(1L, 700, 0.1);
+
+        // then
+        assertThat(response.sttTranscriptId()).isEqualTo(10L);
+        assertThat(response.job().jobId()).isEqualTo(6L);
+        verify(aiResultService, times(1)).saveLiveTranscript(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("실시간 STT - 녹음 종료 후 새 순번의 조각은 거절")
+    void appendChunk_afterFinish_shouldFail() {
+        // given
+        SttTranscript sttTranscript = givenRecordingFinishable();
+        AiJob job = queuedJob(5L);
+        when(aiJobService.createTranscriptToJson(emergencyReport, sttTranscript, 700, 0.1)).thenReturn(job);
+        when(aiJobService.enqueueTranscriptToJson(job, sttTranscript)).thenReturn(AiJobResponse.from(job));
+        liveSttService.finish(1L, 700, 0.1);
+
+        // when & then
+        assertThatThrownBy(() -> liveSttService.appendChunk(chunkFile, 1L, 2, "ko"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.LIVE_STT_ALREADY_FINISHED);
+        verify(localWhisperSttService, times(2)).convertSpeechToText(any(MultipartFile.class), eq("ko"));
+
+        // 이미 받은 순번의 재전송은 종료 후에도 저장된 결과 반환
+        LiveSttChunkResponse resent = liveSttService.appendChunk(chunkFile, 1L, 1, "ko");
+        assertThat(resent.text()).isEqualTo("혈압 측정할게요");
+    }
+
+    @Test
+    @DisplayName("실시간 STT - 받은 조각 없이 녹음 종료 시 실패")
+    void finish_noChunks() {
+        // when & then
+        assertThatThrownBy(() -> liveSttService.finish(1L, 700, 0.1))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.LIVE_STT_NO_CHUNKS);
+        verifyNoInteractions(aiResultService, aiJobService);
+    }
+
+    @Test
+    @DisplayName("실시간 STT - 구급일지가 없으면 실패")
+    void appendChunk_reportNotFound() {
+        // when & then
+        assertThatThrownBy(() -> liveSttService.appendChunk(chunkFile, 99999L, 0, "ko"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMERGENCY_REPORT_NOT_FOUND);
+        verify(liveSttChunkRepository, never()).findByEmergencyReportIdAndSequence(anyLong(), anyInt());
+        verifyNoInteractions(localWhisperSttService);
+    }
+
+    /**
+     * 조각 두 개를 받아 두고, 녹취록 저장 시 조각을 녹취록에 연결하도록 설정
+     */
+    private SttTranscript givenRecordingFinishable() {
+        givenStt("환자 의식 있습니다");
+        liveSttService.appendChunk(chunkFile, 1L, 0, "ko");
+        givenStt("혈압 측정할게요");
+        liveSttService.appendChunk(chunkFile, 1L, 1, "ko");
+
+        SttTranscript sttTranscript = SttTranscript.builder().id(10L).emergencyReport(emergencyReport)
+                .data("환자 의식 있습니다 혈압 측정할게요").build();
+        when(aiResultService.saveLiveTranscript(eq(emergencyReport), eq("환자 의식 있습니다 혈압 측정할게요"), any()))
+                .thenAnswer(invocation -> {
+                    List<LiveSttChunk> finished = invocation.getArgument(2);
+                    finished.forEach(chunk -> chunk.finish(sttTranscript.getId()));
+                    return sttTranscript;
+                });
+        return sttTranscript;
+    }
+
+    private AiJob queuedJob(Long id) {
+        return AiJob.builder()
+                .id(id)
+                .emergencyReport(emergencyReport)
+                .status(AiJobStatus.QUEUED)
+                .sttTranscriptId(10L)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.ssairen.domain.ai.service;
+
+import com.ssairen.config.AiServerProperties;
+import com.ssairen.config.LocalWhisperProperties;
+import com.ssairen.config.WebClientConfig;
+import com.ssairen.domain.file.dto.LocalWhisperSttResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 Whisper STT 커넥션 풀 테스트
+ * - 로컬 Whisper 서버 대신 JDK HttpServer 대역을 띄우고, 요청이 들어온 클라이언트 포트로 연결 재사용 여부를 확인
+ */
+class LocalWhisperSttServiceTest {
+
+    private static final int WARMUP_CONNECTIONS = 2;
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionProvider connectionProvider;
+    private LocalWhisperSttService service;
+
+    private final Set<Integer> warmupPorts = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> sttPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        LocalWhisperProperties properties = new LocalWhisperProperties();
+        properties.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        properties.setWarmupConnections(WARMUP_CONNECTIONS);
+
+        WebClientConfig config = new WebClientConfig(new AiServerProperties(), properties);
+        connectionProvider = config.localWhisperConnectionProvider();
+        service = new LocalWhisperSttService(config.localWhisperWebClient(connectionProvider), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        server.stop(0);
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int port = exchange.getRemoteAddress().getPort();
+        exchange.getRequestBody().readAllBytes();
+
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            warmupPorts.add(port);
+            exchange.sendResponseHeaders(404, -1);
+        } else {
+            sttPorts.add(port);
+            byte[] body = "{\"text\":\"환자 의식 있습니다\",\"segments\":[],\"language\":\"ko\",\"duration\":1.5}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+    @Test
+    @DisplayName("로컬 Whisper STT - 기동 시 예열한 연결을 이후 요청에서 재사용")
+    void convertSpeechToText_reusesWarmedConnections() {
+        // given
+        Integer warmed = service.warmUp(WARMUP_CONNECTIONS).block();
+        MockMultipartFile audioFile = new MockMultipartFile("file", "call.wav", "audio/wav", new byte[1024]);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            LocalWhisperSttResponse response = service.convertSpeechToText(audioFile, "ko");
+            assertThat(response.getText()).isEqualTo("환자 의식 있습니다");
+        }
+
+        // then
+        assertThat(warmed).isEqualTo(WARMUP_CONNECTIONS);
+        assertThat(warmupPorts).hasSize(WARMUP_CONNECTIONS);
+        assertThat(warmupPorts).containsAll(sttPorts);
+    }
+
+    @Test
+    @DisplayName("로컬 Whisper STT - 커넥션 풀 지표를 Micrometer로 내보냄")
+    void connectionPool_exportsMetrics() {
+        // when
+        service.warmUp(WARMUP_CONNECTIONS).block();
+
+        // then
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", "local-whisper")
+                .gauge())
+                .isNotNull();
+    }
+}
@@ -0,0 +1,71 @@
+package com.ssairen.domain.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssairen.domain.file.dto.SttResponse;
+import com.ssairen.domain.file.dto.SttStreamEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SttServiceImplTest {
+
+    private SttServiceImpl sttService;
+
+    @BeforeEach
+    void setUp() {
+        sttService = new SttServiceImpl(WebClient.create(), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("STT 스트리밍 - 세그먼트는 응답이 끝나기 전에 바로 전달")
+    void parseStreamingResponse_emitsSegmentBeforeCompletion() {
+        // given
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        List<SttStreamEvent> received = new ArrayList<>();
+        sttService.parseStreamingResponse(upstream.asFlux(), "ko").subscribe(received::add);
+
+        // when
+        upstream.tryEmitNext("data: {\"type\":\"transcript.text.segment\",\"id\":\"0\",\"speaker\":\"A\",\"start\":0.0,\"end\":1.5,\"text\":\"환자 의식 있습니다\"}");
+
+        // then
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getEvent()).isEqualTo(SttStreamEvent.SEGMENT);
+        assertThat(received.get(0).getSegment().getText()).isEqualTo("환자 의식 있습니다");
+        assertThat(received.get(0).getSegment().getSpeaker()).isEqualTo("A");
+    }
+
+    @Test
+    @DisplayName("STT 스트리밍 - 응답이 끝나면 전체 결과를 done 이벤트로 전달")
+    void parseStreamingResponse_emitsDoneWithAggregatedResult() {
+        // given
+        Flux<String> upstream = Flux.just(
+                "data: {\"type\":\"transcript.text.segment\",\"id\":\"0\",\"text\":\"환자 의식 있습니다\"}",
+                "",
+                "data: 잘못된 청크",
+                "data: {\"type\":\"transcript.text.segment\",\"id\":\"1\",\"text\":\"혈압 측정할게요\"}",
+                "data: {\"type\":\"transcript.text.done\",\"text\":\"환자 의식 있습니다 혈압 측정할게요\","
+                        + "\"usage\":{\"input_tokens\":10,\"output_tokens\":5,\"total_tokens\":15}}"
+        );
+
+        // when
+        List<SttStreamEvent> events = sttService.parseStreamingResponse(upstream, "ko").collectList().block();
+
+        // then
+        assertThat(events).extracting(SttStreamEvent::getEvent)
+                .containsExactly(SttStreamEvent.SEGMENT, SttStreamEvent.SEGMENT, SttStreamEvent.DONE);
+
+        SttResponse result = events.get(2).getResult();
+        assertThat(result.getText()).isEqualTo("환자 의식 있습니다 혈압 측정할게요");
+        assertThat(result.getSegments()).hasSize(2);
+        assertThat(result.getLanguage()).isEqualTo("ko");
+        assertThat(result.getUsage().getTotalTokens()).isEqualTo(15);
+    }
+}
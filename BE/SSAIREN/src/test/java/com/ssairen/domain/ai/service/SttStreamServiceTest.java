@@ -0,0 +1,111 @@
+package com.ssairen.domain.ai.service;
+
+import com.ssairen.domain.ai.entity.SttTranscript;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.file.dto.SttResponse;
+import com.ssairen.domain.file.dto.SttStreamEvent;
+import com.ssairen.domain.file.dto.TranscriptSegment;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SttStreamServiceTest {
+
+    @Mock
+    private SttService sttService;
+
+    @Mock
+    private AiResultService aiResultService;
+
+    @InjectMocks
+    private SttStreamService sttStreamService;
+
+    private EmergencyReport emergencyReport;
+    private MockMultipartFile audioFile;
+
+    @BeforeEach
+    void setUp() {
+        emergencyReport = EmergencyReport.builder()
+                .id(1L)
+                .isCompleted(false)
+                .build();
+        audioFile = new MockMultipartFile("file", "call.wav", "audio/wav", new byte[]{1, 2, 3, 4});
+    }
+
+    @Test
+    @DisplayName("STT 스트리밍 - 세그먼트를 전달하고 완료 시 녹취록 저장 후 ID 포함")
+    void streamAndSave_success() {
+        // given
+        TranscriptSegment segment = TranscriptSegment.builder().id("0").text("환자 의식 있습니다").build();
+        SttResponse result = SttResponse.builder().text("환자 의식 있습니다").segments(List.of(segment)).build();
+        when(sttService.streamSpeechToText(audioFile, "ko"))
+                .thenReturn(Flux.just(SttStreamEvent.segment(segment), SttStreamEvent.done(result)));
+        when(aiResultService.saveSttTranscript(emergencyReport, result))
+                .thenReturn(SttTranscript.builder().id(10L).emergencyReport(emergencyReport).build());
+
+        // when
+        List<SttStreamEvent> events = sttStreamService.streamAndSave(audioFile, emergencyReport, "ko")
+                .collectList().block();
+
+        // then
+        assertThat(events).extracting(SttStreamEvent::getEvent)
+                .containsExactly(SttStreamEvent.SEGMENT, SttStreamEvent.DONE);
+        assertThat(events.get(0).getSegment()).isSameAs(segment);
+        assertThat(events.get(1).getResult()).isSameAs(result);
+        assertThat(events.get(1).getSttTranscriptId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("STT 스트리밍 - 변환 도중 실패하면 error 이벤트로 종료하고 녹취록은 저장하지 않음")
+    void streamAndSave_sttFailed() {
+        // given
+        TranscriptSegment segment = TranscriptSegment.builder().id("0").text("환자 의식").build();
+        when(sttService.streamSpeechToText(audioFile, "ko"))
+                .thenReturn(Flux.concat(
+                        Flux.just(SttStreamEvent.segment(segment)),
+                        Flux.error(new IllegalStateException("connection reset"))));
+
+        // when
+        List<SttStreamEvent> events = sttStreamService.streamAndSave(audioFile, emergencyReport, "ko")
+                .collectList().block();
+
+        // then
+        assertThat(events).extracting(SttStreamEvent::getEvent)
+                .containsExactly(SttStreamEvent.SEGMENT, SttStreamEvent.ERROR);
+        assertThat(events.get(1).getMessage()).isEqualTo(ErrorCode.STT_PROCESSING_FAILED.getMessage());
+        verify(aiResultService, never()).saveSttTranscript(any(), any(SttResponse.class));
+    }
+
+    @Test
+    @DisplayName("STT 스트리밍 - 녹취록 저장에 실패하면 error 이벤트로 종료")
+    void streamAndSave_saveFailed() {
+        // given
+        SttResponse result = SttResponse.builder().text("환자 의식 있습니다").segments(List.of()).build();
+        when(sttService.streamSpeechToText(audioFile, "ko")).thenReturn(Flux.just(SttStreamEvent.done(result)));
+        when(aiResultService.saveSttTranscript(emergencyReport, result))
+                .thenThrow(new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "STT 결과 저장에 실패했습니다."));
+
+        // when
+        List<SttStreamEvent> events = sttStreamService.streamAndSave(audioFile, emergencyReport, "ko")
+                .collectList().block();
+
+        // then
+        assertThat(events).extracting(SttStreamEvent::getEvent).containsExactly(SttStreamEvent.ERROR);
+        assertThat(events.get(0).getMessage()).isEqualTo("STT 결과 저장에 실패했습니다.");
+    }
+}
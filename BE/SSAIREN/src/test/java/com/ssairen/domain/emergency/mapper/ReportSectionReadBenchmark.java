@@ -0,0 +1,88 @@
+package com.ssairen.domain.emergency.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.ssairen.domain.emergency.dto.ReportSectionCreateResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionReadResponse;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+import com.ssairen.domain.emergency.util.ReportSectionTemplate;
+import com.ssairen.global.dto.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 섹션 조회 응답 생성 비용 비교 (JMH) - DB에서 jsonb 텍스트를 받은 이후부터 응답 바이트까지
+ * - jsonNodeTree: 기존 방식 (JsonBinaryType의 readTree → ReportSectionCreateResponse → 트리 재직렬화)
+ * - rawValue: 원문 전달 방식 (ReportSectionReadResponse의 @JsonRawValue로 텍스트를 그대로 기록)
+ * 실행은 ReportSectionReadBenchmarkTest (./gradlew benchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportSectionReadBenchmark {
+
+    @Param({"PATIENT_INFO", "ASSESSMENT", "DETAIL_REPORT"})
+    private ReportSectionType type;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 14, 30);
+
+    /**
+     * DB에서 조회한 jsonb 텍스트 (모든 값이 채워진 섹션)
+     */
+    private String storedJson;
+
+    @Setup
+    public void setUp() {
+        JsonNode template = ReportSectionTemplate.getTemplate(type);
+        fill(template);
+        storedJson = template.toString();
+    }
+
+    @Benchmark
+    public byte[] jsonNodeTree() throws Exception {
+        JsonNode data = objectMapper.readTree(storedJson);
+        ReportSectionCreateResponse response = new ReportSectionCreateResponse(
+                1L, 1L, false, type, data, 3, createdAt);
+        return objectMapper.writeValueAsBytes(ApiResponse.success(response, "구급일지 해당 섹션 조회를 완료하였습니다."));
+    }
+
+    @Benchmark
+    public byte[] rawValue() throws Exception {
+        ReportSectionReadResponse response = new ReportSectionReadResponse(
+                1L, 1L, false, type, storedJson, 3, createdAt, null);
+        return objectMapper.writeValueAsBytes(ApiResponse.success(response, "구급일지 해당 섹션 조회를 완료하였습니다."));
+    }
+
+    /**
+     * 템플릿의 null 값을 입력값 크기의 문자열로 채움 (작성이 끝난 섹션 크기를 재현)
+     */
+    private static void fill(JsonNode node) {
+        if (!node.isObject()) {
+            return;
+        }
+        ObjectNode object = (ObjectNode) node;
+        Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            if (entry.getValue().isNull()) {
+                entry.setValue(TextNode.valueOf("입력값-" + entry.getKey()));
+            } else {
+                fill(entry.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssairen.domain.emergency.mapper;
+
+import com.ssairen.global.benchmark.JmhBenchmarkRunner;
+import com.ssairen.global.benchmark.JmhBenchmarkRunner.Measurement;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 섹션 조회 응답 직렬화 JMH 벤치마크 실행 (요청당 힙 할당량 비교)
+ * - 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+class ReportSectionReadBenchmarkTest {
+
+    @Test
+    @DisplayName("섹션 조회 응답 생성 - JsonNode 트리 변환 vs jsonb 원문 전달")
+    void compareJsonNodeTreeAndRawValue() throws Exception {
+        Map<String, Double> allocations = new HashMap<>();
+        for (Measurement measurement : JmhBenchmarkRunner.run(ReportSectionReadBenchmark.class,
+                "섹션 조회 응답 생성 (요청 1건당)")) {
+            if (measurement.allocatedBytes() != null) {
+                allocations.put(measurement.name() + "/" + measurement.param("type"), measurement.allocatedBytes());
+            }
+        }
+
+        for (String type : new String[]{"PATIENT_INFO", "ASSESSMENT", "DETAIL_REPORT"}) {
+            Double tree = allocations.get("jsonNodeTree/" + type);
+            Double raw = allocations.get("rawValue/" + type);
+            if (tree != null && raw != null) {
+                log.info("[Benchmark]   {} 할당 감소 : {} B → {} B ({}%)", type,
+                        String.format("%.0f", tree), String.format("%.0f", raw),
+                        String.format("%.1f", (1 - raw / tree) * 100));
+                assertThat(raw).isLessThan(tree);
+            }
+        }
+    }
+}
@@ -17,6 +17,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -117,6 +120,46 @@ class ReportSectionRepositoryTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    @DisplayName("여러 구급일지의 환자 이름 일괄 조회 - PATIENT_INFO 섹션에서만 추출")
+    void findPatientNamesByEmergencyReportIds_success() throws Exception {
+        // given
+        EmergencyReport withName = createTestEmergencyReport();
+        EmergencyReport withoutName = createTestEmergencyReport();
+        EmergencyReport withoutSection = createTestEmergencyReport();
+        reportSectionRepository.saveAndFlush(ReportSection.builder()
+                .emergencyReport(withName)
+                .type(ReportSectionType.PATIENT_INFO)
+                .data(objectMapper.readTree("{\"patientInfo\": {\"patient\": {\"name\": \"김환자\"}}}"))
+                .version(1)
+                .build());
+        reportSectionRepository.saveAndFlush(ReportSection.builder()
+                .emergencyReport(withoutName)
+                .type(ReportSectionType.PATIENT_INFO)
+                .data(objectMapper.readTree("{\"patientInfo\": {\"patient\": {}}}"))
+                .version(1)
+                .build());
+        reportSectionRepository.saveAndFlush(ReportSection.builder()
+                .emergencyReport(withoutSection)
+                .type(ReportSectionType.TREATMENT)
+                .data(objectMapper.readTree("{\"patientInfo\": {\"patient\": {\"name\": \"다른섹션\"}}}"))
+                .version(1)
+                .build());
+
+        // when
+        Map<Long, String> patientNames = new HashMap<>();
+        reportSectionRepository.findPatientNamesByEmergencyReportIds(
+                        List.of(withName.getId(), withoutName.getId(), withoutSection.getId()))
+                .forEach(view -> patientNames.put(view.getEmergencyReportId(), view.getPatientName()));
+
+        // then
+        assertThat(patientNames).hasSize(2);
+        assertThat(patientNames.get(withName.getId())).isEqualTo("김환자");
+        assertThat(patientNames).containsKey(withoutName.getId());
+        assertThat(patientNames.get(withoutName.getId())).isNull();
+        assertThat(patientNames).doesNotContainKey(withoutSection.getId());
+    }
+
     private ReportSection createTestReportSection(EmergencyReport emergencyReport, ReportSectionType type) throws Exception {
         JsonNode data = objectMapper.readTree("{\"test\": \"data\"}");
 
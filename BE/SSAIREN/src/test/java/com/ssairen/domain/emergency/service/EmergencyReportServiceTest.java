@@ -1,15 +1,24 @@
 package com.ssairen.domain.emergency.service;
 
+import com.ssairen.domain.emergency.dto.EmergencyReportItemResponse;
+import com.ssairen.domain.emergency.dto.EmergencyReportListQueryRequest;
+import com.ssairen.domain.emergency.dto.EmergencyReportSummaryResponse;
 import com.ssairen.domain.emergency.entity.Dispatch;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.entity.ReportSection;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
 import com.ssairen.domain.emergency.repository.DispatchRepository;
 import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.emergency.repository.ReportSectionRepository;
+import com.ssairen.domain.emergency.util.ReportSectionTemplate;
 import com.ssairen.domain.firestation.entity.FireState;
 import com.ssairen.domain.firestation.entity.Paramedic;
 import com.ssairen.domain.firestation.repository.FireStateRepository;
 import com.ssairen.domain.firestation.repository.ParamedicRepository;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
+import com.ssairen.global.security.enums.UserType;
+import com.ssairen.global.utils.ETagUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +40,9 @@ class EmergencyReportServiceTest {
     @Autowired
     private EmergencyReportRepository emergencyReportRepository;
 
+    @Autowired
+    private ReportSectionRepository reportSectionRepository;
+
     @Autowired
     private DispatchRepository dispatchRepository;
 
@@ -121,6 +133,97 @@ class EmergencyReportServiceTest {
         assertThat(response).isNotNull();
     }
 
+    @Test
+    @DisplayName("구급대원이 작성한 보고서 조회 - 커서 페이지네이션")
+    void getEmergencyReportsByParamedic_withCursor() {
+        // given
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        for (int i = 0; i < 3; i++) {
+            emergencyReportService.createEmergencyReport(createTestDispatch().getId(), paramedic.getId());
+        }
+
+        // when
+        var firstPage = emergencyReportService.getEmergencyReportsByParamedic(
+                paramedic.getId(), new EmergencyReportListQueryRequest(null, 2, null));
+        var secondPage = emergencyReportService.getEmergencyReportsByParamedic(
+                paramedic.getId(), new EmergencyReportListQueryRequest(firstPage.pagination().nextCursor(), 2, null));
+
+        // then
+        assertThat(firstPage.emergencyReports()).hasSize(2);
+        assertThat(firstPage.pagination().hasMore()).isTrue();
+        assertThat(firstPage.pagination().nextCursor()).isNotNull();
+        assertThat(firstPage.syncedAt()).isNotNull();
+        assertThat(secondPage.emergencyReports()).isNotEmpty();
+        assertThat(secondPage.emergencyReports().get(0).id())
+                .isLessThan(firstPage.emergencyReports().get(1).id());
+    }
+
+    @Test
+    @DisplayName("소방서 보고서 조회 - updatedSince 이후 변경된 구급일지만 조회")
+    void getEmergencyReportsByFireState_withUpdatedSince() {
+        // given
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        var unchanged = emergencyReportService.createEmergencyReport(createTestDispatch().getId(), paramedic.getId());
+        var changed = emergencyReportService.createEmergencyReport(createTestDispatch().getId(), paramedic.getId());
+        LocalDateTime updatedSince = LocalDateTime.now();
+
+        emergencyReportService.toggleEmergencyReportCompleted(changed.emergencyReportId(), paramedic.getId());
+
+        // when
+        var delta = emergencyReportService.getEmergencyReportsByFireState(
+                paramedic.getId(), new EmergencyReportListQueryRequest(null, null, updatedSince));
+
+        // then
+        assertThat(delta.get(0).emergencyReports())
+                .extracting(EmergencyReportSummaryResponse::id)
+                .contains(changed.emergencyReportId())
+                .doesNotContain(unchanged.emergencyReportId());
+    }
+
+    @Test
+    @DisplayName("구급대원 보고서 조회 - PATIENT_INFO 외 섹션이 변경된 구급일지도 변경분으로 조회")
+    void getEmergencyReportsByParamedic_withUpdatedSince_sectionChanged() {
+        // given
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        var unchanged = emergencyReportService.createEmergencyReport(createTestDispatch().getId(), paramedic.getId());
+        var changed = emergencyReportService.createEmergencyReport(createTestDispatch().getId(), paramedic.getId());
+        LocalDateTime updatedSince = LocalDateTime.now();
+
+        EmergencyReport changedReport = emergencyReportRepository.findById(changed.emergencyReportId()).orElseThrow();
+        ReportSection assessment = reportSectionRepository
+                .findByEmergencyReportAndType(changedReport, ReportSectionType.ASSESSMENT).orElseThrow();
+        assessment.updateData(assessment.getData().deepCopy());
+
+        // when
+        var delta = emergencyReportService.getEmergencyReportsByParamedic(
+                paramedic.getId(), new EmergencyReportListQueryRequest(null, null, updatedSince));
+
+        // then
+        assertThat(delta.emergencyReports())
+                .extracting(EmergencyReportItemResponse::id)
+                .contains(changed.emergencyReportId())
+                .doesNotContain(unchanged.emergencyReportId());
+    }
+
+    @Test
+    @DisplayName("보고서 조회 - 동기화 기준 시각은 커밋 전 변경분을 놓치지 않도록 조회 시각보다 앞당김")
+    void getEmergencyReportsByParamedic_syncedAtLagsBehind() {
+        // given
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        LocalDateTime requestedAt = LocalDateTime.now();
+
+        // when
+        var response = emergencyReportService.getEmergencyReportsByParamedic(
+                paramedic.getId(), EmergencyReportListQueryRequest.all());
+
+        // then
+        assertThat(response.syncedAt()).isBefore(requestedAt);
+    }
+
     @Test
     @DisplayName("구급일지 완료 상태 변경 - 성공")
     void toggleEmergencyReportCompleted_success() {
@@ -152,6 +255,85 @@ class EmergencyReportServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMERGENCY_REPORT_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("구급일지 전체 조회 - 모든 섹션을 jsonb 원문과 버전 합계 ETag로 반환")
+    void getFullEmergencyReport_success() {
+        // given
+        Dispatch dispatch = createTestDispatch();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        var createResponse = emergencyReportService.createEmergencyReport(dispatch.getId(), paramedic.getId());
+
+        // when
+        var response = emergencyReportService.getFullEmergencyReport(
+                createResponse.emergencyReportId(), paramedic.getId(), UserType.PARAMEDIC, false);
+
+        // then
+        assertThat(response.emergencyReportId()).isEqualTo(createResponse.emergencyReportId());
+        assertThat(response.sections()).extracting("type").containsExactly((Object[]) ReportSectionType.values());
+        assertThat(response.sections()).allSatisfy(section -> assertThat(section.data()).startsWith("{"));
+        assertThat(response.version()).isEqualTo(ReportSectionType.values().length);
+        assertThat(response.patientInfo()).isNull();
+        assertThat(response.eTag()).isEqualTo("\"" + ReportSectionType.values().length
+                + "-t" + ReportSectionTemplate.getTemplateRevision() + "\"");
+    }
+
+    @Test
+    @DisplayName("구급일지 전체 조회 - 희소 형식 응답은 복원 응답과 다른 ETag")
+    void getFullEmergencyReport_sparseAndHydratedETagsDiffer() {
+        // given
+        Dispatch dispatch = createTestDispatch();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        Long emergencyReportId = emergencyReportService.createEmergencyReport(dispatch.getId(), paramedic.getId())
+                .emergencyReportId();
+
+        // when
+        var hydrated = emergencyReportService.getFullEmergencyReport(
+                emergencyReportId, paramedic.getId(), UserType.PARAMEDIC, false);
+        var sparse = emergencyReportService.getFullEmergencyReport(
+                emergencyReportId, paramedic.getId(), UserType.PARAMEDIC, true);
+
+        // then
+        assertThat(sparse.version()).isEqualTo(hydrated.version());
+        assertThat(sparse.eTag()).isEqualTo("\"" + sparse.version() + "-s\"");
+        assertThat(ETagUtils.matchesIfNoneMatch(hydrated.eTag(), sparse.eTag())).isFalse();
+    }
+
+    @Test
+    @DisplayName("구급일지 전체 조회 - 작성자가 아니거나 수용하지 않은 병원이면 실패")
+    void getFullEmergencyReport_accessDenied() {
+        // given
+        Dispatch dispatch = createTestDispatch();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        Long emergencyReportId = emergencyReportService.createEmergencyReport(dispatch.getId(), paramedic.getId())
+                .emergencyReportId();
+
+        // when & then
+        assertThatThrownBy(() -> emergencyReportService.getFullEmergencyReport(
+                emergencyReportId, paramedic.getId() + 100000, UserType.PARAMEDIC, false))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+        assertThatThrownBy(() -> emergencyReportService.getFullEmergencyReport(
+                emergencyReportId, paramedic.getId(), UserType.HOSPITAL, false))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
+    }
+
+    @Test
+    @DisplayName("구급일지 전체 조회 - EmergencyReport 없음 실패")
+    void getFullEmergencyReport_reportNotFound() {
+        // given
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> emergencyReportService.getFullEmergencyReport(99999L, paramedic.getId(), UserType.PARAMEDIC, false))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMERGENCY_REPORT_NOT_FOUND);
+    }
+
     private Dispatch createTestDispatch() {
         FireState fireState = fireStateRepository.findAll().stream().findFirst()
                 .orElseThrow(() -> new IllegalStateException("테스트용 소방서 데이터가 없습니다."));
@@ -0,0 +1,155 @@
+package com.ssairen.domain.emergency.service;
+
+import com.ssairen.domain.emergency.entity.Dispatch;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+import com.ssairen.domain.emergency.repository.DispatchRepository;
+import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.firestation.entity.FireState;
+import com.ssairen.domain.firestation.entity.Paramedic;
+import com.ssairen.domain.firestation.repository.FireStateRepository;
+import com.ssairen.domain.firestation.repository.ParamedicRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구급일지 섹션 초기 생성 벤치마크
+ * - 타입별 createReportSection 반복(검증 + 중복 확인 + IDENTITY 방식과 같은 건별 INSERT)과
+ *   createAllReportSections(검증 1회 + 중복 확인 1회 + 배치 INSERT)의 지연 시간과 실행 SQL 수를 비교
+ * - 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ReportSectionBulkCreateBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+
+    @Autowired
+    private ReportSectionService reportSectionService;
+
+    @Autowired
+    private EmergencyReportRepository emergencyReportRepository;
+
+    @Autowired
+    private DispatchRepository dispatchRepository;
+
+    @Autowired
+    private ParamedicRepository paramedicRepository;
+
+    @Autowired
+    private FireStateRepository fireStateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private FireState fireState;
+    private Paramedic paramedic;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        fireState = fireStateRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 소방서 데이터가 없습니다."));
+        paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("구급일지 섹션 초기 생성 - 타입별 반복 생성 vs 일괄 생성")
+    void comparePerTypeAndBulkCreation() {
+        // warm up
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            createPerType(createTestEmergencyReport());
+            createBulk(createTestEmergencyReport());
+        }
+
+        long perTypeNanos = 0;
+        long bulkNanos = 0;
+        long perTypeStatements = 0;
+        long bulkStatements = 0;
+
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            EmergencyReport perTypeReport = createTestEmergencyReport();
+            statistics.clear();
+            long start = System.nanoTime();
+            createPerType(perTypeReport);
+            perTypeNanos += System.nanoTime() - start;
+            perTypeStatements += statistics.getPrepareStatementCount();
+
+            EmergencyReport bulkReport = createTestEmergencyReport();
+            statistics.clear();
+            start = System.nanoTime();
+            createBulk(bulkReport);
+            bulkNanos += System.nanoTime() - start;
+            bulkStatements += statistics.getPrepareStatementCount();
+        }
+
+        double perTypeMillis = perTypeNanos / 1_000_000.0 / MEASURE_ROUNDS;
+        double bulkMillis = bulkNanos / 1_000_000.0 / MEASURE_ROUNDS;
+
+        log.info("[Benchmark] 구급일지 섹션 {}개 초기 생성 ({}회 평균)", ReportSectionType.values().length, MEASURE_ROUNDS);
+        log.info("[Benchmark]   타입별 생성 : {} ms, SQL {}개", String.format("%.3f", perTypeMillis),
+                perTypeStatements / MEASURE_ROUNDS);
+        log.info("[Benchmark]   일괄 생성   : {} ms, SQL {}개", String.format("%.3f", bulkMillis),
+                bulkStatements / MEASURE_ROUNDS);
+        log.info("[Benchmark]   속도 향상   : {}배", String.format("%.2f", perTypeMillis / bulkMillis));
+
+        // 일괄 생성은 구급일지/출동지령 조회 + 중복 확인 + 시퀀스 할당 + 배치 INSERT 수준이어야 함
+        // (구급일지 생성 트랜잭션 안에서는 구급일지/출동지령이 영속성 컨텍스트에 있으므로 3개)
+        assertThat(bulkStatements / MEASURE_ROUNDS).isLessThanOrEqualTo(5);
+        assertThat(bulkStatements).isLessThan(perTypeStatements);
+    }
+
+    private void createPerType(EmergencyReport emergencyReport) {
+        for (ReportSectionType type : ReportSectionType.values()) {
+            reportSectionService.createReportSection(emergencyReport.getId(), type, paramedic.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void createBulk(EmergencyReport emergencyReport) {
+        reportSectionService.createAllReportSections(emergencyReport.getId(), paramedic.getId());
+        entityManager.clear();
+    }
+
+    private EmergencyReport createTestEmergencyReport() {
+        Dispatch dispatch = dispatchRepository.save(Dispatch.builder()
+                .fireState(fireState)
+                .paramedic(paramedic)
+                .disasterNumber("BENCH-" + System.nanoTime())
+                .disasterType("구급")
+                .disasterSubtype("질병")
+                .locationAddress("서울시 중구")
+                .date(LocalDateTime.now())
+                .build());
+
+        EmergencyReport report = emergencyReportRepository.saveAndFlush(EmergencyReport.builder()
+                .dispatch(dispatch)
+                .paramedic(paramedic)
+                .fireState(fireState)
+                .isCompleted(false)
+                .build());
+        entityManager.clear();
+        return report;
+    }
+}
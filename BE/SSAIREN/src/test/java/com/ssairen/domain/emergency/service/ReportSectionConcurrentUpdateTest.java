@@ -0,0 +1,208 @@
+package com.ssairen.domain.emergency.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssairen.domain.emergency.dto.ReportSectionCreateResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionUpdateRequest;
+import com.ssairen.domain.emergency.entity.Dispatch;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.entity.ReportSection;
+import com.ssairen.domain.emergency.enums.ReportSectionPatchFormat;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+import com.ssairen.domain.emergency.repository.DispatchRepository;
+import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.emergency.repository.ReportSectionRepository;
+import com.ssairen.domain.emergency.util.ReportSectionDocument;
+import com.ssairen.domain.firestation.entity.FireState;
+import com.ssairen.domain.firestation.entity.Paramedic;
+import com.ssairen.domain.firestation.repository.FireStateRepository;
+import com.ssairen.domain.firestation.repository.ParamedicRepository;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 섹션 동시 수정 테스트
+ * - 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 테스트 클래스에 @Transactional을 두지 않고 직접 정리
+ */
+@SpringBootTest
+class ReportSectionConcurrentUpdateTest {
+
+    private static final List<String> PATIENT_FIELDS = List.of("name", "gender", "ageYears", "birthDate", "address");
+    private static final List<String> GUARDIAN_FIELDS = List.of("name", "relation", "phone");
+
+    @Autowired
+    private ReportSectionService reportSectionService;
+
+    @Autowired
+    private ReportSectionRepository reportSectionRepository;
+
+    @Autowired
+    private EmergencyReportRepository emergencyReportRepository;
+
+    @Autowired
+    private DispatchRepository dispatchRepository;
+
+    @Autowired
+    private ParamedicRepository paramedicRepository;
+
+    @Autowired
+    private FireStateRepository fireStateRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmergencyReport emergencyReport;
+    private Integer paramedicId;
+
+    @BeforeEach
+    void setUp() {
+        emergencyReport = createTestEmergencyReport();
+        paramedicId = emergencyReport.getParamedic().getId();
+        reportSectionService.createReportSection(emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedicId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportSectionRepository.findByEmergencyReportAndType(emergencyReport, ReportSectionType.PATIENT_INFO)
+                .ifPresent(reportSectionRepository::delete);
+        emergencyReportRepository.deleteById(emergencyReport.getId());
+        dispatchRepository.deleteById(emergencyReport.getDispatch().getId());
+    }
+
+    @Test
+    @DisplayName("서로 다른 필드 동시 수정 - 갱신 유실 없이 모든 변경과 버전 증가가 반영")
+    void concurrentFieldEdits_shouldNotLoseUpdates() throws Exception {
+        // given
+        List<Callable<ReportSectionCreateResponse>> edits = new ArrayList<>();
+        for (String field : PATIENT_FIELDS) {
+            JsonNode patch = objectMapper.readTree(
+                    "{\"patientInfo\": {\"patient\": {\"" + field + "\": \"patient-" + field + "\"}}}");
+            edits.add(() -> reportSectionService.patchReportSection(emergencyReport.getId(), ReportSectionType.PATIENT_INFO,
+                    ReportSectionPatchFormat.MERGE_PATCH, patch, null, paramedicId));
+        }
+        for (String field : GUARDIAN_FIELDS) {
+            JsonNode data = objectMapper.readTree(
+                    "{\"patientInfo\": {\"guardian\": {\"" + field + "\": \"guardian-" + field + "\"}}}");
+            edits.add(() -> reportSectionService.updateReportSection(emergencyReport.getId(), ReportSectionType.PATIENT_INFO,
+                    new ReportSectionUpdateRequest(data), paramedicId));
+        }
+
+        // when
+        List<Throwable> failures = runConcurrently(edits);
+
+        // then
+        assertThat(failures).isEmpty();
+
+        ReportSection section = findSection();
+        assertThat(section.getVersion()).isEqualTo(1 + edits.size());
+        JsonNode data = ReportSectionDocument.hydrate(section.getType(), section.getSchemaVersion(), section.getData());
+        for (String field : PATIENT_FIELDS) {
+            assertThat(data.at("/patientInfo/patient/" + field).asText()).isEqualTo("patient-" + field);
+        }
+        for (String field : GUARDIAN_FIELDS) {
+            assertThat(data.at("/patientInfo/guardian/" + field).asText()).isEqualTo("guardian-" + field);
+        }
+        // 패치에 포함되지 않은 키는 템플릿 구조로 유지
+        assertThat(data.at("/patientInfo/reporter").isObject()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 버전으로 동시 수정 - 하나만 반영되고 나머지는 버전 불일치")
+    void concurrentEditsWithSameIfMatch_shouldAllowOnlyOne() throws Exception {
+        // given
+        int concurrency = 6;
+        List<Callable<ReportSectionCreateResponse>> edits = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            JsonNode patch = objectMapper.readTree("{\"patientInfo\": {\"patient\": {\"name\": \"환자" + i + "\"}}}");
+            edits.add(() -> reportSectionService.patchReportSection(emergencyReport.getId(), ReportSectionType.PATIENT_INFO,
+                    ReportSectionPatchFormat.MERGE_PATCH, patch, 1, paramedicId));
+        }
+
+        // when
+        List<Throwable> failures = runConcurrently(edits);
+
+        // then
+        assertThat(failures).hasSize(concurrency - 1);
+        assertThat(failures).allSatisfy(failure -> assertThat(failure)
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_SECTION_VERSION_MISMATCH));
+        assertThat(findSection().getVersion()).isEqualTo(2);
+    }
+
+    private List<Throwable> runConcurrently(List<Callable<ReportSectionCreateResponse>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch ready = new CountDownLatch(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ReportSectionCreateResponse>> futures = new ArrayList<>();
+            for (Callable<ReportSectionCreateResponse> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return task.call();
+                }));
+            }
+            ready.await(5, TimeUnit.SECONDS);
+            start.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<ReportSectionCreateResponse> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ReportSection findSection() {
+        return reportSectionRepository.findByEmergencyReportAndType(emergencyReport, ReportSectionType.PATIENT_INFO)
+                .orElseThrow();
+    }
+
+    private EmergencyReport createTestEmergencyReport() {
+        FireState fireState = fireStateRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 소방서 데이터가 없습니다."));
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        Dispatch dispatch = dispatchRepository.save(Dispatch.builder()
+                .fireState(fireState)
+                .paramedic(paramedic)
+                .disasterNumber("CONCURRENT-" + System.nanoTime())
+                .disasterType("구급")
+                .disasterSubtype("질병")
+                .locationAddress("서울시 중구")
+                .date(LocalDateTime.now())
+                .build());
+
+        return emergencyReportRepository.save(EmergencyReport.builder()
+                .dispatch(dispatch)
+                .paramedic(paramedic)
+                .fireState(fireState)
+                .isCompleted(false)
+                .build());
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssairen.domain.emergency.service;
 
 import com.ssairen.domain.emergency.dto.ReportSectionCreateResponse;
+import com.ssairen.domain.emergency.dto.ReportSectionReadResponse;
 import com.ssairen.domain.emergency.entity.Dispatch;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
@@ -104,10 +105,11 @@ class ReportSectionServiceImplTest {
         );
 
         // when
-        ReportSectionCreateResponse response = reportSectionService.getReportSection(
+        ReportSectionReadResponse response = reportSectionService.getReportSection(
                 emergencyReport.getId(),
                 ReportSectionType.DISPATCH,
-                paramedicId
+                paramedicId,
+                false
         );
 
         // then
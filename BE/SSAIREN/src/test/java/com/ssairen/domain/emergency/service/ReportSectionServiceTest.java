@@ -5,10 +5,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssairen.domain.emergency.dto.ReportSectionUpdateRequest;
 import com.ssairen.domain.emergency.entity.Dispatch;
 import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.entity.ReportSectionChange;
+import com.ssairen.domain.emergency.enums.ReportSectionPatchFormat;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
 import com.ssairen.domain.emergency.repository.DispatchRepository;
 import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.emergency.repository.ReportSectionChangeRepository;
 import com.ssairen.domain.emergency.repository.ReportSectionRepository;
+import com.ssairen.domain.emergency.util.ReportSectionTemplate;
 import com.ssairen.domain.firestation.entity.FireState;
 import com.ssairen.domain.firestation.entity.Paramedic;
 import com.ssairen.domain.firestation.repository.FireStateRepository;
@@ -36,6 +40,9 @@ class ReportSectionServiceTest {
     @Autowired
     private ReportSectionRepository reportSectionRepository;
 
+    @Autowired
+    private ReportSectionChangeRepository reportSectionChangeRepository;
+
     @Autowired
     private EmergencyReportRepository emergencyReportRepository;
 
@@ -88,6 +95,43 @@ class ReportSectionServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMERGENCY_REPORT_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("섹션 일괄 생성 - 모든 타입이 버전 1 스켈레톤으로 생성")
+    void createAllReportSections_success() {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        // when
+        var responses = reportSectionService.createAllReportSections(emergencyReport.getId(), paramedic.getId());
+
+        // then
+        assertThat(responses).extracting("type").containsExactly((Object[]) ReportSectionType.values());
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.id()).isNotNull();
+            assertThat(response.version()).isEqualTo(1);
+        });
+        for (ReportSectionType type : ReportSectionType.values()) {
+            assertThat(reportSectionRepository.existsByEmergencyReportAndType(emergencyReport, type)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("섹션 일괄 생성 - 이미 섹션이 있으면 실패")
+    void createAllReportSections_alreadyExists() {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        reportSectionService.createReportSection(emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId());
+
+        // when & then
+        assertThatThrownBy(() -> reportSectionService.createAllReportSections(emergencyReport.getId(), paramedic.getId()))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_SECTION_ALREADY_EXISTS);
+    }
+
     @Test
     @DisplayName("섹션 조회 - 성공")
     void getReportSection_success() {
@@ -106,7 +150,8 @@ class ReportSectionServiceTest {
         var response = reportSectionService.getReportSection(
                 emergencyReport.getId(),
                 ReportSectionType.PATIENT_INFO,
-                paramedic.getId()
+                paramedic.getId(),
+                false
         );
 
         // then
@@ -126,12 +171,158 @@ class ReportSectionServiceTest {
         assertThatThrownBy(() -> reportSectionService.getReportSection(
                 emergencyReport.getId(),
                 ReportSectionType.PATIENT_INFO,
-                paramedic.getId()
+                paramedic.getId(),
+                false
         ))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_SECTION_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("섹션 조회 - 저장된 jsonb를 변환 없이 원문 그대로 반환")
+    void getReportSection_shouldReturnStoredJsonAsRawText() throws Exception {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        var created = reportSectionService.createReportSection(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId());
+
+        // when
+        var response = reportSectionService.getReportSection(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId(), false);
+
+        // then
+        assertThat(response.id()).isEqualTo(created.id());
+        assertThat(response.version()).isEqualTo(1);
+        assertThat(objectMapper.readTree(response.data())).isEqualTo(created.data());
+        // 직렬화 시 data는 문자열이 아닌 JSON 객체로 기록
+        String json = new ObjectMapper().findAndRegisterModules().writeValueAsString(response);
+        assertThat(objectMapper.readTree(json).get("data").isObject()).isTrue();
+    }
+
+    @Test
+    @DisplayName("섹션 생성 - 템플릿과 다른 값만 스키마 버전과 함께 저장하고 응답은 템플릿 구조로 복원")
+    void createReportSection_shouldStoreSparseDocument() {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        // when
+        var created = reportSectionService.createReportSection(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId());
+
+        // then
+        var stored = reportSectionRepository.findByEmergencyReportAndType(emergencyReport, ReportSectionType.PATIENT_INFO)
+                .orElseThrow();
+        assertThat(stored.getSchemaVersion()).isEqualTo(ReportSectionTemplate.getSchemaVersion(ReportSectionType.PATIENT_INFO));
+        assertThat(stored.getData().isEmpty()).isTrue();
+        assertThat(created.data()).isEqualTo(ReportSectionTemplate.getTemplate(ReportSectionType.PATIENT_INFO));
+    }
+
+    @Test
+    @DisplayName("섹션 조회 - sparse 요청 시 입력된 값만 반환")
+    void getReportSection_sparse() throws Exception {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        reportSectionService.createReportSection(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId());
+        reportSectionService.patchReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                ReportSectionPatchFormat.MERGE_PATCH,
+                objectMapper.readTree("{\"patientInfo\": {\"patient\": {\"name\": \"홍길동\"}}}"),
+                null,
+                paramedic.getId()
+        );
+
+        // when
+        var sparse = reportSectionService.getReportSection(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId(), true);
+        var hydrated = reportSectionService.getReportSection(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId(), false);
+
+        // then
+        assertThat(objectMapper.readTree(sparse.data()))
+                .isEqualTo(objectMapper.readTree("{\"patientInfo\": {\"patient\": {\"name\": \"홍길동\"}}}"));
+        assertThat(sparse.schemaVersion()).isNotNull();
+        JsonNode hydratedData = objectMapper.readTree(hydrated.data());
+        assertThat(hydratedData.at("/patientInfo/patient/name").asText()).isEqualTo("홍길동");
+        assertThat(hydratedData.at("/patientInfo/guardian/phone").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("섹션 JSON Patch - 희소 형식 섹션에도 템플릿 경로로 적용하고 다시 희소 형식으로 저장")
+    void patchReportSection_jsonPatch_sparseDocument() throws Exception {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        reportSectionService.createReportSection(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId());
+
+        JsonNode patch = objectMapper.readTree(
+                "[{\"op\": \"test\", \"path\": \"/patientInfo/guardian/name\", \"value\": null}," +
+                " {\"op\": \"replace\", \"path\": \"/patientInfo/guardian/name\", \"value\": \"김보호\"}]");
+
+        // when
+        reportSectionService.patchReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                ReportSectionPatchFormat.JSON_PATCH,
+                patch,
+                null,
+                paramedic.getId()
+        );
+
+        // then
+        var stored = reportSectionRepository.findByEmergencyReportAndType(emergencyReport, ReportSectionType.PATIENT_INFO)
+                .orElseThrow();
+        assertThat(stored.getData())
+                .isEqualTo(objectMapper.readTree("{\"patientInfo\": {\"guardian\": {\"name\": \"김보호\"}}}"));
+    }
+
+    @Test
+    @DisplayName("섹션 JSON Patch - 연산이 중간에 실패해도 저장된 섹션 데이터는 수정되지 않음")
+    void patchReportSection_jsonPatch_failureLeavesStoredDataUntouched() throws Exception {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        reportSectionService.createReportSection(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId());
+        reportSectionService.patchReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                ReportSectionPatchFormat.JSON_PATCH,
+                objectMapper.readTree("[{\"op\": \"replace\", \"path\": \"/patientInfo/guardian/name\", \"value\": \"김보호\"}]"),
+                null,
+                paramedic.getId()
+        );
+
+        JsonNode patch = objectMapper.readTree(
+                "[{\"op\": \"replace\", \"path\": \"/patientInfo/guardian/name\", \"value\": \"이보호\"}," +
+                " {\"op\": \"test\", \"path\": \"/patientInfo/guardian/relation\", \"value\": \"배우자\"}]");
+
+        // when & then
+        assertThatThrownBy(() -> reportSectionService.patchReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                ReportSectionPatchFormat.JSON_PATCH,
+                patch,
+                null,
+                paramedic.getId()
+        )).isInstanceOf(CustomException.class);
+
+        var stored = reportSectionRepository.findByEmergencyReportAndType(emergencyReport, ReportSectionType.PATIENT_INFO)
+                .orElseThrow();
+        assertThat(stored.getData())
+                .isEqualTo(objectMapper.readTree("{\"patientInfo\": {\"guardian\": {\"name\": \"김보호\"}}}"));
+    }
+
     @Test
     @DisplayName("섹션 수정 - 성공")
     void updateReportSection_success() throws Exception {
@@ -184,6 +375,233 @@ class ReportSectionServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_SECTION_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("섹션 Merge Patch - 변경분만 반영되고 버전 증가")
+    void patchReportSection_mergePatch_success() throws Exception {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        var created = reportSectionService.createReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                paramedic.getId()
+        );
+
+        JsonNode patch = objectMapper.readTree("{\"patientInfo\": {\"patient\": {\"name\": \"홍길동\"}}}");
+
+        // when
+        var response = reportSectionService.patchReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                ReportSectionPatchFormat.MERGE_PATCH,
+                patch,
+                created.version(),
+                paramedic.getId()
+        );
+
+        // then
+        assertThat(response.version()).isEqualTo(created.version() + 1);
+        assertThat(response.data().at("/patientInfo/patient/name").asText()).isEqualTo("홍길동");
+        assertThat(response.data().at("/patientInfo/guardian").isMissingNode()).isFalse();
+    }
+
+    @Test
+    @DisplayName("섹션 JSON Patch - replace 연산 적용")
+    void patchReportSection_jsonPatch_success() throws Exception {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        reportSectionService.createReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                paramedic.getId()
+        );
+
+        JsonNode patch = objectMapper.readTree(
+                "[{\"op\": \"replace\", \"path\": \"/patientInfo/patient/name\", \"value\": \"홍길동\"}]");
+
+        // when
+        var response = reportSectionService.patchReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                ReportSectionPatchFormat.JSON_PATCH,
+                patch,
+                null,
+                paramedic.getId()
+        );
+
+        // then
+        assertThat(response.data().at("/patientInfo/patient/name").asText()).isEqualTo("홍길동");
+    }
+
+    @Test
+    @DisplayName("섹션 수정 - If-Match 버전 불일치 시 실패")
+    void patchReportSection_versionMismatch() throws Exception {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        var created = reportSectionService.createReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                paramedic.getId()
+        );
+
+        JsonNode patch = objectMapper.readTree("{\"patientInfo\": {\"patient\": {\"name\": \"홍길동\"}}}");
+        ReportSectionUpdateRequest updateRequest = new ReportSectionUpdateRequest(patch);
+
+        // when & then
+        assertThatThrownBy(() -> reportSectionService.patchReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                ReportSectionPatchFormat.MERGE_PATCH,
+                patch,
+                created.version() + 1,
+                paramedic.getId()
+        ))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_SECTION_VERSION_MISMATCH);
+
+        assertThatThrownBy(() -> reportSectionService.updateReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                updateRequest,
+                created.version() + 1,
+                paramedic.getId()
+        ))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_SECTION_VERSION_MISMATCH);
+    }
+
+    @Test
+    @DisplayName("섹션 버전 조회 - 변경 이력으로 이전 버전 복원")
+    void getReportSectionVersion_reconstructsPreviousVersions() throws Exception {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        reportSectionService.createReportSection(emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId());
+
+        mergePatch(emergencyReport, paramedic, "{\"patientInfo\": {\"patient\": {\"name\": \"홍길동\"}}}");
+        mergePatch(emergencyReport, paramedic, "{\"patientInfo\": {\"patient\": {\"name\": \"김철수\"}}}");
+        mergePatch(emergencyReport, paramedic, "{\"patientInfo\": {\"patient\": {\"ageYears\": 45}}}");
+
+        // when
+        var version1 = reportSectionService.getReportSectionVersion(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, 1, paramedic.getId());
+        var version2 = reportSectionService.getReportSectionVersion(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, 2, paramedic.getId());
+        var version4 = reportSectionService.getReportSectionVersion(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, 4, paramedic.getId());
+
+        // then
+        assertThat(version1.currentVersion()).isEqualTo(4);
+        assertThat(version1.data().at("/patientInfo/patient/name").isNull()).isTrue();
+        assertThat(version2.version()).isEqualTo(2);
+        assertThat(version2.data().at("/patientInfo/patient/name").asText()).isEqualTo("홍길동");
+        assertThat(version2.data().at("/patientInfo/patient/ageYears").isNull()).isTrue();
+        assertThat(version4.data().at("/patientInfo/patient/name").asText()).isEqualTo("김철수");
+        assertThat(version4.data().at("/patientInfo/patient/ageYears").asInt()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("섹션 버전 조회 - 스냅샷 간격마다 전체 데이터를 남기고 스냅샷부터 복원")
+    void getReportSectionVersion_usesPeriodicSnapshot() throws Exception {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        var created = reportSectionService.createReportSection(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId());
+
+        int lastVersion = ReportSectionChange.SNAPSHOT_INTERVAL + 2;
+        for (int version = 2; version <= lastVersion; version++) {
+            mergePatch(emergencyReport, paramedic, "{\"patientInfo\": {\"patient\": {\"name\": \"환자-" + version + "\"}}}");
+        }
+
+        // when
+        var snapshot = reportSectionChangeRepository.findLatestSnapshot(created.id(), lastVersion).orElseThrow();
+        var beforeSnapshot = reportSectionService.getReportSectionVersion(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, 10, paramedic.getId());
+        var afterSnapshot = reportSectionService.getReportSectionVersion(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, lastVersion - 1, paramedic.getId());
+
+        // then
+        assertThat(snapshot.getVersion()).isEqualTo(ReportSectionChange.SNAPSHOT_INTERVAL);
+        assertThat(snapshot.getSnapshot().at("/patientInfo/patient/name").asText())
+                .isEqualTo("환자-" + ReportSectionChange.SNAPSHOT_INTERVAL);
+        assertThat(beforeSnapshot.data().at("/patientInfo/patient/name").asText()).isEqualTo("환자-10");
+        assertThat(afterSnapshot.data().at("/patientInfo/patient/name").asText()).isEqualTo("환자-" + (lastVersion - 1));
+    }
+
+    @Test
+    @DisplayName("섹션 변경분 조회 - 기준 버전 이후 변경분만 버전 순서대로 반환")
+    void getReportSectionChanges_returnsDeltasSinceVersion() throws Exception {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        reportSectionService.createReportSection(emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId());
+
+        mergePatch(emergencyReport, paramedic, "{\"patientInfo\": {\"patient\": {\"name\": \"홍길동\"}}}");
+        mergePatch(emergencyReport, paramedic, "{\"patientInfo\": {\"patient\": {\"ageYears\": 45}}}");
+        reportSectionService.patchReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                ReportSectionPatchFormat.JSON_PATCH,
+                objectMapper.readTree("[{\"op\": \"replace\", \"path\": \"/patientInfo/patient/name\", \"value\": \"김철수\"}]"),
+                null,
+                paramedic.getId()
+        );
+
+        // when
+        var changes = reportSectionService.getReportSectionChanges(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, 2, paramedic.getId());
+        var upToDate = reportSectionService.getReportSectionChanges(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, 4, paramedic.getId());
+
+        // then
+        assertThat(changes.currentVersion()).isEqualTo(4);
+        assertThat(changes.changes()).extracting("version").containsExactly(3, 4);
+        assertThat(changes.changes().get(0).delta())
+                .isEqualTo(objectMapper.readTree("{\"patientInfo\": {\"patient\": {\"ageYears\": 45}}}"));
+        assertThat(changes.changes().get(1).delta())
+                .isEqualTo(objectMapper.readTree("{\"patientInfo\": {\"patient\": {\"name\": \"김철수\"}}}"));
+        assertThat(upToDate.changes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("섹션 변경분 조회 - 현재 버전보다 큰 버전이면 실패")
+    void getReportSectionChanges_futureVersion() {
+        // given
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+        reportSectionService.createReportSection(emergencyReport.getId(), ReportSectionType.PATIENT_INFO, paramedic.getId());
+
+        // when & then
+        assertThatThrownBy(() -> reportSectionService.getReportSectionChanges(
+                emergencyReport.getId(), ReportSectionType.PATIENT_INFO, 2, paramedic.getId()))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REPORT_SECTION_VERSION);
+    }
+
+    private void mergePatch(EmergencyReport emergencyReport, Paramedic paramedic, String patchJson) throws Exception {
+        reportSectionService.patchReportSection(
+                emergencyReport.getId(),
+                ReportSectionType.PATIENT_INFO,
+                ReportSectionPatchFormat.MERGE_PATCH,
+                objectMapper.readTree(patchJson),
+                null,
+                paramedic.getId()
+        );
+    }
+
     private EmergencyReport createTestEmergencyReport() {
         Dispatch dispatch = createTestDispatch();
         Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
@@ -0,0 +1,148 @@
+package com.ssairen.domain.emergency.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+import com.ssairen.domain.emergency.util.ReportSectionDocument;
+import com.ssairen.domain.emergency.util.ReportSectionTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구급일지 섹션 저장 형식 벤치마크 (템플릿 전체 저장 vs 희소 형식)
+ * - 생성 직후 / 일부 입력 / 전체 입력 구급일지를 생성해 같은 데이터를 두 형식으로 임시 테이블에 저장
+ * - jsonb 컬럼 크기(pg_column_size), 테이블+TOAST 크기(pg_total_relation_size), JSON 텍스트 크기(응답 본문)를 비교
+ * - 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+class ReportSectionStorageBenchmarkTest {
+
+    private static final int REPORTS = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 생성 데이터 시나리오 (섹션 값 입력 비율)
+     */
+    private enum Scenario {
+        FRESH("생성 직후", 0.0),
+        PARTIAL("일부 입력", 0.3),
+        COMPLETE("전체 입력", 1.0);
+
+        private final String label;
+        private final double fillRatio;
+
+        Scenario(String label, double fillRatio) {
+            this.label = label;
+            this.fillRatio = fillRatio;
+        }
+    }
+
+    /**
+     * 저장 크기 측정 결과 (bytes)
+     */
+    private record StorageSize(long columnBytes, long textBytes, long relationBytes) {
+    }
+
+    @Test
+    @DisplayName("구급일지 섹션 저장 크기 - 템플릿 전체 저장 vs 희소 형식")
+    void compareDenseAndSparseStorage() {
+        log.info("[Benchmark] 구급일지 섹션 저장 크기 (구급일지 {}건 x 섹션 {}개)", REPORTS, ReportSectionType.values().length);
+
+        for (Scenario scenario : Scenario.values()) {
+            List<String> dense = new ArrayList<>();
+            List<String> sparse = new ArrayList<>();
+            Random random = new Random(42);
+            for (int report = 0; report < REPORTS; report++) {
+                for (ReportSectionType type : ReportSectionType.values()) {
+                    ObjectNode data = (ObjectNode) ReportSectionTemplate.getTemplate(type);
+                    fill(data, random, scenario.fillRatio);
+                    if (type == ReportSectionType.DISPATCH) {
+                        // 생성 시 출동지령 시각이 채워지는 섹션
+                        ObjectNode dispatch = (ObjectNode) data.get("dispatch");
+                        dispatch.put("reportDatetime", "2025-01-01T10:00:00");
+                        dispatch.put("departureTime", "2025-01-01T10:03:00");
+                    }
+                    dense.add(data.toString());
+                    sparse.add(ReportSectionDocument.compact(type, data).toString());
+                }
+            }
+
+            StorageSize denseSize = measure("section_storage_dense", dense);
+            StorageSize sparseSize = measure("section_storage_sparse", sparse);
+
+            log.info("[Benchmark] {} (입력 비율 {}%)", scenario.label, Math.round(scenario.fillRatio * 100));
+            log.info("[Benchmark]   jsonb 컬럼   : {} -> {} bytes ({}% 절감)", denseSize.columnBytes(), sparseSize.columnBytes(),
+                    savings(denseSize.columnBytes(), sparseSize.columnBytes()));
+            log.info("[Benchmark]   테이블+TOAST : {} -> {} bytes ({}% 절감)", denseSize.relationBytes(), sparseSize.relationBytes(),
+                    savings(denseSize.relationBytes(), sparseSize.relationBytes()));
+            log.info("[Benchmark]   JSON 텍스트  : {} -> {} bytes ({}% 절감, sparse 조회 응답 본문)", denseSize.textBytes(),
+                    sparseSize.textBytes(), savings(denseSize.textBytes(), sparseSize.textBytes()));
+
+            assertThat(sparseSize.columnBytes()).isLessThanOrEqualTo(denseSize.columnBytes());
+            if (scenario == Scenario.FRESH) {
+                // 생성 직후 섹션은 대부분 null이므로 절반 이상 줄어야 함
+                assertThat(sparseSize.columnBytes() * 2).isLessThan(denseSize.columnBytes());
+            }
+        }
+    }
+
+    /**
+     * 임시 테이블에 저장한 뒤 크기 측정 (트랜잭션 종료 시 테이블 삭제)
+     */
+    private StorageSize measure(String table, List<String> documents) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE TEMP TABLE " + table + " (id bigserial PRIMARY KEY, data jsonb NOT NULL) ON COMMIT DROP");
+        jdbcTemplate.batchUpdate("INSERT INTO " + table + " (data) VALUES (CAST(? AS jsonb))", documents, 500,
+                (ps, document) -> ps.setString(1, document));
+
+        Map<String, Object> sizes = jdbcTemplate.queryForMap(
+                "SELECT SUM(pg_column_size(data)) AS column_bytes, SUM(octet_length(CAST(data AS text))) AS text_bytes, " +
+                        "pg_total_relation_size('" + table + "') AS relation_bytes FROM " + table);
+        return new StorageSize(
+                ((Number) sizes.get("column_bytes")).longValue(),
+                ((Number) sizes.get("text_bytes")).longValue(),
+                ((Number) sizes.get("relation_bytes")).longValue());
+    }
+
+    private static String savings(long before, long after) {
+        return String.format("%.1f", before == 0 ? 0.0 : (before - after) * 100.0 / before);
+    }
+
+    /**
+     * 템플릿의 null 값을 입력 비율만큼 문자열로 채움
+     */
+    private static void fill(JsonNode node, Random random, double fillRatio) {
+        if (!node.isObject() || fillRatio <= 0) {
+            return;
+        }
+        ObjectNode object = (ObjectNode) node;
+        Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            if (entry.getValue().isObject()) {
+                fill(entry.getValue(), random, fillRatio);
+            } else if (entry.getValue().isNull() && random.nextDouble() < fillRatio) {
+                entry.setValue(object.textNode("입력값-" + random.nextInt(100_000)));
+            }
+        }
+    }
+}
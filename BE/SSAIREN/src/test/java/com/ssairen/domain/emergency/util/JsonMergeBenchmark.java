@@ -0,0 +1,217 @@
+package com.ssairen.domain.emergency.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 섹션 데이터 병합 비용 비교 (JMH) - 모든 값이 채워진 섹션에 AI 응답을 다시 병합하는 경우
+ * - legacyCopy: 기존 방식 (deepCopy + 모든 필드 set + asText().trim() 빈값 검사)
+ * - copyMerge: 현재 복사 병합 API (deepCopy + 직접 병합 엔진)
+ * - inPlace: 소유한 트리에 직접 병합 (복사 없음, 같은 값은 건너뜀)
+ * AI 응답은 값의 1/3을 바꾸고 1/4을 null로 비운 두 가지 페이로드를 번갈아 사용하므로
+ * OVERWRITE/IGNORE_NULLS는 매번 실제 변경이 발생하고, PRESERVE_EXISTING은 기존 값이 모두 채워져 있어 변경이 없음
+ * 실행은 JsonMergeBenchmarkTest (./gradlew benchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonMergeBenchmark {
+
+    @Param({"ASSESSMENT", "TREATMENT"})
+    private ReportSectionType type;
+
+    @Param({"OVERWRITE", "PRESERVE_EXISTING", "IGNORE_NULLS"})
+    private JsonMergeUtil.MergeMode mode;
+
+    private final JsonMergeUtil jsonMergeUtil = new JsonMergeUtil(new ObjectMapper());
+
+    /**
+     * DB에 저장된 섹션 내부 데이터 (모든 값이 채워진 상태)
+     */
+    private JsonNode stored;
+
+    /**
+     * AI 응답 (번갈아 사용)
+     */
+    private final JsonNode[] updates = new JsonNode[2];
+
+    /**
+     * 직접 병합 대상 (엔티티가 보유한 트리에 해당)
+     */
+    private ObjectNode owned;
+
+    private int invocation;
+
+    @Setup
+    public void setUp() {
+        String fieldName = ReportSectionTemplate.getTemplate(type).fieldNames().next();
+        JsonNode template = ReportSectionTemplate.getReadOnlyField(type, fieldName);
+
+        stored = template.deepCopy();
+        fill(stored, "값", new int[]{0});
+        updates[0] = template.deepCopy();
+        fill(updates[0], "갱신A", new int[]{0});
+        updates[1] = template.deepCopy();
+        fill(updates[1], "갱신B", new int[]{0});
+    }
+
+    @Setup(Level.Iteration)
+    public void resetOwned() {
+        owned = stored.deepCopy();
+    }
+
+    @Benchmark
+    public JsonNode legacyCopy() {
+        JsonNode update = nextUpdate();
+        return switch (mode) {
+            case OVERWRITE -> LegacyJsonMerge.merge(stored, update, false);
+            case PRESERVE_EXISTING -> LegacyJsonMerge.merge(stored, update, true);
+            case IGNORE_NULLS -> LegacyJsonMerge.mergeIgnoringNulls(stored, update);
+        };
+    }
+
+    @Benchmark
+    public JsonNode copyMerge() {
+        JsonNode update = nextUpdate();
+        return switch (mode) {
+            case OVERWRITE -> jsonMergeUtil.merge(stored, update);
+            case PRESERVE_EXISTING -> jsonMergeUtil.mergePreservingExisting(stored, update);
+            case IGNORE_NULLS -> jsonMergeUtil.mergeIgnoringNulls(stored, update);
+        };
+    }
+
+    @Benchmark
+    public boolean inPlace() {
+        return jsonMergeUtil.mergeInPlace(owned, nextUpdate(), mode);
+    }
+
+    private JsonNode nextUpdate() {
+        return updates[invocation++ & 1];
+    }
+
+    /**
+     * 템플릿의 null 값을 채움
+     * - prefix가 "값"이면 모든 값을 채움 (저장된 섹션)
+     * - 그 외에는 세 번째마다 prefix 값으로 바꾸고, 네 번째마다 null로 남기며, 나머지는 저장된 값과 같게 채움 (AI 응답)
+     */
+    private static void fill(JsonNode node, String prefix, int[] counter) {
+        if (!node.isObject()) {
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            if (!entry.getValue().isNull()) {
+                fill(entry.getValue(), prefix, counter);
+                continue;
+            }
+            int index = counter[0]++;
+            if ("값".equals(prefix) || index % 3 != 0) {
+                entry.setValue(index % 4 == 3 && !"값".equals(prefix)
+                        ? NullNode.getInstance()
+                        : TextNode.valueOf("값-" + entry.getKey()));
+            } else {
+                entry.setValue(TextNode.valueOf(prefix + "-" + entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * 변경 전 JsonMergeUtil 구현 (비교 기준)
+     */
+    private static final class LegacyJsonMerge {
+
+        static JsonNode merge(JsonNode existingData, JsonNode updateData, boolean preserveExisting) {
+            return mergeRecursive(existingData.deepCopy(), updateData, preserveExisting);
+        }
+
+        static JsonNode mergeIgnoringNulls(JsonNode existingData, JsonNode updateData) {
+            return mergeRecursiveIgnoringNulls(existingData.deepCopy(), updateData);
+        }
+
+        private static boolean isEmpty(JsonNode node) {
+            if (node == null || node.isNull()) {
+                return true;
+            }
+            if (node.isTextual()) {
+                String text = node.asText();
+                return text == null || text.trim().isEmpty();
+            }
+            return false;
+        }
+
+        private static JsonNode mergeRecursiveIgnoringNulls(JsonNode mainNode, JsonNode updateNode) {
+            if (updateNode.isObject() && mainNode.isObject()) {
+                ObjectNode mainObjectNode = (ObjectNode) mainNode;
+                Iterator<Map.Entry<String, JsonNode>> fields = updateNode.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> entry = fields.next();
+                    String fieldName = entry.getKey();
+                    JsonNode updateValue = entry.getValue();
+                    if (isEmpty(updateValue)) {
+                        continue;
+                    }
+                    if (mainObjectNode.has(fieldName)) {
+                        JsonNode existingValue = mainObjectNode.get(fieldName);
+                        if (existingValue.isObject() && updateValue.isObject()) {
+                            mainObjectNode.set(fieldName, mergeRecursiveIgnoringNulls(existingValue, updateValue));
+                        } else {
+                            mainObjectNode.set(fieldName, updateValue);
+                        }
+                    } else {
+                        mainObjectNode.set(fieldName, updateValue);
+                    }
+                }
+                return mainObjectNode;
+            }
+            return isEmpty(updateNode) ? mainNode : updateNode;
+        }
+
+        private static JsonNode mergeRecursive(JsonNode mainNode, JsonNode updateNode, boolean preserveExisting) {
+            if (updateNode.isObject() && mainNode.isObject()) {
+                ObjectNode mainObjectNode = (ObjectNode) mainNode;
+                Iterator<Map.Entry<String, JsonNode>> fields = updateNode.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> entry = fields.next();
+                    String fieldName = entry.getKey();
+                    JsonNode updateValue = entry.getValue();
+                    if (mainObjectNode.has(fieldName)) {
+                        JsonNode existingValue = mainObjectNode.get(fieldName);
+                        if (preserveExisting) {
+                            if (isEmpty(existingValue)) {
+                                mainObjectNode.set(fieldName, updateValue);
+                            } else if (existingValue.isObject() && updateValue.isObject()) {
+                                mainObjectNode.set(fieldName, mergeRecursive(existingValue, updateValue, true));
+                            }
+                        } else if (existingValue.isObject() && updateValue.isObject()) {
+                            mainObjectNode.set(fieldName, mergeRecursive(existingValue, updateValue, false));
+                        } else {
+                            mainObjectNode.set(fieldName, updateValue);
+                        }
+                    } else {
+                        mainObjectNode.set(fieldName, updateValue);
+                    }
+                }
+                return mainObjectNode;
+            }
+            return preserveExisting ? mainNode : updateNode;
+        }
+    }
+}
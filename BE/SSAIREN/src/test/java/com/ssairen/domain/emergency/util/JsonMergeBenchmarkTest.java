@@ -0,0 +1,45 @@
+package com.ssairen.domain.emergency.util;
+
+import com.ssairen.global.benchmark.JmhBenchmarkRunner;
+import com.ssairen.global.benchmark.JmhBenchmarkRunner.Measurement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 섹션 데이터 병합 JMH 벤치마크 실행
+ * - 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class JsonMergeBenchmarkTest {
+
+    @Test
+    @DisplayName("ASSESSMENT/TREATMENT 병합 3종 - 기존 복사 병합 vs 직접 병합")
+    void compareLegacyCopyAndInPlaceMerge() throws Exception {
+        Map<String, Double> scores = new HashMap<>();
+        Map<String, Double> allocations = new HashMap<>();
+        for (Measurement measurement : JmhBenchmarkRunner.run(JsonMergeBenchmark.class, "섹션 데이터 병합 (1회 호출당)")) {
+            String key = measurement.param("type") + "/" + measurement.param("mode") + "/" + measurement.name();
+            scores.put(key, measurement.score());
+            if (measurement.allocatedBytes() != null) {
+                allocations.put(key, measurement.allocatedBytes());
+            }
+        }
+
+        for (String type : new String[]{"ASSESSMENT", "TREATMENT"}) {
+            for (JsonMergeUtil.MergeMode mode : JsonMergeUtil.MergeMode.values()) {
+                String prefix = type + "/" + mode + "/";
+                assertThat(scores.get(prefix + "inPlace")).as(prefix).isLessThan(scores.get(prefix + "legacyCopy"));
+                if (allocations.containsKey(prefix + "inPlace")) {
+                    assertThat(allocations.get(prefix + "inPlace")).as(prefix)
+                            .isLessThan(allocations.get(prefix + "legacyCopy"));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ssairen.domain.emergency.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("diff - 변경/추가된 값만 포함하고 삭제된 필드는 null로 표시")
+    void diff_changedAddedRemoved() throws Exception {
+        // given
+        JsonNode before = objectMapper.readTree(
+                "{\"patient\": {\"name\": \"홍길동\", \"age\": 30, \"gender\": \"M\"}, \"memo\": \"메모\"}");
+        JsonNode after = objectMapper.readTree(
+                "{\"patient\": {\"name\": \"홍길동\", \"age\": 35}, \"city\": \"서울\"}");
+
+        // when
+        ObjectNode patch = JsonMergePatch.diff(before, after);
+
+        // then
+        assertThat(patch).isEqualTo(objectMapper.readTree(
+                "{\"patient\": {\"age\": 35, \"gender\": null}, \"memo\": null, \"city\": \"서울\"}"));
+    }
+
+    @Test
+    @DisplayName("diff - 변경이 없으면 빈 객체")
+    void diff_noChange() throws Exception {
+        // given
+        JsonNode before = objectMapper.readTree("{\"patient\": {\"name\": \"홍길동\"}, \"tags\": [1, 2]}");
+
+        // when
+        ObjectNode patch = JsonMergePatch.diff(before, before.deepCopy());
+
+        // then
+        assertThat(patch.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("apply - diff 결과를 적용하면 변경 후 문서와 같음")
+    void apply_roundTrip() throws Exception {
+        // given
+        JsonNode before = objectMapper.readTree(
+                "{\"patient\": {\"name\": \"홍길동\", \"age\": 30}, \"items\": [1, 2, 3], \"memo\": \"메모\"}");
+        JsonNode after = objectMapper.readTree(
+                "{\"patient\": {\"name\": \"김철수\"}, \"items\": [1, 2], \"vital\": {\"pulse\": 80}}");
+        ObjectNode patch = JsonMergePatch.diff(before, after);
+
+        // when
+        JsonNode result = JsonMergePatch.apply(before.deepCopy(), patch);
+
+        // then
+        assertThat(result).isEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("apply - 결과 문서는 패치 문서와 노드를 공유하지 않음")
+    void apply_doesNotSharePatchNodes() throws Exception {
+        // given
+        ObjectNode target = (ObjectNode) objectMapper.readTree("{}");
+        JsonNode patch = objectMapper.readTree("{\"items\": [1, 2], \"patient\": {\"name\": \"홍길동\"}}");
+
+        // when
+        JsonNode result = JsonMergePatch.apply(target, patch);
+        ((ObjectNode) result.get("patient")).put("name", "김철수");
+
+        // then
+        assertThat(result.get("items")).isNotSameAs(patch.get("items"));
+        assertThat(patch.get("patient").get("name").asText()).isEqualTo("홍길동");
+    }
+
+    @Test
+    @DisplayName("retained - 기존 값이 우선되어 반영되지 않은 입력은 제외")
+    void retained_excludesDiscardedValues() throws Exception {
+        // given
+        JsonNode update = objectMapper.readTree(
+                "{\"patient\": {\"name\": \"김철수\", \"age\": 35}, \"memo\": null, \"city\": \"서울\"}");
+        JsonNode merged = objectMapper.readTree(
+                "{\"patient\": {\"name\": \"홍길동\", \"age\": 35}, \"city\": \"서울\"}");
+
+        // when
+        ObjectNode patch = JsonMergePatch.retained(update, merged);
+
+        // then
+        assertThat(patch).isEqualTo(objectMapper.readTree("{\"patient\": {\"age\": 35}, \"city\": \"서울\"}"));
+    }
+}
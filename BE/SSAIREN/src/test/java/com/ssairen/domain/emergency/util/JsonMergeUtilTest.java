@@ -2,6 +2,7 @@ package com.ssairen.domain.emergency.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -300,4 +301,81 @@ class JsonMergeUtilTest {
         assertThat(result.get("age").asInt()).isEqualTo(30); // 새 필드 추가
         assertThat(result.get("city").asText()).isEqualTo("서울"); // 새 필드 추가
     }
+
+    @Test
+    @DisplayName("직접 병합 - 대상 트리를 수정하고 변경 여부 반환")
+    void mergeInPlace_modifiesTarget() throws Exception {
+        // given
+        ObjectNode target = (ObjectNode) objectMapper.readTree("{\"user\": {\"name\": \"홍길동\", \"age\": 30}}");
+        JsonNode update = objectMapper.readTree("{\"user\": {\"age\": 35}}");
+
+        // when
+        boolean changed = util.mergeInPlace(target, update, JsonMergeUtil.MergeMode.OVERWRITE);
+
+        // then
+        assertThat(changed).isTrue();
+        assertThat(target.get("user").get("name").asText()).isEqualTo("홍길동");
+        assertThat(target.get("user").get("age").asInt()).isEqualTo(35);
+    }
+
+    @Test
+    @DisplayName("직접 병합 - 모든 모드에서 같은 값이면 변경 없음, 하위 객체도 그대로 유지")
+    void mergeInPlace_unchanged() throws Exception {
+        // given
+        String json = "{\"user\": {\"name\": \"홍길동\", \"tags\": [\"a\", \"b\"]}, \"memo\": \"메모\"}";
+
+        for (JsonMergeUtil.MergeMode mode : JsonMergeUtil.MergeMode.values()) {
+            ObjectNode target = (ObjectNode) objectMapper.readTree(json);
+            JsonNode user = target.get("user");
+            JsonNode update = objectMapper.readTree(json);
+
+            // when
+            boolean changed = util.mergeInPlace(target, update, mode);
+
+            // then
+            assertThat(changed).as(mode.name()).isFalse();
+            assertThat(target.get("user")).as(mode.name()).isSameAs(user);
+            assertThat(target.get("user").get("tags")).as(mode.name()).isNotSameAs(update.get("user").get("tags"));
+        }
+    }
+
+    @Test
+    @DisplayName("직접 병합 - 기존 값 우선 모드는 기존 값이 있으면 변경 없음")
+    void mergeInPlace_preserveExisting() throws Exception {
+        // given
+        ObjectNode filled = (ObjectNode) objectMapper.readTree("{\"name\": \"홍길동\", \"age\": 30}");
+        ObjectNode blank = (ObjectNode) objectMapper.readTree("{\"name\": \" \", \"age\": null}");
+        JsonNode update = objectMapper.readTree("{\"name\": \"김철수\", \"age\": 40}");
+
+        // when
+        boolean filledChanged = util.mergeInPlace(filled, update, JsonMergeUtil.MergeMode.PRESERVE_EXISTING);
+        boolean blankChanged = util.mergeInPlace(blank, update, JsonMergeUtil.MergeMode.PRESERVE_EXISTING);
+
+        // then
+        assertThat(filledChanged).isFalse();
+        assertThat(filled.get("name").asText()).isEqualTo("홍길동");
+        assertThat(blankChanged).isTrue();
+        assertThat(blank.get("name").asText()).isEqualTo("김철수");
+        assertThat(blank.get("age").asInt()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("직접 병합 - null/빈값 무시 모드는 빈 새 값만 있으면 변경 없음")
+    void mergeInPlace_ignoreNulls() throws Exception {
+        // given
+        ObjectNode target = (ObjectNode) objectMapper.readTree("{\"name\": \"홍길동\", \"vital\": {\"hr\": 80}}");
+        JsonNode emptyUpdate = objectMapper.readTree("{\"name\": \"  \", \"vital\": {\"hr\": null}, \"memo\": \"\"}");
+        JsonNode update = objectMapper.readTree("{\"vital\": {\"hr\": 95}}");
+
+        // when
+        boolean emptyChanged = util.mergeInPlace(target, emptyUpdate, JsonMergeUtil.MergeMode.IGNORE_NULLS);
+        boolean changed = util.mergeInPlace(target, update, JsonMergeUtil.MergeMode.IGNORE_NULLS);
+
+        // then
+        assertThat(emptyChanged).isFalse();
+        assertThat(target.has("memo")).isFalse();
+        assertThat(changed).isTrue();
+        assertThat(target.get("name").asText()).isEqualTo("홍길동");
+        assertThat(target.get("vital").get("hr").asInt()).isEqualTo(95);
+    }
 }
@@ -0,0 +1,193 @@
+package com.ssairen.domain.emergency.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonPatchUtilTest {
+
+    private JsonPatchUtil util;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        util = new JsonPatchUtil();
+    }
+
+    @Test
+    @DisplayName("Merge Patch - 변경된 필드만 반영하고 나머지는 유지")
+    void applyMergePatch_shouldUpdateOnlyPatchedFields() throws Exception {
+        // given
+        JsonNode target = objectMapper.readTree(
+                "{\"patient\": {\"name\": null, \"age\": 30}, \"guardian\": {\"name\": \"김철수\"}}");
+        JsonNode patch = objectMapper.readTree("{\"patient\": {\"name\": \"홍길동\"}}");
+
+        // when
+        JsonNode result = util.applyMergePatch(target, patch);
+
+        // then
+        assertThat(result.at("/patient/name").asText()).isEqualTo("홍길동");
+        assertThat(result.at("/patient/age").asInt()).isEqualTo(30);
+        assertThat(result.at("/guardian/name").asText()).isEqualTo("김철수");
+        assertThat(result).isSameAs(target); // 복사 없이 직접 수정
+    }
+
+    @Test
+    @DisplayName("Merge Patch - null 값은 필드 삭제 (RFC 7396)")
+    void applyMergePatch_nullShouldRemoveField() throws Exception {
+        // given
+        JsonNode target = objectMapper.readTree("{\"patient\": {\"name\": \"홍길동\", \"age\": 30}}");
+        JsonNode patch = objectMapper.readTree("{\"patient\": {\"age\": null}}");
+
+        // when
+        JsonNode result = util.applyMergePatch(target, patch);
+
+        // then
+        assertThat(result.get("patient").has("age")).isFalse();
+        assertThat(result.at("/patient/name").asText()).isEqualTo("홍길동");
+    }
+
+    @Test
+    @DisplayName("Merge Patch - 배열은 병합하지 않고 통째로 교체")
+    void applyMergePatch_arrayShouldBeReplaced() throws Exception {
+        // given
+        JsonNode target = objectMapper.readTree("{\"symptoms\": [\"흉통\", \"두통\"]}");
+        JsonNode patch = objectMapper.readTree("{\"symptoms\": [\"복통\"]}");
+
+        // when
+        JsonNode result = util.applyMergePatch(target, patch);
+
+        // then
+        assertThat(result.get("symptoms")).hasSize(1);
+        assertThat(result.get("symptoms").get(0).asText()).isEqualTo("복통");
+    }
+
+    @Test
+    @DisplayName("JSON Patch - add/replace/remove 연산 적용")
+    void applyJsonPatch_addReplaceRemove() throws Exception {
+        // given
+        JsonNode target = objectMapper.readTree(
+                "{\"patient\": {\"name\": null, \"age\": 30}, \"symptoms\": [\"흉통\"]}");
+        JsonNode patch = objectMapper.readTree("""
+                [
+                  {"op": "replace", "path": "/patient/name", "value": "홍길동"},
+                  {"op": "add", "path": "/symptoms/-", "value": "두통"},
+                  {"op": "add", "path": "/symptoms/0", "value": "복통"},
+                  {"op": "remove", "path": "/patient/age"}
+                ]
+                """);
+
+        // when
+        JsonNode result = util.applyJsonPatch(target, patch);
+
+        // then
+        assertThat(result.at("/patient/name").asText()).isEqualTo("홍길동");
+        assertThat(result.get("patient").has("age")).isFalse();
+        assertThat(result.get("symptoms").toString()).isEqualTo("[\"복통\",\"흉통\",\"두통\"]");
+    }
+
+    @Test
+    @DisplayName("JSON Patch - move/copy 연산 적용")
+    void applyJsonPatch_moveAndCopy() throws Exception {
+        // given
+        JsonNode target = objectMapper.readTree("{\"a\": {\"b\": 1}, \"c\": {}}");
+        JsonNode patch = objectMapper.readTree("""
+                [
+                  {"op": "copy", "from": "/a/b", "path": "/c/copied"},
+                  {"op": "move", "from": "/a/b", "path": "/c/moved"}
+                ]
+                """);
+
+        // when
+        JsonNode result = util.applyJsonPatch(target, patch);
+
+        // then
+        assertThat(result.get("a").has("b")).isFalse();
+        assertThat(result.at("/c/copied").asInt()).isEqualTo(1);
+        assertThat(result.at("/c/moved").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JSON Patch - test 연산은 숫자 표현과 무관하게 값으로 비교")
+    void applyJsonPatch_testShouldCompareNumbersByValue() throws Exception {
+        // given
+        JsonNode target = objectMapper.readTree("{\"distanceKm\": 2}");
+        JsonNode patch = objectMapper.readTree("""
+                [
+                  {"op": "test", "path": "/distanceKm", "value": 2.0},
+                  {"op": "replace", "path": "/distanceKm", "value": 3.5}
+                ]
+                """);
+
+        // when
+        JsonNode result = util.applyJsonPatch(target, patch);
+
+        // then
+        assertThat(result.get("distanceKm").asDouble()).isEqualTo(3.5);
+    }
+
+    @Test
+    @DisplayName("JSON Patch - test 연산 실패 시 JSON_PATCH_TEST_FAILED")
+    void applyJsonPatch_testFailure_shouldThrowException() throws Exception {
+        // given
+        JsonNode target = objectMapper.readTree("{\"patient\": {\"name\": \"홍길동\"}}");
+        JsonNode patch = objectMapper.readTree("""
+                [{"op": "test", "path": "/patient/name", "value": "김철수"}]
+                """);
+
+        // when & then
+        assertThatThrownBy(() -> util.applyJsonPatch(target, patch))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.JSON_PATCH_TEST_FAILED);
+    }
+
+    @Test
+    @DisplayName("JSON Patch - 존재하지 않는 경로 / 잘못된 인덱스 / 알 수 없는 연산은 INVALID_JSON_PATCH")
+    void applyJsonPatch_invalidOperations_shouldThrowException() throws Exception {
+        JsonNode target = objectMapper.readTree("{\"patient\": {\"name\": \"홍길동\"}, \"symptoms\": [\"흉통\"]}");
+
+        assertInvalid(target, "[{\"op\": \"replace\", \"path\": \"/patient/age\", \"value\": 30}]");
+        assertInvalid(target, "[{\"op\": \"add\", \"path\": \"/guardian/name\", \"value\": \"김철수\"}]");
+        assertInvalid(target, "[{\"op\": \"remove\", \"path\": \"/symptoms/01\"}]");
+        assertInvalid(target, "[{\"op\": \"add\", \"path\": \"/symptoms/5\", \"value\": \"두통\"}]");
+        assertInvalid(target, "[{\"op\": \"move\", \"from\": \"/patient\", \"path\": \"/patient/inner\"}]");
+        assertInvalid(target, "[{\"op\": \"increment\", \"path\": \"/patient\"}]");
+        assertInvalid(target, "[{\"op\": \"add\", \"path\": \"/patient/name\"}]");
+        assertInvalid(target, "{\"op\": \"add\", \"path\": \"/patient/name\", \"value\": 1}");
+    }
+
+    @Test
+    @DisplayName("JSON Pointer 이스케이프(~0, ~1) 처리")
+    void applyJsonPatch_shouldUnescapePointerTokens() throws Exception {
+        // given
+        JsonNode target = objectMapper.readTree("{\"a/b\": 1, \"m~n\": 2}");
+        JsonNode patch = objectMapper.readTree("""
+                [
+                  {"op": "replace", "path": "/a~1b", "value": 10},
+                  {"op": "replace", "path": "/m~0n", "value": 20}
+                ]
+                """);
+
+        // when
+        JsonNode result = util.applyJsonPatch(target, patch);
+
+        // then
+        assertThat(result.get("a/b").asInt()).isEqualTo(10);
+        assertThat(result.get("m~n").asInt()).isEqualTo(20);
+    }
+
+    private void assertInvalid(JsonNode target, String patchJson) throws Exception {
+        JsonNode patch = objectMapper.readTree(patchJson);
+        assertThatThrownBy(() -> util.applyJsonPatch(target.deepCopy(), patch))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_JSON_PATCH);
+    }
+}
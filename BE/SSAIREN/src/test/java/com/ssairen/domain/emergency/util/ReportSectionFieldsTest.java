@@ -0,0 +1,47 @@
+package com.ssairen.domain.emergency.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportSectionFieldsTest {
+
+    @Test
+    @DisplayName("섹션 필드명 상수 - 모든 섹션 타입의 최상위 필드가 템플릿과 일치")
+    void sectionField_matchesTemplates() {
+        for (ReportSectionType type : ReportSectionType.values()) {
+            // when
+            JsonNode template = ReportSectionTemplate.getTemplate(type);
+
+            // then
+            assertThat(template.size()).as(type.name()).isEqualTo(1);
+            assertThat(template.has(ReportSectionFields.sectionField(type))).as(type.name()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("섹션 필드명 상수 - 하위 필드가 템플릿에 존재")
+    void nestedFields_existInTemplates() {
+        // given
+        JsonNode dispatch = ReportSectionTemplate.getTemplate(ReportSectionType.DISPATCH)
+                .get(ReportSectionFields.DISPATCH);
+        JsonNode incidentType = ReportSectionTemplate.getTemplate(ReportSectionType.INCIDENT_TYPE)
+                .get(ReportSectionFields.INCIDENT_TYPE);
+
+        // then
+        assertThat(dispatch.has(ReportSectionFields.DISPATCH_REPORT_DATETIME)).isTrue();
+        assertThat(dispatch.has(ReportSectionFields.DISPATCH_DEPARTURE_TIME)).isTrue();
+        JsonNode symptoms = dispatch.get(ReportSectionFields.DISPATCH_SYMPTOMS);
+        assertThat(symptoms.has(ReportSectionFields.SYMPTOMS_PAIN)).isTrue();
+        assertThat(symptoms.has(ReportSectionFields.SYMPTOMS_TRAUMA)).isTrue();
+        assertThat(symptoms.has(ReportSectionFields.SYMPTOMS_OTHER_SYMPTOMS)).isTrue();
+        assertThat(incidentType.has(ReportSectionFields.INCIDENT_TYPE_CATEGORY)).isTrue();
+        assertThat(incidentType.has(ReportSectionFields.INCIDENT_TYPE_SUB_CATEGORY_TRAFFIC)).isTrue();
+        assertThat(incidentType.has(ReportSectionFields.INCIDENT_TYPE_SUB_CATEGORY_INJURY)).isTrue();
+        assertThat(incidentType.has(ReportSectionFields.INCIDENT_TYPE_SUB_CATEGORY_NON_TRAUMA)).isTrue();
+        assertThat(incidentType.has(ReportSectionFields.INCIDENT_TYPE_SUB_CATEGORY_OTHER)).isTrue();
+    }
+}
@@ -0,0 +1,53 @@
+package com.ssairen.domain.emergency.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssairen.domain.emergency.enums.ReportSectionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구급일지 생성 시 8개 섹션 템플릿 준비 비용 비교 (JMH)
+ * - parsePerCall: 기존 방식 (호출마다 텍스트 파싱)
+ * - parsePerCallWithCopy: 기존 AI 응답 저장 방식 (파싱 + deepCopy)
+ * - registryCopy: 미리 파싱된 레지스트리 복사 (getTemplate)
+ * 실행은 ReportSectionTemplateBenchmarkTest (./gradlew benchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportSectionTemplateBenchmark {
+
+    private static final ReportSectionType[] TYPES = ReportSectionType.values();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Benchmark
+    public void parsePerCall(Blackhole blackhole) throws Exception {
+        for (ReportSectionType type : TYPES) {
+            blackhole.consume(objectMapper.readTree(ReportSectionTemplate.getTemplateSource(type)));
+        }
+    }
+
+    @Benchmark
+    public void parsePerCallWithCopy(Blackhole blackhole) throws Exception {
+        for (ReportSectionType type : TYPES) {
+            JsonNode template = objectMapper.readTree(ReportSectionTemplate.getTemplateSource(type));
+            blackhole.consume(template.deepCopy());
+        }
+    }
+
+    @Benchmark
+    public void registryCopy(Blackhole blackhole) {
+        for (ReportSectionType type : TYPES) {
+            blackhole.consume(ReportSectionTemplate.getTemplate(type));
+        }
+    }
+}
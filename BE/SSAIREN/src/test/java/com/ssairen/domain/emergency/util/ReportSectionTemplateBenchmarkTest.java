@@ -0,0 +1,37 @@
+package com.ssairen.domain.emergency.util;
+
+import com.ssairen.global.benchmark.JmhBenchmarkRunner;
+import com.ssairen.global.benchmark.JmhBenchmarkRunner.Measurement;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 섹션 템플릿 레지스트리 JMH 벤치마크 실행
+ * - 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+class ReportSectionTemplateBenchmarkTest {
+
+    @Test
+    @DisplayName("섹션 템플릿 8종 준비 - 호출마다 파싱 vs 미리 파싱된 레지스트리")
+    void compareParsePerCallAndRegistry() throws Exception {
+        Map<String, Double> scores = new HashMap<>();
+        for (Measurement measurement : JmhBenchmarkRunner.run(ReportSectionTemplateBenchmark.class,
+                "섹션 템플릿 8종 준비 (1회 호출당)")) {
+            scores.put(measurement.name(), measurement.score());
+        }
+        log.info("[Benchmark]   속도 향상 (parsePerCall / registryCopy) : {}배",
+                String.format("%.2f", scores.get("parsePerCall") / scores.get("registryCopy")));
+
+        assertThat(scores.get("registryCopy")).isLessThan(scores.get("parsePerCall"));
+        assertThat(scores.get("registryInstantiateWith")).isLessThan(scores.get("parsePerCallWithCopy"));
+    }
+}
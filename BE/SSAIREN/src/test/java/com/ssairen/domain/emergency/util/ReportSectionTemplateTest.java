@@ -1,14 +1,18 @@
 package com.ssairen.domain.emergency.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.ssairen.domain.emergency.entity.Dispatch;
 import com.ssairen.domain.emergency.enums.ReportSectionType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -250,4 +254,93 @@ class ReportSectionTemplateTest {
             assertThat(rootNode.get("updatedAt").isNull()).isTrue();
         }
     }
+
+    @Test
+    @DisplayName("레지스트리 원본 보호 - 반환된 템플릿을 수정해도 다음 호출에 영향 없음")
+    void getTemplate_mutationShouldNotLeakIntoRegistry() {
+        // given
+        ObjectNode template = (ObjectNode) ReportSectionTemplate.getTemplate(ReportSectionType.PATIENT_INFO);
+
+        // when
+        ((ObjectNode) template.get("patientInfo").get("patient")).put("name", "홍길동");
+        template.remove("patientInfo");
+
+        // then
+        JsonNode fresh = ReportSectionTemplate.getTemplate(ReportSectionType.PATIENT_INFO);
+        assertThat(fresh.at("/patientInfo/patient/name").isNull()).isTrue();
+        assertThat(ReportSectionTemplate.getReadOnlyField(ReportSectionType.PATIENT_INFO, "patientInfo")
+                .at("/patient/name").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("레지스트리 원본 보호 - 희소 형식 저장/복원 후에도 모든 타입의 템플릿이 원문과 동일")
+    void compactAndHydrate_shouldLeaveRegistryUnchanged() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (ReportSectionType type : ReportSectionType.values()) {
+            // given
+            ObjectNode data = (ObjectNode) ReportSectionTemplate.getTemplate(type);
+            String rootKey = data.fieldNames().next();
+            ((ObjectNode) data.get(rootKey)).put("createdAt", "2025-01-15T10:00:00");
+
+            // when
+            ReportSectionDocument.compact(type, data);
+            int schemaVersion = ReportSectionTemplate.getSchemaVersion(type);
+            ReportSectionDocument.compactField(type, schemaVersion, rootKey, (ObjectNode) ReportSectionTemplate.getTemplate(type).get(rootKey));
+            ObjectNode hydrated = ReportSectionDocument.hydrate(type, schemaVersion, data);
+            ((ObjectNode) hydrated.get(rootKey)).put("updatedAt", "2025-01-15T11:00:00");
+
+            // then
+            JsonNode original = objectMapper.readTree(ReportSectionTemplate.getTemplateSource(type));
+            assertThat(ReportSectionTemplate.getReadOnlyTemplate(type)).isEqualTo(original);
+            assertThat(ReportSectionTemplate.getReadOnlyField(type, rootKey)).isEqualTo(original.get(rootKey));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 섹션 타입에 템플릿 스키마 버전 존재")
+    void getSchemaVersion_allTypes() {
+        for (ReportSectionType type : ReportSectionType.values()) {
+            assertThat(ReportSectionTemplate.getSchemaVersion(type)).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("스키마 버전별 템플릿 - 현재 버전은 현재 템플릿, 등록되지 않은 버전은 예외")
+    void getReadOnlyTemplate_bySchemaVersion() {
+        for (ReportSectionType type : ReportSectionType.values()) {
+            int current = ReportSectionTemplate.getSchemaVersion(type);
+
+            assertThat(ReportSectionTemplate.getReadOnlyTemplate(type, current))
+                    .isSameAs(ReportSectionTemplate.getReadOnlyTemplate(type));
+            assertThatThrownBy(() -> ReportSectionTemplate.getReadOnlyTemplate(type, current + 1))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("스키마 버전별 복원 - 등록되지 않은 스키마 버전의 행은 현재 템플릿으로 복원하지 않음")
+    void hydrate_unknownSchemaVersion_shouldFail() {
+        // given
+        ReportSectionType type = ReportSectionType.PATIENT_INFO;
+        int futureVersion = ReportSectionTemplate.getSchemaVersion(type) + 1;
+        ObjectNode stored = new ObjectMapper().createObjectNode();
+
+        // when & then
+        assertThatThrownBy(() -> ReportSectionDocument.hydrate(type, futureVersion, stored))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ReportSectionDocument.compact(type, futureVersion, stored))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("이전 스키마 버전 템플릿 등록 - 현재 버전 이상이거나 1 미만인 버전은 실패")
+    void buildPreviousRegistry_invalidSources() {
+        ReportSectionType type = ReportSectionType.PATIENT_INFO;
+        int current = ReportSectionTemplate.getSchemaVersion(type);
+
+        assertThatThrownBy(() -> ReportSectionTemplate.buildPreviousRegistry(Map.of(type, Map.of(current, "{}"))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ReportSectionTemplate.buildPreviousRegistry(Map.of(type, Map.of(0, "{}"))))
+                .isInstanceOf(IllegalStateException.class);
+    }
 }
@@ -0,0 +1,218 @@
+package com.ssairen.domain.file.service;
+
+import com.ssairen.domain.ai.service.SttService;
+import com.ssairen.domain.file.dto.FileUploadResponse;
+import com.ssairen.domain.file.dto.SttResponse;
+import com.ssairen.domain.file.dto.SttStreamEvent;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 오디오 업로드 + STT 테스트용 MinIO / AI 서버 대역
+ * - 지정한 속도로 스트림을 끝까지 읽으며 내용 해시와 시작/종료 시각을 기록
+ * - 기능 테스트(AudioUploadWithSttServiceTest)와 벤치마크(AudioUploadWithSttBenchmarkTest)에서 함께 사용
+ */
+final class AudioUploadStandIns {
+
+    static final int MB = 1024 * 1024;
+    static final long UNTHROTTLED = Long.MAX_VALUE;
+
+    private AudioUploadStandIns() {
+    }
+
+    /**
+     * 16kHz 16bit 모노 PCM WAV 파일 생성 (440Hz 사인파)
+     */
+    static byte[] createWav(int totalBytes) {
+        int dataBytes = totalBytes - 44;
+        ByteBuffer buffer = ByteBuffer.allocate(totalBytes).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(totalBytes - 8).put("WAVE".getBytes());
+        buffer.put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) 1)
+                .putInt(16000).putInt(16000 * 2).putShort((short) 2).putShort((short) 16);
+        buffer.put("data".getBytes()).putInt(dataBytes);
+        for (int sample = 0; sample < dataBytes / 2; sample++) {
+            buffer.putShort((short) (Math.sin(2 * Math.PI * 440 * sample / 16000.0) * 8000));
+        }
+        return buffer.array();
+    }
+
+    static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    /**
+     * getInputStream 호출 수를 세는 업로드 파일
+     */
+    static class CountingMultipartFile extends MockMultipartFile {
+
+        final AtomicInteger inputStreamCount = new AtomicInteger();
+
+        CountingMultipartFile(String fileName, byte[] content) {
+            super("file", fileName, "audio/wav", content);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            inputStreamCount.incrementAndGet();
+            return super.getInputStream();
+        }
+    }
+
+    /**
+     * 지정한 속도로 스트림을 끝까지 읽으며 내용 해시를 계산하는 소비자
+     * failAfterBytes만큼 읽으면 failure 오류 코드로 실패
+     */
+    static class ThrottledConsumer {
+
+        private final long bytesPerSecond;
+        private final long failAfterBytes;
+        private final ErrorCode failure;
+        final CountDownLatch finished = new CountDownLatch(1);
+        volatile long startedAt;
+        volatile long finishedAt;
+        volatile String digest;
+        volatile long totalBytes;
+
+        ThrottledConsumer(long bytesPerSecond, long failAfterBytes, ErrorCode failure) {
+            this.bytesPerSecond = bytesPerSecond;
+            this.failAfterBytes = failAfterBytes;
+            this.failure = failure;
+        }
+
+        void consume(InputStream content) {
+            startedAt = System.nanoTime();
+            try (InputStream in = content) {
+                MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    messageDigest.update(buffer, 0, read);
+                    totalBytes += read;
+                    if (totalBytes >= failAfterBytes) {
+                        throw new CustomException(failure);
+                    }
+                    if (bytesPerSecond != UNTHROTTLED) {
+                        long expectedNanos = totalBytes * 1_000_000_000L / bytesPerSecond;
+                        long aheadNanos = expectedNanos - (System.nanoTime() - startedAt);
+                        if (aheadNanos > 0) {
+                            LockSupport.parkNanos(aheadNanos);
+                        }
+                    }
+                }
+                digest = HexFormat.of().formatHex(messageDigest.digest());
+            } catch (CustomException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            } finally {
+                finishedAt = System.nanoTime();
+                finished.countDown();
+            }
+        }
+
+        long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(finishedAt - startedAt);
+        }
+    }
+
+    /**
+     * MinIO 대역 (오디오 업로드만 지원)
+     */
+    static class StandInMinioService implements MinioService {
+
+        private final long bytesPerSecond;
+        volatile long failAfterBytes = Long.MAX_VALUE;
+        volatile ThrottledConsumer consumer;
+
+        StandInMinioService(long bytesPerSecond) {
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        @Override
+        public FileUploadResponse uploadAudioFile(MultipartFile file, InputStream content) {
+            consumer = new ThrottledConsumer(bytesPerSecond, failAfterBytes, ErrorCode.FILE_UPLOAD_FAILED);
+            consumer.consume(content);
+            return FileUploadResponse.builder()
+                    .fileName("stored-" + file.getOriginalFilename())
+                    .originalFileName(file.getOriginalFilename())
+                    .fileSize(file.getSize())
+                    .contentType(file.getContentType())
+                    .build();
+        }
+
+        @Override
+        public void validateAudioFile(MultipartFile file) {
+            if (file.isEmpty()) {
+                throw new CustomException(ErrorCode.EMPTY_FILE);
+            }
+        }
+
+        @Override
+        public FileUploadResponse uploadAudioFile(MultipartFile file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FileUploadResponse uploadVideoFile(MultipartFile file) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteFile(String fileName, String bucketName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getFileUrl(String fileName, String bucketName) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * AI 서버 STT 대역 (스트림 변환만 지원)
+     */
+    static class StandInSttService implements SttService {
+
+        private final long bytesPerSecond;
+        volatile long failAfterBytes = Long.MAX_VALUE;
+        volatile ThrottledConsumer consumer;
+
+        StandInSttService(long bytesPerSecond) {
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        @Override
+        public SttResponse convertSpeechToText(InputStream audio, String fileName, String contentType, String language) {
+            consumer = new ThrottledConsumer(bytesPerSecond, failAfterBytes, ErrorCode.STT_PROCESSING_FAILED);
+            consumer.consume(audio);
+            return SttResponse.builder()
+                    .text(fileName + ":" + consumer.totalBytes)
+                    .language(language)
+                    .build();
+        }
+
+        @Override
+        public SttResponse convertSpeechToText(MultipartFile file, String language) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Flux<SttStreamEvent> streamSpeechToText(MultipartFile file, String language) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ssairen.domain.file.service;
+
+import com.ssairen.domain.file.service.AudioUploadStandIns.CountingMultipartFile;
+import com.ssairen.domain.file.service.AudioUploadStandIns.StandInMinioService;
+import com.ssairen.domain.file.service.AudioUploadStandIns.StandInSttService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.ssairen.domain.file.service.AudioUploadStandIns.MB;
+import static com.ssairen.domain.file.service.AudioUploadStandIns.createWav;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오디오 업로드 + STT 동시 처리 벤치마크
+ * - MinIO(60MB/s)와 AI 서버 STT(40MB/s) 속도를 흉내 낸 대역으로 큰 WAV 파일을 처리
+ * - 전체 소요 시간과, 두 처리를 차례로 했을 때의 시간(MinIO 시간 + STT 시간)을 비교
+ * - 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+class AudioUploadWithSttBenchmarkTest {
+
+    private static final long UPLOAD_BYTES_PER_SECOND = 60L * MB;
+    private static final long STT_BYTES_PER_SECOND = 40L * MB;
+
+    @ParameterizedTest(name = "{0}MB WAV")
+    @ValueSource(ints = {24, 48})
+    @DisplayName("오디오 업로드 + STT 벤치마크 - 동시 처리 시간과 순차 처리 시간 비교")
+    void uploadAndTranscribe_largeWav(int sizeMb) {
+        // given
+        StandInMinioService minioService = new StandInMinioService(UPLOAD_BYTES_PER_SECOND);
+        StandInSttService sttService = new StandInSttService(STT_BYTES_PER_SECOND);
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("audio-upload-benchmark-");
+        executor.setVirtualThreads(true);
+        AudioUploadWithSttService service = new AudioUploadWithSttService(minioService, sttService, executor, 32);
+        CountingMultipartFile file = new CountingMultipartFile("call.wav", createWav(sizeMb * MB));
+
+        // when
+        long startTime = System.nanoTime();
+        service.uploadAndTranscribe(file, "ko");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        // then
+        long uploadMillis = minioService.consumer.elapsedMillis();
+        long sttMillis = sttService.consumer.elapsedMillis();
+        log.info("[{}MB WAV] 전체: {}ms, MinIO: {}ms, STT: {}ms (순차 처리 시 {}ms 이상)",
+                sizeMb, elapsedMillis, uploadMillis, sttMillis, uploadMillis + sttMillis);
+        assertThat(elapsedMillis).isLessThan(uploadMillis + sttMillis);
+    }
+}
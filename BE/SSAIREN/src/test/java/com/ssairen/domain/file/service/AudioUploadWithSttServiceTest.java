@@ -0,0 +1,120 @@
+package com.ssairen.domain.file.service;
+
+import com.ssairen.domain.file.dto.AudioUploadWithSttResponse;
+import com.ssairen.domain.file.service.AudioUploadStandIns.CountingMultipartFile;
+import com.ssairen.domain.file.service.AudioUploadStandIns.StandInMinioService;
+import com.ssairen.domain.file.service.AudioUploadStandIns.StandInSttService;
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.ssairen.domain.file.service.AudioUploadStandIns.MB;
+import static com.ssairen.domain.file.service.AudioUploadStandIns.UNTHROTTLED;
+import static com.ssairen.domain.file.service.AudioUploadStandIns.createWav;
+import static com.ssairen.domain.file.service.AudioUploadStandIns.sha256;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 오디오 업로드 + STT 동시 처리 테스트
+ * - MinIO / AI 서버 대신 스트림을 읽는 로컬 대역을 사용
+ * - 파일을 한 번만 읽어 두 대역이 같은 내용을 받는지, 한쪽이 실패했을 때 다른 쪽이 어떻게 끝나는지 확인
+ * - 버퍼(2MB)보다 큰 파일을 쓰므로 한쪽이 다 읽기 전에 다른 쪽이 시작되어야 함 (소요 시간 비교는 AudioUploadWithSttBenchmarkTest)
+ */
+class AudioUploadWithSttServiceTest {
+
+    private static final int BUFFER_CHUNKS = 32;
+
+    private StandInMinioService minioService;
+    private StandInSttService sttService;
+
+    private AudioUploadWithSttService createService(long uploadBytesPerSecond, long sttBytesPerSecond) {
+        minioService = new StandInMinioService(uploadBytesPerSecond);
+        sttService = new StandInSttService(sttBytesPerSecond);
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("audio-upload-test-");
+        executor.setVirtualThreads(true);
+        return new AudioUploadWithSttService(minioService, sttService, executor, BUFFER_CHUNKS);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("오디오 업로드 + STT - 파일을 한 번 읽어 MinIO와 STT에 같은 내용을 동시에 전달")
+    void uploadAndTranscribe_success() throws Exception {
+        // given
+        AudioUploadWithSttService service = createService(UNTHROTTLED, UNTHROTTLED);
+        CountingMultipartFile file = new CountingMultipartFile("call.wav", createWav(4 * MB));
+        String expectedDigest = sha256(file.getBytes());
+
+        // when
+        AudioUploadWithSttResponse response = service.uploadAndTranscribe(file, "ko");
+
+        // then
+        assertThat(file.inputStreamCount.get()).isEqualTo(1);
+        assertThat(minioService.consumer.digest).isEqualTo(expectedDigest);
+        assertThat(sttService.consumer.digest).isEqualTo(expectedDigest);
+        assertThat(response.getFileInfo().getFileSize()).isEqualTo(file.getSize());
+        assertThat(response.getSttResult().getText()).isEqualTo("call.wav:" + file.getSize());
+
+        // 한쪽이 끝나기 전에 다른 쪽이 시작됨
+        assertThat(minioService.consumer.startedAt).isLessThan(sttService.consumer.finishedAt);
+        assertThat(sttService.consumer.startedAt).isLessThan(minioService.consumer.finishedAt);
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("오디오 업로드 + STT - STT가 중간에 실패해도 업로드는 끝까지 진행되고 STT 예외를 반환")
+    void uploadAndTranscribe_sttFailedMidway() throws Exception {
+        // given
+        AudioUploadWithSttService service = createService(UNTHROTTLED, UNTHROTTLED);
+        CountingMultipartFile file = new CountingMultipartFile("call.wav", createWav(4 * MB));
+        sttService.failAfterBytes = MB;
+
+        // when & then
+        assertThatThrownBy(() -> service.uploadAndTranscribe(file, "ko"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STT_PROCESSING_FAILED);
+        assertThat(minioService.consumer.digest).isEqualTo(sha256(file.getBytes()));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("오디오 업로드 + STT - MinIO 업로드가 중간에 실패하면 STT를 중단하고 업로드 예외를 반환")
+    void uploadAndTranscribe_uploadFailedMidway() throws Exception {
+        // given
+        // STT를 느리게 두어, 업로드 실패 시점에 STT가 아직 파일을 다 받지 못한 상태가 되도록 함
+        AudioUploadWithSttService service = createService(UNTHROTTLED, 8L * MB);
+        CountingMultipartFile file = new CountingMultipartFile("call.wav", createWav(8 * MB));
+        // 버퍼(2MB)보다 많이 읽은 뒤 실패하므로 STT는 이미 시작된 상태
+        minioService.failAfterBytes = 4L * MB;
+
+        // when & then
+        assertThatThrownBy(() -> service.uploadAndTranscribe(file, "ko"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_UPLOAD_FAILED);
+        assertThat(sttService.consumer.finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sttService.consumer.digest).isNull();
+        assertThat(sttService.consumer.totalBytes).isLessThan(file.getSize());
+    }
+
+    @Test
+    @DisplayName("오디오 업로드 + STT - 검증에 실패하면 업로드와 STT를 시작하지 않음")
+    void uploadAndTranscribe_invalidFile() {
+        // given
+        AudioUploadWithSttService service = createService(UNTHROTTLED, UNTHROTTLED);
+        CountingMultipartFile file = new CountingMultipartFile("call.wav", new byte[0]);
+
+        // when & then
+        assertThatThrownBy(() -> service.uploadAndTranscribe(file, "ko"))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMPTY_FILE);
+        assertThat(file.inputStreamCount.get()).isZero();
+        assertThat(minioService.consumer).isNull();
+        assertThat(sttService.consumer).isNull();
+    }
+}
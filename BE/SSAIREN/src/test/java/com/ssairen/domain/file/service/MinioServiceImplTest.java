@@ -18,6 +18,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -68,6 +72,37 @@ class MinioServiceImplTest {
         verify(minioClient).putObject(any(PutObjectArgs.class));
     }
 
+    @Test
+    @DisplayName("오디오 파일 업로드 - 전달받은 스트림에서 내용을 읽음")
+    void uploadAudioFile_withContentStream() throws Exception {
+        // given
+        MockMultipartFile audioFile = new MockMultipartFile(
+                "file",
+                "test-audio.wav",
+                "audio/wav",
+                "test audio content".getBytes()
+        );
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream content = new ByteArrayInputStream("test audio content".getBytes()) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class)))
+                .thenReturn("http://minio-url/audio-bucket/file.wav");
+
+        // when
+        FileUploadResponse response = service.uploadAudioFile(audioFile, content);
+
+        // then
+        assertThat(response.getFileSize()).isEqualTo(audioFile.getSize());
+        assertThat(response.getBucketName()).isEqualTo("audio-bucket");
+        verify(minioClient).putObject(any(PutObjectArgs.class));
+        assertThat(closed).isTrue();
+    }
+
     @Test
     @DisplayName("영상 파일 업로드 - 성공")
     void uploadVideoFile_success() throws Exception {
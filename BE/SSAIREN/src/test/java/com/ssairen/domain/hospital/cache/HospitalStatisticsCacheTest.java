@@ -0,0 +1,163 @@
+package com.ssairen.domain.hospital.cache;
+
+import com.ssairen.domain.hospital.enums.StatisticsEndpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HospitalStatisticsCacheTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate JAN_31 = LocalDate.of(2025, 1, 31);
+    private static final LocalDate FEB_1 = LocalDate.of(2025, 2, 1);
+    private static final LocalDate FEB_28 = LocalDate.of(2025, 2, 28);
+
+    private SimpleMeterRegistry meterRegistry;
+    private HospitalStatisticsCache cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new HospitalStatisticsCache(
+                new CaffeineStatisticsCacheStore(Duration.ofMinutes(10), 1_000), meterRegistry);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("동일 키 반복 조회 - 두 번째부터 캐시 적중, 히트/미스 메트릭 기록")
+    void get_sameKey_shouldHitCache() {
+        // when
+        String first = load(1, StatisticsEndpoint.TIME, JAN_1, JAN_31);
+        String second = load(1, StatisticsEndpoint.TIME, JAN_1, JAN_31);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(loadCount).hasValue(1);
+        assertThat(requests("time", "hit")).isEqualTo(1.0);
+        assertThat(requests("time", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("키 구성 요소(병원, API, 기간)가 다르면 별도 캐시")
+    void get_differentKeys_shouldLoadSeparately() {
+        // when
+        load(1, StatisticsEndpoint.TIME, JAN_1, JAN_31);
+        load(2, StatisticsEndpoint.TIME, JAN_1, JAN_31);
+        load(1, StatisticsEndpoint.PATIENT, JAN_1, JAN_31);
+        load(1, StatisticsEndpoint.TIME, FEB_1, FEB_28);
+
+        // then
+        assertThat(loadCount).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("무효화 - 해당 병원의 해당 날짜를 포함하는 기간만 삭제")
+    void invalidate_shouldEvictOnlyCoveringEntries() {
+        // given
+        load(1, StatisticsEndpoint.TIME, JAN_1, JAN_31);
+        load(1, StatisticsEndpoint.OVERVIEW, JAN_1, FEB_28);
+        load(1, StatisticsEndpoint.TIME, FEB_1, FEB_28);
+        load(2, StatisticsEndpoint.TIME, JAN_1, JAN_31);
+        loadCount.set(0);
+
+        // when (1번 병원 1월 15일 수용)
+        cache.invalidate(1, LocalDate.of(2025, 1, 15));
+
+        // then
+        load(1, StatisticsEndpoint.TIME, JAN_1, JAN_31);     // 재계산
+        load(1, StatisticsEndpoint.OVERVIEW, JAN_1, FEB_28); // 재계산
+        load(1, StatisticsEndpoint.TIME, FEB_1, FEB_28);     // 유지
+        load(2, StatisticsEndpoint.TIME, JAN_1, JAN_31);     // 유지
+        assertThat(loadCount).hasValue(2);
+        assertThat(meterRegistry.get("hospital.statistics.cache.evictions").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("loader 예외는 캐시하지 않음")
+    void get_loaderThrows_shouldNotCache() {
+        // given
+        try {
+            cache.get(1, StatisticsEndpoint.TIME, JAN_1, JAN_31, String.class, () -> {
+                throw new IllegalStateException("병원 없음");
+            });
+        } catch (IllegalStateException ignored) {
+        }
+
+        // when
+        load(1, StatisticsEndpoint.TIME, JAN_1, JAN_31);
+
+        // then
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("계산 중 무효화 - 커밋 전 집계로 계산했을 수 있으므로 캐시에 저장하지 않음")
+    void get_invalidatedWhileLoading_shouldNotCache() {
+        // given (계산 도중 커밋 후 무효화가 실행됨)
+        String stale = cache.get(1, StatisticsEndpoint.TIME, JAN_1, JAN_31, String.class, () -> {
+            cache.invalidate(1, LocalDate.of(2025, 1, 15));
+            return "stale-" + loadCount.incrementAndGet();
+        });
+
+        // when
+        String reloaded = load(1, StatisticsEndpoint.TIME, JAN_1, JAN_31);
+
+        // then
+        assertThat(stale).isEqualTo("stale-1");
+        assertThat(reloaded).isEqualTo("stats-1-2");
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("계산 중 다른 병원 무효화 - 해당 병원 캐시는 그대로 저장")
+    void get_otherHospitalInvalidatedWhileLoading_shouldCache() {
+        // given
+        cache.get(1, StatisticsEndpoint.TIME, JAN_1, JAN_31, String.class, () -> {
+            cache.invalidate(2, LocalDate.of(2025, 1, 15));
+            return "stats-1-" + loadCount.incrementAndGet();
+        });
+
+        // when
+        load(1, StatisticsEndpoint.TIME, JAN_1, JAN_31);
+
+        // then
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("계산 중 전체 무효화 - 캐시에 저장하지 않음")
+    void get_invalidatedAllWhileLoading_shouldNotCache() {
+        // given
+        cache.get(1, StatisticsEndpoint.TIME, JAN_1, JAN_31, String.class, () -> {
+            cache.invalidateAll();
+            return "stale-" + loadCount.incrementAndGet();
+        });
+
+        // when
+        load(1, StatisticsEndpoint.TIME, JAN_1, JAN_31);
+
+        // then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private String load(Integer hospitalId, StatisticsEndpoint endpoint, LocalDate startDate, LocalDate endDate) {
+        return cache.get(hospitalId, endpoint, startDate, endDate, String.class,
+                () -> "stats-" + hospitalId + "-" + loadCount.incrementAndGet());
+    }
+
+    private double requests(String endpoint, String result) {
+        return meterRegistry.get("hospital.statistics.cache.requests")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ssairen.domain.hospital.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 병원 통계 캐시 저장소 테스트
+ * - 무효화는 커밋 후 리스너에서 실행되므로 Redis 장애가 예외로 전파되지 않아야 함
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisStatisticsCacheStoreTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisStatisticsCacheStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RedisStatisticsCacheStore(redisTemplate, new ObjectMapper(), Duration.ofMinutes(10));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 날짜 범위 무효화는 예외 없이 0 반환")
+    void evictCovering_redisDown_shouldNotThrow() {
+        // given
+        when(valueOperations.increment(anyString()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        int evicted = store.evictCovering(1, LocalDate.of(2025, 1, 15));
+
+        // then
+        assertThat(evicted).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 전체 무효화는 예외 없이 종료")
+    void clear_redisDown_shouldNotThrow() {
+        // given
+        when(valueOperations.increment(anyString()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when & then
+        assertThatCode(() -> store.clear()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 세대 조회는 알 수 없는 세대로 처리")
+    void generation_redisDown_shouldReturnUnknown() {
+        // given
+        when(valueOperations.multiGet(anyList()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        long generation = store.generation(1);
+
+        // then
+        assertThat(generation).isEqualTo(-1L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.ssairen.domain.hospital.event;
+
+import com.ssairen.domain.hospital.dto.HospitalCompletedMessage;
+import com.ssairen.domain.hospital.dto.HospitalRequestMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalNotificationListenerTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private HospitalNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new HospitalNotificationListener(messagingTemplate, new SyncTaskExecutor());
+    }
+
+    @Test
+    @DisplayName("병원별 토픽으로 알림 전송")
+    void onHospitalNotification_shouldSendToEachHospitalTopic() {
+        // given
+        HospitalRequestMessage requestMessage = HospitalRequestMessage.of(10, 1L, 3, null);
+        HospitalCompletedMessage completedMessage = HospitalCompletedMessage.of(11, 1L);
+        HospitalNotificationEvent event = new HospitalNotificationEvent(1L, List.of(
+                new HospitalNotificationEvent.Notification(100, 10, requestMessage),
+                new HospitalNotificationEvent.Notification(200, 11, completedMessage)
+        ));
+
+        // when
+        listener.onHospitalNotification(event);
+
+        // then
+        verify(messagingTemplate).convertAndSend("/topic/hospital.100", (Object) requestMessage);
+        verify(messagingTemplate).convertAndSend("/topic/hospital.200", (Object) completedMessage);
+    }
+
+    @Test
+    @DisplayName("한 병원 전송 실패가 다른 병원 전송을 막지 않음")
+    void onHospitalNotification_failureShouldNotStopOthers() {
+        // given
+        HospitalNotificationEvent event = new HospitalNotificationEvent(1L, List.of(
+                new HospitalNotificationEvent.Notification(100, 10, "first"),
+                new HospitalNotificationEvent.Notification(200, 11, "second")
+        ));
+        doThrow(new MessagingException("broker down"))
+                .when(messagingTemplate).convertAndSend(eq("/topic/hospital.100"), any(Object.class));
+
+        // when & then
+        assertThatCode(() -> listener.onHospitalNotification(event)).doesNotThrowAnyException();
+        verify(messagingTemplate).convertAndSend("/topic/hospital.200", (Object) "second");
+    }
+}
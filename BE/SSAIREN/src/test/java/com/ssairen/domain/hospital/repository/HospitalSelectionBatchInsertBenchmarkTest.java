@@ -0,0 +1,185 @@
+package com.ssairen.domain.hospital.repository;
+
+import com.ssairen.domain.emergency.entity.Dispatch;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.repository.DispatchRepository;
+import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.firestation.entity.FireState;
+import com.ssairen.domain.firestation.entity.Paramedic;
+import com.ssairen.domain.firestation.repository.FireStateRepository;
+import com.ssairen.domain.firestation.repository.ParamedicRepository;
+import com.ssairen.domain.hospital.entity.Hospital;
+import com.ssairen.domain.hospital.entity.HospitalSelection;
+import com.ssairen.domain.hospital.enums.HospitalSelectionStatus;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다수 병원 이송 요청 저장 벤치마크
+ * - 건별 저장(saveAndFlush, IDENTITY 방식과 동일하게 행마다 INSERT 왕복)과
+ *   일괄 저장(saveAllAndFlush, 시퀀스 ID + JDBC 배치)의 지연 시간과 실행 SQL 수를 비교
+ * - 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class HospitalSelectionBatchInsertBenchmarkTest {
+
+    private static final int HOSPITAL_COUNT = 20;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+
+    @Autowired
+    private HospitalSelectionRepository hospitalSelectionRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private EmergencyReportRepository emergencyReportRepository;
+
+    @Autowired
+    private DispatchRepository dispatchRepository;
+
+    @Autowired
+    private ParamedicRepository paramedicRepository;
+
+    @Autowired
+    private FireStateRepository fireStateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Hospital> hospitals;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        hospitals = new ArrayList<>();
+        for (int i = 0; i < HOSPITAL_COUNT; i++) {
+            hospitals.add(hospitalRepository.save(Hospital.builder()
+                    .name("벤치마크병원" + i + "-" + System.nanoTime())
+                    .officialName("벤치마크의료원" + i)
+                    .password("password")
+                    .latitude(new BigDecimal("37.5665"))
+                    .longitude(new BigDecimal("126.9780"))
+                    .build()));
+        }
+        entityManager.flush();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("병원 20곳 이송 요청 저장 - 건별 저장 vs 일괄 배치 저장")
+    void compareRowByRowAndBatchInsert() {
+        // warm up
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            insertRowByRow(createTestEmergencyReport());
+            insertBatch(createTestEmergencyReport());
+        }
+
+        long rowByRowNanos = 0;
+        long batchNanos = 0;
+        long rowByRowStatements = 0;
+        long batchStatements = 0;
+
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            EmergencyReport rowByRowReport = createTestEmergencyReport();
+            statistics.clear();
+            long start = System.nanoTime();
+            insertRowByRow(rowByRowReport);
+            rowByRowNanos += System.nanoTime() - start;
+            rowByRowStatements += statistics.getPrepareStatementCount();
+
+            EmergencyReport batchReport = createTestEmergencyReport();
+            statistics.clear();
+            start = System.nanoTime();
+            insertBatch(batchReport);
+            batchNanos += System.nanoTime() - start;
+            batchStatements += statistics.getPrepareStatementCount();
+        }
+
+        double rowByRowMillis = rowByRowNanos / 1_000_000.0 / MEASURE_ROUNDS;
+        double batchMillis = batchNanos / 1_000_000.0 / MEASURE_ROUNDS;
+
+        log.info("[Benchmark] 병원 {}곳 이송 요청 저장 ({}회 평균)", HOSPITAL_COUNT, MEASURE_ROUNDS);
+        log.info("[Benchmark]   건별 저장  : {} ms, SQL {}개", String.format("%.3f", rowByRowMillis),
+                rowByRowStatements / MEASURE_ROUNDS);
+        log.info("[Benchmark]   일괄 저장  : {} ms, SQL {}개", String.format("%.3f", batchMillis),
+                batchStatements / MEASURE_ROUNDS);
+        log.info("[Benchmark]   속도 향상  : {}배", String.format("%.2f", rowByRowMillis / batchMillis));
+
+        // 일괄 저장은 INSERT 1회 (+ 시퀀스 할당) 수준이어야 함
+        assertThat(batchStatements / MEASURE_ROUNDS).isLessThanOrEqualTo(2);
+        assertThat(batchStatements).isLessThan(rowByRowStatements);
+    }
+
+    private void insertRowByRow(EmergencyReport emergencyReport) {
+        for (Hospital hospital : hospitals) {
+            hospitalSelectionRepository.saveAndFlush(pendingSelection(emergencyReport, hospital));
+        }
+        entityManager.clear();
+    }
+
+    private void insertBatch(EmergencyReport emergencyReport) {
+        List<HospitalSelection> selections = new ArrayList<>(hospitals.size());
+        for (Hospital hospital : hospitals) {
+            selections.add(pendingSelection(emergencyReport, hospital));
+        }
+        hospitalSelectionRepository.saveAllAndFlush(selections);
+        entityManager.clear();
+    }
+
+    private HospitalSelection pendingSelection(EmergencyReport emergencyReport, Hospital hospital) {
+        return HospitalSelection.builder()
+                .emergencyReport(entityManager.getReference(EmergencyReport.class, emergencyReport.getId()))
+                .hospital(entityManager.getReference(Hospital.class, hospital.getId()))
+                .status(HospitalSelectionStatus.PENDING)
+                .build();
+    }
+
+    private EmergencyReport createTestEmergencyReport() {
+        FireState fireState = fireStateRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 소방서 데이터가 없습니다."));
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        Dispatch dispatch = dispatchRepository.save(Dispatch.builder()
+                .fireState(fireState)
+                .paramedic(paramedic)
+                .disasterNumber("BENCH-" + System.nanoTime())
+                .disasterType("구급")
+                .disasterSubtype("질병")
+                .locationAddress("서울시 중구")
+                .date(LocalDateTime.now())
+                .build());
+
+        EmergencyReport report = emergencyReportRepository.saveAndFlush(EmergencyReport.builder()
+                .dispatch(dispatch)
+                .paramedic(paramedic)
+                .fireState(fireState)
+                .isCompleted(false)
+                .build());
+        entityManager.clear();
+        return report;
+    }
+}
@@ -0,0 +1,177 @@
+package com.ssairen.domain.hospital.repository;
+
+import com.ssairen.domain.emergency.entity.Dispatch;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.repository.DispatchRepository;
+import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.firestation.entity.FireState;
+import com.ssairen.domain.firestation.entity.Paramedic;
+import com.ssairen.domain.firestation.repository.FireStateRepository;
+import com.ssairen.domain.firestation.repository.ParamedicRepository;
+import com.ssairen.domain.hospital.dto.HospitalSelectionPatientView;
+import com.ssairen.domain.hospital.entity.Hospital;
+import com.ssairen.domain.hospital.entity.HospitalSelection;
+import com.ssairen.domain.hospital.entity.PatientInfo;
+import com.ssairen.domain.hospital.enums.HospitalSelectionStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class HospitalSelectionRepositoryTest {
+
+    private static final List<HospitalSelectionStatus> ACCEPTED_STATUSES =
+            List.of(HospitalSelectionStatus.ACCEPTED, HospitalSelectionStatus.ARRIVED);
+
+    @Autowired
+    private HospitalSelectionRepository hospitalSelectionRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private PatientInfoRepository patientInfoRepository;
+
+    @Autowired
+    private EmergencyReportRepository emergencyReportRepository;
+
+    @Autowired
+    private DispatchRepository dispatchRepository;
+
+    @Autowired
+    private ParamedicRepository paramedicRepository;
+
+    @Autowired
+    private FireStateRepository fireStateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Hospital hospital;
+
+    @BeforeEach
+    void setUp() {
+        hospital = hospitalRepository.save(Hospital.builder()
+                .name("테스트병원-" + System.nanoTime())
+                .officialName("테스트의료원")
+                .password("password")
+                .latitude(new BigDecimal("37.5665"))
+                .longitude(new BigDecimal("126.9780"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("수용 환자 목록 조회 - 시작 날짜가 null이면 전체 기간 조회")
+    void findPatientsByHospitalIdWithPaginationAndDateRange_nullStartDateTime() {
+        // given
+        HospitalSelection first = createAcceptedSelection();
+        HospitalSelection second = createAcceptedSelection();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<HospitalSelectionPatientView> views = hospitalSelectionRepository
+                .findPatientsByHospitalIdWithPaginationAndDateRange(hospital.getId(), ACCEPTED_STATUSES, null, 0, 10);
+
+        // then
+        assertThat(views).extracting(HospitalSelectionPatientView::getHospitalSelectionId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("수용 환자 목록 조회 - 시작 날짜 이후 응답 건만 조회")
+    void findPatientsByHospitalIdWithPaginationAndDateRange_withStartDateTime() {
+        // given
+        createAcceptedSelection();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<HospitalSelectionPatientView> views = hospitalSelectionRepository
+                .findPatientsByHospitalIdWithPaginationAndDateRange(
+                        hospital.getId(), ACCEPTED_STATUSES, LocalDateTime.now().plusDays(1), 0, 10);
+
+        // then
+        assertThat(views).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수용 환자 커서 조회 - 시작 날짜가 null이면 커서 다음 행부터 전체 기간 조회")
+    void findPatientsByHospitalIdAfterCursor_nullStartDateTime() {
+        // given
+        createAcceptedSelection();
+        createAcceptedSelection();
+        entityManager.flush();
+        entityManager.clear();
+        List<HospitalSelectionPatientView> firstPage = hospitalSelectionRepository
+                .findPatientsByHospitalIdWithPaginationAndDateRange(hospital.getId(), ACCEPTED_STATUSES, null, 0, 1);
+        HospitalSelectionPatientView last = firstPage.get(0);
+
+        // when
+        List<HospitalSelectionPatientView> nextPage = hospitalSelectionRepository
+                .findPatientsByHospitalIdAfterCursor(hospital.getId(), ACCEPTED_STATUSES, null,
+                        last.getResponseAt(), last.getHospitalSelectionId(), 10);
+
+        // then
+        assertThat(nextPage).hasSize(1);
+        assertThat(nextPage.get(0).getHospitalSelectionId()).isNotEqualTo(last.getHospitalSelectionId());
+    }
+
+    private HospitalSelection createAcceptedSelection() {
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        patientInfoRepository.save(PatientInfo.builder()
+                .emergencyReport(emergencyReport)
+                .gender(PatientInfo.Gender.M)
+                .age(45)
+                .mentalStatus(PatientInfo.MentalStatus.ALERT)
+                .hr(80)
+                .bp("120/80")
+                .spo2(98)
+                .rr(16)
+                .hasGuardian(false)
+                .build());
+
+        HospitalSelection selection = HospitalSelection.builder()
+                .emergencyReport(emergencyReport)
+                .hospital(hospital)
+                .status(HospitalSelectionStatus.PENDING)
+                .build();
+        selection.respond(HospitalSelectionStatus.ACCEPTED);
+        return hospitalSelectionRepository.save(selection);
+    }
+
+    private EmergencyReport createTestEmergencyReport() {
+        FireState fireState = fireStateRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 소방서 데이터가 없습니다."));
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        Dispatch dispatch = dispatchRepository.save(Dispatch.builder()
+                .fireState(fireState)
+                .paramedic(paramedic)
+                .disasterNumber("TEST-" + System.nanoTime())
+                .disasterType("구급")
+                .disasterSubtype("질병")
+                .locationAddress("서울시 중구")
+                .date(LocalDateTime.now())
+                .build());
+
+        return emergencyReportRepository.save(EmergencyReport.builder()
+                .dispatch(dispatch)
+                .paramedic(paramedic)
+                .fireState(fireState)
+                .isCompleted(false)
+                .build());
+    }
+}
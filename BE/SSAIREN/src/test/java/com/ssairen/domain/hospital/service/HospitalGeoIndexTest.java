@@ -0,0 +1,138 @@
+package com.ssairen.domain.hospital.service;
+
+import com.ssairen.domain.hospital.entity.Hospital;
+import com.ssairen.domain.hospital.repository.HospitalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalGeoIndexTest {
+
+    // 강남역 기준
+    private static final double ORIGIN_LAT = 37.4979;
+    private static final double ORIGIN_LON = 127.0276;
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    @InjectMocks
+    private HospitalGeoIndex hospitalGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(hospitalRepository.findAll()).thenReturn(List.of(
+                hospital(1, "강남세브란스", "37.4927", "127.0463"),   // 약 1.7km
+                hospital(2, "서울성모", "37.5018", "127.0049"),       // 약 2.0km
+                hospital(3, "서울대", "37.5796", "126.9990"),         // 약 9.4km
+                hospital(4, "분당서울대", "37.3520", "127.1237"),     // 약 18.4km
+                hospital(5, "부산대", "35.1008", "129.0197"),         // 약 320km
+                hospital(6, "좌표없음", null, null)
+        ));
+    }
+
+    @Test
+    @DisplayName("반경 검색 - 반경 내 병원만 가까운 순으로 반환")
+    void findWithinRadius_shouldReturnSortedHospitalsInRadius() {
+        // when
+        List<HospitalGeoIndex.Candidate> candidates = hospitalGeoIndex.findWithinRadius(ORIGIN_LAT, ORIGIN_LON, 10);
+
+        // then
+        assertThat(candidates)
+                .extracting(candidate -> candidate.hospital().name())
+                .containsExactly("강남세브란스", "서울성모", "서울대");
+        assertThat(candidates.get(0).distanceKm()).isLessThan(candidates.get(1).distanceKm());
+    }
+
+    @Test
+    @DisplayName("반경 검색 - 반경 내 병원이 없으면 빈 목록")
+    void findWithinRadius_noHospitalInRadius_shouldReturnEmpty() {
+        // when
+        List<HospitalGeoIndex.Candidate> candidates = hospitalGeoIndex.findWithinRadius(33.4996, 126.5312, 10);
+
+        // then
+        assertThat(candidates).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가까운 병원 N개 조회 - 거리순 상위 N개 반환")
+    void findNearest_shouldReturnClosestHospitals() {
+        // when
+        List<HospitalGeoIndex.Candidate> candidates = hospitalGeoIndex.findNearest(ORIGIN_LAT, ORIGIN_LON, 3, 100);
+
+        // then
+        assertThat(candidates)
+                .extracting(candidate -> candidate.hospital().id())
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("가까운 병원 N개 조회 - 최대 반경 밖의 병원은 제외")
+    void findNearest_shouldRespectMaxRadius() {
+        // when
+        List<HospitalGeoIndex.Candidate> candidates = hospitalGeoIndex.findNearest(ORIGIN_LAT, ORIGIN_LON, 10, 20);
+
+        // then
+        assertThat(candidates)
+                .extracting(candidate -> candidate.hospital().id())
+                .containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 병원은 인덱스에서 제외")
+    void rebuild_shouldSkipHospitalsWithoutCoordinates() {
+        // when
+        List<HospitalGeoIndex.Candidate> candidates = hospitalGeoIndex.findNearest(ORIGIN_LAT, ORIGIN_LON, 50, 1000);
+
+        // then
+        assertThat(candidates).hasSize(5);
+        assertThat(hospitalGeoIndex.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("stale 표시 후 다음 조회에서만 인덱스 재구성")
+    void markStale_shouldRebuildOnNextQuery() {
+        // given
+        hospitalGeoIndex.findWithinRadius(ORIGIN_LAT, ORIGIN_LON, 10);
+        hospitalGeoIndex.findWithinRadius(ORIGIN_LAT, ORIGIN_LON, 10);
+
+        // when
+        hospitalGeoIndex.markStale();
+        hospitalGeoIndex.findWithinRadius(ORIGIN_LAT, ORIGIN_LON, 10);
+
+        // then
+        verify(hospitalRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Haversine 거리 계산")
+    void distanceKm_shouldMatchKnownDistance() {
+        // 서울시청 - 부산시청 약 325km
+        double distance = HospitalGeoIndex.distanceKm(37.5663, 126.9779, 35.1798, 129.0750);
+
+        assertThat(distance).isBetween(320.0, 330.0);
+    }
+
+    private Hospital hospital(Integer id, String name, String latitude, String longitude) {
+        return Hospital.builder()
+                .id(id)
+                .name(name)
+                .officialName(name + "병원")
+                .password("password")
+                .latitude(latitude == null ? null : new BigDecimal(latitude))
+                .longitude(longitude == null ? null : new BigDecimal(longitude))
+                .build();
+    }
+}
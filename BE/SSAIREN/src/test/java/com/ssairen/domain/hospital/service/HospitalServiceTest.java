@@ -15,9 +15,12 @@ import com.ssairen.domain.hospital.entity.PatientInfo;
 import com.ssairen.domain.hospital.enums.DateRangeFilter;
 import com.ssairen.domain.hospital.enums.HospitalSelectionStatus;
 import com.ssairen.domain.hospital.enums.PatientFilterType;
+import com.ssairen.domain.hospital.enums.StatisticsDimension;
+import com.ssairen.domain.hospital.repository.HospitalDailyStatisticsRepository;
 import com.ssairen.domain.hospital.repository.HospitalRepository;
 import com.ssairen.domain.hospital.repository.HospitalSelectionRepository;
 import com.ssairen.domain.hospital.repository.PatientInfoRepository;
+import com.ssairen.global.dto.CursorPageResponse;
 import com.ssairen.global.dto.PageResponse;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
@@ -28,8 +31,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -62,6 +69,9 @@ class HospitalServiceTest {
     @Autowired
     private PatientInfoRepository patientInfoRepository;
 
+    @Autowired
+    private HospitalDailyStatisticsRepository hospitalDailyStatisticsRepository;
+
     @Test
     @DisplayName("PENDING 요청 목록 조회 - 성공")
     void getPendingRequests_success() {
@@ -80,6 +90,41 @@ class HospitalServiceTest {
         assertThat(requests.get(0).getEmergencyReportId()).isEqualTo(emergencyReport.getId());
     }
 
+    @Test
+    @DisplayName("PENDING 요청 목록 조회 - 환자 정보 유무와 구급대원 ID 포함")
+    void getPendingRequests_withAndWithoutPatientInfo() {
+        // given
+        Hospital hospital = createTestHospital();
+        EmergencyReport withPatient = createTestEmergencyReport();
+        EmergencyReport withoutPatient = createTestEmergencyReport();
+        createTestPatientInfo(withPatient);
+
+        createTestHospitalSelection(hospital, withPatient, HospitalSelectionStatus.PENDING);
+        createTestHospitalSelection(hospital, withoutPatient, HospitalSelectionStatus.PENDING);
+
+        // when
+        List<HospitalRequestMessage> requests = hospitalService.getPendingRequests(
+                hospital.getId(), hospital.getId());
+
+        // then
+        assertThat(requests).hasSize(2);
+        assertThat(requests).allSatisfy(request ->
+                assertThat(request.getParamedicId()).isEqualTo(withPatient.getParamedic().getId()));
+
+        HospitalRequestMessage patientRequest = requests.stream()
+                .filter(request -> request.getEmergencyReportId().equals(withPatient.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(patientRequest.getPatientInfo()).isNotNull();
+        assertThat(patientRequest.getPatientInfo().getChiefComplaint()).isEqualTo("복통");
+
+        HospitalRequestMessage noPatientRequest = requests.stream()
+                .filter(request -> request.getEmergencyReportId().equals(withoutPatient.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(noPatientRequest.getPatientInfo()).isNull();
+    }
+
     @Test
     @DisplayName("PENDING 요청 목록 조회 - 권한 없음")
     void getPendingRequests_accessDenied() {
@@ -162,6 +207,42 @@ class HospitalServiceTest {
         assertThat(response.getTotalElements()).isGreaterThan(0);
     }
 
+    @Test
+    @DisplayName("수용한 환자 목록 조회 (커서) - 다음 커서로 중복 없이 전체 순회")
+    void getAcceptedPatientsWithCursor_success() {
+        // given
+        Hospital hospital = createTestHospital();
+        for (int i = 0; i < 5; i++) {
+            EmergencyReport emergencyReport = createTestEmergencyReport();
+            createTestPatientInfo(emergencyReport);
+            createTestHospitalSelection(hospital, emergencyReport, HospitalSelectionStatus.ACCEPTED);
+        }
+
+        // when
+        CursorPageResponse<AcceptedPatientDto> first = hospitalService.getAcceptedPatientsWithCursor(
+                hospital.getId(), hospital.getId(), null, 2, PatientFilterType.ALL, DateRangeFilter.ALL, true);
+        CursorPageResponse<AcceptedPatientDto> second = hospitalService.getAcceptedPatientsWithCursor(
+                hospital.getId(), hospital.getId(), first.getNextCursor(), 2, PatientFilterType.ALL, DateRangeFilter.ALL, true);
+        CursorPageResponse<AcceptedPatientDto> third = hospitalService.getAcceptedPatientsWithCursor(
+                hospital.getId(), hospital.getId(), second.getNextCursor(), 2, PatientFilterType.ALL, DateRangeFilter.ALL, true);
+
+        // then
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getTotalElements()).isEqualTo(5L);
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(second.getTotalElements()).isNull();
+        assertThat(third.getContent()).hasSize(1);
+        assertThat(third.isHasNext()).isFalse();
+        assertThat(third.getNextCursor()).isNull();
+
+        List<Integer> selectionIds = new ArrayList<>();
+        for (CursorPageResponse<AcceptedPatientDto> page : List.of(first, second, third)) {
+            page.getContent().forEach(patient -> selectionIds.add(patient.getHospitalSelectionId()));
+        }
+        assertThat(selectionIds).doesNotHaveDuplicates().hasSize(5);
+    }
+
     @Test
     @DisplayName("수용한 환자 목록 조회 (페이지네이션) - 권한 없음")
     void getAcceptedPatientsWithPagination_accessDenied() {
@@ -376,6 +457,50 @@ class HospitalServiceTest {
 
     // === Helper Methods ===
 
+    @Test
+    @DisplayName("병원 응답 수용 - 일별 통계 집계 증분, 내원 완료 시 중복 집계 없음")
+    void respondToRequest_accepted_shouldIncrementDailyStatistics() {
+        // given
+        Hospital hospital = createTestHospital();
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        createTestPatientInfo(emergencyReport);
+        HospitalSelection selection = createTestHospitalSelection(hospital, emergencyReport, HospitalSelectionStatus.PENDING);
+        LocalDate today = LocalDate.now();
+
+        // when
+        hospitalService.respondToRequest(selection.getId(),
+                new HospitalResponseRequest(HospitalSelectionStatus.ACCEPTED), hospital.getId());
+        hospitalService.markPatientAsArrived(hospital.getId(), emergencyReport.getId(), hospital.getId());
+
+        // then
+        assertThat(hospitalDailyStatisticsRepository.sumTotal(hospital.getId(), today, today)).isEqualTo(1L);
+        assertThat(sumByBucket(hospital.getId(), StatisticsDimension.GENDER, today)).containsExactlyEntriesOf(
+                Map.of("M", 1L));
+        assertThat(sumByBucket(hospital.getId(), StatisticsDimension.AGE_GROUP, today)).containsEntry("40-49", 1L);
+        assertThat(sumByBucket(hospital.getId(), StatisticsDimension.DISASTER_SUBTYPE, today)).containsEntry("건물화재", 1L);
+    }
+
+    @Test
+    @DisplayName("환자 정보 수정 - 해당 일자 통계 집계 재계산")
+    void updatePatientInfo_shouldRebuildDailyStatistics() {
+        // given
+        Hospital hospital = createTestHospital();
+        EmergencyReport emergencyReport = createTestEmergencyReport();
+        createTestPatientInfo(emergencyReport);
+        createTestHospitalSelection(hospital, emergencyReport, HospitalSelectionStatus.ACCEPTED);
+        LocalDate today = LocalDate.now();
+
+        // when (나이 45 → 50)
+        hospitalService.updatePatientInfo(
+                hospital.getId(), emergencyReport.getId(), createUpdateRequest(), hospital.getId());
+
+        // then
+        assertThat(hospitalDailyStatisticsRepository.sumTotal(hospital.getId(), today, today)).isEqualTo(1L);
+        assertThat(sumByBucket(hospital.getId(), StatisticsDimension.AGE_GROUP, today))
+                .containsEntry("50-59", 1L)
+                .doesNotContainKey("40-49");
+    }
+
     private Hospital createTestHospital() {
         Hospital hospital = Hospital.builder()
                 .name("테스트병원" + System.currentTimeMillis())
@@ -467,6 +592,14 @@ class HospitalServiceTest {
         return patientInfoRepository.save(patientInfo);
     }
 
+    private Map<String, Long> sumByBucket(Integer hospitalId, StatisticsDimension dimension, LocalDate date) {
+        Map<String, Long> buckets = new HashMap<>();
+        for (Object[] row : hospitalDailyStatisticsRepository.sumByDimension(hospitalId, dimension.name(), date, date)) {
+            buckets.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return buckets;
+    }
+
     private UpdatePatientInfoRequest createUpdateRequest() {
         return UpdatePatientInfoRequest.builder()
                 .gender("M")
@@ -0,0 +1,244 @@
+package com.ssairen.domain.hospital.service;
+
+import com.ssairen.domain.emergency.entity.Dispatch;
+import com.ssairen.domain.emergency.entity.EmergencyReport;
+import com.ssairen.domain.emergency.repository.DispatchRepository;
+import com.ssairen.domain.emergency.repository.EmergencyReportRepository;
+import com.ssairen.domain.firestation.entity.FireState;
+import com.ssairen.domain.firestation.entity.Paramedic;
+import com.ssairen.domain.firestation.repository.FireStateRepository;
+import com.ssairen.domain.firestation.repository.ParamedicRepository;
+import com.ssairen.domain.hospital.cache.HospitalStatisticsCache;
+import com.ssairen.domain.hospital.dto.DisasterTypeStatisticsResponse;
+import com.ssairen.domain.hospital.dto.PatientStatisticsResponse;
+import com.ssairen.domain.hospital.dto.StatisticsOverviewResponse;
+import com.ssairen.domain.hospital.dto.StatisticsRequest;
+import com.ssairen.domain.hospital.dto.TimeStatisticsResponse;
+import com.ssairen.domain.hospital.entity.Hospital;
+import com.ssairen.domain.hospital.entity.HospitalSelection;
+import com.ssairen.domain.hospital.entity.PatientInfo;
+import com.ssairen.domain.hospital.enums.HospitalSelectionStatus;
+import com.ssairen.domain.hospital.repository.HospitalRepository;
+import com.ssairen.domain.hospital.repository.HospitalSelectionRepository;
+import com.ssairen.domain.hospital.repository.PatientInfoRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통계 대시보드 조회 벤치마크
+ * - 기존 3회 호출(시간별 + 환자 + 재난 유형별)과 통합 조회(overview)의 지연 시간과 실행 SQL 수를 비교
+ * - 1년치 수용 건을 일별 집계로 백필한 뒤 측정, 매 측정 전 통계 캐시를 비워 DB 조회 비용만 비교
+ * - 참고용으로 캐시 적중 시 통합 조회 지연 시간도 함께 출력
+ * - 실행: ./gradlew benchmark
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class HospitalStatisticsOverviewBenchmarkTest {
+
+    private static final int SELECTION_COUNT = 1_000;
+    private static final int PERIOD_DAYS = 365;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURE_ROUNDS = 50;
+
+    private static final String[] DISASTER_TYPES = {"화재", "구급", "구조", "교통사고"};
+    private static final String[] DISASTER_SUBTYPES = {"건물화재", "질병", "추락", "승용차 추돌", "낙상"};
+
+    @Autowired
+    private HospitalStatisticsService hospitalStatisticsService;
+
+    @Autowired
+    private HospitalStatisticsRollupService hospitalStatisticsRollupService;
+
+    @Autowired
+    private HospitalStatisticsCache hospitalStatisticsCache;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalSelectionRepository hospitalSelectionRepository;
+
+    @Autowired
+    private PatientInfoRepository patientInfoRepository;
+
+    @Autowired
+    private EmergencyReportRepository emergencyReportRepository;
+
+    @Autowired
+    private DispatchRepository dispatchRepository;
+
+    @Autowired
+    private ParamedicRepository paramedicRepository;
+
+    @Autowired
+    private FireStateRepository fireStateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Hospital hospital;
+    private StatisticsRequest request;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        hospital = hospitalRepository.save(Hospital.builder()
+                .name("통계벤치마크병원-" + System.nanoTime())
+                .officialName("통계벤치마크의료원")
+                .password("password")
+                .latitude(new BigDecimal("37.5665"))
+                .longitude(new BigDecimal("126.9780"))
+                .build());
+
+        FireState fireState = fireStateRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 소방서 데이터가 없습니다."));
+        Paramedic paramedic = paramedicRepository.findAll().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("테스트용 구급대원 데이터가 없습니다."));
+
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(PERIOD_DAYS - 1);
+        for (int i = 0; i < SELECTION_COUNT; i++) {
+            LocalDateTime responseAt = startDate.atStartOfDay()
+                    .plusDays(i % PERIOD_DAYS)
+                    .plusHours(i % 24)
+                    .plusMinutes(i % 60);
+            createAcceptedSelection(fireState, paramedic, responseAt, i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        hospitalStatisticsRollupService.rebuild(hospital.getId(), startDate, endDate);
+        request = new StatisticsRequest(startDate, endDate);
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("통계 대시보드 1회 로드 - 기존 3회 호출 vs 통합 조회")
+    void compareThreeCallsAndOverview() {
+        // warm up
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            loadWithThreeCalls();
+            loadWithOverview();
+        }
+
+        long threeCallNanos = 0;
+        long overviewNanos = 0;
+        long threeCallStatements = 0;
+        long overviewStatements = 0;
+        long threeCallTotal = 0;
+        long overviewTotal = 0;
+
+        long cachedNanos = 0;
+
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            hospitalStatisticsCache.invalidateAll();
+            statistics.clear();
+            long start = System.nanoTime();
+            threeCallTotal = loadWithThreeCalls();
+            threeCallNanos += System.nanoTime() - start;
+            threeCallStatements += statistics.getPrepareStatementCount();
+
+            hospitalStatisticsCache.invalidateAll();
+            statistics.clear();
+            start = System.nanoTime();
+            overviewTotal = loadWithOverview();
+            overviewNanos += System.nanoTime() - start;
+            overviewStatements += statistics.getPrepareStatementCount();
+
+            // 캐시 적중 (직전 통합 조회 결과)
+            start = System.nanoTime();
+            loadWithOverview();
+            cachedNanos += System.nanoTime() - start;
+        }
+
+        double threeCallMillis = threeCallNanos / 1_000_000.0 / MEASURE_ROUNDS;
+        double overviewMillis = overviewNanos / 1_000_000.0 / MEASURE_ROUNDS;
+        double cachedMillis = cachedNanos / 1_000_000.0 / MEASURE_ROUNDS;
+
+        log.info("[Benchmark] 통계 대시보드 로드 - 수용 {}건, {}일 ({}회 평균)",
+                SELECTION_COUNT, PERIOD_DAYS, MEASURE_ROUNDS);
+        log.info("[Benchmark]   3회 호출   : {} ms, SQL {}개", String.format("%.3f", threeCallMillis),
+                threeCallStatements / MEASURE_ROUNDS);
+        log.info("[Benchmark]   통합 조회  : {} ms, SQL {}개", String.format("%.3f", overviewMillis),
+                overviewStatements / MEASURE_ROUNDS);
+        log.info("[Benchmark]   속도 향상  : {}배", String.format("%.2f", threeCallMillis / overviewMillis));
+        log.info("[Benchmark]   캐시 적중  : {} ms", String.format("%.3f", cachedMillis));
+
+        // 동일한 결과를 반환해야 함
+        assertThat(overviewTotal).isEqualTo(threeCallTotal).isEqualTo(SELECTION_COUNT);
+        // 통합 조회는 병원 존재 확인 + 집계 쿼리 1회
+        assertThat(overviewStatements / MEASURE_ROUNDS).isLessThanOrEqualTo(2);
+        assertThat(overviewStatements).isLessThan(threeCallStatements);
+    }
+
+    private long loadWithThreeCalls() {
+        TimeStatisticsResponse time = hospitalStatisticsService.getTimeStatistics(request, hospital.getId());
+        PatientStatisticsResponse patient = hospitalStatisticsService.getPatientStatistics(request, hospital.getId());
+        DisasterTypeStatisticsResponse disaster = hospitalStatisticsService.getDisasterTypeStatistics(request, hospital.getId());
+        assertThat(patient.totalCount()).isEqualTo(time.totalCount()).isEqualTo(disaster.totalCount());
+        return time.totalCount();
+    }
+
+    private long loadWithOverview() {
+        StatisticsOverviewResponse overview = hospitalStatisticsService.getOverviewStatistics(request, hospital.getId());
+        return overview.totalCount();
+    }
+
+    private void createAcceptedSelection(FireState fireState, Paramedic paramedic, LocalDateTime responseAt, int index) {
+        Dispatch dispatch = dispatchRepository.save(Dispatch.builder()
+                .fireState(fireState)
+                .paramedic(paramedic)
+                .disasterNumber("STAT-BENCH-" + System.nanoTime())
+                .disasterType(DISASTER_TYPES[index % DISASTER_TYPES.length])
+                .disasterSubtype(DISASTER_SUBTYPES[index % DISASTER_SUBTYPES.length])
+                .locationAddress("서울시 중구")
+                .date(responseAt)
+                .build());
+
+        EmergencyReport report = emergencyReportRepository.save(EmergencyReport.builder()
+                .dispatch(dispatch)
+                .paramedic(paramedic)
+                .fireState(fireState)
+                .isCompleted(false)
+                .build());
+
+        patientInfoRepository.save(PatientInfo.builder()
+                .emergencyReport(report)
+                .gender(index % 2 == 0 ? PatientInfo.Gender.M : PatientInfo.Gender.F)
+                .age(index % 95)
+                .mentalStatus(PatientInfo.MentalStatus.values()[index % PatientInfo.MentalStatus.values().length])
+                .hr(85)
+                .bp("120/80")
+                .spo2(99)
+                .rr(16)
+                .bt(new BigDecimal("36.5"))
+                .hasGuardian(false)
+                .build());
+
+        hospitalSelectionRepository.save(HospitalSelection.builder()
+                .hospital(hospital)
+                .emergencyReport(report)
+                .status(HospitalSelectionStatus.ACCEPTED)
+                .responseAt(responseAt)
+                .build());
+    }
+}
@@ -0,0 +1,99 @@
+package com.ssairen.domain.hospital.service;
+
+import com.ssairen.domain.hospital.repository.HospitalDailyStatisticsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HospitalStatisticsRollupServiceTest {
+
+    @Mock
+    private HospitalDailyStatisticsRepository hospitalDailyStatisticsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private HospitalStatisticsRollupService service;
+
+    private final LocalDate startDate = LocalDate.of(2024, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2024, 1, 3);
+
+    @Test
+    @DisplayName("집계 백필 - 잠금을 획득하면 기간 집계를 다시 계산")
+    void backfill_lockAcquired() {
+        // given
+        when(hospitalDailyStatisticsRepository.tryAcquireRebuildLock(anyLong())).thenReturn(true);
+        when(hospitalDailyStatisticsRepository.rebuildByPeriod(any(), any())).thenReturn(12);
+
+        // when
+        int rows = service.backfill(startDate, endDate);
+
+        // then
+        assertThat(rows).isEqualTo(12);
+        verify(hospitalDailyStatisticsRepository).deleteByPeriod(startDate, endDate);
+        verify(hospitalDailyStatisticsRepository).rebuildByPeriod(
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 4, 0, 0));
+    }
+
+    @Test
+    @DisplayName("집계 백필 - 다른 인스턴스가 잠금을 잡고 있으면 건너뜀")
+    void backfill_lockHeldByOtherInstance() {
+        // given
+        when(hospitalDailyStatisticsRepository.tryAcquireRebuildLock(anyLong())).thenReturn(false);
+
+        // when
+        int rows = service.backfill(startDate, endDate);
+
+        // then
+        assertThat(rows).isEqualTo(HospitalStatisticsRollupService.SKIPPED);
+        verify(hospitalDailyStatisticsRepository, never()).deleteByPeriod(any(), any());
+        verify(hospitalDailyStatisticsRepository, never()).rebuildByPeriod(any(), any());
+    }
+
+    @Test
+    @DisplayName("초기 백필 - 잠금 획득 후 이미 집계가 있으면 건너뜀")
+    void backfillAllIfEmpty_alreadyBackfilled() {
+        // given
+        when(hospitalDailyStatisticsRepository.tryAcquireRebuildLock(anyLong())).thenReturn(true);
+        when(hospitalDailyStatisticsRepository.count()).thenReturn(5L);
+
+        // when
+        int rows = service.backfillAllIfEmpty();
+
+        // then
+        assertThat(rows).isEqualTo(HospitalStatisticsRollupService.SKIPPED);
+        verify(hospitalDailyStatisticsRepository, never()).deleteByPeriod(any(), any());
+    }
+
+    @Test
+    @DisplayName("초기 백필 - 원본 데이터가 없으면 0 반환")
+    void backfillAllIfEmpty_noSourceData() {
+        // given
+        when(hospitalDailyStatisticsRepository.tryAcquireRebuildLock(anyLong())).thenReturn(true);
+        when(hospitalDailyStatisticsRepository.count()).thenReturn(0L);
+        when(hospitalDailyStatisticsRepository.findCountedResponseRange())
+                .thenReturn(Collections.singletonList(new Object[]{null, null}));
+
+        // when
+        int rows = service.backfillAllIfEmpty();
+
+        // then
+        assertThat(rows).isZero();
+        verify(hospitalDailyStatisticsRepository, never()).rebuildByPeriod(any(), any());
+    }
+}
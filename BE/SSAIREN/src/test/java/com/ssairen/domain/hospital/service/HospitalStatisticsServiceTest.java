@@ -1,11 +1,13 @@
 package com.ssairen.domain.hospital.service;
 
+import com.ssairen.domain.hospital.cache.HospitalStatisticsCache;
 import com.ssairen.domain.hospital.dto.DisasterTypeStatisticsResponse;
 import com.ssairen.domain.hospital.dto.PatientStatisticsResponse;
+import com.ssairen.domain.hospital.dto.StatisticsOverviewResponse;
 import com.ssairen.domain.hospital.dto.StatisticsRequest;
 import com.ssairen.domain.hospital.dto.TimeStatisticsResponse;
+import com.ssairen.domain.hospital.repository.HospitalDailyStatisticsRepository;
 import com.ssairen.domain.hospital.repository.HospitalRepository;
-import com.ssairen.domain.hospital.repository.HospitalSelectionRepository;
 import com.ssairen.global.exception.CustomException;
 import com.ssairen.global.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,11 +19,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,24 +38,29 @@ class HospitalStatisticsServiceTest {
     private HospitalRepository hospitalRepository;
 
     @Mock
-    private HospitalSelectionRepository hospitalSelectionRepository;
+    private HospitalDailyStatisticsRepository hospitalDailyStatisticsRepository;
+
+    @Mock
+    private HospitalStatisticsCache hospitalStatisticsCache;
 
     @InjectMocks
     private HospitalStatisticsService service;
 
     private Integer hospitalId;
     private StatisticsRequest request;
-    private LocalDateTime startDateTime;
-    private LocalDateTime endDateTime;
+    private LocalDate startDate;
+    private LocalDate endDate;
 
     @BeforeEach
     void setUp() {
         hospitalId = 1;
-        LocalDate startDate = LocalDate.of(2024, 1, 1);
-        LocalDate endDate = LocalDate.of(2024, 1, 31);
+        startDate = LocalDate.of(2024, 1, 1);
+        endDate = LocalDate.of(2024, 1, 31);
         request = new StatisticsRequest(startDate, endDate);
-        startDateTime = startDate.atStartOfDay();
-        endDateTime = endDate.plusDays(1).atStartOfDay();
+
+        // 캐시는 항상 미스로 처리하여 loader를 그대로 실행
+        lenient().when(hospitalStatisticsCache.get(any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(5).get());
     }
 
     @Test
@@ -68,19 +75,19 @@ class HospitalStatisticsServiceTest {
                 new Object[]{1, 15L}, // MONDAY: 15
                 new Object[]{2, 20L}  // TUESDAY: 20
         );
-        when(hospitalSelectionRepository.countByDayOfWeek(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDayOfWeek(eq(hospitalId), any(), any()))
                 .thenReturn(dayOfWeekResults);
 
         // 시간대별 통계 Mock 데이터
         List<Object[]> hourResults = Arrays.asList(
-                new Object[]{9, 5L},  // 9시: 5건
-                new Object[]{10, 8L}, // 10시: 8건
-                new Object[]{14, 12L} // 14시: 12건
+                new Object[]{"9", 5L},  // 9시: 5건
+                new Object[]{"10", 8L}, // 10시: 8건
+                new Object[]{"14", 12L} // 14시: 12건
         );
-        when(hospitalSelectionRepository.countByHour(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("HOUR"), any(), any()))
                 .thenReturn(hourResults);
 
-        when(hospitalSelectionRepository.countByHospitalIdAndPeriod(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumTotal(eq(hospitalId), any(), any()))
                 .thenReturn(100L);
 
         // when
@@ -100,8 +107,8 @@ class HospitalStatisticsServiceTest {
         assertThat(response.byHour()).hasSize(24);
 
         verify(hospitalRepository).existsById(hospitalId);
-        verify(hospitalSelectionRepository).countByDayOfWeek(eq(hospitalId), any(), any());
-        verify(hospitalSelectionRepository).countByHour(eq(hospitalId), any(), any());
+        verify(hospitalDailyStatisticsRepository).sumByDayOfWeek(eq(hospitalId), any(), any());
+        verify(hospitalDailyStatisticsRepository).sumByDimension(eq(hospitalId), eq("HOUR"), any(), any());
     }
 
     @Test
@@ -116,7 +123,7 @@ class HospitalStatisticsServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.HOSPITAL_NOT_FOUND);
 
         verify(hospitalRepository).existsById(hospitalId);
-        verify(hospitalSelectionRepository, never()).countByDayOfWeek(any(), any(), any());
+        verify(hospitalDailyStatisticsRepository, never()).sumByDayOfWeek(any(), any(), any());
     }
 
     @Test
@@ -124,11 +131,11 @@ class HospitalStatisticsServiceTest {
     void getTimeStatistics_noData() {
         // given
         when(hospitalRepository.existsById(hospitalId)).thenReturn(true);
-        when(hospitalSelectionRepository.countByDayOfWeek(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDayOfWeek(eq(hospitalId), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(hospitalSelectionRepository.countByHour(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("HOUR"), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(hospitalSelectionRepository.countByHospitalIdAndPeriod(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumTotal(eq(hospitalId), any(), any()))
                 .thenReturn(0L);
 
         // when
@@ -154,7 +161,7 @@ class HospitalStatisticsServiceTest {
                 new Object[]{"M", 60L},
                 new Object[]{"F", 40L}
         );
-        when(hospitalSelectionRepository.countByGender(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("GENDER"), any(), any()))
                 .thenReturn(genderResults);
 
         // 연령대 통계
@@ -163,7 +170,7 @@ class HospitalStatisticsServiceTest {
                 new Object[]{"30-39", 25L},
                 new Object[]{"40-49", 30L}
         );
-        when(hospitalSelectionRepository.countByAgeGroup(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("AGE_GROUP"), any(), any()))
                 .thenReturn(ageGroupResults);
 
         // 의식 상태 통계
@@ -173,10 +180,10 @@ class HospitalStatisticsServiceTest {
                 new Object[]{"PAIN", 8L},
                 new Object[]{"UNRESPONSIVE", 2L}
         );
-        when(hospitalSelectionRepository.countByMentalStatus(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("MENTAL_STATUS"), any(), any()))
                 .thenReturn(mentalStatusResults);
 
-        when(hospitalSelectionRepository.countByHospitalIdAndPeriod(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumTotal(eq(hospitalId), any(), any()))
                 .thenReturn(100L);
 
         // when
@@ -191,9 +198,9 @@ class HospitalStatisticsServiceTest {
         assertThat(response.byMentalStatus()).containsEntry("ALERT", 70L);
 
         verify(hospitalRepository).existsById(hospitalId);
-        verify(hospitalSelectionRepository).countByGender(eq(hospitalId), any(), any());
-        verify(hospitalSelectionRepository).countByAgeGroup(eq(hospitalId), any(), any());
-        verify(hospitalSelectionRepository).countByMentalStatus(eq(hospitalId), any(), any());
+        verify(hospitalDailyStatisticsRepository).sumByDimension(eq(hospitalId), eq("GENDER"), any(), any());
+        verify(hospitalDailyStatisticsRepository).sumByDimension(eq(hospitalId), eq("AGE_GROUP"), any(), any());
+        verify(hospitalDailyStatisticsRepository).sumByDimension(eq(hospitalId), eq("MENTAL_STATUS"), any(), any());
     }
 
     @Test
@@ -208,7 +215,7 @@ class HospitalStatisticsServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.HOSPITAL_NOT_FOUND);
 
         verify(hospitalRepository).existsById(hospitalId);
-        verify(hospitalSelectionRepository, never()).countByGender(any(), any(), any());
+        verify(hospitalDailyStatisticsRepository, never()).sumByDimension(any(), eq("GENDER"), any(), any());
     }
 
     @Test
@@ -216,13 +223,13 @@ class HospitalStatisticsServiceTest {
     void getPatientStatistics_allAgeGroupsInitialized() {
         // given
         when(hospitalRepository.existsById(hospitalId)).thenReturn(true);
-        when(hospitalSelectionRepository.countByGender(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("GENDER"), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(hospitalSelectionRepository.countByAgeGroup(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("AGE_GROUP"), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(hospitalSelectionRepository.countByMentalStatus(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("MENTAL_STATUS"), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(hospitalSelectionRepository.countByHospitalIdAndPeriod(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumTotal(eq(hospitalId), any(), any()))
                 .thenReturn(0L);
 
         // when
@@ -249,7 +256,7 @@ class HospitalStatisticsServiceTest {
                 new Object[]{"교통사고", 50L},
                 new Object[]{"질병", 20L}
         );
-        when(hospitalSelectionRepository.countByDisasterType(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("DISASTER_TYPE"), any(), any()))
                 .thenReturn(disasterTypeResults);
 
         // 재난 세부 유형 통계
@@ -258,10 +265,10 @@ class HospitalStatisticsServiceTest {
                 new Object[]{"차량화재", 10L},
                 new Object[]{"승용차 추돌", 30L}
         );
-        when(hospitalSelectionRepository.countByDisasterSubtype(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("DISASTER_SUBTYPE"), any(), any()))
                 .thenReturn(disasterSubtypeResults);
 
-        when(hospitalSelectionRepository.countByHospitalIdAndPeriod(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumTotal(eq(hospitalId), any(), any()))
                 .thenReturn(100L);
 
         // when
@@ -276,8 +283,8 @@ class HospitalStatisticsServiceTest {
         assertThat(response.byDisasterSubtype()).containsEntry("승용차 추돌", 30L);
 
         verify(hospitalRepository).existsById(hospitalId);
-        verify(hospitalSelectionRepository).countByDisasterType(eq(hospitalId), any(), any());
-        verify(hospitalSelectionRepository).countByDisasterSubtype(eq(hospitalId), any(), any());
+        verify(hospitalDailyStatisticsRepository).sumByDimension(eq(hospitalId), eq("DISASTER_TYPE"), any(), any());
+        verify(hospitalDailyStatisticsRepository).sumByDimension(eq(hospitalId), eq("DISASTER_SUBTYPE"), any(), any());
     }
 
     @Test
@@ -292,7 +299,7 @@ class HospitalStatisticsServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.HOSPITAL_NOT_FOUND);
 
         verify(hospitalRepository).existsById(hospitalId);
-        verify(hospitalSelectionRepository, never()).countByDisasterType(any(), any(), any());
+        verify(hospitalDailyStatisticsRepository, never()).sumByDimension(any(), eq("DISASTER_TYPE"), any(), any());
     }
 
     @Test
@@ -306,17 +313,17 @@ class HospitalStatisticsServiceTest {
                 new Object[]{null, 10L}, // NULL -> "미분류"
                 new Object[]{"화재", 20L}
         );
-        when(hospitalSelectionRepository.countByDisasterType(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("DISASTER_TYPE"), any(), any()))
                 .thenReturn(disasterTypeResults);
 
         List<Object[]> disasterSubtypeResults = Arrays.asList(
                 new Object[]{null, 5L},
                 new Object[]{"건물화재", 15L}
         );
-        when(hospitalSelectionRepository.countByDisasterSubtype(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("DISASTER_SUBTYPE"), any(), any()))
                 .thenReturn(disasterSubtypeResults);
 
-        when(hospitalSelectionRepository.countByHospitalIdAndPeriod(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumTotal(eq(hospitalId), any(), any()))
                 .thenReturn(30L);
 
         // when
@@ -332,21 +339,77 @@ class HospitalStatisticsServiceTest {
     void getTimeStatistics_dateRangeConversion() {
         // given
         when(hospitalRepository.existsById(hospitalId)).thenReturn(true);
-        when(hospitalSelectionRepository.countByDayOfWeek(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDayOfWeek(eq(hospitalId), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(hospitalSelectionRepository.countByHour(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumByDimension(eq(hospitalId), eq("HOUR"), any(), any()))
                 .thenReturn(Collections.emptyList());
-        when(hospitalSelectionRepository.countByHospitalIdAndPeriod(eq(hospitalId), any(), any()))
+        when(hospitalDailyStatisticsRepository.sumTotal(eq(hospitalId), any(), any()))
                 .thenReturn(0L);
 
         // when
         service.getTimeStatistics(request, hospitalId);
 
         // then
-        verify(hospitalSelectionRepository).countByDayOfWeek(
+        verify(hospitalDailyStatisticsRepository).sumByDayOfWeek(
                 eq(hospitalId),
-                eq(startDateTime),
-                eq(endDateTime)
+                eq(startDate),
+                eq(endDate)
         );
     }
+
+    @Test
+    @DisplayName("통계 대시보드 통합 조회 - 단일 쿼리 결과를 차원별로 분배")
+    void getOverviewStatistics_success() {
+        // given
+        when(hospitalRepository.existsById(hospitalId)).thenReturn(true);
+
+        // [dimension, bucket, 요일, 합계, 요일 그룹 여부]
+        List<Object[]> results = Arrays.asList(
+                new Object[]{"TOTAL", "ALL", null, 100L, 0},
+                new Object[]{"TOTAL", null, 0, 40L, 1},  // SUNDAY
+                new Object[]{"TOTAL", null, 1, 60L, 1},  // MONDAY
+                new Object[]{"HOUR", "9", null, 30L, 0},
+                new Object[]{"GENDER", "M", null, 55L, 0},
+                new Object[]{"AGE_GROUP", "30-39", null, 25L, 0},
+                new Object[]{"MENTAL_STATUS", "ALERT", null, 70L, 0},
+                new Object[]{"DISASTER_TYPE", "화재", null, 30L, 0},
+                new Object[]{"DISASTER_SUBTYPE", "건물화재", null, 20L, 0}
+        );
+        when(hospitalDailyStatisticsRepository.sumAllDimensions(hospitalId, startDate, endDate))
+                .thenReturn(results);
+
+        // when
+        StatisticsOverviewResponse response = service.getOverviewStatistics(request, hospitalId);
+
+        // then
+        assertThat(response.totalCount()).isEqualTo(100L);
+        assertThat(response.byDayOfWeek()).hasSize(7)
+                .containsEntry("SUNDAY", 40L)
+                .containsEntry("MONDAY", 60L)
+                .containsEntry("TUESDAY", 0L);
+        assertThat(response.byHour()).hasSize(24).containsEntry("9", 30L);
+        assertThat(response.byGender()).containsEntry("M", 55L).containsEntry("F", 0L);
+        assertThat(response.byAgeGroup()).hasSize(9).containsEntry("30-39", 25L);
+        assertThat(response.byMentalStatus()).hasSize(4).containsEntry("ALERT", 70L);
+        assertThat(response.byDisasterType()).containsExactlyEntriesOf(Map.of("화재", 30L));
+        assertThat(response.byDisasterSubtype()).containsExactlyEntriesOf(Map.of("건물화재", 20L));
+
+        // 대시보드 1회 조회 시 집계 쿼리는 1번만 실행
+        verify(hospitalDailyStatisticsRepository).sumAllDimensions(hospitalId, startDate, endDate);
+        verifyNoMoreInteractions(hospitalDailyStatisticsRepository);
+    }
+
+    @Test
+    @DisplayName("통계 대시보드 통합 조회 - 병원 없음")
+    void getOverviewStatistics_hospitalNotFound() {
+        // given
+        when(hospitalRepository.existsById(hospitalId)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> service.getOverviewStatistics(request, hospitalId))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.HOSPITAL_NOT_FOUND);
+
+        verify(hospitalDailyStatisticsRepository, never()).sumAllDimensions(any(), any(), any());
+    }
 }
@@ -0,0 +1,94 @@
+package com.ssairen.global.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JMH 벤치마크 공통 실행기 (@Tag("benchmark") 테스트용)
+ * - 별도 JVM 1개로 fork하여 Gradle 테스트 워커의 JIT/GC 상태와 분리해서 측정
+ * - GC 프로파일러를 붙여 호출 1회당 할당량(gc.alloc.rate.norm)을 함께 수집
+ */
+@Slf4j
+public final class JmhBenchmarkRunner {
+
+    private static final String ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+
+    private JmhBenchmarkRunner() {
+    }
+
+    /**
+     * 벤치마크 클래스의 모든 @Benchmark 메서드를 실행하고 결과를 로그로 출력
+     *
+     * @param benchmarkClass JMH 벤치마크 클래스
+     * @param title          로그 제목
+     * @return 측정 결과 (파라미터 조합별 1건)
+     */
+    public static List<Measurement> run(Class<?> benchmarkClass, String title) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(benchmarkClass.getName() + "\\.")
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        List<Measurement> measurements = new ArrayList<>();
+        log.info("[Benchmark] {}", title);
+        for (RunResult result : new Runner(options).run()) {
+            Measurement measurement = Measurement.from(result);
+            measurements.add(measurement);
+            log.info("[Benchmark]   {} {} : {} {}, 할당 {} B", measurement.name(), measurement.paramsText(),
+                    String.format("%.3f", measurement.score()), measurement.scoreUnit(),
+                    measurement.allocatedBytes() == null ? "-" : String.format("%.0f", measurement.allocatedBytes()));
+        }
+        return measurements;
+    }
+
+    /**
+     * 벤치마크 메서드 1개 x 파라미터 조합 1개의 측정 결과
+     *
+     * @param name           벤치마크 메서드명
+     * @param params         JMH 파라미터
+     * @param score          주 측정값
+     * @param scoreUnit      주 측정값 단위
+     * @param allocatedBytes 호출 1회당 할당 바이트 (프로파일러 결과가 없으면 null)
+     */
+    public record Measurement(String name, BenchmarkParams params, double score, String scoreUnit,
+                              Double allocatedBytes) {
+
+        private static Measurement from(RunResult result) {
+            String name = result.getParams().getBenchmark();
+            Result<?> primary = result.getPrimaryResult();
+            // JMH 버전에 따라 보조 결과 이름 앞에 '·'가 붙음
+            Result<?> allocation = result.getSecondaryResults().getOrDefault(ALLOC_RATE_NORM,
+                    result.getSecondaryResults().get("·" + ALLOC_RATE_NORM));
+            return new Measurement(name.substring(name.lastIndexOf('.') + 1), result.getParams(),
+                    primary.getScore(), primary.getScoreUnit(), allocation == null ? null : allocation.getScore());
+        }
+
+        public String param(String key) {
+            return params.getParam(key);
+        }
+
+        private String paramsText() {
+            List<String> pairs = new ArrayList<>();
+            for (String key : params.getParamsKeys()) {
+                pairs.add(key + "=" + params.getParam(key));
+            }
+            return String.join(", ", pairs);
+        }
+    }
+}
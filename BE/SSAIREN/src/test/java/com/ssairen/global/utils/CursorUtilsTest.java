@@ -5,6 +5,10 @@ import com.ssairen.global.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -133,4 +137,68 @@ class CursorUtilsTest {
         // URL-safe Base64는 +, /, = 문자를 사용하지 않음
         assertThat(cursor).doesNotContain("+", "/", "=");
     }
+
+    @Test
+    @DisplayName("(시각, ID) 복합 커서 인코딩-디코딩 왕복 테스트")
+    void encodeDecodeKeysetCursor_roundTrip_shouldReturnOriginalValue() {
+        // given
+        LocalDateTime timestamp = LocalDateTime.of(2025, 10, 1, 13, 45, 30, 123456000);
+        Long id = 987L;
+
+        // when
+        String cursor = CursorUtils.encodeCursor(timestamp, id);
+        CursorUtils.KeysetCursor decoded = CursorUtils.decodeKeysetCursor(cursor);
+
+        // then
+        assertThat(cursor).doesNotContain("+", "/", "=");
+        assertThat(decoded.timestamp()).isEqualTo(timestamp);
+        assertThat(decoded.id()).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("복합 커서 - null 값 인코딩/빈 커서 디코딩은 null 반환")
+    void keysetCursor_withNullOrBlank_shouldReturnNull() {
+        // when & then
+        assertThat(CursorUtils.encodeCursor(null, 1L)).isNull();
+        assertThat(CursorUtils.encodeCursor(LocalDateTime.now(), null)).isNull();
+        assertThat(CursorUtils.decodeKeysetCursor(null)).isNull();
+        assertThat(CursorUtils.decodeKeysetCursor(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("복합 커서 - 단일 ID 커서나 잘못된 형식은 예외 발생")
+    void decodeKeysetCursor_withInvalidCursor_shouldThrowException() {
+        // given
+        String idOnlyCursor = CursorUtils.encodeCursor(12345L);
+        String invalidTimestampCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("not-a-time_1".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> CursorUtils.decodeKeysetCursor(idOnlyCursor))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> CursorUtils.decodeKeysetCursor(invalidTimestampCursor))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("복합 커서 - Integer 범위를 벗어난 ID는 예외 발생")
+    void keysetCursorIntId_withOutOfRangeId_shouldThrowException() {
+        // given
+        LocalDateTime timestamp = LocalDateTime.of(2025, 10, 1, 13, 45, 30);
+        CursorUtils.KeysetCursor valid = CursorUtils.decodeKeysetCursor(CursorUtils.encodeCursor(timestamp, 987L));
+        CursorUtils.KeysetCursor oversized = CursorUtils.decodeKeysetCursor(
+                CursorUtils.encodeCursor(timestamp, Integer.MAX_VALUE + 1L));
+        CursorUtils.KeysetCursor negative = CursorUtils.decodeKeysetCursor(CursorUtils.encodeCursor(timestamp, -1L));
+
+        // when & then
+        assertThat(valid.intId()).isEqualTo(987);
+        assertThatThrownBy(oversized::intId)
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(negative::intId)
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
 }
@@ -0,0 +1,93 @@
+package com.ssairen.global.utils;
+
+import com.ssairen.global.exception.CustomException;
+import com.ssairen.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ETagUtilsTest {
+
+    @Test
+    @DisplayName("버전으로 ETag 생성 - 따옴표로 감싼 문자열")
+    void toETag_shouldQuoteVersion() {
+        assertThat(ETagUtils.toETag(3)).isEqualTo("\"3\"");
+        assertThat(ETagUtils.toETag(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Match 파싱 - 강한/약한/따옴표 없는 ETag 모두 허용")
+    void parseVersion_shouldAcceptStrongWeakAndBareValues() {
+        assertThat(ETagUtils.parseVersion("\"3\"")).isEqualTo(3);
+        assertThat(ETagUtils.parseVersion("W/\"3\"")).isEqualTo(3);
+        assertThat(ETagUtils.parseVersion(" 3 ")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("If-Match 파싱 - 조회 응답 ETag의 표현 식별자는 무시하고 버전만 사용")
+    void parseVersion_shouldIgnoreRepresentationSuffix() {
+        assertThat(ETagUtils.parseVersion(ETagUtils.toETag(3, null, "s"))).isEqualTo(3);
+        assertThat(ETagUtils.parseVersion(ETagUtils.toETag(3, null, "t8"))).isEqualTo(3);
+        assertThat(ETagUtils.parseVersion("W/\"3-s\"")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("If-Match 파싱 - 헤더 없음 또는 * 이면 버전 조건 없음")
+    void parseVersion_withoutCondition_shouldReturnNull() {
+        assertThat(ETagUtils.parseVersion(null)).isNull();
+        assertThat(ETagUtils.parseVersion("")).isNull();
+        assertThat(ETagUtils.parseVersion("*")).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Match 파싱 - 버전 형식이 아니면 예외")
+    void parseVersion_withInvalidValue_shouldThrowException() {
+        assertThatThrownBy(() -> ETagUtils.parseVersion("\"abc\""))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_IF_MATCH);
+        assertThatThrownBy(() -> ETagUtils.parseVersion("\"0\""))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_IF_MATCH);
+        assertThatThrownBy(() -> ETagUtils.parseVersion("\"-1\""))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_IF_MATCH);
+    }
+
+    @Test
+    @DisplayName("버전과 수정 시각으로 ETag 생성 - 수정 시각이 없으면 버전만 사용")
+    void toETag_withUpdatedAt_shouldAppendEpochMillis() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 15, 14, 30);
+        long epochMillis = updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        assertThat(ETagUtils.toETag(11, updatedAt)).isEqualTo("\"11-" + epochMillis + "\"");
+        assertThat(ETagUtils.toETag(11, null)).isEqualTo("\"11\"");
+    }
+
+    @Test
+    @DisplayName("표현 식별자를 포함한 ETag 생성 - 같은 버전이라도 표현마다 다른 값")
+    void toETag_withRepresentation_shouldAppendRepresentation() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 15, 14, 30);
+        long epochMillis = updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        assertThat(ETagUtils.toETag(11, null, "s")).isEqualTo("\"11-s\"");
+        assertThat(ETagUtils.toETag(11, updatedAt, "t8")).isEqualTo("\"11-" + epochMillis + "-t8\"");
+        assertThat(ETagUtils.toETag(11, null, "s")).isNotEqualTo(ETagUtils.toETag(11, null, "t8"));
+        assertThat(ETagUtils.toETag(11, updatedAt, null)).isEqualTo(ETagUtils.toETag(11, updatedAt));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 비교 - 목록/약한 ETag/* 허용, 불일치 시 false")
+    void matchesIfNoneMatch_shouldCompareWeakly() {
+        assertThat(ETagUtils.matchesIfNoneMatch("\"11\"", "\"11\"")).isTrue();
+        assertThat(ETagUtils.matchesIfNoneMatch("W/\"11\"", "\"11\"")).isTrue();
+        assertThat(ETagUtils.matchesIfNoneMatch("\"9\", \"11\"", "\"11\"")).isTrue();
+        assertThat(ETagUtils.matchesIfNoneMatch("*", "\"11\"")).isTrue();
+        assertThat(ETagUtils.matchesIfNoneMatch("\"10\"", "\"11\"")).isFalse();
+        assertThat(ETagUtils.matchesIfNoneMatch(null, "\"11\"")).isFalse();
+    }
+}